@@ -2,6 +2,7 @@ package com.minecolonies.api.colony;
 
 import com.minecolonies.api.colony.buildings.IBuilding;
 import com.minecolonies.api.colony.jobs.IJob;
+import com.minecolonies.api.entity.ai.statemachine.states.AIWakeSignal;
 import com.minecolonies.api.entity.citizen.AbstractEntityCitizen;
 import com.minecolonies.api.entity.citizen.VisibleCitizenStatus;
 import com.minecolonies.api.entity.citizen.citizenhandlers.ICitizenHappinessHandler;
@@ -405,4 +406,18 @@ public interface ICitizenData extends ICivilianData, IQuestGiver, IQuestParticip
      * Called after buildings loaded
      */
     void onBuildingLoad();
+
+    /**
+     * Wake up the work AI of the citizen if it is parked waiting for the given signal.
+     *
+     * @param signal the signal.
+     */
+    default void wakeWorkerAI(@NotNull final AIWakeSignal signal)
+    {
+        final IJob<?> job = getJob();
+        if (job != null && job.getWorkerAI() != null)
+        {
+            job.getWorkerAI().wakeUp(signal);
+        }
+    }
 }
@@ -1,6 +1,7 @@
 package com.minecolonies.api.colony.buildings;
 
 import com.minecolonies.api.tileentities.AbstractTileEntityColonyBuilding;
+import com.minecolonies.api.tileentities.BuildingInventoryIndex;
 import net.minecraft.world.level.block.Block;
 import net.minecraft.world.level.block.state.BlockState;
 import net.minecraft.nbt.CompoundTag;
@@ -58,6 +59,19 @@ public interface IBuildingContainer extends ISchematicProvider, ICapabilityProvi
      */
     List<BlockPos> getContainers();
 
+    /**
+     * Get the aggregated content of the loaded racks of the building, brought up to date with the container list.
+     *
+     * @return the index.
+     */
+    @NotNull
+    BuildingInventoryIndex getInventoryIndex();
+
+    /**
+     * Detach the racks from the inventory index, called when the building is removed from the colony.
+     */
+    void clearInventoryIndex();
+
     /**
      * Register a blockState and position. We suppress this warning since this parameter will be used in child classes which override this method.
      *
@@ -89,6 +89,13 @@ public interface IColonyPackageManager
      */
     void removeCloseSubscriber(@NotNull final ServerPlayer player);
 
+    /**
+     * Send a full view of the colony to a subscriber with the next update, because its view missed an update.
+     *
+     * @param player the subscriber.
+     */
+    void resyncView(@NotNull final ServerPlayer player);
+
     /**
      * Returns the global subscribers.
      *
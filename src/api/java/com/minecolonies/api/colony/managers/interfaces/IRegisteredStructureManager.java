@@ -235,6 +235,32 @@ public interface IRegisteredStructureManager
      */
     boolean hasGuardBuildingNear(IBuilding building);
 
+    /**
+     * Get the building a position is in.
+     *
+     * @param pos the position.
+     * @return the building for which {@link IBuilding#isInBuilding(BlockPos)} is true, or null.
+     */
+    @Nullable
+    IBuilding getBuildingContaining(@NotNull BlockPos pos);
+
+    /**
+     * Get the buildings whose hut may be within a horizontal radius of a position.
+     *
+     * @param pos    the position.
+     * @param radius the radius in blocks.
+     * @return the candidates, which may include buildings slightly further away.
+     */
+    @NotNull
+    List<IBuilding> getBuildingsNear(@NotNull BlockPos pos, int radius);
+
+    /**
+     * Called when the corners or footprint of a building changed.
+     *
+     * @param building the building.
+     */
+    void onBuildingFootprintChanged(@NotNull IBuilding building);
+
     /**
      * Event once a guard building changed at a certain level.
      *
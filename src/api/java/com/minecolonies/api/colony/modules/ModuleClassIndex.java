@@ -0,0 +1,102 @@
+package com.minecolonies.api.colony.modules;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Index of the modules of a module container by the classes and interfaces they are queried with. The modules matching a class are looked up once and cached until the
+ * module list changes, so repeated queries for the same class are a single map lookup without allocations.
+ *
+ * @param <T> the module type.
+ */
+@SuppressWarnings("unchecked")
+public class ModuleClassIndex<T>
+{
+    /**
+     * The modules of the container.
+     */
+    private final Collection<T> modules;
+
+    /**
+     * The matching modules of each queried class, unmodifiable.
+     */
+    private final Map<Class<?>, List<T>> modulesByClass = new ConcurrentHashMap<>();
+
+    /**
+     * Create an index over a module collection.
+     *
+     * @param modules the modules of the container, the index has to be invalidated when it changes.
+     */
+    public ModuleClassIndex(@NotNull final Collection<T> modules)
+    {
+        this.modules = modules;
+    }
+
+    /**
+     * Forget all cached lookups, called when a module is added or removed.
+     */
+    public void invalidate()
+    {
+        modulesByClass.clear();
+    }
+
+    /**
+     * Get all modules with a particular class or interface.
+     *
+     * @param clazz the module's class or interface.
+     * @return the unmodifiable list of matching modules, in registration order.
+     */
+    @NotNull
+    public <T2 extends T> List<T2> getModules(@NotNull final Class<T2> clazz)
+    {
+        final List<T> cached = modulesByClass.get(clazz);
+        if (cached != null)
+        {
+            return (List<T2>) cached;
+        }
+
+        final List<T> matching = new ArrayList<>();
+        for (final T module : modules)
+        {
+            if (clazz.isInstance(module))
+            {
+                matching.add(module);
+            }
+        }
+
+        final List<T> result = matching.isEmpty() ? Collections.emptyList() : Collections.unmodifiableList(matching);
+        modulesByClass.put(clazz, result);
+        return (List<T2>) result;
+    }
+
+    /**
+     * Get the first module with a particular class or interface.
+     *
+     * @param clazz the module's class or interface.
+     * @return the module or null if not existent.
+     */
+    @Nullable
+    public <T2 extends T> T2 getFirst(@NotNull final Class<T2> clazz)
+    {
+        final List<T2> matching = getModules(clazz);
+        return matching.isEmpty() ? null : matching.get(0);
+    }
+
+    /**
+     * Check if there is a module with a particular class or interface.
+     *
+     * @param clazz the module's class or interface.
+     * @return true if so.
+     */
+    public boolean hasModule(@NotNull final Class<? extends T> clazz)
+    {
+        return !getModules(clazz).isEmpty();
+    }
+}
@@ -171,6 +171,12 @@ public interface IResolverHandler
      */
     boolean isBeingRemoved(IToken<?> id);
 
+    /**
+     * Get the version of the set of registered resolvers, changes whenever a resolver is registered or removed.
+     * @return the version.
+     */
+    int getResolverSetVersion();
+
     /**
      * Internal method that handles the removal of a single resolvers that is attached to a provider that is being removed.
      *
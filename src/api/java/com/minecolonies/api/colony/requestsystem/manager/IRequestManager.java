@@ -246,4 +246,20 @@ public interface IRequestManager extends INBTSerializable<CompoundTag>, ITickabl
      * @param buffer     the {@link FriendlyByteBuf} to deserialize from.
      */
     void deserialize(final IFactoryController controller, final FriendlyByteBuf buffer);
+
+    /**
+     * Tick the request system within a time budget, used by the server wide request system scheduler.
+     *
+     * @param newTick       true for a new tick, false to continue the unfinished work of the previous one.
+     * @param deadlineNanos the {@link System#nanoTime()} deadline.
+     * @return true if all work of the tick is done.
+     */
+    default boolean tick(final boolean newTick, final long deadlineNanos)
+    {
+        if (newTick)
+        {
+            tick();
+        }
+        return true;
+    }
 }
@@ -0,0 +1,21 @@
+package com.minecolonies.api.colony.requestsystem.resolver;
+
+import com.minecolonies.api.colony.requestsystem.manager.IRequestManager;
+import net.minecraft.world.item.Item;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Resolver of deliverables which can tell cheaply which items it can supply at all. Used by the request handler to skip it for item and tag requests before running the more
+ * expensive {@link IRequestResolver#canResolveRequest(IRequestManager, com.minecolonies.api.colony.requestsystem.request.IRequest)}.
+ */
+public interface IItemSupplyingResolver
+{
+    /**
+     * Quick check if this resolver might be able to supply an item.
+     *
+     * @param manager the request manager.
+     * @param item    the item.
+     * @return false only if the resolver can definitely not supply the item.
+     */
+    boolean mightSupply(@NotNull IRequestManager manager, @NotNull Item item);
+}
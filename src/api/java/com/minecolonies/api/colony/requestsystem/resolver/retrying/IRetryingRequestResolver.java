@@ -54,4 +54,24 @@ public interface IRetryingRequestResolver extends IQueuedRequestResolver<IRetrya
      */
     @Nullable
     IToken<?> getCurrentlyBeingReassignedRequest();
+
+    /**
+     * Count down the retry delays, requests whose delay runs out become due for reassignment.
+     */
+    void updateDelays();
+
+    /**
+     * Reassign due requests until the deadline passes. At least one request is handled per call, the rest is carried over.
+     *
+     * @param deadlineNanos the {@link System#nanoTime()} deadline.
+     * @return true if all due requests were handled.
+     */
+    boolean reassignDueRequests(long deadlineNanos);
+
+    /**
+     * Get the amount of due requests waiting for their reassignment.
+     *
+     * @return the amount.
+     */
+    int getDueRequestCount();
 }
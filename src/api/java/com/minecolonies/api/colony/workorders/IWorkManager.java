@@ -93,7 +93,7 @@ public interface IWorkManager
     void read(@NotNull CompoundTag compound);
 
     /**
-     * Adds work order to the work manager.
+     * Adds work order to the work manager. New orders which need a footprint check are only added once their blueprint was loaded, see {@link IWorkOrder#onAdded}.
      *
      * @param order          Order to add.
      * @param readingFromNbt if being read from NBT.
@@ -117,6 +117,17 @@ public interface IWorkManager
      */
     <W extends IWorkOrder> List<W> getOrderedList(Class<W> type, BlockPos builder);
 
+    /**
+     * Get the work order with the highest priority a builder may take, without building the ordered list.
+     *
+     * @param type    the type of workOrder which is required.
+     * @param builder the builder wanting to claim it.
+     * @param <W>     the type.
+     * @return the unclaimed or claimed by the builder work order, or null if there is none.
+     */
+    @Nullable
+    <W extends IWorkOrder> W getFirstOrder(Class<W> type, BlockPos builder);
+
     /**
      * Get an ordered list by priority of the work orders.
      *
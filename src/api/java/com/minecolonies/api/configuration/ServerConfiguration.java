@@ -46,6 +46,8 @@ public class ServerConfiguration extends AbstractConfiguration
     public final ForgeConfigSpec.IntValue     maxTreeSize;
     public final ForgeConfigSpec.BooleanValue noSupplyPlacementRestrictions;
     public final ForgeConfigSpec.BooleanValue skyRaiders;
+    public final ForgeConfigSpec.IntValue     citizenAITickBudget;
+    public final ForgeConfigSpec.IntValue     citizenAIFullRateDistance;
 
     /*  --------------------------------------------------------------------------- *
      *  ------------------- ######## Research settings ######## ------------------- *
@@ -134,6 +136,8 @@ public class ServerConfiguration extends AbstractConfiguration
     public final ForgeConfigSpec.IntValue pathfindingDebugVerbosity;
     public final ForgeConfigSpec.IntValue pathfindingMaxThreadCount;
     public final ForgeConfigSpec.IntValue minimumRailsToPath;
+    public final ForgeConfigSpec.IntValue pathfindingTelemetryDumpInterval;
+    public final ForgeConfigSpec.BooleanValue pathfindingHierarchical;
 
     /*  --------------------------------------------------------------------------------- *
      *  ------------------- ######## Request System Settings ######## ------------------- *
@@ -142,6 +146,7 @@ public class ServerConfiguration extends AbstractConfiguration
     public final ForgeConfigSpec.IntValue     maximalRetries;
     public final ForgeConfigSpec.IntValue     delayBetweenRetries;
     public final ForgeConfigSpec.BooleanValue creativeResolve;
+    public final ForgeConfigSpec.IntValue     requestSystemTickBudget;
     public final ForgeConfigSpec.BooleanValue canPlayerUseResetCommand;
 
     /**
@@ -181,6 +186,8 @@ public class ServerConfiguration extends AbstractConfiguration
         maxTreeSize = defineInteger(builder, "maxtreesize", 400, 1, 1000);
         noSupplyPlacementRestrictions = defineBoolean(builder, "nosupplyplacementrestrictions", false);
         skyRaiders = defineBoolean(builder, "skyraiders", false);
+        citizenAITickBudget = defineInteger(builder, "citizenaitickbudget", 10, 0, 50);
+        citizenAIFullRateDistance = defineInteger(builder, "citizenaifullratedistance", 48, 16, 256);
 
         swapToCategory(builder, "research");
         researchCreativeCompletion = defineBoolean(builder, "researchcreativecompletion", true);
@@ -300,12 +307,15 @@ public class ServerConfiguration extends AbstractConfiguration
         pathfindingDebugVerbosity = defineInteger(builder, "pathfindingdebugverbosity", 0, 0, 10);
         minimumRailsToPath = defineInteger(builder, "minimumrailstopath", 8, 5, 100);
         pathfindingMaxThreadCount = defineInteger(builder, "pathfindingmaxthreadcount", 2, 1, 10);
+        pathfindingTelemetryDumpInterval = defineInteger(builder, "pathfindingtelemetrydumpinterval", 0, 0, 1440);
+        pathfindingHierarchical = defineBoolean(builder, "pathfindinghierarchical", false);
 
         swapToCategory(builder, "requestSystem");
 
         maximalRetries = defineInteger(builder, "maximalretries", 3, 1, 10);
         delayBetweenRetries = defineInteger(builder, "delaybetweenretries", 1200, 30, 10000);
         creativeResolve = defineBoolean(builder, "creativeresolve", false);
+        requestSystemTickBudget = defineInteger(builder, "requestsystemtickbudget", 2000, 0, 50000);
         canPlayerUseResetCommand = defineBoolean(builder, "canplayeruseresetcommand", false);
 
         finishCategory(builder);
@@ -1,5 +1,6 @@
 package com.minecolonies.api.entity.ai;
 
+import com.minecolonies.api.entity.ai.statemachine.states.AIWakeSignal;
 import com.minecolonies.api.entity.ai.statemachine.states.IState;
 
 /**
@@ -28,4 +29,11 @@ public interface ITickingStateAI
      * @return
      */
     public IState getState();
+
+    /**
+     * Notify the AI about a signal, wakes it up if it is parked waiting for it.
+     *
+     * @param signal the signal.
+     */
+    public void wakeUp(AIWakeSignal signal);
 }
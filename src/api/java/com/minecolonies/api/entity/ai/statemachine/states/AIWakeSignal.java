@@ -0,0 +1,24 @@
+package com.minecolonies.api.entity.ai.statemachine.states;
+
+/**
+ * Signals which wake up a parked statemachine. Transitions declare the signals their condition depends on, so the statemachine can stop polling them until one fires.
+ */
+public enum AIWakeSignal
+{
+    /**
+     * The inventory of the citizen changed.
+     */
+    INVENTORY_CHANGED,
+    /**
+     * A request of the citizen changed its state, e.g. got completed or cancelled.
+     */
+    REQUEST_STATE_CHANGED,
+    /**
+     * The work building of the citizen changed, e.g. got upgraded.
+     */
+    BUILDING_CHANGED,
+    /**
+     * A path calculation of the citizen finished.
+     */
+    PATH_RESULT
+}
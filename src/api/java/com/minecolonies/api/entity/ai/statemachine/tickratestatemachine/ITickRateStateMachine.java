@@ -1,6 +1,7 @@
 package com.minecolonies.api.entity.ai.statemachine.tickratestatemachine;
 
 import com.minecolonies.api.entity.ai.statemachine.basestatemachine.IStateMachine;
+import com.minecolonies.api.entity.ai.statemachine.states.AIWakeSignal;
 import com.minecolonies.api.entity.ai.statemachine.states.IState;
 import org.jetbrains.annotations.NotNull;
 
@@ -41,4 +42,26 @@ public interface ITickRateStateMachine<S extends IState> extends IStateMachine<I
      * @param ticksToNext
      */
     void setCurrentDelay(int ticksToNext);
+
+    /**
+     * Park the statemachine on the currently executed transition: the transitions of the current state are not polled anymore until one of the signals the transition waits
+     * on fires, the timeout passed or an event transition changed the state. Does nothing if the transition does not declare any signals.
+     *
+     * @param timeout the maximum amount of ticks to stay parked.
+     */
+    void park(int timeout);
+
+    /**
+     * Notify the statemachine about a signal, unparks it if it waits on it.
+     *
+     * @param signal the signal.
+     */
+    void signal(@NotNull AIWakeSignal signal);
+
+    /**
+     * Check if the statemachine is parked.
+     *
+     * @return true if so.
+     */
+    boolean isParked();
 }
@@ -1,9 +1,12 @@
 package com.minecolonies.api.entity.ai.statemachine.tickratestatemachine;
 
+import com.minecolonies.api.entity.ai.statemachine.states.AIWakeSignal;
 import com.minecolonies.api.entity.ai.statemachine.states.IState;
 import com.minecolonies.api.entity.ai.statemachine.transitions.IStateMachineTransition;
 import org.jetbrains.annotations.NotNull;
 
+import java.util.Set;
+
 public interface ITickingTransition<S extends IState> extends IStateMachineTransition<S>
 {
     /**
@@ -33,4 +36,11 @@ public interface ITickingTransition<S extends IState> extends IStateMachineTrans
      * @param ticksToUpdate
      */
     void setTicksToUpdate(int ticksToUpdate);
+
+    /**
+     * Get the signals the condition of this transition depends on, while the statemachine is parked on this transition only these wake it up early.
+     *
+     * @return the signals, empty if the transition can not be parked on.
+     */
+    Set<AIWakeSignal> getWakeSignals();
 }
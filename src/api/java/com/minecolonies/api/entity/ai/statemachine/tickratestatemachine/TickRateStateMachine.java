@@ -2,6 +2,7 @@ package com.minecolonies.api.entity.ai.statemachine.tickratestatemachine;
 
 import com.minecolonies.api.entity.ai.statemachine.basestatemachine.BasicStateMachine;
 import com.minecolonies.api.entity.ai.statemachine.states.AIBlockingEventType;
+import com.minecolonies.api.entity.ai.statemachine.states.AIWakeSignal;
 import com.minecolonies.api.entity.ai.statemachine.states.IState;
 import org.jetbrains.annotations.NotNull;
 
@@ -13,6 +14,9 @@ import java.util.function.Consumer;
 
 /**
  * Statemachine with an added tickrate limiting of transitions, allowing transitions to be checked at a lower rate. Default tickrate is 20 tps (Minecraft default).
+ * <p>
+ * The statemachine can also be parked on a transition which declares the signals it waits on, then the transitions of the current state are not polled until one of those
+ * signals fires, the timeout passes or one of the event transitions, which are still polled while parked, changes the state.
  */
 public class TickRateStateMachine<S extends IState> extends BasicStateMachine<ITickingTransition<S>, S> implements ITickRateStateMachine<S>
 {
@@ -41,6 +45,16 @@ public class TickRateStateMachine<S extends IState> extends BasicStateMachine<IT
      */
     private ITickingTransition<S> executedTransition = null;
 
+    /**
+     * Transition the statemachine is parked on, null if it is not parked.
+     */
+    private ITickingTransition<S> parkedTransition = null;
+
+    /**
+     * Ticks until a parked statemachine wakes up without a signal.
+     */
+    private int parkedTicks = 0;
+
     /**
      * Reference to our used global transition lists
      */
@@ -73,6 +87,11 @@ public class TickRateStateMachine<S extends IState> extends BasicStateMachine<IT
     @Override
     public void tick()
     {
+        if (parkedTransition != null && --parkedTicks <= 0)
+        {
+            unpark();
+        }
+
         if (tickRateCounter > 1)
         {
             tickRateCounter--;
@@ -80,10 +99,12 @@ public class TickRateStateMachine<S extends IState> extends BasicStateMachine<IT
         }
         tickRateCounter = tickRate;
 
+        final S previousState = getState();
         for (int i = 0, aiBlockingTransitionsSize = aiBlockingTransitions.size(); i < aiBlockingTransitionsSize; i++)
         {
             if (checkTransition(aiBlockingTransitions.get(i)))
             {
+                wakeOnStateChange(previousState);
                 return;
             }
         }
@@ -92,6 +113,7 @@ public class TickRateStateMachine<S extends IState> extends BasicStateMachine<IT
         {
             if (checkTransition(eventTransitions.get(i)))
             {
+                wakeOnStateChange(previousState);
                 return;
             }
         }
@@ -100,10 +122,16 @@ public class TickRateStateMachine<S extends IState> extends BasicStateMachine<IT
         {
             if (checkTransition(stateBlockingTransitions.get(i)))
             {
+                wakeOnStateChange(previousState);
                 return;
             }
         }
 
+        if (parkedTransition != null)
+        {
+            return;
+        }
+
         for (int i = 0, currentStateTransitionsSize = currentStateTransitions.size(); i < currentStateTransitionsSize; i++)
         {
             if (checkTransition(currentStateTransitions.get(i)))
@@ -151,4 +179,65 @@ public class TickRateStateMachine<S extends IState> extends BasicStateMachine<IT
     {
         executedTransition.setTicksToUpdate(ticksToNext);
     }
+
+    @Override
+    public void park(final int timeout)
+    {
+        if (executedTransition == null || executedTransition.getWakeSignals().isEmpty())
+        {
+            return;
+        }
+
+        parkedTransition = executedTransition;
+        parkedTicks = Math.max(1, timeout);
+    }
+
+    @Override
+    public void signal(@NotNull final AIWakeSignal signal)
+    {
+        if (parkedTransition != null && parkedTransition.getWakeSignals().contains(signal))
+        {
+            unpark();
+        }
+    }
+
+    @Override
+    public boolean isParked()
+    {
+        return parkedTransition != null;
+    }
+
+    /**
+     * Wake the statemachine up if it is parked and another transition changed the state, the transition it was parked on does not apply anymore then.
+     *
+     * @param previousState the state before the transition ran.
+     */
+    private void wakeOnStateChange(final S previousState)
+    {
+        if (parkedTransition != null && getState() != previousState)
+        {
+            unpark();
+        }
+    }
+
+    /**
+     * Wake the statemachine up, the transition it was parked on is checked right away.
+     */
+    private void unpark()
+    {
+        parkedTransition.setTicksToUpdate(0);
+        parkedTransition = null;
+        parkedTicks = 0;
+        tickRateCounter = 0;
+    }
+
+    @Override
+    public void reset()
+    {
+        if (parkedTransition != null)
+        {
+            unpark();
+        }
+        super.reset();
+    }
 }
@@ -1,9 +1,13 @@
 package com.minecolonies.api.entity.ai.statemachine.tickratestatemachine;
 
 import com.minecolonies.api.entity.ai.statemachine.basestatemachine.BasicTransition;
+import com.minecolonies.api.entity.ai.statemachine.states.AIWakeSignal;
 import com.minecolonies.api.entity.ai.statemachine.states.IState;
 import org.jetbrains.annotations.NotNull;
 
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.Set;
 import java.util.function.BooleanSupplier;
 import java.util.function.Supplier;
 
@@ -25,6 +29,11 @@ public class TickingTransition<S extends IState> extends BasicTransition<S> impl
      */
     private int ticksToUpdate = 0;
 
+    /**
+     * The signals the condition of this transition depends on.
+     */
+    private final Set<AIWakeSignal> wakeSignals = EnumSet.noneOf(AIWakeSignal.class);
+
     /**
      * The variant used upon creation of the AITarget to uniformly distribute the Tick offset Static variable counter that changes with each AITarget creation and affects the next
      * one.
@@ -128,4 +137,22 @@ public class TickingTransition<S extends IState> extends BasicTransition<S> impl
     {
         this.ticksToUpdate = ticksToUpdate;
     }
+
+    /**
+     * Declare the signals the condition of this transition depends on, which allows the statemachine to be parked on it.
+     *
+     * @param signals the signals.
+     * @return this transition.
+     */
+    public TickingTransition<S> waitFor(@NotNull final AIWakeSignal... signals)
+    {
+        wakeSignals.addAll(Arrays.asList(signals));
+        return this;
+    }
+
+    @Override
+    public Set<AIWakeSignal> getWakeSignals()
+    {
+        return wakeSignals;
+    }
 }
@@ -5,6 +5,7 @@ import net.minecraft.world.level.pathfinder.Path;
 import org.jetbrains.annotations.Nullable;
 
 import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Future;
@@ -171,6 +172,21 @@ public class PathResult<T extends Callable<Path>>
         }
     }
 
+    /**
+     * Completes the result with an already known path, without running the job.
+     *
+     * @param path               the path.
+     * @param reachesDestination whether the path reaches the destination.
+     */
+    public void completeWith(final Path path, final boolean reachesDestination)
+    {
+        this.path = path;
+        this.pathReachesDestination = reachesDestination;
+        this.pathCalculation = null;
+        setStatus(PathFindingStatus.CALCULATION_COMPLETE);
+        pathingDoneAndProcessed = true;
+    }
+
     /**
      * Processes the completed calculation results
      */
@@ -191,6 +207,12 @@ public class PathResult<T extends Callable<Path>>
         {
             Log.getLogger().catching(e);
         }
+        catch (CancellationException e)
+        {
+            // Dropped or superseded by the scheduler before it ran.
+            pathCalculation = null;
+            setStatus(PathFindingStatus.CALCULATION_COMPLETE);
+        }
     }
 
     /**
@@ -1,5 +1,7 @@
 package com.minecolonies.api.entity.pathfinding;
 
+import java.util.Objects;
+
 /**
  * Configuration values for pathing, used by pathjobs and normally set through the navigator
  */
@@ -76,6 +78,11 @@ public class PathingOptions
      */
     private boolean canPassDanger  = false;
 
+    /**
+     * Whether to plan over the colony section graph first and only refine within the found corridor.
+     */
+    private boolean hierarchical   = false;
+
     public PathingOptions()
     {}
 
@@ -139,6 +146,16 @@ public class PathingOptions
         return canPassDanger;
     }
 
+    public void setHierarchical(final boolean hierarchical)
+    {
+        this.hierarchical = hierarchical;
+    }
+
+    public boolean isHierarchical()
+    {
+        return hierarchical;
+    }
+
     public PathingOptions withStartSwimCost(final double startSwimCost)
     {
         swimCostEnter = startSwimCost;
@@ -237,6 +254,58 @@ public class PathingOptions
         canOpenDoors = pathingOptions.canOpenDoors;
         canClimbVines = pathingOptions.canClimbVines;
         canPassDanger = pathingOptions.canPassDanger;
+        hierarchical = pathingOptions.hierarchical;
     }
 
+    @Override
+    public boolean equals(final Object o)
+    {
+        if (this == o)
+        {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass())
+        {
+            return false;
+        }
+
+        final PathingOptions that = (PathingOptions) o;
+        return Double.compare(that.jumpCost, jumpCost) == 0
+                 && Double.compare(that.dropCost, dropCost) == 0
+                 && Double.compare(that.onPathCost, onPathCost) == 0
+                 && Double.compare(that.onRailCost, onRailCost) == 0
+                 && Double.compare(that.railsExitCost, railsExitCost) == 0
+                 && Double.compare(that.swimCost, swimCost) == 0
+                 && Double.compare(that.swimCostEnter, swimCostEnter) == 0
+                 && Double.compare(that.traverseToggleAbleCost, traverseToggleAbleCost) == 0
+                 && Double.compare(that.vineCost, vineCost) == 0
+                 && canUseRails == that.canUseRails
+                 && canSwim == that.canSwim
+                 && enterDoors == that.enterDoors
+                 && canOpenDoors == that.canOpenDoors
+                 && canClimbVines == that.canClimbVines
+                 && canPassDanger == that.canPassDanger
+                 && hierarchical == that.hierarchical;
+    }
+
+    @Override
+    public int hashCode()
+    {
+        return Objects.hash(jumpCost,
+          dropCost,
+          onPathCost,
+          onRailCost,
+          railsExitCost,
+          swimCost,
+          swimCostEnter,
+          traverseToggleAbleCost,
+          vineCost,
+          canUseRails,
+          canSwim,
+          enterDoors,
+          canOpenDoors,
+          canClimbVines,
+          canPassDanger,
+          hierarchical);
+    }
 }
@@ -1,6 +1,7 @@
 package com.minecolonies.api.inventory;
 
 import com.minecolonies.api.colony.ICitizenData;
+import com.minecolonies.api.entity.ai.statemachine.states.AIWakeSignal;
 import com.minecolonies.api.util.InventoryUtils;
 import com.minecolonies.api.util.ItemStackUtils;
 import com.minecolonies.api.util.Log;
@@ -507,6 +508,7 @@ public class InventoryCitizen implements IItemHandlerModifiable, Nameable
         if (this.citizen != null)
         {
             this.citizen.markDirty(20);
+            this.citizen.wakeWorkerAI(AIWakeSignal.INVENTORY_CHANGED);
         }
     }
 
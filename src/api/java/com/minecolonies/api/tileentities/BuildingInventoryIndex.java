@@ -0,0 +1,372 @@
+package com.minecolonies.api.tileentities;
+
+import com.minecolonies.api.crafting.ItemStorage;
+import com.minecolonies.api.util.WorldUtil;
+import net.minecraft.core.BlockPos;
+import net.minecraft.world.item.Item;
+import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.level.block.entity.BlockEntity;
+import net.minecraft.world.level.block.entity.ChestBlockEntity;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.*;
+import java.util.function.Predicate;
+
+/**
+ * Aggregated content of all loaded racks of a building. The racks push their content whenever it changes, so the building totals are kept up to date incrementally and item
+ * counts are a map lookup instead of a scan over all containers, and lookups of the racks holding an item only visit those racks. The block entities of the containers are
+ * cached until the container list of the building changes. Only accessed from the server thread.
+ */
+public class BuildingInventoryIndex
+{
+    /**
+     * The indexed racks with their last pushed content.
+     */
+    private final Map<BlockPos, RackSnapshot> racks = new HashMap<>();
+
+    /**
+     * The loaded chests of the building, they do not track their content and are scanned on demand.
+     */
+    private final Map<BlockPos, ChestBlockEntity> chests = new HashMap<>();
+
+    /**
+     * Container positions which were not loaded when they were last looked at.
+     */
+    private final Set<BlockPos> unresolved = new HashSet<>();
+
+    /**
+     * The indexed racks holding each item.
+     */
+    private final Map<Item, Set<BlockPos>> racksByItem = new HashMap<>();
+
+    /**
+     * The total amount of each item over all indexed racks.
+     */
+    private final Map<ItemStorage, Integer> totals = new HashMap<>();
+
+    /**
+     * The total amount of free slots over all indexed racks.
+     */
+    private int freeSlots = 0;
+
+    /**
+     * If the container list changed and the index has to be rebuilt.
+     */
+    private boolean dirty = true;
+
+    /**
+     * Mark the index for rebuilding, called when the container list of the building changes.
+     */
+    public void invalidate()
+    {
+        dirty = true;
+    }
+
+    /**
+     * Make sure the index matches the containers of the building. Rebuilds it if the container list changed, otherwise only picks up containers which got loaded since.
+     *
+     * @param world      the world of the building.
+     * @param containers the container positions of the building.
+     * @param hutPos     the position of the hut block.
+     */
+    public void ensure(@NotNull final Level world, @NotNull final Collection<BlockPos> containers, @NotNull final BlockPos hutPos)
+    {
+        if (dirty)
+        {
+            clear();
+            unresolved.addAll(containers);
+            unresolved.add(hutPos);
+            dirty = false;
+        }
+
+        chests.values().removeIf(chest -> {
+            if (chest.isRemoved())
+            {
+                unresolved.add(chest.getBlockPos());
+                return true;
+            }
+            return false;
+        });
+
+        if (unresolved.isEmpty())
+        {
+            return;
+        }
+
+        for (final Iterator<BlockPos> iterator = unresolved.iterator(); iterator.hasNext(); )
+        {
+            final BlockPos pos = iterator.next();
+            if (!WorldUtil.isBlockLoaded(world, pos))
+            {
+                continue;
+            }
+
+            iterator.remove();
+            final BlockEntity entity = world.getBlockEntity(pos);
+            if (entity instanceof TileEntityRack rack)
+            {
+                rack.setContentIndex(this);
+                index(rack);
+            }
+            else if (entity instanceof ChestBlockEntity chest)
+            {
+                chests.put(pos, chest);
+            }
+        }
+    }
+
+    /**
+     * Apply the new content of an indexed rack.
+     *
+     * @param rack the rack which changed.
+     */
+    void onRackChanged(@NotNull final TileEntityRack rack)
+    {
+        if (dirty)
+        {
+            return;
+        }
+
+        final BlockPos pos = rack.getBlockPos();
+        final RackSnapshot previous = racks.remove(pos);
+        if (previous != null)
+        {
+            apply(previous, -1);
+        }
+        else if (!unresolved.remove(pos))
+        {
+            // Not a container of this building (anymore).
+            rack.setContentIndex(null);
+            return;
+        }
+
+        index(rack);
+    }
+
+    /**
+     * Take a snapshot of the content of a rack and add it to the totals.
+     *
+     * @param rack the rack.
+     */
+    private void index(@NotNull final TileEntityRack rack)
+    {
+        final RackSnapshot snapshot = new RackSnapshot(rack, new HashMap<>(rack.getAllContent()), rack.getFreeSlots());
+        racks.put(rack.getBlockPos().immutable(), snapshot);
+        apply(snapshot, 1);
+    }
+
+    /**
+     * Drop a rack which got removed or unloaded, it is picked up again once it is loaded.
+     *
+     * @param rack the removed rack.
+     */
+    void onRackRemoved(@NotNull final TileEntityRack rack)
+    {
+        final RackSnapshot previous = racks.get(rack.getBlockPos());
+        if (previous == null || previous.rack() != rack)
+        {
+            return;
+        }
+
+        racks.remove(rack.getBlockPos());
+        apply(previous, -1);
+        if (!dirty)
+        {
+            unresolved.add(rack.getBlockPos());
+        }
+    }
+
+    /**
+     * Add or subtract the content of a rack from the totals.
+     *
+     * @param snapshot the rack content.
+     * @param sign     1 to add, -1 to subtract.
+     */
+    private void apply(@NotNull final RackSnapshot snapshot, final int sign)
+    {
+        freeSlots += sign * snapshot.freeSlots();
+        final BlockPos pos = snapshot.rack().getBlockPos();
+        for (final Map.Entry<ItemStorage, Integer> entry : snapshot.content().entrySet())
+        {
+            final Item item = entry.getKey().getItem();
+            if (sign > 0)
+            {
+                racksByItem.computeIfAbsent(item, key -> new HashSet<>()).add(pos.immutable());
+            }
+            else
+            {
+                final Set<BlockPos> itemRacks = racksByItem.get(item);
+                if (itemRacks != null && itemRacks.remove(pos) && itemRacks.isEmpty())
+                {
+                    racksByItem.remove(item);
+                }
+            }
+
+            final int amount = totals.getOrDefault(entry.getKey(), 0) + sign * entry.getValue();
+            if (amount <= 0)
+            {
+                totals.remove(entry.getKey());
+            }
+            else
+            {
+                totals.put(entry.getKey(), amount);
+            }
+        }
+    }
+
+    /**
+     * Forget all containers.
+     */
+    public void clear()
+    {
+        for (final RackSnapshot snapshot : racks.values())
+        {
+            snapshot.rack().setContentIndex(null);
+        }
+        racks.clear();
+        racksByItem.clear();
+        chests.clear();
+        unresolved.clear();
+        totals.clear();
+        freeSlots = 0;
+    }
+
+    /**
+     * Get the amount of an item over all loaded racks.
+     *
+     * @param storage the storage to match.
+     * @return the quantity or 0.
+     */
+    public int getCount(@NotNull final ItemStorage storage)
+    {
+        if (storage.ignoreDamageValue() || storage.ignoreNBT())
+        {
+            if (!totals.containsKey(storage))
+            {
+                return 0;
+            }
+
+            int count = 0;
+            for (final Map.Entry<ItemStorage, Integer> entry : totals.entrySet())
+            {
+                if (entry.getKey().equals(storage))
+                {
+                    count += entry.getValue();
+                }
+            }
+            return count;
+        }
+
+        return totals.getOrDefault(storage, 0);
+    }
+
+    /**
+     * Get the amount of items matching a predicate over all loaded racks.
+     *
+     * @param predicate the predicate.
+     * @return the quantity or 0.
+     */
+    public int getCount(@NotNull final Predicate<ItemStack> predicate)
+    {
+        int count = 0;
+        for (final Map.Entry<ItemStorage, Integer> entry : totals.entrySet())
+        {
+            if (predicate.test(entry.getKey().getItemStack()))
+            {
+                count += entry.getValue();
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Get the loaded racks which hold an item.
+     *
+     * @param item the item.
+     * @return the racks.
+     */
+    @NotNull
+    public List<TileEntityRack> getRacksWith(@NotNull final Item item)
+    {
+        final Set<BlockPos> positions = racksByItem.get(item);
+        if (positions == null)
+        {
+            return Collections.emptyList();
+        }
+
+        final List<TileEntityRack> result = new ArrayList<>(positions.size());
+        for (final BlockPos pos : positions)
+        {
+            result.add(racks.get(pos).rack());
+        }
+        return result;
+    }
+
+    /**
+     * Get the loaded racks which hold a stack matching a predicate.
+     *
+     * @param predicate the predicate.
+     * @return the racks.
+     */
+    @NotNull
+    public List<TileEntityRack> getRacksMatching(@NotNull final Predicate<ItemStack> predicate)
+    {
+        final List<TileEntityRack> result = new ArrayList<>();
+        for (final RackSnapshot snapshot : racks.values())
+        {
+            for (final ItemStorage storage : snapshot.content().keySet())
+            {
+                if (predicate.test(storage.getItemStack()))
+                {
+                    result.add(snapshot.rack());
+                    break;
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Get the total content of all loaded racks.
+     *
+     * @return an unmodifiable view of the content.
+     */
+    @NotNull
+    public Map<ItemStorage, Integer> getContent()
+    {
+        return Collections.unmodifiableMap(totals);
+    }
+
+    /**
+     * Get the amount of free slots over all loaded racks.
+     *
+     * @return the free slot count.
+     */
+    public int getFreeSlots()
+    {
+        return freeSlots;
+    }
+
+    /**
+     * Get the loaded chests of the building.
+     *
+     * @return the chests, do not modify.
+     */
+    @NotNull
+    public Collection<ChestBlockEntity> getChests()
+    {
+        return chests.values();
+    }
+
+    /**
+     * Content of a rack at the time it was last pushed.
+     *
+     * @param rack      the rack.
+     * @param content   its content.
+     * @param freeSlots its free slots.
+     */
+    private record RackSnapshot(TileEntityRack rack, Map<ItemStorage, Integer> content, int freeSlots)
+    {
+    }
+}
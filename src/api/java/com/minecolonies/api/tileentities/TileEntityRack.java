@@ -84,6 +84,12 @@ public class TileEntityRack extends AbstractTileEntityRack implements IMateriall
      */
     private LazyOptional<IItemHandler> lastOptional;
 
+    /**
+     * Content index of the building this rack belongs to, if it is indexed.
+     */
+    @Nullable
+    private BuildingInventoryIndex contentIndex;
+
     /**
      * Static texture mappings
      */
@@ -315,9 +321,23 @@ public class TileEntityRack extends AbstractTileEntityRack implements IMateriall
                 }
             }
             setChanged();
+            if (contentIndex != null)
+            {
+                contentIndex.onRackChanged(this);
+            }
         }
     }
 
+    /**
+     * Set the content index of the building this rack belongs to, which is notified whenever the content changes.
+     *
+     * @param contentIndex the index, or null to stop notifying.
+     */
+    void setContentIndex(@Nullable final BuildingInventoryIndex contentIndex)
+    {
+        this.contentIndex = contentIndex;
+    }
+
     /**
      * Just do the content update.
      */
@@ -581,6 +601,11 @@ public class TileEntityRack extends AbstractTileEntityRack implements IMateriall
     {
         super.setRemoved();
         invalidateCap();
+        if (contentIndex != null)
+        {
+            contentIndex.onRackRemoved(this);
+            contentIndex = null;
+        }
     }
 
     /**
@@ -5,6 +5,7 @@ import com.google.common.collect.Lists;
 import com.google.common.collect.Maps;
 import com.minecolonies.api.colony.buildings.IBuilding;
 import com.minecolonies.api.crafting.ItemStorage;
+import com.minecolonies.api.tileentities.BuildingInventoryIndex;
 import com.minecolonies.api.tileentities.TileEntityColonyBuilding;
 import com.minecolonies.api.tileentities.TileEntityRack;
 import com.minecolonies.api.util.constant.IToolType;
@@ -738,27 +739,19 @@ public class InventoryUtils
      */
     public static int hasBuildingEnoughElseCount(@NotNull final IBuilding provider, @NotNull final ItemStorage stack, final int count)
     {
-        int totalCount = 0;
-        final Level world = provider.getColony().getWorld();
+        final BuildingInventoryIndex index = provider.getInventoryIndex();
+        int totalCount = index.getCount(stack);
+        if (totalCount > count)
+        {
+            return Integer.MAX_VALUE;
+        }
 
-        for (final BlockPos pos : provider.getContainers())
+        for (final ChestBlockEntity chest : index.getChests())
         {
-            if (WorldUtil.isBlockLoaded(world, pos))
+            totalCount += getItemCountInProvider(chest, itemStack -> ItemStackUtils.compareItemStacksIgnoreStackSize(itemStack, stack.getItemStack(), !stack.ignoreDamageValue(), !stack.ignoreNBT() ));
+            if (totalCount > count)
             {
-                final BlockEntity entity = world.getBlockEntity(pos);
-                if (entity instanceof TileEntityRack)
-                {
-                    totalCount += ((TileEntityRack) entity).getCount(stack);
-                }
-                else if (entity instanceof ChestBlockEntity)
-                {
-                    totalCount += getItemCountInProvider(entity, itemStack -> ItemStackUtils.compareItemStacksIgnoreStackSize(itemStack, stack.getItemStack(), !stack.ignoreDamageValue(), !stack.ignoreNBT() ));
-                }
-
-                if (totalCount > count)
-                {
-                    return Integer.MAX_VALUE;
-                }
+                return Integer.MAX_VALUE;
             }
         }
 
@@ -774,27 +767,7 @@ public class InventoryUtils
      */
     public static int hasBuildingEnoughElseCount(@NotNull final IBuilding provider, @NotNull final Predicate<ItemStack> stack, final int count)
     {
-        int totalCount = 0;
-        final Level world = provider.getColony().getWorld();
-
-        for (final BlockPos pos : provider.getContainers())
-        {
-            if (WorldUtil.isBlockLoaded(world, pos))
-            {
-                final BlockEntity entity = world.getBlockEntity(pos);
-                if (entity instanceof TileEntityRack)
-                {
-                    totalCount += ((TileEntityRack) entity).getItemCount(stack);
-                }
-
-                if (totalCount > count)
-                {
-                    return totalCount;
-                }
-            }
-        }
-
-        return totalCount;
+        return provider.getInventoryIndex().getCount(stack);
     }
 
     /**
@@ -825,23 +798,11 @@ public class InventoryUtils
      */
     public static int getCountFromBuilding(@NotNull final IBuilding provider, @NotNull final ItemStorage stack)
     {
-        int totalCount = 0;
-        final Level world = provider.getColony().getWorld();
-
-        for (final BlockPos pos : provider.getContainers())
+        final BuildingInventoryIndex index = provider.getInventoryIndex();
+        int totalCount = index.getCount(stack);
+        for (final ChestBlockEntity chest : index.getChests())
         {
-            if (WorldUtil.isBlockLoaded(world, pos))
-            {
-                final BlockEntity entity = world.getBlockEntity(pos);
-                if (entity instanceof TileEntityRack)
-                {
-                    totalCount += ((TileEntityRack) entity).getCount(stack);
-                }
-                else if (entity instanceof ChestBlockEntity)
-                {
-                    totalCount += getItemCountInProvider(entity, itemStack -> ItemStackUtils.compareItemStacksIgnoreStackSize(itemStack, stack.getItemStack()));
-                }
-            }
+            totalCount += getItemCountInProvider(chest, itemStack -> ItemStackUtils.compareItemStacksIgnoreStackSize(itemStack, stack.getItemStack()));
         }
 
         return totalCount;
@@ -854,22 +815,7 @@ public class InventoryUtils
      */
     public static int countEmptySlotsInBuilding(final IBuilding ownBuilding)
     {
-        int totalCount = 0;
-        final Level world = ownBuilding.getColony().getWorld();
-
-        for (final BlockPos pos : ownBuilding.getContainers())
-        {
-            if (WorldUtil.isBlockLoaded(world, pos))
-            {
-                final BlockEntity entity = world.getBlockEntity(pos);
-                if (entity instanceof TileEntityRack)
-                {
-                    totalCount += ((TileEntityRack) entity).getFreeSlots();
-                }
-            }
-        }
-
-        return totalCount;
+        return ownBuilding.getInventoryIndex().getFreeSlots();
     }
 
     /**
@@ -881,22 +827,7 @@ public class InventoryUtils
      */
     public static int getCountFromBuilding(@NotNull final IBuilding provider, @NotNull final Predicate<ItemStack> predicate)
     {
-        int totalCount = 0;
-        final Level world = provider.getColony().getWorld();
-
-        for (final BlockPos pos : provider.getContainers())
-        {
-            if (WorldUtil.isBlockLoaded(world, pos))
-            {
-                final BlockEntity entity = world.getBlockEntity(pos);
-                if (entity instanceof TileEntityRack)
-                {
-                    totalCount += ((TileEntityRack) entity).getItemCount(predicate);
-                }
-            }
-        }
-
-        return totalCount;
+        return provider.getInventoryIndex().getCount(predicate);
     }
 
     /**
@@ -909,34 +840,15 @@ public class InventoryUtils
      */
     public static int getCountFromBuildingWithLimit(@NotNull final IBuilding provider, @NotNull final Predicate<ItemStack> predicate, final Function<ItemStack, Integer> limit)
     {
-        final Level world = provider.getColony().getWorld();
-
-        final Map<ItemStorage, Integer> allMatching = new HashMap<>();
-
-        for (final BlockPos pos : provider.getContainers())
+        int totalCount = 0;
+        for (final Map.Entry<ItemStorage, Integer> entry : provider.getInventoryIndex().getContent().entrySet())
         {
-            if (WorldUtil.isBlockLoaded(world, pos))
+            if (predicate.test(entry.getKey().getItemStack()))
             {
-                final BlockEntity entity = world.getBlockEntity(pos);
-                if (entity instanceof TileEntityRack)
-                {
-                    for (final Map.Entry<ItemStorage, Integer> entry : ((TileEntityRack) entity).getAllContent().entrySet())
-                    {
-                        if (predicate.test(entry.getKey().getItemStack()))
-                        {
-                            allMatching.put(entry.getKey(), allMatching.getOrDefault(entry.getKey(), 0) + entry.getValue());
-                        }
-                    }
-                }
+                totalCount += Math.min(limit.apply(entry.getKey().getItemStack()), entry.getValue());
             }
         }
 
-        int totalCount = 0;
-        for (final Map.Entry<ItemStorage, Integer> entry : allMatching.entrySet())
-        {
-            totalCount += Math.min(limit.apply(entry.getKey().getItemStack()), entry.getValue());
-        }
-
         return totalCount;
     }
 
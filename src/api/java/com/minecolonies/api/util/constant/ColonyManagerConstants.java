@@ -37,6 +37,11 @@ public final class ColonyManagerConstants
      */
     public static final String RECIPE_MANAGER_TAG = "recipeManager";
 
+    /**
+     * Compound tag key for the chunk to colony index.
+     */
+    public static final String CHUNK_INDEX_TAG = "chunkIndex";
+
     /**
      * Colony filename.
      */
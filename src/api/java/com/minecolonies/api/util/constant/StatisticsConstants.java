@@ -23,5 +23,6 @@ public final class StatisticsConstants
     public static final String BUILD_UPGRADED  = "build_upgraded";
     public static final String BUILD_REPAIRED  = "build_repaired";
     public static final String BUILD_REMOVED   = "build_removed";
+    public static final String WORK_ORDER_QUEUE_UPDATES = "work_order_queue_updates";
 
 }
@@ -102,6 +102,30 @@ public class CommandTranslationConstants
     @NonNls
     public static final String COMMAND_BACKUP_FAILED                    = "com.minecolonies.command.backup.failed";
     @NonNls
+    public static final String COMMAND_BACKUP_STATS_NONE                = "com.minecolonies.command.backupstats.none";
+    @NonNls
+    public static final String COMMAND_BACKUP_STATS_NONE_NAMED          = "com.minecolonies.command.backupstats.nonenamed";
+    @NonNls
+    public static final String COMMAND_BACKUP_STATS_STORE               = "com.minecolonies.command.backupstats.store";
+    @NonNls
+    public static final String COMMAND_BACKUP_STATS_RESTORE             = "com.minecolonies.command.backupstats.restore";
+    @NonNls
+    public static final String COMMAND_CITIZEN_AI_STATS                 = "com.minecolonies.command.citizenaistats";
+    @NonNls
+    public static final String COMMAND_PATHFINDING_STATS_QUEUE          = "com.minecolonies.command.pathfindingstats.queue";
+    @NonNls
+    public static final String COMMAND_PATHFINDING_STATS_SEARCH         = "com.minecolonies.command.pathfindingstats.search";
+    @NonNls
+    public static final String COMMAND_PATHFINDING_STATS_NONE           = "com.minecolonies.command.pathfindingstats.none";
+    @NonNls
+    public static final String COMMAND_PATHFINDING_STATS_JOB            = "com.minecolonies.command.pathfindingstats.job";
+    @NonNls
+    public static final String COMMAND_RS_STATS_SCHEDULER               = "com.minecolonies.command.rsstats.scheduler";
+    @NonNls
+    public static final String COMMAND_RS_STATS_COLONY                  = "com.minecolonies.command.rsstats.colony";
+    @NonNls
+    public static final String COMMAND_CHUNK_SYNC_STATS                 = "com.minecolonies.command.chunksyncstats";
+    @NonNls
     public static final String COMMAND_HELP_INFO_WIKI                   = "com.minecolonies.command.help.wiki";
     @NonNls
     public static final String COMMAND_HELP_INFO_DISCORD                = "com.minecolonies.command.help.discord";
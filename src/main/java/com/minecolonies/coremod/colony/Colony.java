@@ -31,6 +31,7 @@ import com.minecolonies.coremod.colony.managers.*;
 import com.minecolonies.coremod.colony.permissions.ColonyPermissionEventHandler;
 import com.minecolonies.coremod.colony.permissions.Permissions;
 import com.minecolonies.coremod.colony.pvp.AttackingPlayer;
+import com.minecolonies.coremod.colony.requestsystem.management.manager.RequestSystemScheduler;
 import com.minecolonies.coremod.colony.requestsystem.management.manager.StandardRequestManager;
 import com.minecolonies.coremod.colony.workorders.WorkManager;
 import com.minecolonies.coremod.datalistener.CitizenNameListener;
@@ -106,7 +107,10 @@ public class Colony implements IColony
      */
     public Set<Long> ticketedChunks = new HashSet<>();
 
-    private boolean ticketedChunksDirty = true;
+    /**
+     * Journaled sections of the colony view which changed since the view last picked them up.
+     */
+    private final EnumSet<ColonyView.Section> changedViewSections = EnumSet.allOf(ColonyView.Section.class);
 
     /**
      * List of chunks that have to be be force loaded.
@@ -442,7 +446,7 @@ public class Colony implements IColony
     }
 
     /**
-     * Ticks the request manager.
+     * Queues a tick of the request manager, run by the {@link RequestSystemScheduler} within the server wide budget.
      *
      * @return false
      */
@@ -450,7 +454,7 @@ public class Colony implements IColony
     {
         if (getRequestManager() != null)
         {
-            getRequestManager().tick();
+            RequestSystemScheduler.schedule(this);
         }
         return false;
     }
@@ -534,7 +538,7 @@ public class Colony implements IColony
                         }
                     }
                     ticketedChunks.clear();
-                    ticketedChunksDirty = true;
+                    markViewSectionChanged(ColonyView.Section.TICKETS);
                 }
             }
         }
@@ -552,7 +556,7 @@ public class Colony implements IColony
             if (!ticketedChunks.contains(chunkPos) && buildingManager.isWithinBuildingZone(chunk))
             {
                 ticketedChunks.add(chunkPos);
-                ticketedChunksDirty = true;
+                markViewSectionChanged(ColonyView.Section.TICKETS);
                 ((ServerChunkCache) world.getChunkSource()).addRegionTicket(KEEP_LOADED_TYPE, chunk.getPos(), 2, chunk.getPos());
             }
         }
@@ -787,6 +791,7 @@ public class Colony implements IColony
             final BlockState state = NbtUtils.readBlockState(blockAtPos);
             wayPoints.put(pos, state);
         }
+        markViewSectionChanged(ColonyView.Section.WAYPOINTS);
 
         // Free blocks
         final Set<Block> tempFreeBlocks = new HashSet<>();
@@ -807,6 +812,7 @@ public class Colony implements IColony
             tempFreePositions.add(block);
         }
         freePositions = ImmutableSet.copyOf(tempFreePositions);
+        markViewSectionChanged(ColonyView.Section.FREE_INTERACTION);
 
         packageManager.setLastContactInHours(compound.getInt(TAG_ABANDONED));
         manualHousing = compound.getBoolean(TAG_MANUAL_HOUSING);
@@ -1094,6 +1100,7 @@ public class Colony implements IColony
         builder.addAll(freePositions);
         builder.add(pos);
         freePositions = builder.build();
+        markViewSectionChanged(ColonyView.Section.FREE_INTERACTION);
         markDirty();
     }
 
@@ -1108,6 +1115,7 @@ public class Colony implements IColony
         builder.addAll(freeBlocks);
         builder.add(block);
         freeBlocks = builder.build();
+        markViewSectionChanged(ColonyView.Section.FREE_INTERACTION);
         markDirty();
     }
 
@@ -1127,6 +1135,7 @@ public class Colony implements IColony
             }
         }
         freePositions = builder.build();
+        markViewSectionChanged(ColonyView.Section.FREE_INTERACTION);
         markDirty();
     }
 
@@ -1146,6 +1155,7 @@ public class Colony implements IColony
             }
         }
         freeBlocks = builder.build();
+        markViewSectionChanged(ColonyView.Section.FREE_INTERACTION);
         markDirty();
     }
 
@@ -1205,6 +1215,7 @@ public class Colony implements IColony
                             || (world.isEmptyBlock(entry.getKey().below()) && !entry.getValue().getMaterial().isSolid()))
                         {
                             wayPoints.remove(entry.getKey());
+                            markViewSectionChanged(ColonyView.Section.WAYPOINTS);
                             markDirty();
                         }
                     }
@@ -1488,6 +1499,7 @@ public class Colony implements IColony
     public void addWayPoint(final BlockPos point, final BlockState block)
     {
         wayPoints.put(point, block);
+        markViewSectionChanged(ColonyView.Section.WAYPOINTS);
         this.markDirty();
     }
 
@@ -1986,13 +1998,24 @@ public class Colony implements IColony
     }
 
     /**
-     * Check if we need to update the view's chunk ticket info
+     * Record a change of a journaled section of the colony view.
+     *
+     * @param section the changed section.
+     */
+    public void markViewSectionChanged(final ColonyView.Section section)
+    {
+        changedViewSections.add(section);
+    }
+
+    /**
+     * Check if a journaled section of the colony view changed since the last call, and clear the change.
      *
-     * @return true if dirty.
+     * @param section the section.
+     * @return true if it changed.
      */
-    public boolean isTicketedChunksDirty()
+    public boolean pollViewSectionChanged(final ColonyView.Section section)
     {
-        return ticketedChunksDirty;
+        return changedViewSections.remove(section);
     }
 
     @Override
@@ -0,0 +1,191 @@
+package com.minecolonies.coremod.colony;
+
+import it.unimi.dsi.fastutil.longs.Long2IntMap;
+import it.unimi.dsi.fastutil.longs.Long2IntOpenHashMap;
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.Registry;
+import net.minecraft.core.SectionPos;
+import net.minecraft.nbt.CompoundTag;
+import net.minecraft.nbt.ListTag;
+import net.minecraft.resources.ResourceKey;
+import net.minecraft.resources.ResourceLocation;
+import net.minecraft.world.level.ChunkPos;
+import net.minecraft.world.level.Level;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import static com.minecolonies.api.util.constant.NbtTagConstants.TAG_DIMENSION;
+
+/**
+ * Server side index of the owning colony of each claimed chunk, by dimension. Mirrors the owning colony of the chunk capabilities, so the colony at a position can be
+ * looked up without loading the chunk. Written on the server thread, may be read from any thread.
+ */
+public final class ColonyChunkIndex
+{
+    /**
+     * Nbt tags of the index.
+     */
+    private static final String TAG_CHUNKS   = "chunks";
+    private static final String TAG_COLONIES = "colonies";
+
+    /**
+     * Owning colony id by packed chunk pos, for each dimension. Unowned chunks are not stored.
+     */
+    private static final Map<ResourceKey<Level>, Long2IntOpenHashMap> OWNERS = new HashMap<>();
+
+    /**
+     * Guards the owner maps.
+     */
+    private static final ReadWriteLock LOCK = new ReentrantReadWriteLock();
+
+    private ColonyChunkIndex()
+    {
+        //Hides default constructor.
+    }
+
+    /**
+     * Update the owning colony of a chunk.
+     *
+     * @param dimension the dimension of the chunk.
+     * @param chunkPos  the chunk pos.
+     * @param colonyId  the owning colony id, 0 if it is not owned.
+     */
+    public static void setOwner(@NotNull final ResourceKey<Level> dimension, @NotNull final ChunkPos chunkPos, final int colonyId)
+    {
+        LOCK.writeLock().lock();
+        try
+        {
+            if (colonyId == 0)
+            {
+                final Long2IntOpenHashMap owners = OWNERS.get(dimension);
+                if (owners != null)
+                {
+                    owners.remove(chunkPos.toLong());
+                }
+            }
+            else
+            {
+                OWNERS.computeIfAbsent(dimension, key -> new Long2IntOpenHashMap()).put(chunkPos.toLong(), colonyId);
+            }
+        }
+        finally
+        {
+            LOCK.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Get the owning colony at a position.
+     *
+     * @param dimension the dimension.
+     * @param pos       the position.
+     * @return the colony id, or 0 if the chunk is not indexed as owned.
+     */
+    public static int getOwner(@NotNull final ResourceKey<Level> dimension, @NotNull final BlockPos pos)
+    {
+        final long chunkPos = ChunkPos.asLong(SectionPos.blockToSectionCoord(pos.getX()), SectionPos.blockToSectionCoord(pos.getZ()));
+        LOCK.readLock().lock();
+        try
+        {
+            final Long2IntOpenHashMap owners = OWNERS.get(dimension);
+            return owners == null ? 0 : owners.get(chunkPos);
+        }
+        finally
+        {
+            LOCK.readLock().unlock();
+        }
+    }
+
+    /**
+     * Forget all chunks, e.g. before a different world is loaded.
+     */
+    public static void clear()
+    {
+        LOCK.writeLock().lock();
+        try
+        {
+            OWNERS.clear();
+        }
+        finally
+        {
+            LOCK.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Write the index to nbt.
+     *
+     * @return the list of dimensions.
+     */
+    @NotNull
+    public static ListTag write()
+    {
+        final ListTag list = new ListTag();
+        LOCK.readLock().lock();
+        try
+        {
+            for (final Map.Entry<ResourceKey<Level>, Long2IntOpenHashMap> entry : OWNERS.entrySet())
+            {
+                final long[] chunks = new long[entry.getValue().size()];
+                final int[] colonies = new int[chunks.length];
+                int i = 0;
+                for (final Long2IntMap.Entry owner : entry.getValue().long2IntEntrySet())
+                {
+                    chunks[i] = owner.getLongKey();
+                    colonies[i] = owner.getIntValue();
+                    i++;
+                }
+
+                final CompoundTag compound = new CompoundTag();
+                compound.putString(TAG_DIMENSION, entry.getKey().location().toString());
+                compound.putLongArray(TAG_CHUNKS, chunks);
+                compound.putIntArray(TAG_COLONIES, colonies);
+                list.add(compound);
+            }
+        }
+        finally
+        {
+            LOCK.readLock().unlock();
+        }
+        return list;
+    }
+
+    /**
+     * Replace the index with the one stored in nbt.
+     *
+     * @param list the list of dimensions.
+     */
+    public static void read(@NotNull final ListTag list)
+    {
+        LOCK.writeLock().lock();
+        try
+        {
+            OWNERS.clear();
+            for (int i = 0; i < list.size(); i++)
+            {
+                final CompoundTag compound = list.getCompound(i);
+                final long[] chunks = compound.getLongArray(TAG_CHUNKS);
+                final int[] colonies = compound.getIntArray(TAG_COLONIES);
+                if (chunks.length != colonies.length)
+                {
+                    continue;
+                }
+
+                final Long2IntOpenHashMap owners = new Long2IntOpenHashMap(chunks.length);
+                for (int j = 0; j < chunks.length; j++)
+                {
+                    owners.put(chunks[j], colonies[j]);
+                }
+                OWNERS.put(ResourceKey.create(Registry.DIMENSION_REGISTRY, new ResourceLocation(compound.getString(TAG_DIMENSION))), owners);
+            }
+        }
+        finally
+        {
+            LOCK.writeLock().unlock();
+        }
+    }
+}
@@ -17,12 +17,17 @@ import com.minecolonies.coremod.MineColonies;
 import com.minecolonies.coremod.Network;
 import com.minecolonies.coremod.client.gui.WindowReactivateBuilding;
 import com.minecolonies.coremod.colony.requestsystem.management.manager.StandardRecipeManager;
+import com.minecolonies.coremod.entity.ai.citizen.lumberjack.TreeRegistry;
+import com.minecolonies.coremod.entity.pathfinding.PathCache;
+import com.minecolonies.coremod.entity.pathfinding.SectionGraph;
 import com.minecolonies.coremod.network.messages.client.colony.ColonyViewRemoveMessage;
 import com.minecolonies.coremod.util.BackUpHelper;
 import com.minecolonies.coremod.util.ChunkDataHelper;
 import net.minecraft.client.Minecraft;
 import net.minecraft.core.BlockPos;
+import net.minecraft.core.SectionPos;
 import net.minecraft.nbt.CompoundTag;
+import net.minecraft.nbt.Tag;
 import net.minecraft.network.FriendlyByteBuf;
 import net.minecraft.resources.ResourceKey;
 import net.minecraft.server.level.ServerPlayer;
@@ -201,6 +206,9 @@ public final class ColonyManager implements IColonyManager
             }
 
             cap.deleteColony(id);
+            PathCache.removeColony(colony);
+            SectionGraph.removeColony(colony);
+            TreeRegistry.removeColony(colony);
             BackUpHelper.markColonyDeleted(colony.getID(), colony.getDimension());
             colony.getImportantMessageEntityPlayers()
               .forEach(player -> Network.getNetwork().sendToPlayer(new ColonyViewRemoveMessage(colony.getID(), colony.getDimension()), (ServerPlayer) player));
@@ -285,8 +293,18 @@ public final class ColonyManager implements IColonyManager
         {
             return null;
         }
-        final LevelChunk centralChunk = w.getChunkAt(pos);
-        final int id = centralChunk.getCapability(CLOSE_COLONY_CAP, null).map(IColonyTagCapability::getOwningColony).orElse(0);
+
+        final int id;
+        if (w.isClientSide)
+        {
+            final LevelChunk centralChunk = w.getChunkAt(pos);
+            id = centralChunk.getCapability(CLOSE_COLONY_CAP, null).map(IColonyTagCapability::getOwningColony).orElse(0);
+        }
+        else
+        {
+            id = getOwningColonyId(w, pos);
+        }
+
         if (id == 0)
         {
             return null;
@@ -294,6 +312,36 @@ public final class ColonyManager implements IColonyManager
         return getColonyByWorld(id, w);
     }
 
+    /**
+     * Get the owning colony id at a position on the server, without loading the chunk. Looks up the chunk index first and falls back to the capability of the chunk if
+     * it is loaded but not indexed yet, which happens for chunks claimed before the index existed.
+     *
+     * @param w   the server world.
+     * @param pos the position.
+     * @return the colony id or 0 if not owned.
+     */
+    private static int getOwningColonyId(@NotNull final Level w, @NotNull final BlockPos pos)
+    {
+        final int id = ColonyChunkIndex.getOwner(w.dimension(), pos);
+        if (id != 0)
+        {
+            return id;
+        }
+
+        final LevelChunk chunk = w.getChunkSource().getChunkNow(SectionPos.blockToSectionCoord(pos.getX()), SectionPos.blockToSectionCoord(pos.getZ()));
+        if (chunk == null)
+        {
+            return 0;
+        }
+
+        final int capId = chunk.getCapability(CLOSE_COLONY_CAP, null).map(IColonyTagCapability::getOwningColony).orElse(0);
+        if (capId != 0)
+        {
+            ColonyChunkIndex.setOwner(w.dimension(), chunk.getPos(), capId);
+        }
+        return capId;
+    }
+
     @Override
     public IColony getColonyByPosFromDim(final ResourceKey<Level> registryKey, @NotNull final BlockPos pos)
     {
@@ -626,6 +674,7 @@ public final class ColonyManager implements IColonyManager
         recipeManager.write(recipeCompound);
 
         compound.put(RECIPE_MANAGER_TAG, recipeCompound);
+        compound.put(CHUNK_INDEX_TAG, ColonyChunkIndex.write());
     }
 
     // File read for compat/recipe
@@ -643,6 +692,7 @@ public final class ColonyManager implements IColonyManager
         }
 
         recipeManager.read(compound.getCompound(RECIPE_MANAGER_TAG));
+        ColonyChunkIndex.read(compound.getList(CHUNK_INDEX_TAG, Tag.TAG_COMPOUND));
     }
 
     @Override
@@ -719,6 +769,7 @@ public final class ColonyManager implements IColonyManager
             if (hasColonies)
             {
                 BackUpHelper.backupColonyData();
+                BackUpHelper.flush();
             }
 
             MinecraftForge.EVENT_BUS.post(new ColonyManagerUnloadedEvent(this));
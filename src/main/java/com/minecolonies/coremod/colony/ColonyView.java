@@ -35,6 +35,7 @@ import com.minecolonies.coremod.colony.workorders.AbstractWorkOrder;
 import com.minecolonies.coremod.datalistener.CitizenNameListener;
 import com.minecolonies.coremod.network.messages.PermissionsMessage;
 import com.minecolonies.coremod.network.messages.server.colony.ColonyFlagChangeMessage;
+import com.minecolonies.coremod.network.messages.server.colony.ColonyViewResyncMessage;
 import com.minecolonies.coremod.network.messages.server.colony.TownHallRenameMessage;
 import com.minecolonies.coremod.quests.QuestManager;
 import net.minecraft.ChatFormatting;
@@ -259,6 +260,16 @@ public final class ColonyView implements IColonyView
      */
     private int day;
 
+    /**
+     * Version of the server side view this view is at.
+     */
+    private int viewVersion = 0;
+
+    /**
+     * If a full view was requested after a missed update, deltas are dropped until it arrives.
+     */
+    private boolean awaitingResync = false;
+
     /**
      * Base constructor for a colony.
      *
@@ -284,96 +295,163 @@ public final class ColonyView implements IColonyView
     }
 
     /**
-     * Populate an NBT compound for a network packet representing a ColonyView.
+     * Write the header of a colony view message, followed by the given sections.
      *
-     * @param colony            Colony to write data about.
-     * @param buf               {@link FriendlyByteBuf} to write data in.
-     * @param hasNewSubscribers true if there is a new subscription.
-     */
-    public static void serializeNetworkData(@NotNull Colony colony, @NotNull FriendlyByteBuf buf, boolean hasNewSubscribers)
-    {
-        //  General Attributes
-        buf.writeUtf(colony.getName());
-        buf.writeUtf(colony.getDimension().location().toString());
-        buf.writeBlockPos(colony.getCenter());
-        buf.writeBoolean(colony.isManualHiring());
-        //  Citizenry
-        buf.writeInt(colony.getCitizenManager().getMaxCitizens());
-        buf.writeInt(colony.getCitizenManager().getPotentialMaxCitizens());
-
-        final Set<Block> freeBlocks = colony.getFreeBlocks();
-        final Set<BlockPos> freePos = colony.getFreePositions();
-        final Map<BlockPos, BlockState> waypoints = colony.getWayPoints();
-
-        buf.writeInt(freeBlocks.size());
-        for (final Block block : freeBlocks)
-        {
-            buf.writeUtf(ForgeRegistries.BLOCKS.getKey(block).toString());
-        }
-
-        buf.writeInt(freePos.size());
-        for (final BlockPos block : freePos)
-        {
-            buf.writeBlockPos(block);
-        }
-        buf.writeDouble(colony.getOverallHappiness());
-        buf.writeBoolean(colony.hasWarehouse());
-
-        buf.writeInt(waypoints.size());
-        for (final Map.Entry<BlockPos, BlockState> block : waypoints.entrySet())
-        {
-            buf.writeBlockPos(block.getKey());
-            buf.writeInt(Block.getId(block.getValue()));
-        }
-
-        buf.writeInt(colony.getLastContactInHours());
-        buf.writeBoolean(colony.isManualHousing());
-        buf.writeBoolean(colony.canMoveIn());
-        buf.writeUtf(colony.getTextureStyleId());
-
-        buf.writeUtf(colony.getNameStyle());
-        buf.writeInt(CitizenNameListener.nameFileMap.size());
-        for (final String nameFileIndex : CitizenNameListener.nameFileMap.keySet())
+     * @param buf         {@link FriendlyByteBuf} to write data in.
+     * @param baseVersion the view version the receiver has, 0 for a full snapshot.
+     * @param version     the view version after applying the message.
+     * @param sections    the serialized sections by ordinal, only the non null ones are written.
+     */
+    public static void serializeNetworkData(@NotNull final FriendlyByteBuf buf, final int baseVersion, final int version, @NotNull final byte[][] sections)
+    {
+        int mask = 0;
+        for (int i = 0; i < sections.length; i++)
         {
-            buf.writeUtf(nameFileIndex);
+            if (sections[i] != null)
+            {
+                mask |= 1 << i;
+            }
         }
-        //  Citizens are sent as a separate packet
 
-        if (colony.getRequestManager() != null && (colony.getRequestManager().isDirty() || hasNewSubscribers))
+        buf.writeInt(baseVersion);
+        buf.writeInt(version);
+        buf.writeInt(mask);
+        for (final byte[] section : sections)
         {
-            final int preSize = buf.writerIndex();
-            buf.writeBoolean(true);
-            colony.getRequestManager().serialize(StandardFactoryController.getInstance(), buf);
-            final int postSize = buf.writerIndex();
-            if ((postSize - preSize) >= ColonyView.REQUEST_MANAGER_MAX_SIZE)
+            if (section != null)
             {
-                Log.getLogger().warn("Colony " + colony.getID() + " has a very big memory imprint, this could be a memory leak, please contact the mod author!");
+                buf.writeBytes(section);
             }
         }
-        else
-        {
-            buf.writeBoolean(false);
-        }
+    }
 
-        buf.writeInt(colony.getRaiderManager().getLastSpawnPoints().size());
-        for (final BlockPos block : colony.getRaiderManager().getLastSpawnPoints())
+    /**
+     * Write one section of the colony view.
+     *
+     * @param colony  Colony to write data about.
+     * @param section the section to write.
+     * @param buf     {@link FriendlyByteBuf} to write data in.
+     */
+    public static void serializeSection(@NotNull final Colony colony, @NotNull final Section section, @NotNull final FriendlyByteBuf buf)
+    {
+        switch (section)
         {
-            buf.writeBlockPos(block);
-        }
-
-        buf.writeInt(colony.getTeamColonyColor().ordinal());
-
-        CompoundTag flagNBT = new CompoundTag();
-        flagNBT.put(TAG_BANNER_PATTERNS, colony.getColonyFlag());
-        buf.writeNbt(flagNBT);
-
-        buf.writeBoolean(colony.getProgressManager().isPrintingProgress());
+            case GENERAL:
+                //  General Attributes
+                buf.writeUtf(colony.getName());
+                buf.writeUtf(colony.getDimension().location().toString());
+                buf.writeBlockPos(colony.getCenter());
+                buf.writeBoolean(colony.isManualHiring());
+                //  Citizenry
+                buf.writeInt(colony.getCitizenManager().getMaxCitizens());
+                buf.writeInt(colony.getCitizenManager().getPotentialMaxCitizens());
+                buf.writeDouble(colony.getOverallHappiness());
+                buf.writeBoolean(colony.hasWarehouse());
+                buf.writeInt(colony.getLastContactInHours());
+                buf.writeBoolean(colony.isManualHousing());
+                buf.writeBoolean(colony.canMoveIn());
+                buf.writeUtf(colony.getTextureStyleId());
+                buf.writeUtf(colony.getNameStyle());
+                buf.writeInt(colony.getTeamColonyColor().ordinal());
+                buf.writeBoolean(colony.getProgressManager().isPrintingProgress());
+                buf.writeLong(colony.getMercenaryUseTime());
+                buf.writeUtf(colony.getStructurePack());
+                buf.writeBoolean(colony.getRaiderManager().isRaided());
+                buf.writeBoolean(colony.getRaiderManager().areSpiesEnabled());
+                buf.writeInt(colony.getDay());
+                break;
+            case FREE_INTERACTION:
+                final Set<Block> freeBlocks = colony.getFreeBlocks();
+                buf.writeInt(freeBlocks.size());
+                for (final Block block : freeBlocks)
+                {
+                    buf.writeUtf(ForgeRegistries.BLOCKS.getKey(block).toString());
+                }
 
-        buf.writeLong(colony.getMercenaryUseTime());
+                final Set<BlockPos> freePos = colony.getFreePositions();
+                buf.writeInt(freePos.size());
+                for (final BlockPos block : freePos)
+                {
+                    buf.writeBlockPos(block);
+                }
+                break;
+            case WAYPOINTS:
+                final Map<BlockPos, BlockState> waypoints = colony.getWayPoints();
+                buf.writeInt(waypoints.size());
+                for (final Map.Entry<BlockPos, BlockState> block : waypoints.entrySet())
+                {
+                    buf.writeBlockPos(block.getKey());
+                    buf.writeInt(Block.getId(block.getValue()));
+                }
+                break;
+            case NAME_FILES:
+                buf.writeInt(CitizenNameListener.nameFileMap.size());
+                for (final String nameFileIndex : CitizenNameListener.nameFileMap.keySet())
+                {
+                    buf.writeUtf(nameFileIndex);
+                }
+                break;
+            case REQUESTS:
+                if (colony.getRequestManager() != null)
+                {
+                    final int preSize = buf.writerIndex();
+                    buf.writeBoolean(true);
+                    colony.getRequestManager().serialize(StandardFactoryController.getInstance(), buf);
+                    final int postSize = buf.writerIndex();
+                    if ((postSize - preSize) >= ColonyView.REQUEST_MANAGER_MAX_SIZE)
+                    {
+                        Log.getLogger().warn("Colony " + colony.getID() + " has a very big memory imprint, this could be a memory leak, please contact the mod author!");
+                    }
+                }
+                else
+                {
+                    buf.writeBoolean(false);
+                }
+                break;
+            case RAID_SPAWNS:
+                buf.writeInt(colony.getRaiderManager().getLastSpawnPoints().size());
+                for (final BlockPos block : colony.getRaiderManager().getLastSpawnPoints())
+                {
+                    buf.writeBlockPos(block);
+                }
+                break;
+            case FLAG:
+                CompoundTag flagNBT = new CompoundTag();
+                flagNBT.put(TAG_BANNER_PATTERNS, colony.getColonyFlag());
+                buf.writeNbt(flagNBT);
+                break;
+            case DIPLOMACY:
+                serializeDiplomacy(colony, buf);
+                break;
+            case TICKETS:
+                buf.writeInt(colony.getTicketedChunks().size());
+                for (final long pos : colony.getTicketedChunks())
+                {
+                    buf.writeLong(pos);
+                }
+                break;
+            case GRAVES:
+                final CompoundTag graveTag = new CompoundTag();
+                colony.getGraveManager().write(graveTag);
+                buf.writeNbt(graveTag);     // this could be more efficient, but it should usually be short anyway
+                break;
+            case STATISTICS:
+                colony.getStatisticsManager().serialize(buf);
+                break;
+            case QUESTS:
+                buf.writeNbt(colony.getQuestManager().serializeNBT());
+                break;
+        }
+    }
 
-        buf.writeUtf(colony.getStructurePack());
-        buf.writeBoolean(colony.getRaiderManager().isRaided());
-        buf.writeBoolean(colony.getRaiderManager().areSpiesEnabled());
+    /**
+     * Write the allies and feuds of a colony.
+     *
+     * @param colony Colony to write data about.
+     * @param buf    {@link FriendlyByteBuf} to write data in.
+     */
+    private static void serializeDiplomacy(@NotNull final Colony colony, @NotNull final FriendlyByteBuf buf)
+    {
         // ToDo: rework ally system
         final List<IColony> allies = new ArrayList<>();
         for (final ColonyPlayer player : colony.getPermissions().getFilteredPlayers(Rank::isColonyManager))
@@ -425,26 +503,6 @@ public final class ColonyView implements IColonyView
             buf.writeInt(col.getID());
             buf.writeUtf(col.getDimension().location().toString());
         }
-
-        if (hasNewSubscribers || colony.isTicketedChunksDirty())
-        {
-            buf.writeInt(colony.getTicketedChunks().size());
-            for (final long pos : colony.getTicketedChunks())
-            {
-                buf.writeLong(pos);
-            }
-        }
-        else
-        {
-            buf.writeInt(-1);
-        }
-
-        final CompoundTag graveTag = new CompoundTag();
-        colony.getGraveManager().write(graveTag);
-        buf.writeNbt(graveTag);     // this could be more efficient, but it should usually be short anyway
-        colony.getStatisticsManager().serialize(buf);
-        buf.writeNbt(colony.getQuestManager().serializeNBT());
-        buf.writeInt(colony.getDay());
     }
 
     /**
@@ -797,7 +855,7 @@ public final class ColonyView implements IColonyView
     }
 
     /**
-     * Populate a ColonyView from the network data.
+     * Populate a ColonyView from the network data. Only the sections contained in the message are replaced, the others keep their state.
      *
      * @param buf               {@link FriendlyByteBuf} to read from.
      * @param isNewSubscription Whether this is a new subscription of not.
@@ -808,14 +866,22 @@ public final class ColonyView implements IColonyView
     public IMessage handleColonyViewMessage(@NotNull final FriendlyByteBuf buf, @NotNull final Level world, final boolean isNewSubscription)
     {
         this.world = world;
-        //  General Attributes
-        name = buf.readUtf(32767);
-        dimensionId = ResourceKey.create(Registry.DIMENSION_REGISTRY, new ResourceLocation(buf.readUtf(32767)));
-        center = buf.readBlockPos();
-        manualHiring = buf.readBoolean();
-        //  Citizenry
-        citizenCount = buf.readInt();
-        citizenCountWithEmptyGuardTowers = buf.readInt();
+        final int baseVersion = buf.readInt();
+        final int version = buf.readInt();
+        final int mask = buf.readInt();
+        if (baseVersion != 0 && baseVersion != viewVersion)
+        {
+            // A delta on top of a version we don't have would leave the view inconsistent, drop it and ask for a full view.
+            if (!awaitingResync)
+            {
+                Log.getLogger().warn("Colony view " + id + " received an update for version " + baseVersion + " but is at version " + viewVersion + ", requesting a resync");
+                awaitingResync = true;
+                Network.getNetwork().sendToServer(new ColonyViewResyncMessage(this));
+            }
+            return null;
+        }
+        awaitingResync = false;
+        viewVersion = version;
 
         if (isNewSubscription)
         {
@@ -824,114 +890,152 @@ public final class ColonyView implements IColonyView
             buildings.clear();
         }
 
-        freePositions.clear();
-        freeBlocks.clear();
-        wayPoints.clear();
-        lastSpawnPoints.clear();
-        nameFileIds.clear();
-
-        final int blockListSize = buf.readInt();
-        for (int i = 0; i < blockListSize; i++)
+        for (final Section section : Section.values())
         {
-            freeBlocks.add(ForgeRegistries.BLOCKS.getValue(new ResourceLocation((buf.readUtf(32767)))));
-        }
-
-        final int posListSize = buf.readInt();
-        for (int i = 0; i < posListSize; i++)
-        {
-            freePositions.add(buf.readBlockPos());
-        }
-        this.overallHappiness = buf.readDouble();
-        this.hasColonyWarehouse = buf.readBoolean();
-
-        final int wayPointListSize = buf.readInt();
-        for (int i = 0; i < wayPointListSize; i++)
-        {
-            wayPoints.put(buf.readBlockPos(), Block.stateById(buf.readInt()));
-        }
-        this.lastContactInHours = buf.readInt();
-        this.manualHousing = buf.readBoolean();
-        this.moveIn = buf.readBoolean();
-        this.textureStyle = buf.readUtf(32767);
-
-        this.nameStyle = buf.readUtf(32767);
-        final int nameFileIdSize = buf.readInt();
-        for (int i = 0; i < nameFileIdSize; i++)
-        {
-            nameFileIds.add(buf.readUtf(32767));
-        }
-
-        if (buf.readBoolean())
-        {
-            this.requestManager = new StandardRequestManager(this);
-            this.requestManager.deserialize(StandardFactoryController.getInstance(), buf);
-        }
-
-        final int barbSpawnListSize = buf.readInt();
-        for (int i = 0; i < barbSpawnListSize; i++)
-        {
-            lastSpawnPoints.add(buf.readBlockPos());
-        }
-        Collections.reverse(lastSpawnPoints);
-
-        this.teamColonyColor = ChatFormatting.values()[buf.readInt()];
-        this.colonyFlag = buf.readNbt().getList(TAG_BANNER_PATTERNS, Constants.TAG_COMPOUND);
-
-        this.printProgress = buf.readBoolean();
-
-        this.mercenaryLastUseTime = buf.readLong();
-
-        this.style = buf.readUtf(32767);
-        if (isNewSubscription
-              && StructurePacks.hasPack(this.style)
-              && RenderingCache.getOrCreateBlueprintPreviewData("blueprint").getBlueprint() == null
-              && this.isCoordInColony(world, Minecraft.getInstance().player.blockPosition())
-        )
-        {
-            StructurePacks.selectedPack = StructurePacks.getStructurePack(this.style);
+            if ((mask & (1 << section.ordinal())) != 0)
+            {
+                deserializeSection(section, buf, world, isNewSubscription);
+            }
         }
+        return null;
+    }
 
-        this.isUnderRaid = buf.readBoolean();
-        this.spiesEnabled = buf.readBoolean();
-
-        this.allies = new ArrayList<>();
-        this.feuds = new ArrayList<>();
-
-        final int noOfAllies = buf.readInt();
-        for (int i = 0; i < noOfAllies; i++)
+    /**
+     * Read one section of the view from the network data.
+     *
+     * @param section           the section.
+     * @param buf               {@link FriendlyByteBuf} to read from.
+     * @param world             the world.
+     * @param isNewSubscription Whether this is a new subscription of not.
+     */
+    private void deserializeSection(@NotNull final Section section, @NotNull final FriendlyByteBuf buf, @NotNull final Level world, final boolean isNewSubscription)
+    {
+        switch (section)
         {
-            allies.add(new CompactColonyReference(buf.readUtf(32767),
-              buf.readBlockPos(),
-              buf.readInt(),
-              buf.readBoolean(),
-              ResourceKey.create(Registry.DIMENSION_REGISTRY, new ResourceLocation(buf.readUtf(32767)))));
-        }
+            case GENERAL:
+                //  General Attributes
+                name = buf.readUtf(32767);
+                dimensionId = ResourceKey.create(Registry.DIMENSION_REGISTRY, new ResourceLocation(buf.readUtf(32767)));
+                center = buf.readBlockPos();
+                manualHiring = buf.readBoolean();
+                //  Citizenry
+                citizenCount = buf.readInt();
+                citizenCountWithEmptyGuardTowers = buf.readInt();
+                this.overallHappiness = buf.readDouble();
+                this.hasColonyWarehouse = buf.readBoolean();
+                this.lastContactInHours = buf.readInt();
+                this.manualHousing = buf.readBoolean();
+                this.moveIn = buf.readBoolean();
+                this.textureStyle = buf.readUtf(32767);
+                this.nameStyle = buf.readUtf(32767);
+                this.teamColonyColor = ChatFormatting.values()[buf.readInt()];
+                this.printProgress = buf.readBoolean();
+                this.mercenaryLastUseTime = buf.readLong();
+                this.style = buf.readUtf(32767);
+                if (isNewSubscription
+                      && StructurePacks.hasPack(this.style)
+                      && RenderingCache.getOrCreateBlueprintPreviewData("blueprint").getBlueprint() == null
+                      && this.isCoordInColony(world, Minecraft.getInstance().player.blockPosition())
+                )
+                {
+                    StructurePacks.selectedPack = StructurePacks.getStructurePack(this.style);
+                }
+                this.isUnderRaid = buf.readBoolean();
+                this.spiesEnabled = buf.readBoolean();
+                this.day = buf.readInt();
+                break;
+            case FREE_INTERACTION:
+                freeBlocks.clear();
+                final int blockListSize = buf.readInt();
+                for (int i = 0; i < blockListSize; i++)
+                {
+                    freeBlocks.add(ForgeRegistries.BLOCKS.getValue(new ResourceLocation((buf.readUtf(32767)))));
+                }
 
-        final int noOfFeuds = buf.readInt();
-        for (int i = 0; i < noOfFeuds; i++)
-        {
-            feuds.add(new CompactColonyReference(buf.readUtf(32767),
-              buf.readBlockPos(),
-              buf.readInt(),
-              false,
-              ResourceKey.create(Registry.DIMENSION_REGISTRY, new ResourceLocation(buf.readUtf(32767)))));
-        }
+                freePositions.clear();
+                final int posListSize = buf.readInt();
+                for (int i = 0; i < posListSize; i++)
+                {
+                    freePositions.add(buf.readBlockPos());
+                }
+                break;
+            case WAYPOINTS:
+                wayPoints.clear();
+                final int wayPointListSize = buf.readInt();
+                for (int i = 0; i < wayPointListSize; i++)
+                {
+                    wayPoints.put(buf.readBlockPos(), Block.stateById(buf.readInt()));
+                }
+                break;
+            case NAME_FILES:
+                nameFileIds.clear();
+                final int nameFileIdSize = buf.readInt();
+                for (int i = 0; i < nameFileIdSize; i++)
+                {
+                    nameFileIds.add(buf.readUtf(32767));
+                }
+                break;
+            case REQUESTS:
+                if (buf.readBoolean())
+                {
+                    this.requestManager = new StandardRequestManager(this);
+                    this.requestManager.deserialize(StandardFactoryController.getInstance(), buf);
+                }
+                break;
+            case RAID_SPAWNS:
+                lastSpawnPoints.clear();
+                final int barbSpawnListSize = buf.readInt();
+                for (int i = 0; i < barbSpawnListSize; i++)
+                {
+                    lastSpawnPoints.add(buf.readBlockPos());
+                }
+                Collections.reverse(lastSpawnPoints);
+                break;
+            case FLAG:
+                this.colonyFlag = buf.readNbt().getList(TAG_BANNER_PATTERNS, Constants.TAG_COMPOUND);
+                break;
+            case DIPLOMACY:
+                this.allies = new ArrayList<>();
+                this.feuds = new ArrayList<>();
+
+                final int noOfAllies = buf.readInt();
+                for (int i = 0; i < noOfAllies; i++)
+                {
+                    allies.add(new CompactColonyReference(buf.readUtf(32767),
+                      buf.readBlockPos(),
+                      buf.readInt(),
+                      buf.readBoolean(),
+                      ResourceKey.create(Registry.DIMENSION_REGISTRY, new ResourceLocation(buf.readUtf(32767)))));
+                }
 
-        final int ticketChunkCount = buf.readInt();
-        if (ticketChunkCount != -1)
-        {
-            ticketedChunks = new HashSet<>(ticketChunkCount);
-            for (int i = 0; i < ticketChunkCount; i++)
-            {
-                ticketedChunks.add(buf.readLong());
-            }
+                final int noOfFeuds = buf.readInt();
+                for (int i = 0; i < noOfFeuds; i++)
+                {
+                    feuds.add(new CompactColonyReference(buf.readUtf(32767),
+                      buf.readBlockPos(),
+                      buf.readInt(),
+                      false,
+                      ResourceKey.create(Registry.DIMENSION_REGISTRY, new ResourceLocation(buf.readUtf(32767)))));
+                }
+                break;
+            case TICKETS:
+                final int ticketChunkCount = buf.readInt();
+                ticketedChunks = new HashSet<>(ticketChunkCount);
+                for (int i = 0; i < ticketChunkCount; i++)
+                {
+                    ticketedChunks.add(buf.readLong());
+                }
+                break;
+            case GRAVES:
+                this.graveManager.read(buf.readNbt());
+                break;
+            case STATISTICS:
+                this.statisticManager.deserialize(buf);
+                break;
+            case QUESTS:
+                this.questManager.deserializeNBT(buf.readNbt());
+                break;
         }
-
-        this.graveManager.read(buf.readNbt());
-        this.statisticManager.deserialize(buf);
-        this.questManager.deserializeNBT(buf.readNbt());
-        this.day = buf.readInt();
-        return null;
     }
 
     /**
@@ -1653,4 +1757,41 @@ public final class ColonyView implements IColonyView
     {
         return this.questManager;
     }
-}
\ No newline at end of file
+
+    /**
+     * Independently synced sections of the colony view. A view message only carries the sections which changed since the version its receiver has.
+     */
+    public enum Section
+    {
+        GENERAL(false),
+        FREE_INTERACTION(true),
+        WAYPOINTS(true),
+        NAME_FILES(false),
+        REQUESTS(true),
+        RAID_SPAWNS(false),
+        FLAG(false),
+        DIPLOMACY(false),
+        TICKETS(true),
+        GRAVES(false),
+        STATISTICS(false),
+        QUESTS(false);
+
+        /**
+         * If the colony journals changes of this section, instead of it being serialized and compared on each update.
+         */
+        private final boolean journaled;
+
+        Section(final boolean journaled)
+        {
+            this.journaled = journaled;
+        }
+
+        /**
+         * @return true if the colony journals changes of this section.
+         */
+        public boolean isJournaled()
+        {
+            return journaled;
+        }
+    }
+}
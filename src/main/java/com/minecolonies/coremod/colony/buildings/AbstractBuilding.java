@@ -17,7 +17,7 @@ import com.minecolonies.api.colony.buildings.modules.settings.ISetting;
 import com.minecolonies.api.colony.buildings.modules.settings.ISettingKey;
 import com.minecolonies.api.colony.interactionhandling.ChatPriority;
 import com.minecolonies.api.colony.jobs.registry.JobEntry;
-import com.minecolonies.api.colony.modules.ModuleContainerUtils;
+import com.minecolonies.api.colony.modules.ModuleClassIndex;
 import com.minecolonies.api.colony.requestsystem.StandardFactoryController;
 import com.minecolonies.api.colony.requestsystem.data.IRequestSystemBuildingDataStore;
 import com.minecolonies.api.colony.requestsystem.location.ILocation;
@@ -35,6 +35,7 @@ import com.minecolonies.api.colony.requestsystem.token.IToken;
 import com.minecolonies.api.colony.workorders.IWorkOrder;
 import com.minecolonies.api.colony.workorders.WorkOrderType;
 import com.minecolonies.api.crafting.ItemStorage;
+import com.minecolonies.api.entity.ai.statemachine.states.AIWakeSignal;
 import com.minecolonies.api.tileentities.AbstractTileEntityColonyBuilding;
 import com.minecolonies.api.tileentities.MinecoloniesTileEntities;
 import com.minecolonies.api.tileentities.TileEntityColonyBuilding;
@@ -159,6 +160,11 @@ public abstract class AbstractBuilding extends AbstractBuildingContainer
      */
     protected List<IBuildingModule> modules = new ArrayList<>();
 
+    /**
+     * Lookup of the building modules by class.
+     */
+    private final ModuleClassIndex<IBuildingModule> moduleIndex = new ModuleClassIndex<>(modules);
+
     /**
      * Constructor for a AbstractBuilding.
      *
@@ -176,46 +182,56 @@ public abstract class AbstractBuilding extends AbstractBuildingContainer
     @Override
     public boolean hasModule(final Class<? extends IBuildingModule> clazz)
     {
-        return ModuleContainerUtils.hasModule(modules, clazz);
+        return moduleIndex.hasModule(clazz);
     }
 
     @NotNull
     @Override
     public <T extends IBuildingModule> T getFirstModuleOccurance(final Class<T> clazz)
     {
-        return ModuleContainerUtils.getFirstModuleOccurance(modules,
-          clazz,
-          "The module of class: " + clazz.toString() + "should never be null! Building:" + getBuildingType().getTranslationKey() + " pos:" + getID().toShortString());
+        final T module = moduleIndex.getFirst(clazz);
+        if (module == null)
+        {
+            throw new IllegalStateException(
+              "The module of class: " + clazz.toString() + "should never be null! Building:" + getBuildingType().getTranslationKey() + " pos:" + getID().toShortString());
+        }
+        return module;
     }
 
     @NotNull
     @Override
     public <T extends IBuildingModule> Optional<T> getFirstOptionalModuleOccurance(final Class<T> clazz)
     {
-        return ModuleContainerUtils.getFirstOptionalModuleOccurance(modules, clazz);
+        return Optional.ofNullable(moduleIndex.getFirst(clazz));
     }
 
     @NotNull
     @Override
     public <T extends IBuildingModule> T getModuleMatching(final Class<T> clazz, final Predicate<? super T> modulePredicate)
     {
-        return ModuleContainerUtils.getModuleMatching(modules,
-          clazz,
-          modulePredicate,
-          "no matching module for Building:" + getBuildingType().getTranslationKey() + " pos:" + getID().toShortString());
+        for (final T module : moduleIndex.getModules(clazz))
+        {
+            if (modulePredicate.test(module))
+            {
+                return module;
+            }
+        }
+
+        throw new IllegalStateException("no matching module for Building:" + getBuildingType().getTranslationKey() + " pos:" + getID().toShortString());
     }
 
     @NotNull
     @Override
     public <T extends IBuildingModule> List<T> getModules(final Class<T> clazz)
     {
-        return ModuleContainerUtils.getModules(modules, clazz);
+        return moduleIndex.getModules(clazz);
     }
 
     @Override
     public void registerModule(@NotNull final IBuildingModule module)
     {
         this.modules.add(module);
+        moduleIndex.invalidate();
     }
 
     /**
@@ -475,17 +491,6 @@ public abstract class AbstractBuilding extends AbstractBuildingContainer
 
         colony.getWorkManager().addWorkOrder(workOrder, false);
         colony.getProgressManager().progressWorkOrderPlacement(workOrder);
-
-        if (workOrder.getID() != 0)
-        {
-            MessageUtils.format(WORK_ORDER_CREATED,
-                workOrder.getDisplayName(),
-                colony.getName(),
-                workOrder.getLocation().getX(),
-                workOrder.getLocation().getY(),
-                workOrder.getLocation().getZ())
-              .sendTo(colony).forAllPlayers();
-        }
         markDirty();
     }
 
@@ -946,6 +951,7 @@ public abstract class AbstractBuilding extends AbstractBuildingContainer
         getModules(IBuildingEventsModule.class).forEach(module -> module.onUpgradeComplete(newLevel));
         colony.getResearchManager().checkAutoStartResearch();
         colony.getBuildingManager().onBuildingUpgradeComplete(this, newLevel);
+        getAllAssignedCitizen().forEach(citizen -> citizen.wakeWorkerAI(AIWakeSignal.BUILDING_CHANGED));
     }
 
     @Override
@@ -1907,6 +1913,10 @@ public abstract class AbstractBuilding extends AbstractBuildingContainer
         if (citizenThatRequested >= 0)
         {
             getCompletedRequestsByCitizen().computeIfAbsent(citizenThatRequested, ArrayList::new).add(request.getId());
+            if (colony.getCitizenManager().getCivilian(citizenThatRequested) instanceof ICitizenData citizenData)
+            {
+                citizenData.wakeWorkerAI(AIWakeSignal.REQUEST_STATE_CHANGED);
+            }
         }
         else
         {
@@ -1944,6 +1954,10 @@ public abstract class AbstractBuilding extends AbstractBuildingContainer
         if (colony.getCitizenManager().getCivilian(citizenThatRequested) != null)
         {
             colony.getCitizenManager().getCivilian(citizenThatRequested).onRequestCancelled(request.getId());
+            if (colony.getCitizenManager().getCivilian(citizenThatRequested) instanceof ICitizenData citizenData)
+            {
+                citizenData.wakeWorkerAI(AIWakeSignal.REQUEST_STATE_CHANGED);
+            }
         }
         markDirty();
     }
@@ -6,6 +6,7 @@ import com.minecolonies.api.colony.IColony;
 import com.minecolonies.api.colony.buildings.IBuilding;
 import com.minecolonies.api.colony.buildings.IBuildingContainer;
 import com.minecolonies.api.tileentities.AbstractTileEntityColonyBuilding;
+import com.minecolonies.api.tileentities.BuildingInventoryIndex;
 import com.minecolonies.api.tileentities.TileEntityColonyBuilding;
 import com.minecolonies.api.tileentities.TileEntityRack;
 import com.minecolonies.coremod.blocks.BlockMinecoloniesRack;
@@ -60,6 +61,11 @@ public abstract class AbstractBuildingContainer extends AbstractSchematicProvide
      */
     private int unscaledPickUpPriority = 1;
 
+    /**
+     * Aggregated content of the racks of the building.
+     */
+    private final BuildingInventoryIndex inventoryIndex = new BuildingInventoryIndex();
+
     /**
      * The constructor for the building container.
      *
@@ -82,6 +88,7 @@ public abstract class AbstractBuildingContainer extends AbstractSchematicProvide
             final CompoundTag containerCompound = containerTagList.getCompound(i);
             containerList.add(NbtUtils.readBlockPos(containerCompound));
         }
+        inventoryIndex.invalidate();
         if (compound.contains(TAG_PRIO))
         {
             this.unscaledPickUpPriority = compound.getInt(TAG_PRIO);
@@ -127,13 +134,19 @@ public abstract class AbstractBuildingContainer extends AbstractSchematicProvide
     @Override
     public void addContainerPosition(@NotNull final BlockPos pos)
     {
-        containerList.add(pos);
+        if (containerList.add(pos))
+        {
+            inventoryIndex.invalidate();
+        }
     }
 
     @Override
     public void removeContainerPosition(final BlockPos pos)
     {
-        containerList.remove(pos);
+        if (containerList.remove(pos))
+        {
+            inventoryIndex.invalidate();
+        }
     }
 
     @Override
@@ -144,6 +157,25 @@ public abstract class AbstractBuildingContainer extends AbstractSchematicProvide
         return list;
     }
 
+    @NotNull
+    @Override
+    public BuildingInventoryIndex getInventoryIndex()
+    {
+        final Level world = colony.getWorld();
+        if (world != null)
+        {
+            inventoryIndex.ensure(world, containerList, this.getPosition());
+        }
+        return inventoryIndex;
+    }
+
+    @Override
+    public void clearInventoryIndex()
+    {
+        inventoryIndex.clear();
+        inventoryIndex.invalidate();
+    }
+
     @Override
     public void registerBlockPosition(@NotNull final BlockState blockState, @NotNull final BlockPos pos, @NotNull final Level world)
     {
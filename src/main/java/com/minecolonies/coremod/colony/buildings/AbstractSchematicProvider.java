@@ -259,8 +259,14 @@ public abstract class AbstractSchematicProvider implements ISchematicProvider, I
     @Override
     public void setCorners(final BlockPos pos1, final BlockPos pos2)
     {
+        final BlockPos previousLower = lowerCorner;
+        final BlockPos previousHigher = higherCorner;
         this.lowerCorner = new BlockPos(Math.min(pos1.getX(), pos2.getX()), Math.min(pos1.getY(), pos2.getY()), Math.min(pos1.getZ(), pos2.getZ()));
         this.higherCorner = new BlockPos(Math.max(pos1.getX(), pos2.getX()), Math.max(pos1.getY(), pos2.getY()), Math.max(pos1.getZ(), pos2.getZ()));
+        if (colony != null && colony.getBuildingManager() != null && (!lowerCorner.equals(previousLower) || !higherCorner.equals(previousHigher)))
+        {
+            colony.getBuildingManager().onBuildingFootprintChanged(this);
+        }
     }
 
     @Override
@@ -0,0 +1,270 @@
+package com.minecolonies.coremod.colony.managers;
+
+import com.minecolonies.api.colony.buildings.IBuilding;
+import com.minecolonies.api.colony.buildings.IGuardBuilding;
+import com.minecolonies.api.colony.buildings.modules.IAltersBuildingFootprint;
+import com.minecolonies.api.util.BlockPosUtil;
+import com.minecolonies.coremod.colony.buildings.workerbuildings.BuildingBarracks;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import net.minecraft.core.BlockPos;
+import net.minecraft.util.Tuple;
+import net.minecraft.world.level.ChunkPos;
+import net.minecraft.world.level.levelgen.structure.BoundingBox;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Predicate;
+
+/**
+ * Chunk bucketed grid of the buildings of a colony: by the chunk of their hut, by the chunks their footprint overlaps and by the chunks their guarded region overlaps.
+ * Point and nearest building queries only look at the buckets around the position instead of at every building. Immutable once built, so it may be read from any thread.
+ */
+public final class BuildingSpatialIndex
+{
+    /**
+     * Empty index, for colonies without buildings.
+     */
+    public static final BuildingSpatialIndex EMPTY = new BuildingSpatialIndex();
+
+    /**
+     * Buildings by the chunk of their hut.
+     */
+    private final Long2ObjectOpenHashMap<List<IBuilding>> huts = new Long2ObjectOpenHashMap<>();
+
+    /**
+     * Buildings by every chunk their footprint overlaps.
+     */
+    private final Long2ObjectOpenHashMap<List<IBuilding>> footprints = new Long2ObjectOpenHashMap<>();
+
+    /**
+     * Guard buildings by every chunk their guarded region at max level overlaps.
+     */
+    private final Long2ObjectOpenHashMap<List<IBuilding>> guardedRegions = new Long2ObjectOpenHashMap<>();
+
+    /**
+     * Chunk bounds of the huts.
+     */
+    private int minChunkX = Integer.MAX_VALUE;
+    private int maxChunkX = Integer.MIN_VALUE;
+    private int minChunkZ = Integer.MAX_VALUE;
+    private int maxChunkZ = Integer.MIN_VALUE;
+
+    private BuildingSpatialIndex()
+    {
+        // Filled by the factory method.
+    }
+
+    /**
+     * Build the index of a set of buildings. Has to be called on the server thread, the footprints may need the world.
+     *
+     * @param buildings the buildings.
+     * @return the new index.
+     */
+    @NotNull
+    public static BuildingSpatialIndex build(@NotNull final Collection<IBuilding> buildings)
+    {
+        if (buildings.isEmpty())
+        {
+            return EMPTY;
+        }
+
+        final BuildingSpatialIndex index = new BuildingSpatialIndex();
+        for (final IBuilding building : buildings)
+        {
+            final BlockPos pos = building.getPosition();
+            final int chunkX = pos.getX() >> 4;
+            final int chunkZ = pos.getZ() >> 4;
+            add(index.huts, chunkX, chunkZ, building);
+            index.minChunkX = Math.min(index.minChunkX, chunkX);
+            index.maxChunkX = Math.max(index.maxChunkX, chunkX);
+            index.minChunkZ = Math.min(index.minChunkZ, chunkZ);
+            index.maxChunkZ = Math.max(index.maxChunkZ, chunkZ);
+
+            final Tuple<BlockPos, BlockPos> corners = getFootprint(building);
+            addArea(index.footprints, corners.getA().getX(), corners.getA().getZ(), corners.getB().getX(), corners.getB().getZ(), building);
+
+            if (building instanceof IGuardBuilding || building instanceof BuildingBarracks)
+            {
+                final BoundingBox region = BlockPosUtil.getChunkAlignedBB(pos, building.getClaimRadius(building.getMaxBuildingLevel()));
+                addArea(index.guardedRegions, region.minX(), region.minZ(), region.maxX(), region.maxZ(), building);
+            }
+        }
+        return index;
+    }
+
+    /**
+     * Get the corners of the area in which {@link IBuilding#isInBuilding(BlockPos)} may be true.
+     *
+     * @param building the building.
+     * @return the lower and higher corner.
+     */
+    private static Tuple<BlockPos, BlockPos> getFootprint(@NotNull final IBuilding building)
+    {
+        final Tuple<BlockPos, BlockPos> corners = building.getCorners();
+        BlockPos cornerA = corners.getA();
+        BlockPos cornerB = corners.getB();
+
+        if (building.hasModule(IAltersBuildingFootprint.class))
+        {
+            final Tuple<BlockPos, BlockPos> extensions = building.getFirstModuleOccurance(IAltersBuildingFootprint.class).getAdditionalCorners();
+            cornerA = cornerA.offset(extensions.getA());
+            cornerB = cornerB.offset(extensions.getB());
+        }
+        return new Tuple<>(cornerA.offset(-1, -1, -1), cornerB.offset(1, 1, 1));
+    }
+
+    /**
+     * Add a building to every chunk bucket overlapping an area.
+     */
+    private static void addArea(
+      @NotNull final Long2ObjectOpenHashMap<List<IBuilding>> buckets,
+      final int minX,
+      final int minZ,
+      final int maxX,
+      final int maxZ,
+      @NotNull final IBuilding building)
+    {
+        for (int chunkX = Math.min(minX, maxX) >> 4; chunkX <= Math.max(minX, maxX) >> 4; chunkX++)
+        {
+            for (int chunkZ = Math.min(minZ, maxZ) >> 4; chunkZ <= Math.max(minZ, maxZ) >> 4; chunkZ++)
+            {
+                add(buckets, chunkX, chunkZ, building);
+            }
+        }
+    }
+
+    /**
+     * Add a building to a chunk bucket.
+     */
+    private static void add(@NotNull final Long2ObjectOpenHashMap<List<IBuilding>> buckets, final int chunkX, final int chunkZ, @NotNull final IBuilding building)
+    {
+        List<IBuilding> bucket = buckets.get(ChunkPos.asLong(chunkX, chunkZ));
+        if (bucket == null)
+        {
+            bucket = new ArrayList<>(1);
+            buckets.put(ChunkPos.asLong(chunkX, chunkZ), bucket);
+        }
+        bucket.add(building);
+    }
+
+    /**
+     * Get the buildings of a chunk bucket.
+     */
+    @NotNull
+    private static List<IBuilding> get(@NotNull final Long2ObjectOpenHashMap<List<IBuilding>> buckets, final int chunkX, final int chunkZ)
+    {
+        final List<IBuilding> bucket = buckets.get(ChunkPos.asLong(chunkX, chunkZ));
+        return bucket == null ? Collections.emptyList() : bucket;
+    }
+
+    /**
+     * Get the building a position is in.
+     *
+     * @param pos the position.
+     * @return the first building for which {@link IBuilding#isInBuilding(BlockPos)} is true, or null.
+     */
+    @Nullable
+    public IBuilding getBuildingContaining(@NotNull final BlockPos pos)
+    {
+        for (final IBuilding building : get(footprints, pos.getX() >> 4, pos.getZ() >> 4))
+        {
+            if (building.isInBuilding(pos))
+            {
+                return building;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Get the guard buildings whose guarded region at max level contains the chunk of a position.
+     *
+     * @param pos the position.
+     * @return the candidates, the caller has to check the region of their current level.
+     */
+    @NotNull
+    public List<IBuilding> getGuardBuildingsAround(@NotNull final BlockPos pos)
+    {
+        return get(guardedRegions, pos.getX() >> 4, pos.getZ() >> 4);
+    }
+
+    /**
+     * Get the buildings with their hut in one of the chunks within a horizontal radius of a position.
+     *
+     * @param pos    the position.
+     * @param radius the radius in blocks.
+     * @return the candidates, the caller has to check the exact distance.
+     */
+    @NotNull
+    public List<IBuilding> getBuildingsNear(@NotNull final BlockPos pos, final int radius)
+    {
+        final List<IBuilding> result = new ArrayList<>();
+        final int fromX = Math.max((pos.getX() - radius) >> 4, minChunkX);
+        final int toX = Math.min((pos.getX() + radius) >> 4, maxChunkX);
+        final int fromZ = Math.max((pos.getZ() - radius) >> 4, minChunkZ);
+        final int toZ = Math.min((pos.getZ() + radius) >> 4, maxChunkZ);
+        for (int chunkX = fromX; chunkX <= toX; chunkX++)
+        {
+            for (int chunkZ = fromZ; chunkZ <= toZ; chunkZ++)
+            {
+                result.addAll(get(huts, chunkX, chunkZ));
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Get the building closest to a position which matches a predicate. Searches the hut chunks in rings around the position, until no closer building is possible.
+     *
+     * @param pos       the position.
+     * @param predicate the predicate to match.
+     * @return the closest matching building, or null.
+     */
+    @Nullable
+    public IBuilding getClosest(@NotNull final BlockPos pos, @NotNull final Predicate<IBuilding> predicate)
+    {
+        if (huts.isEmpty())
+        {
+            return null;
+        }
+
+        final int centerX = pos.getX() >> 4;
+        final int centerZ = pos.getZ() >> 4;
+        final int maxRing = Math.max(Math.max(Math.abs(centerX - minChunkX), Math.abs(centerX - maxChunkX)),
+          Math.max(Math.abs(centerZ - minChunkZ), Math.abs(centerZ - maxChunkZ)));
+
+        IBuilding closest = null;
+        double closestDist = Double.MAX_VALUE;
+        for (int ring = 0; ring <= maxRing; ring++)
+        {
+            // Every hut in this ring is at least this far away on one axis.
+            final double ringDist = Math.max(0, ring - 1) * 16.0;
+            if (closest != null && ringDist * ringDist >= closestDist)
+            {
+                break;
+            }
+
+            for (int chunkX = centerX - ring; chunkX <= centerX + ring; chunkX++)
+            {
+                final boolean edgeX = chunkX == centerX - ring || chunkX == centerX + ring;
+                for (int chunkZ = centerZ - ring; chunkZ <= centerZ + ring; chunkZ += edgeX ? 1 : 2 * ring)
+                {
+                    for (final IBuilding building : get(huts, chunkX, chunkZ))
+                    {
+                        final double dist = building.getPosition().distSqr(pos);
+                        if (dist < closestDist && predicate.test(building))
+                        {
+                            closestDist = dist;
+                            closest = building;
+                        }
+                    }
+                }
+            }
+        }
+        return closest;
+    }
+}
@@ -30,12 +30,14 @@ import com.minecolonies.coremod.colony.colonyEvents.citizenEvents.CitizenSpawned
 import com.minecolonies.coremod.colony.jobs.AbstractJobGuard;
 import com.minecolonies.coremod.colony.jobs.JobUndertaker;
 import com.minecolonies.coremod.entity.citizen.EntityCitizen;
-import com.minecolonies.coremod.network.messages.client.colony.ColonyViewCitizenViewMessage;
+import com.minecolonies.coremod.network.messages.client.colony.ColonyViewCitizensBatchMessage;
 import com.minecolonies.coremod.network.messages.client.colony.ColonyViewRemoveCitizenMessage;
+import io.netty.buffer.Unpooled;
 import net.minecraft.core.BlockPos;
 import net.minecraft.nbt.CompoundTag;
 import net.minecraft.nbt.ListTag;
 import net.minecraft.nbt.Tag;
+import net.minecraft.network.FriendlyByteBuf;
 import net.minecraft.server.level.ServerPlayer;
 import net.minecraft.world.entity.Entity;
 import net.minecraft.world.level.Level;
@@ -55,6 +57,11 @@ import static com.minecolonies.api.util.constant.TranslationConstants.*;
 
 public class CitizenManager implements ICitizenManager
 {
+    /**
+     * Maximum uncompressed size of the citizen views packed into one message, keeps the message far below the packet limit.
+     */
+    private static final int MAX_CITIZEN_BATCH_SIZE = 256 * 1024;
+
     /**
      * Map of citizens with ID,CitizenData
      */
@@ -209,23 +216,75 @@ public class CitizenManager implements ICitizenManager
       @NotNull final Set<ServerPlayer> closeSubscribers,
       @NotNull final Set<ServerPlayer> newSubscribers)
     {
-        if (isCitizensDirty || !newSubscribers.isEmpty())
+        if (!isCitizensDirty && newSubscribers.isEmpty())
         {
-            final Set<ServerPlayer> players = new HashSet<>();
-            if (isCitizensDirty)
-            {
-                players.addAll(closeSubscribers);
-            }
-            players.addAll(newSubscribers);
-            for (@NotNull final ICitizenData citizen : citizens.values())
+            return;
+        }
+
+        // Each citizen is serialized at most once, new subscribers get the whole roster and the others only the dirty citizens.
+        final Map<Integer, byte[]> serialized = new LinkedHashMap<>();
+        if (isCitizensDirty)
+        {
+            final Set<ServerPlayer> players = new HashSet<>(closeSubscribers);
+            players.removeAll(newSubscribers);
+            if (!players.isEmpty())
             {
-                if (citizen.isDirty() || !newSubscribers.isEmpty())
+                final List<ICitizenData> dirtyCitizens = new ArrayList<>();
+                for (@NotNull final ICitizenData citizen : citizens.values())
                 {
-                    final ColonyViewCitizenViewMessage message = new ColonyViewCitizenViewMessage(colony, citizen);
-                    players.forEach(player -> Network.getNetwork().sendToPlayer(message, player));
+                    if (citizen.isDirty())
+                    {
+                        dirtyCitizens.add(citizen);
+                    }
                 }
+                sendCitizenBatches(dirtyCitizens, serialized, players);
             }
         }
+
+        if (!newSubscribers.isEmpty())
+        {
+            sendCitizenBatches(citizens.values(), serialized, newSubscribers);
+        }
+    }
+
+    /**
+     * Send the views of the given citizens to players, packed into as few batch messages as the message size allows.
+     *
+     * @param toSend     the citizens to send.
+     * @param serialized the already serialized view data by citizen id, filled up with the newly serialized ones.
+     * @param players    the receivers.
+     */
+    private void sendCitizenBatches(final Collection<ICitizenData> toSend, final Map<Integer, byte[]> serialized, final Set<ServerPlayer> players)
+    {
+        final Map<Integer, byte[]> batch = new LinkedHashMap<>();
+        int batchSize = 0;
+        for (final ICitizenData citizen : toSend)
+        {
+            final byte[] data = serialized.computeIfAbsent(citizen.getId(), id -> {
+                final FriendlyByteBuf buf = new FriendlyByteBuf(Unpooled.buffer());
+                citizen.serializeViewNetworkData(buf);
+                final byte[] bytes = new byte[buf.readableBytes()];
+                buf.readBytes(bytes);
+                buf.release();
+                return bytes;
+            });
+
+            if (!batch.isEmpty() && batchSize + data.length > MAX_CITIZEN_BATCH_SIZE)
+            {
+                final ColonyViewCitizensBatchMessage message = new ColonyViewCitizensBatchMessage(colony, batch);
+                players.forEach(player -> Network.getNetwork().sendToPlayer(message, player));
+                batch.clear();
+                batchSize = 0;
+            }
+            batch.put(citizen.getId(), data);
+            batchSize += data.length;
+        }
+
+        if (!batch.isEmpty())
+        {
+            final ColonyViewCitizensBatchMessage message = new ColonyViewCitizensBatchMessage(colony, batch);
+            players.forEach(player -> Network.getNetwork().sendToPlayer(message, player));
+        }
     }
 
     @Override
@@ -63,6 +63,26 @@ public class ColonyPackageManager implements IColonyPackageManager
      */
     private final Colony colony;
 
+    /**
+     * Version of the colony view, increased whenever a section of it changes.
+     */
+    private int viewVersion = 0;
+
+    /**
+     * Last serialized data of each view section, by section ordinal.
+     */
+    private final byte[][] viewSections = new byte[ColonyView.Section.values().length][];
+
+    /**
+     * View version in which each section last changed, by section ordinal.
+     */
+    private final int[] viewSectionVersions = new int[ColonyView.Section.values().length];
+
+    /**
+     * View version each close subscriber has received.
+     */
+    private final Map<ServerPlayer, Integer> sentViewVersions = new HashMap<>();
+
     /**
      * Creates the ColonyPackageManager for a colony.
      *
@@ -117,6 +137,7 @@ public class ColonyPackageManager implements IColonyPackageManager
             if (!player.isAlive() || colony.getWorld() != player.level || !WorldUtil.isChunkLoaded(player.level, player.chunkPosition().x, player.chunkPosition().z))
             {
                 iterator.remove();
+                sentViewVersions.remove(player);
                 continue;
             }
 
@@ -124,19 +145,15 @@ public class ColonyPackageManager implements IColonyPackageManager
             if (chunk.isEmpty())
             {
                 iterator.remove();
+                sentViewVersions.remove(player);
                 continue;
             }
 
             final IColonyTagCapability colonyCap = chunk.getCapability(CLOSE_COLONY_CAP, null).resolve().orElse(null);
-            if (colonyCap == null)
-            {
-                iterator.remove();
-                continue;
-            }
-
-            if (colonyCap.getOwningColony() != colony.getID())
+            if (colonyCap == null || colonyCap.getOwningColony() != colony.getID())
             {
                 iterator.remove();
+                sentViewVersions.remove(player);
             }
         }
     }
@@ -208,8 +225,8 @@ public class ColonyPackageManager implements IColonyPackageManager
     {
         if (isDirty || !newSubscribers.isEmpty())
         {
-            final FriendlyByteBuf colonyFriendlyByteBuf = new FriendlyByteBuf(Unpooled.buffer());
-            ColonyView.serializeNetworkData(colony, colonyFriendlyByteBuf, !newSubscribers.isEmpty());
+            updateViewSections();
+
             final Set<ServerPlayer> players = new HashSet<>();
             if (isDirty)
             {
@@ -217,14 +234,92 @@ public class ColonyPackageManager implements IColonyPackageManager
             }
             players.addAll(newSubscribers);
 
-            final ColonyViewMessage message = new ColonyViewMessage(colony, colonyFriendlyByteBuf);
-            for (ServerPlayer player : players)
+            // Players at the same version get the same message, usually that is all close subscribers.
+            final Map<Integer, ColonyViewMessage> messages = new HashMap<>();
+            for (final ServerPlayer player : players)
             {
-                message.setIsNewSubscription(newSubscribers.contains(player));
-                Network.getNetwork().sendToPlayer(message, player);
+                final boolean isNewSubscription = newSubscribers.contains(player);
+                final int baseVersion = isNewSubscription ? 0 : sentViewVersions.getOrDefault(player, 0);
+                if (baseVersion != viewVersion)
+                {
+                    final ColonyViewMessage message = messages.computeIfAbsent(baseVersion, this::createViewMessage);
+                    message.setIsNewSubscription(isNewSubscription);
+                    Network.getNetwork().sendToPlayer(message, player);
+                }
+
+                if (closeSubscribers.contains(player))
+                {
+                    sentViewVersions.put(player, viewVersion);
+                }
             }
         }
-        colony.getRequestManager().setDirty(false);
+    }
+
+    /**
+     * Serialize the sections of the colony view which might have changed, and bump the view version if any did. Journaled sections are only serialized when the colony
+     * recorded a change, the others are compared with their last data.
+     */
+    private void updateViewSections()
+    {
+        boolean changed = false;
+        for (final ColonyView.Section section : ColonyView.Section.values())
+        {
+            final int index = section.ordinal();
+            if (section.isJournaled() && viewSections[index] != null)
+            {
+                final boolean requestsDirty = section == ColonyView.Section.REQUESTS && colony.getRequestManager() != null && colony.getRequestManager().isDirty();
+                if (!colony.pollViewSectionChanged(section) && !requestsDirty)
+                {
+                    continue;
+                }
+            }
+
+            final FriendlyByteBuf buf = new FriendlyByteBuf(Unpooled.buffer());
+            ColonyView.serializeSection(colony, section, buf);
+            final byte[] data = new byte[buf.readableBytes()];
+            buf.readBytes(data);
+            buf.release();
+
+            if (!Arrays.equals(data, viewSections[index]))
+            {
+                if (!changed)
+                {
+                    changed = true;
+                    viewVersion++;
+                }
+                viewSections[index] = data;
+                viewSectionVersions[index] = viewVersion;
+            }
+        }
+
+        if (colony.getRequestManager() != null)
+        {
+            colony.getRequestManager().setDirty(false);
+        }
+    }
+
+    /**
+     * Create the view message for receivers at a given version.
+     *
+     * @param baseVersion the version of the receivers, 0 for a full snapshot.
+     * @return the message with all sections changed since then.
+     */
+    private ColonyViewMessage createViewMessage(final int baseVersion)
+    {
+        final byte[][] sections = new byte[viewSections.length][];
+        for (int i = 0; i < viewSections.length; i++)
+        {
+            if (viewSectionVersions[i] > baseVersion)
+            {
+                sections[i] = viewSections[i];
+            }
+        }
+
+        final FriendlyByteBuf buf = new FriendlyByteBuf(Unpooled.buffer());
+        ColonyView.serializeNetworkData(buf, baseVersion, viewVersion, sections);
+        final ColonyViewMessage message = new ColonyViewMessage(colony, buf);
+        buf.release();
+        return message;
     }
 
     @Override
@@ -284,6 +379,18 @@ public class ColonyPackageManager implements IColonyPackageManager
     {
         newSubscribers.remove(player);
         closeSubscribers.remove(player);
+        sentViewVersions.remove(player);
+    }
+
+    @Override
+    public void resyncView(@NotNull final ServerPlayer player)
+    {
+        if (closeSubscribers.contains(player))
+        {
+            // Version 0 is a full snapshot.
+            sentViewVersions.remove(player);
+            isDirty = true;
+        }
     }
 
     /**
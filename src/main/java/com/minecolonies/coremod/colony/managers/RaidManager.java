@@ -9,6 +9,7 @@ import com.minecolonies.api.colony.colonyEvents.EventStatus;
 import com.minecolonies.api.colony.colonyEvents.IColonyEvent;
 import com.minecolonies.api.colony.colonyEvents.IColonyRaidEvent;
 import com.minecolonies.api.colony.managers.interfaces.IRaiderManager;
+import com.minecolonies.api.colony.managers.interfaces.IRegisteredStructureManager;
 import com.minecolonies.api.entity.citizen.AbstractEntityCitizen;
 import com.minecolonies.api.entity.mobs.AbstractEntityRaiderMob;
 import com.minecolonies.api.entity.pathfinding.PathResult;
@@ -58,6 +59,7 @@ import static com.minecolonies.api.util.BlockPosUtil.DOUBLE_AIR_POS_SELECTOR;
 import static com.minecolonies.api.util.BlockPosUtil.SOLID_AIR_POS_SELECTOR;
 import static com.minecolonies.api.util.constant.ColonyConstants.BIG_HORDE_SIZE;
 import static com.minecolonies.api.util.constant.Constants.DEFAULT_BARBARIAN_DIFFICULTY;
+import static com.minecolonies.api.util.constant.Constants.MAX_BUILDING_LEVEL;
 import static com.minecolonies.api.util.constant.Constants.TICKS_SECOND;
 import static com.minecolonies.api.util.constant.NbtTagConstants.*;
 
@@ -76,6 +78,11 @@ public class RaidManager implements IRaiderManager
      */
     private static final int MIN_BUILDING_SPAWN_DIST = 35;
 
+    /**
+     * Max distance to keep while spawning near buildings, that of a max level town hall.
+     */
+    private static final int MAX_BUILDING_SPAWN_DIST = MIN_BUILDING_SPAWN_DIST + MAX_BUILDING_LEVEL * 8;
+
     /**
      * Thresholds for reducing or increasing raid difficulty
      */
@@ -397,7 +404,7 @@ public class RaidManager implements IRaiderManager
     {
         final BlockPos closestBuildingPos = colony.getBuildingManager().getBestBuilding(targetSpawnPoint, IBuilding.class);
         final PathJobRaiderPathing job =
-          new PathJobRaiderPathing(new ArrayList<>(colony.getBuildingManager().getBuildings().values()), colony.getWorld(), closestBuildingPos, targetSpawnPoint, 200);
+          new PathJobRaiderPathing(colony.getBuildingManager(), colony.getWorld(), closestBuildingPos, targetSpawnPoint, 200);
         job.getResult().startJob(Pathfinding.getExecutor());
         return job.getResult();
     }
@@ -494,7 +501,6 @@ public class RaidManager implements IRaiderManager
     {
         BlockPos spawnPos = new BlockPos(start);
         BlockPos tempPos = new BlockPos(spawnPos.getX(), spawnPos.getY(), spawnPos.getZ());
-        final Collection<IBuilding> buildings = colony.getBuildingManager().getBuildings().values();
 
         final int xDiff = Math.abs(start.getX() - advancePos.getX());
         final int zDiff = Math.abs(start.getZ() - advancePos.getZ());
@@ -512,7 +518,7 @@ public class RaidManager implements IRaiderManager
 
                 if (WorldUtil.isEntityBlockLoaded(colony.getWorld(), tempPos))
                 {
-                    if (isValidSpawnPoint(buildings, tempPos) && !isOtherColony(tempPos.getX(), tempPos.getZ()))
+                    if (isValidSpawnPoint(colony.getBuildingManager(), tempPos) && !isOtherColony(tempPos.getX(), tempPos.getZ()))
                     {
                         spawnPos = tempPos;
                         validChunkCount++;
@@ -553,6 +559,18 @@ public class RaidManager implements IRaiderManager
         return cap != null && cap.getOwningColony() != 0 && cap.getOwningColony() != colony.getID();
     }
 
+    /**
+     * Determines whether the given spawn point is allowed, only checks the buildings close enough to matter.
+     *
+     * @param buildingManager the building manager of the colony.
+     * @param spawnPos        the spawn point to check
+     * @return true if valid
+     */
+    public static boolean isValidSpawnPoint(final IRegisteredStructureManager buildingManager, final BlockPos spawnPos)
+    {
+        return isValidSpawnPoint(buildingManager.getBuildingsNear(spawnPos, MAX_BUILDING_SPAWN_DIST), spawnPos);
+    }
+
     /**
      * Determines whether the given spawn point is allowed.
      *
@@ -27,7 +27,6 @@ import com.minecolonies.coremod.colony.buildings.BuildingMysticalSite;
 import com.minecolonies.coremod.colony.buildings.modules.FieldsModule;
 import com.minecolonies.coremod.colony.buildings.modules.LivingBuildingModule;
 import com.minecolonies.coremod.colony.buildings.modules.TavernBuildingModule;
-import com.minecolonies.coremod.colony.buildings.workerbuildings.BuildingBarracks;
 import com.minecolonies.coremod.colony.buildings.workerbuildings.BuildingLibrary;
 import com.minecolonies.coremod.colony.buildings.workerbuildings.BuildingTownHall;
 import com.minecolonies.coremod.colony.buildings.workerbuildings.BuildingWareHouse;
@@ -74,6 +73,17 @@ public class RegisteredStructureManager implements IRegisteredStructureManager
     @NotNull
     private ImmutableMap<BlockPos, IBuilding> buildings = ImmutableMap.of();
 
+    /**
+     * Spatial index of the buildings, rebuilt on the server thread when it is marked dirty.
+     */
+    @NotNull
+    private volatile BuildingSpatialIndex spatialIndex = BuildingSpatialIndex.EMPTY;
+
+    /**
+     * If the buildings or their footprints changed since the spatial index was built.
+     */
+    private volatile boolean isSpatialIndexDirty = true;
+
     /**
      * List of fields of the colony.
      */
@@ -137,6 +147,7 @@ public class RegisteredStructureManager implements IRegisteredStructureManager
     public void read(@NotNull final CompoundTag compound)
     {
         buildings = ImmutableMap.of();
+        isSpatialIndexDirty = true;
         maxChunkX = colony.getCenter().getX() >> 4;
         minChunkX = colony.getCenter().getX() >> 4;
         maxChunkZ = colony.getCenter().getZ() >> 4;
@@ -285,6 +296,8 @@ public class RegisteredStructureManager implements IRegisteredStructureManager
     @Override
     public void onColonyTick(final IColony colony)
     {
+        getSpatialIndex();
+
         //  Tick Buildings
         for (@NotNull final IBuilding building : buildings.values())
         {
@@ -456,22 +469,8 @@ public class RegisteredStructureManager implements IRegisteredStructureManager
     @Override
     public IWareHouse getClosestWarehouseInColony(final BlockPos pos)
     {
-        IWareHouse wareHouse = null;
-        double dist = 0;
-        for (final IWareHouse building : wareHouses)
-        {
-            if (building.getBuildingLevel() > 0 && building.getTileEntity() != null)
-            {
-                final double tempDist = building.getPosition().distSqr(pos);
-                if (wareHouse == null || tempDist < dist)
-                {
-                    dist = tempDist;
-                    wareHouse = building;
-                }
-            }
-        }
-
-        return wareHouse;
+        return (IWareHouse) getSpatialIndex().getClosest(pos,
+          building -> building instanceof IWareHouse && building.getBuildingLevel() > 0 && building.getTileEntity() != null);
     }
 
     @Override
@@ -641,6 +640,8 @@ public class RegisteredStructureManager implements IRegisteredStructureManager
             }
 
             buildings = builder.build();
+            isSpatialIndexDirty = true;
+            building.clearInventoryIndex();
 
             for (final ServerPlayer player : subscribers)
             {
@@ -688,21 +689,8 @@ public class RegisteredStructureManager implements IRegisteredStructureManager
     @Override
     public BlockPos getBestBuilding(final BlockPos citizen, final Class<? extends IBuilding> clazz)
     {
-        double distance = Double.MAX_VALUE;
-        BlockPos goodCook = null;
-        for (final IBuilding building : buildings.values())
-        {
-            if (clazz.isInstance(building) && building.getBuildingLevel() > 0)
-            {
-                final double localDistance = building.getPosition().distSqr(citizen);
-                if (localDistance < distance)
-                {
-                    distance = localDistance;
-                    goodCook = building.getPosition();
-                }
-            }
-        }
-        return goodCook;
+        final IBuilding building = getSpatialIndex().getClosest(citizen, candidate -> clazz.isInstance(candidate) && candidate.getBuildingLevel() > 0);
+        return building == null ? null : building.getPosition();
     }
 
     @Override
@@ -739,24 +727,58 @@ public class RegisteredStructureManager implements IRegisteredStructureManager
             return true;
         }
 
-        for (final IBuilding colonyBuilding : getBuildings().values())
+        for (final IBuilding colonyBuilding : getSpatialIndex().getGuardBuildingsAround(building.getPosition()))
         {
-            if (colonyBuilding instanceof IGuardBuilding || colonyBuilding instanceof BuildingBarracks)
+            final BoundingBox guardedRegion = BlockPosUtil.getChunkAlignedBB(colonyBuilding.getPosition(), colonyBuilding.getClaimRadius(colonyBuilding.getBuildingLevel()));
+            if (guardedRegion.isInside(building.getPosition()))
             {
-                final BoundingBox guardedRegion = BlockPosUtil.getChunkAlignedBB(colonyBuilding.getPosition(), colonyBuilding.getClaimRadius(colonyBuilding.getBuildingLevel()));
-                if (guardedRegion.isInside(building.getPosition()))
-                {
-                    return true;
-                }
+                return true;
             }
         }
 
         return false;
     }
 
+    @Nullable
+    @Override
+    public IBuilding getBuildingContaining(@NotNull final BlockPos pos)
+    {
+        return getSpatialIndex().getBuildingContaining(pos);
+    }
+
+    @NotNull
+    @Override
+    public List<IBuilding> getBuildingsNear(@NotNull final BlockPos pos, final int radius)
+    {
+        return getSpatialIndex().getBuildingsNear(pos, radius);
+    }
+
+    @Override
+    public void onBuildingFootprintChanged(@NotNull final IBuilding building)
+    {
+        isSpatialIndexDirty = true;
+    }
+
+    /**
+     * Get the spatial index of the buildings. It is only rebuilt on the server thread, other threads get the last built one.
+     *
+     * @return the index.
+     */
+    @NotNull
+    private BuildingSpatialIndex getSpatialIndex()
+    {
+        if (isSpatialIndexDirty && colony.getWorld() != null && colony.getWorld().getServer() != null && colony.getWorld().getServer().isSameThread())
+        {
+            isSpatialIndexDirty = false;
+            spatialIndex = BuildingSpatialIndex.build(buildings.values());
+        }
+        return spatialIndex;
+    }
+
     @Override
     public void guardBuildingChangedAt(final IBuilding guardBuilding, final int newLevel)
     {
+        isSpatialIndexDirty = true;
         final int claimRadius = guardBuilding.getClaimRadius(Math.max(guardBuilding.getBuildingLevel(), newLevel));
         final BoundingBox guardedRegion = BlockPosUtil.getChunkAlignedBB(guardBuilding.getPosition(), claimRadius);
         for (final IBuilding building : getBuildings().values())
@@ -815,6 +837,7 @@ public class RegisteredStructureManager implements IRegisteredStructureManager
     private void addBuilding(@NotNull final IBuilding building)
     {
         buildings = new ImmutableMap.Builder<BlockPos, IBuilding>().putAll(buildings).put(building.getID(), building).build();
+        isSpatialIndexDirty = true;
 
         building.markDirty();
 
@@ -918,6 +941,7 @@ public class RegisteredStructureManager implements IRegisteredStructureManager
         {
             colony.getCitizenManager().calculateMaxCitizens();
             markBuildingsDirty();
+            isSpatialIndexDirty = true;
             if (buildBuildingObjectives.containsKey(building.getBuildingType()))
             {
                 for (final IQuestInstance instance : new ArrayList<>(buildBuildingObjectives.get(building.getBuildingType())))
@@ -63,16 +63,37 @@ public class ResearchManager implements IResearchManager
      */
     private boolean dirty;
 
+    /**
+     * Whether the research changed since the last save.
+     */
+    private boolean saveDirty = true;
+
+    /**
+     * Research tree compound of the last save, reused while nothing changed.
+     */
+    private CompoundTag savedTree = null;
+
     @Override
     public void readFromNBT(@NotNull final CompoundTag compound)
     {
         tree.readFromNBT(compound, effects);
+        saveDirty = true;
     }
 
     @Override
     public void writeToNBT(@NotNull final CompoundTag compound)
     {
-        tree.writeToNBT(compound);
+        if (saveDirty || savedTree == null)
+        {
+            savedTree = new CompoundTag();
+            tree.writeToNBT(savedTree);
+            saveDirty = false;
+        }
+
+        for (final String key : savedTree.getAllKeys())
+        {
+            compound.put(key, savedTree.get(key));
+        }
     }
 
     @Override
@@ -98,6 +119,7 @@ public class ResearchManager implements IResearchManager
     public final void markDirty()
     {
         dirty = true;
+        saveDirty = true;
     }
 
     @Override
@@ -3,20 +3,27 @@ package com.minecolonies.coremod.colony.requestsystem.management.handlers;
 import com.google.common.collect.ImmutableCollection;
 import com.google.common.collect.ImmutableList;
 import com.google.common.reflect.TypeToken;
+import com.minecolonies.api.colony.requestsystem.data.IRequestableTypeRequestResolverAssignmentDataStore;
 import com.minecolonies.api.colony.requestsystem.management.IRequestHandler;
 import com.minecolonies.api.colony.requestsystem.manager.AssigningStrategy;
 import com.minecolonies.api.colony.requestsystem.manager.IRequestManager;
 import com.minecolonies.api.colony.requestsystem.manager.RequestMappingHandler;
 import com.minecolonies.api.colony.requestsystem.request.IRequest;
 import com.minecolonies.api.colony.requestsystem.request.RequestState;
+import com.minecolonies.api.colony.requestsystem.requestable.IConcreteDeliverable;
 import com.minecolonies.api.colony.requestsystem.requestable.IRequestable;
+import com.minecolonies.api.colony.requestsystem.requestable.RequestTag;
 import com.minecolonies.api.colony.requestsystem.requester.IRequester;
+import com.minecolonies.api.colony.requestsystem.resolver.IItemSupplyingResolver;
 import com.minecolonies.api.colony.requestsystem.resolver.IRequestResolver;
 import com.minecolonies.api.colony.requestsystem.token.IToken;
 import com.minecolonies.api.util.Log;
 import com.minecolonies.coremod.colony.requestsystem.management.IStandardRequestManager;
 import com.minecolonies.coremod.colony.requestsystem.management.manager.wrapped.WrappedBlacklistAssignmentRequestManager;
 import com.minecolonies.coremod.colony.requestsystem.management.manager.wrapped.WrappedStaticStateRequestManager;
+import net.minecraft.world.item.Item;
+import net.minecraft.world.item.ItemStack;
+import net.minecraftforge.registries.ForgeRegistries;
 import org.jetbrains.annotations.Nullable;
 
 import java.util.*;
@@ -33,6 +40,21 @@ public class RequestHandler implements IRequestHandler
 
     private final IStandardRequestManager manager;
 
+    /**
+     * Sorted resolvers by the set of request types, valid for the resolver set version and assignment store below.
+     */
+    private final Map<Set<TypeToken<?>>, List<IRequestResolver<?>>> sortedResolverCache = new HashMap<>();
+
+    /**
+     * Resolver set version the cache was built for.
+     */
+    private int cachedResolverSetVersion = -1;
+
+    /**
+     * Assignment store the cache was built from, replaced on reset and deserialization.
+     */
+    private IRequestableTypeRequestResolverAssignmentDataStore cachedAssignmentStore = null;
+
     public RequestHandler(final IStandardRequestManager manager) {this.manager = manager;}
 
     @Override
@@ -129,36 +151,8 @@ public class RequestHandler implements IRequestHandler
 
         request.setState(new WrappedStaticStateRequestManager(manager), RequestState.ASSIGNING);
 
-        final Set<TypeToken<?>> requestTypes = request.getSuperClasses();
-
-        final List<TypeToken<?>> typeIndexList = new LinkedList<>(requestTypes);
-
-        List<IRequestResolver<? extends IRequestable>> resolverList = new ArrayList<>();
-        for (final TypeToken<?> requestTypeToken : requestTypes)
-        {
-            final Collection<IToken<?>> resolverTokens = manager.getRequestableTypeRequestResolverAssignmentDataStore()
-              .getAssignments()
-              .get(requestTypeToken);
-
-            if (resolverTokens == null)
-            {
-                continue;
-            }
-
-            for (IToken<?> iToken : resolverTokens)
-            {
-                final IRequestResolver<? extends IRequestable> iRequestResolver = manager.getResolverHandler().getResolver(iToken);
-                if (requestTypes.contains(iRequestResolver.getRequestType()))
-                {
-                    resolverList.add(iRequestResolver);
-                }
-            }
-        }
-
-        resolverList.sort(Comparator.comparingInt((IRequestResolver<?> r) -> -1 * r.getPriority())
-          .thenComparingInt((IRequestResolver<?> r) -> typeIndexList.indexOf(r.getRequestType())));
-
-        final Set<IRequestResolver<?>> resolvers = new LinkedHashSet<>(resolverList);
+        final List<IRequestResolver<?>> resolvers = getSortedResolvers(request.getSuperClasses());
+        @Nullable final Collection<Item> candidateItems = getCandidateItems(request);
 
         IRequestResolver previousResolver = null;
         int previousMetric = Integer.MAX_VALUE;
@@ -176,6 +170,12 @@ public class RequestHandler implements IRequestHandler
                 break;
             }
 
+            //Skip if the resolver can not supply any of the requested items
+            if (candidateItems != null && resolver instanceof IItemSupplyingResolver && !mightSupplyAny((IItemSupplyingResolver) resolver, candidateItems))
+            {
+                continue;
+            }
+
             //Skip if preliminary check fails
             if (!resolver.canResolveRequest(manager, request))
             {
@@ -217,6 +217,105 @@ public class RequestHandler implements IRequestHandler
         return null;
     }
 
+    /**
+     * Get the resolvers for the given request types, by descending priority and then by the order of the request types. Cached until the set of resolvers changes.
+     *
+     * @param requestTypes the types of the request.
+     * @return the sorted resolvers, do not modify.
+     */
+    private List<IRequestResolver<?>> getSortedResolvers(final Set<TypeToken<?>> requestTypes)
+    {
+        final IRequestableTypeRequestResolverAssignmentDataStore assignmentStore = manager.getRequestableTypeRequestResolverAssignmentDataStore();
+        final int resolverSetVersion = manager.getResolverHandler().getResolverSetVersion();
+        if (assignmentStore != cachedAssignmentStore || resolverSetVersion != cachedResolverSetVersion)
+        {
+            sortedResolverCache.clear();
+            cachedAssignmentStore = assignmentStore;
+            cachedResolverSetVersion = resolverSetVersion;
+        }
+
+        final List<IRequestResolver<?>> cached = sortedResolverCache.get(requestTypes);
+        if (cached != null)
+        {
+            return cached;
+        }
+
+        final List<TypeToken<?>> typeIndexList = new ArrayList<>(requestTypes);
+
+        List<IRequestResolver<? extends IRequestable>> resolverList = new ArrayList<>();
+        for (final TypeToken<?> requestTypeToken : requestTypes)
+        {
+            final Collection<IToken<?>> resolverTokens = assignmentStore.getAssignments().get(requestTypeToken);
+
+            if (resolverTokens == null)
+            {
+                continue;
+            }
+
+            for (IToken<?> iToken : resolverTokens)
+            {
+                final IRequestResolver<? extends IRequestable> iRequestResolver = manager.getResolverHandler().getResolver(iToken);
+                if (requestTypes.contains(iRequestResolver.getRequestType()))
+                {
+                    resolverList.add(iRequestResolver);
+                }
+            }
+        }
+
+        resolverList.sort(Comparator.comparingInt((IRequestResolver<?> r) -> -1 * r.getPriority())
+          .thenComparingInt((IRequestResolver<?> r) -> typeIndexList.indexOf(r.getRequestType())));
+
+        final List<IRequestResolver<?>> resolvers = new ArrayList<>(new LinkedHashSet<>(resolverList));
+        sortedResolverCache.put(new HashSet<>(requestTypes), resolvers);
+        return resolvers;
+    }
+
+    /**
+     * Get the items which can fulfill a request, to pre-filter item supplying resolvers.
+     *
+     * @param request the request.
+     * @return the items, or null if the request can not be narrowed down to items.
+     */
+    @Nullable
+    private static Collection<Item> getCandidateItems(final IRequest<?> request)
+    {
+        if (request.getRequest() instanceof IConcreteDeliverable concreteDeliverable)
+        {
+            final Set<Item> items = new HashSet<>();
+            for (final ItemStack stack : concreteDeliverable.getRequestedItems())
+            {
+                items.add(stack.getItem());
+            }
+            return items;
+        }
+
+        if (request.getRequest() instanceof RequestTag requestTag && ForgeRegistries.ITEMS.tags() != null)
+        {
+            return ForgeRegistries.ITEMS.tags().getTag(requestTag.getTag()).stream().collect(Collectors.toSet());
+        }
+
+        return null;
+    }
+
+    /**
+     * Check if a resolver might supply any of the given items.
+     *
+     * @param resolver the resolver.
+     * @param items    the candidate items.
+     * @return true if so.
+     */
+    private boolean mightSupplyAny(final IItemSupplyingResolver resolver, final Collection<Item> items)
+    {
+        for (final Item item : items)
+        {
+            if (resolver.mightSupply(manager, item))
+            {
+                return true;
+            }
+        }
+        return false;
+    }
+
     /**
      * Attempt to resolve a given request with a set resolver.
      *
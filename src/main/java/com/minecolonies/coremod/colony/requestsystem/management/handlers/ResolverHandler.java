@@ -35,6 +35,11 @@ public class ResolverHandler implements IResolverHandler
      */
     private List<IToken<?>> tempBlackList = new ArrayList<>();
 
+    /**
+     * Version of the set of registered resolvers, used to invalidate cached resolver lists.
+     */
+    private int resolverSetVersion = 0;
+
     public ResolverHandler(final IStandardRequestManager manager)
     {
         this.manager = manager;
@@ -98,6 +103,7 @@ public class ResolverHandler implements IResolverHandler
             manager.log("Registering resolver: " + resolver + " with request type: " + c);
             manager.getRequestableTypeRequestResolverAssignmentDataStore().getAssignments().get(c).add(resolver.getId());
         });
+        resolverSetVersion++;
 
         return resolver.getId();
     }
@@ -299,6 +305,7 @@ public class ResolverHandler implements IResolverHandler
             manager.log("Removing resolver: " + resolver + " with request type: " + c);
             manager.getRequestableTypeRequestResolverAssignmentDataStore().getAssignments().get(c).remove(resolver.getId());
         });
+        resolverSetVersion++;
     }
 
     /**
@@ -437,4 +444,10 @@ public class ResolverHandler implements IResolverHandler
     {
         return tempBlackList.contains(id);
     }
+
+    @Override
+    public int getResolverSetVersion()
+    {
+        return resolverSetVersion;
+    }
 }
@@ -0,0 +1,233 @@
+package com.minecolonies.coremod.colony.requestsystem.management.manager;
+
+import com.minecolonies.api.colony.IColony;
+import com.minecolonies.api.colony.IColonyManager;
+import com.minecolonies.api.colony.requestsystem.manager.IRequestManager;
+import com.minecolonies.api.util.Log;
+import com.minecolonies.coremod.MineColonies;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.*;
+
+/**
+ * Server wide scheduler of the colony request system ticks. Colonies queue their request tick instead of running it right away, and the queue is worked off at the end of
+ * each server tick within a configurable time budget. Colonies whose reassignments did not fit into the budget stay queued and continue on the next tick. Only accessed from
+ * the server thread.
+ */
+public final class RequestSystemScheduler
+{
+    /**
+     * Queued colonies in the order they are served.
+     */
+    private static final Deque<IColony> QUEUE = new ArrayDeque<>();
+
+    /**
+     * Queued colonies and whether their next call is a new tick, as opposed to continuing unfinished work.
+     */
+    private static final Map<IColony, Boolean> PENDING = new HashMap<>();
+
+    /**
+     * Stats of each colony.
+     */
+    private static final Map<IColony, ColonyStats> STATS = new HashMap<>();
+
+    /**
+     * Server ticks on which the budget ran out with colonies left in the queue.
+     */
+    private static long exhaustedTicks = 0;
+
+    private RequestSystemScheduler()
+    {
+        //Hides default constructor.
+    }
+
+    /**
+     * Queue a request system tick of a colony. Merges with a still queued tick of the same colony.
+     *
+     * @param colony the colony.
+     */
+    public static void schedule(@NotNull final IColony colony)
+    {
+        if (PENDING.put(colony, true) == null)
+        {
+            QUEUE.addLast(colony);
+        }
+    }
+
+    /**
+     * Work off the queue within the configured budget, called at the end of each server tick.
+     */
+    public static void onServerTick()
+    {
+        if (QUEUE.isEmpty())
+        {
+            return;
+        }
+
+        final long budgetMicros = MineColonies.getConfig().getServer().requestSystemTickBudget.get();
+        final long start = System.nanoTime();
+        final long deadline = budgetMicros <= 0 ? Long.MAX_VALUE : start + budgetMicros * 1000;
+
+        // Colonies carried over on this tick are served again on the next one, so one colony with a large backlog can not take the whole budget twice.
+        int remaining = QUEUE.size();
+        boolean first = true;
+        while (remaining-- > 0)
+        {
+            // The first colony always gets served, so the queue makes progress with a tiny budget.
+            if (!first && System.nanoTime() >= deadline)
+            {
+                exhaustedTicks++;
+                return;
+            }
+            first = false;
+
+            final IColony colony = QUEUE.pollFirst();
+            final boolean newTick = PENDING.remove(colony);
+            final IRequestManager requestManager = colony.getRequestManager();
+            if (requestManager == null || IColonyManager.getInstance().getColonyByDimension(colony.getID(), colony.getDimension()) != colony)
+            {
+                STATS.remove(colony);
+                continue;
+            }
+
+            final ColonyStats stats = STATS.computeIfAbsent(colony, k -> new ColonyStats());
+            final long colonyStart = System.nanoTime();
+            boolean done = true;
+            try
+            {
+                done = requestManager.tick(newTick, deadline);
+            }
+            catch (final Exception e)
+            {
+                Log.getLogger().warn("Exception while ticking the request system of colony:" + colony.getID() + " in dimension:" + colony.getDimension().location(), e);
+            }
+            stats.record(System.nanoTime() - colonyStart, newTick, done);
+
+            if (!done)
+            {
+                PENDING.put(colony, false);
+                QUEUE.addLast(colony);
+            }
+        }
+    }
+
+    /**
+     * Forget all queued ticks and stats, e.g. when the server stops.
+     */
+    public static void clear()
+    {
+        QUEUE.clear();
+        PENDING.clear();
+        STATS.clear();
+        exhaustedTicks = 0;
+    }
+
+    /**
+     * @return the amount of queued colonies.
+     */
+    public static int getQueueLength()
+    {
+        return QUEUE.size();
+    }
+
+    /**
+     * Get the stats of a colony.
+     *
+     * @param colony the colony.
+     * @return the stats or null if it was not ticked yet.
+     */
+    public static ColonyStats getStats(@NotNull final IColony colony)
+    {
+        return STATS.get(colony);
+    }
+
+    /**
+     * Get a readable summary of the scheduler state.
+     *
+     * @return the summary.
+     */
+    public static String getSummary()
+    {
+        long carriedOver = 0;
+        for (final ColonyStats stats : STATS.values())
+        {
+            carriedOver += stats.getCarriedOver();
+        }
+        return String.format("queued colonies: %d | budget %dus | exhausted ticks: %d | carried over: %d",
+          QUEUE.size(),
+          MineColonies.getConfig().getServer().requestSystemTickBudget.get(),
+          exhaustedTicks,
+          carriedOver);
+    }
+
+    /**
+     * Request system time spent on one colony.
+     */
+    public static final class ColonyStats
+    {
+        private long ticks       = 0;
+        private long calls       = 0;
+        private long carriedOver = 0;
+        private long totalNanos  = 0;
+        private long maxNanos    = 0;
+
+        private ColonyStats()
+        {
+        }
+
+        private void record(final long nanos, final boolean newTick, final boolean done)
+        {
+            if (newTick)
+            {
+                ticks++;
+            }
+            if (!done)
+            {
+                carriedOver++;
+            }
+            calls++;
+            totalNanos += nanos;
+            maxNanos = Math.max(maxNanos, nanos);
+        }
+
+        /**
+         * @return the amount of request system ticks.
+         */
+        public long getTicks()
+        {
+            return ticks;
+        }
+
+        /**
+         * @return the amount of calls which ran out of budget.
+         */
+        public long getCarriedOver()
+        {
+            return carriedOver;
+        }
+
+        /**
+         * @return the average time per call, in microseconds.
+         */
+        public double getAverageMicros()
+        {
+            return calls == 0 ? 0 : totalNanos / (double) calls / 1000;
+        }
+
+        /**
+         * @return the total time spent, in microseconds.
+         */
+        public long getTotalMicros()
+        {
+            return totalNanos / 1000;
+        }
+
+        /**
+         * @return the longest call, in microseconds.
+         */
+        public long getMaxMicros()
+        {
+            return maxNanos / 1000;
+        }
+    }
+}
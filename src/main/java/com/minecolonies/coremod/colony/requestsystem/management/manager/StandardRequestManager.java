@@ -577,6 +577,17 @@ public class StandardRequestManager implements IStandardRequestManager
         this.getRetryingRequestResolver().tick();
     }
 
+    @Override
+    public boolean tick(final boolean newTick, final long deadlineNanos)
+    {
+        this.getRetryingRequestResolver().updateManager(this);
+        if (newTick)
+        {
+            this.getRetryingRequestResolver().updateDelays();
+        }
+        return this.getRetryingRequestResolver().reassignDueRequests(deadlineNanos);
+    }
+
     @NotNull
     @Override
     public IRequestIdentitiesDataStore getRequestIdentitiesDataStore()
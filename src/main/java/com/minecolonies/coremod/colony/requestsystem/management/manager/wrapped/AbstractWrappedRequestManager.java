@@ -246,6 +246,12 @@ public abstract class AbstractWrappedRequestManager implements IRequestManager
         wrappedManager.tick();
     }
 
+    @Override
+    public boolean tick(final boolean newTick, final long deadlineNanos)
+    {
+        return wrappedManager.tick(newTick, deadlineNanos);
+    }
+
     @NotNull
     @Override
     public IDataStoreManager getDataStoreManager()
@@ -37,6 +37,11 @@ public class StandardRetryingRequestResolver implements IRetryingRequestResolver
     private final HashMap<IToken<?>, Integer> delays           = new HashMap<>();
     private final HashMap<IToken<?>, Integer> assignedRequests = new HashMap<>();
 
+    /**
+     * Requests whose delay ran out and which still wait for their reassignment, carried over between ticks when the budget is exhausted.
+     */
+    private final Set<IToken<?>> dueRequests = new LinkedHashSet<>();
+
     public StandardRetryingRequestResolver(final IFactoryController factoryController, final IRequestManager manager)
     {
         this.updateManager(manager);
@@ -144,53 +149,110 @@ public class StandardRetryingRequestResolver implements IRetryingRequestResolver
     @Override
     public void tick()
     {
-        manager.log("Starting reassignment.");
+        updateDelays();
+        reassignDueRequests(Long.MAX_VALUE);
+    }
 
-        //Lets decrement all delays
+    @Override
+    public void updateDelays()
+    {
+        //Lets decrement all delays, requests carried over from the last reassignment stay due
         getAllAssignedRequests().forEach(t -> {
+            if (dueRequests.contains(t))
+            {
+                return;
+            }
+
             Integer current = delays.remove(t);
             delays.put(t, --current);
-        });
 
-        //Lets get all keys with 0 residual delay:
-        final Set<IToken<?>> retryables = delays.keySet().stream().filter(t -> delays.get(t) == 0).collect(Collectors.toSet());
-        final Set<IToken<?>> successfully = retryables.stream().filter(t -> {
-            final Set<IToken<?>> blackList = assignedRequests.get(t) < getMaximalTries() ? ImmutableSet.of() : ImmutableSet.of(id);
+            //Lets queue all keys with 0 residual delay:
+            if (current == 0)
+            {
+                dueRequests.add(t);
+            }
+        });
+    }
 
-            Integer currentAttempt = assignedRequests.get(t);
+    @Override
+    public boolean reassignDueRequests(final long deadlineNanos)
+    {
+        manager.log("Starting reassignment.");
 
-            this.setCurrent(t);
-            final IToken<?> resultingResolver;
+        boolean first = true;
+        final Iterator<IToken<?>> iterator = dueRequests.iterator();
+        while (iterator.hasNext())
+        {
+            // Always make progress, even if the budget was spent before.
+            if (!first && System.nanoTime() >= deadlineNanos)
+            {
+                manager.log("Reassignment budget exhausted, " + dueRequests.size() + " requests carried over.");
+                return false;
+            }
+            first = false;
 
-            try
+            final IToken<?> t = iterator.next();
+            iterator.remove();
+            if (!assignedRequests.containsKey(t) || delays.getOrDefault(t, 1) > 0)
             {
-                resultingResolver = manager.reassignRequest(t, blackList);
+                // Cancelled or reassigned to us again since it became due.
+                continue;
             }
-            catch (Exception ex)
+
+            if (!reassign(t))
             {
-                assignedRequests.remove(t);
-                delays.remove(t);
-                return false;
+                manager.log("Failed to reassign a retryable request: " + id);
             }
+        }
 
-            this.setCurrent(null);
+        manager.log("Finished reassignment.");
+        return true;
+    }
 
-            assignedRequests.put(t, ++currentAttempt);
+    /**
+     * Try to reassign a due request.
+     *
+     * @param t the request token.
+     * @return true if a resolver was found.
+     */
+    private boolean reassign(final IToken<?> t)
+    {
+        final Set<IToken<?>> blackList = assignedRequests.get(t) < getMaximalTries() ? ImmutableSet.of() : ImmutableSet.of(id);
 
-            if (resultingResolver != null && !resultingResolver.equals(getId()))
-            {
-                assignedRequests.remove(t);
-                delays.remove(t);
-            }
+        Integer currentAttempt = assignedRequests.get(t);
 
-            return resultingResolver != null;
-        }).collect(Collectors.toSet());
+        this.setCurrent(t);
+        final IToken<?> resultingResolver;
 
-        successfully.forEach(t -> {
-            manager.log("Failed to reassign a retryable request: " + id);
-        });
+        try
+        {
+            resultingResolver = manager.reassignRequest(t, blackList);
+        }
+        catch (Exception ex)
+        {
+            assignedRequests.remove(t);
+            delays.remove(t);
+            return false;
+        }
 
-        manager.log("Finished reassignment.");
+        this.setCurrent(null);
+
+        assignedRequests.put(t, ++currentAttempt);
+        delays.put(t, getMaximalDelayBetweenRetriesInTicks());
+
+        if (resultingResolver != null && !resultingResolver.equals(getId()))
+        {
+            assignedRequests.remove(t);
+            delays.remove(t);
+        }
+
+        return resultingResolver != null;
+    }
+
+    @Override
+    public int getDueRequestCount()
+    {
+        return dueRequests.size();
     }
 
     @Override
@@ -204,6 +266,7 @@ public class StandardRetryingRequestResolver implements IRetryingRequestResolver
     {
         assignedRequests.clear();
         delays.clear();
+        dueRequests.clear();
     }
 
     public void setCurrent(@Nullable final IToken<?> token)
@@ -250,6 +313,14 @@ public class StandardRetryingRequestResolver implements IRetryingRequestResolver
 
         this.delays.clear();
         this.delays.putAll(newDelays);
+
+        this.dueRequests.clear();
+        newDelays.forEach((t, delay) -> {
+            if (delay == 0 && assignedRequests.containsKey(t))
+            {
+                dueRequests.add(t);
+            }
+        });
     }
 
     public Map<IToken<?>, Integer> getDelays()
@@ -3,6 +3,7 @@ package com.minecolonies.coremod.colony.requestsystem.resolvers.core;
 import com.google.common.collect.Lists;
 import com.google.common.reflect.TypeToken;
 import com.minecolonies.api.colony.buildings.IBuilding;
+import com.minecolonies.api.colony.buildings.workerbuildings.IWareHouse;
 import com.minecolonies.api.colony.requestsystem.location.ILocation;
 import com.minecolonies.api.colony.requestsystem.manager.IRequestManager;
 import com.minecolonies.api.colony.requestsystem.request.IRequest;
@@ -11,6 +12,7 @@ import com.minecolonies.api.colony.requestsystem.requestable.IDeliverable;
 import com.minecolonies.api.colony.requestsystem.requestable.INonExhaustiveDeliverable;
 import com.minecolonies.api.colony.requestsystem.requestable.deliveryman.Delivery;
 import com.minecolonies.api.colony.requestsystem.requester.IRequester;
+import com.minecolonies.api.colony.requestsystem.resolver.IItemSupplyingResolver;
 import com.minecolonies.api.colony.requestsystem.token.IToken;
 import com.minecolonies.api.crafting.ItemStorage;
 import com.minecolonies.api.util.ItemStackUtils;
@@ -22,6 +24,7 @@ import com.minecolonies.coremod.colony.Colony;
 import com.minecolonies.coremod.colony.buildings.workerbuildings.BuildingWareHouse;
 import com.minecolonies.coremod.colony.requestsystem.requesters.BuildingBasedRequester;
 import com.minecolonies.coremod.tileentities.TileEntityWareHouse;
+import net.minecraft.world.item.Item;
 import net.minecraft.world.item.ItemStack;
 import net.minecraft.core.BlockPos;
 import net.minecraft.network.chat.MutableComponent;
@@ -37,7 +40,7 @@ import static com.minecolonies.api.util.constant.RSConstants.CONST_WAREHOUSE_RES
 /**
  * ----------------------- Not Documented Object ---------------------
  */
-public abstract class AbstractWarehouseRequestResolver extends AbstractRequestResolver<IDeliverable>
+public abstract class AbstractWarehouseRequestResolver extends AbstractRequestResolver<IDeliverable> implements IItemSupplyingResolver
 {
     public AbstractWarehouseRequestResolver(
       @NotNull final ILocation location,
@@ -102,6 +105,24 @@ public abstract class AbstractWarehouseRequestResolver extends AbstractRequestRe
         return false;
     }
 
+    @Override
+    public boolean mightSupply(@NotNull final IRequestManager manager, @NotNull final Item item)
+    {
+        if (manager.getColony().getWorld().isClientSide)
+        {
+            return false;
+        }
+
+        for (final IWareHouse building : manager.getColony().getBuildingManager().getWareHouses())
+        {
+            if (building.getTileEntity() instanceof TileEntityWareHouse wareHouse && wareHouse.mightContain(item))
+            {
+                return true;
+            }
+        }
+        return false;
+    }
+
     /**
      * Use to verify that a request chain is valid, and doesn't contain recursive cycles.
      * @param manager
@@ -159,6 +159,12 @@ public abstract class AbstractWorkOrder implements IWorkOrder
      */
     protected boolean changed;
 
+    /**
+     * The ordered queue of the work manager this order is added to, told about priority and claim changes.
+     */
+    @Nullable
+    private WorkOrderQueue queue;
+
     /**
      * Add a given Work Order mapping.
      *
@@ -344,7 +350,9 @@ public abstract class AbstractWorkOrder implements IWorkOrder
     @Override
     public final void setPriority(int priority)
     {
+        changed = true;
         this.priority = priority;
+        updateQueue();
     }
 
     @Override
@@ -356,7 +364,9 @@ public abstract class AbstractWorkOrder implements IWorkOrder
     @Override
     public final void setClaimedBy(BlockPos claimedBy)
     {
+        changed = true;
         this.claimedBy = claimedBy;
+        updateQueue();
     }
 
     @Override
@@ -364,6 +374,7 @@ public abstract class AbstractWorkOrder implements IWorkOrder
     {
         changed = true;
         claimedBy = (citizen != null && citizen.getWorkBuilding() != null) ? citizen.getWorkBuilding().getPosition() : null;
+        updateQueue();
     }
 
     @Override
@@ -387,6 +398,28 @@ public abstract class AbstractWorkOrder implements IWorkOrder
     {
         changed = true;
         claimedBy = null;
+        updateQueue();
+    }
+
+    /**
+     * Set the ordered queue this order is added to.
+     *
+     * @param queue the queue, or null when it is removed.
+     */
+    void setQueue(@Nullable final WorkOrderQueue queue)
+    {
+        this.queue = queue;
+    }
+
+    /**
+     * Move this order in its queue after its priority or claim changed.
+     */
+    private void updateQueue()
+    {
+        if (queue != null)
+        {
+            queue.update(this);
+        }
     }
 
     @Override
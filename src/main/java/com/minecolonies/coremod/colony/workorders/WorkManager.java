@@ -1,7 +1,5 @@
 package com.minecolonies.coremod.colony.workorders;
 
-import com.ldtteam.structurize.blueprints.v1.Blueprint;
-import com.ldtteam.structurize.storage.StructurePacks;
 import com.minecolonies.api.advancements.AdvancementTriggers;
 import com.minecolonies.api.colony.ICitizenData;
 import com.minecolonies.api.colony.IColony;
@@ -12,8 +10,9 @@ import com.minecolonies.api.colony.workorders.IWorkOrder;
 import com.minecolonies.api.util.Log;
 import com.minecolonies.api.util.MessageUtils;
 import com.minecolonies.coremod.colony.Colony;
+import com.minecolonies.coremod.colony.ColonyChunkIndex;
 import com.minecolonies.coremod.util.AdvancementUtils;
-import com.minecolonies.coremod.util.ColonyUtils;
+import com.minecolonies.coremod.util.BlueprintPreparation;
 import net.minecraft.nbt.CompoundTag;
 import net.minecraft.nbt.ListTag;
 import net.minecraft.nbt.Tag;
@@ -55,6 +54,18 @@ public class WorkManager implements IWorkManager
      * Checks if there has been changes.
      */
     private              boolean                  dirty           = false;
+    /**
+     * Checks if there has been changes since the last save.
+     */
+    private              boolean                  saveDirty       = true;
+    /**
+     * Work order list of the last save, reused while nothing changed.
+     */
+    private              ListTag                  savedWorkOrders = null;
+    /**
+     * The work orders ordered by priority.
+     */
+    private final        WorkOrderQueue           queue;
 
     /**
      * Constructor, saves reference to the colony.
@@ -64,6 +75,7 @@ public class WorkManager implements IWorkManager
     public WorkManager(final Colony c)
     {
         colony = c;
+        queue = new WorkOrderQueue(c);
     }
 
     /**
@@ -88,8 +100,9 @@ public class WorkManager implements IWorkManager
         final IWorkOrder workOrder = workOrders.get(orderId);
         if (workOrder != null)
         {
-            dirty = true;
+            setDirty(true);
             workOrders.remove(orderId);
+            removeFromQueue(workOrder);
             colony.removeWorkOrderInView(orderId);
             workOrder.onRemoved(colony);
             colony.markDirty();
@@ -184,7 +197,7 @@ public class WorkManager implements IWorkManager
     @Override
     public void clearWorkForCitizen(@NotNull final ICitizenData citizen)
     {
-        dirty = true;
+        setDirty(true);
         workOrders.values().stream().filter(o -> o != null && o.isClaimedBy(citizen)).forEach(IWorkOrder::clearClaimedBy);
     }
 
@@ -196,15 +209,20 @@ public class WorkManager implements IWorkManager
     @Override
     public void write(@NotNull final CompoundTag compound)
     {
-        //  Work Orders
-        @NotNull final ListTag list = new ListTag();
-        for (@NotNull final IWorkOrder o : workOrders.values())
+        //  Work Orders, orders which changed since the last colony tick are still flagged themselves.
+        if (saveDirty || savedWorkOrders == null || workOrders.values().stream().anyMatch(IWorkOrder::isDirty))
         {
-            @NotNull final CompoundTag orderCompound = new CompoundTag();
-            o.write(orderCompound);
-            list.add(orderCompound);
+            @NotNull final ListTag list = new ListTag();
+            for (@NotNull final IWorkOrder o : workOrders.values())
+            {
+                @NotNull final CompoundTag orderCompound = new CompoundTag();
+                o.write(orderCompound);
+                list.add(orderCompound);
+            }
+            savedWorkOrders = list;
+            saveDirty = false;
         }
-        compound.put(TAG_WORK_ORDERS, list);
+        compound.put(TAG_WORK_ORDERS, savedWorkOrders);
         compound.putBoolean(TAG_NEW_SYSTEM, true);
     }
 
@@ -217,6 +235,8 @@ public class WorkManager implements IWorkManager
     public void read(@NotNull final CompoundTag compound)
     {
         workOrders.clear();
+        queue.clear();
+        saveDirty = true;
 
         if (!compound.contains(TAG_NEW_SYSTEM))
         {
@@ -248,7 +268,7 @@ public class WorkManager implements IWorkManager
     }
 
     /**
-     * Adds work order to the work manager.
+     * Adds work order to the work manager. Except for miner orders, new orders are checked to be within the colony once their blueprint was prepared, and only added then.
      *
      * @param order          Order adding.
      * @param readingFromNbt if being read from NBT.
@@ -256,7 +276,33 @@ public class WorkManager implements IWorkManager
     @Override
     public void addWorkOrder(@NotNull final IWorkOrder order, final boolean readingFromNbt)
     {
-        dirty = true;
+        if (!readingFromNbt && !(order instanceof WorkOrderMiner))
+        {
+            // The footprint needs the blueprint, the order is only added once it was prepared off the server thread.
+            BlueprintPreparation.prepare(order, order.getRotation(), order.isMirrored(), colony.getWorld(), prepared -> {
+                final Tuple<BlockPos, BlockPos> corners = prepared == null ? new Tuple<>(order.getLocation(), order.getLocation()) : prepared.getCorners(order.getLocation());
+                if (!isWorkOrderWithinColony(corners))
+                {
+                    MessageUtils.format(OUT_OF_COLONY, order.getDisplayName(), order.getLocation().getX(), order.getLocation().getZ()).sendTo(colony).forAllPlayers();
+                    return;
+                }
+                addCheckedWorkOrder(order, false);
+            });
+            return;
+        }
+
+        addCheckedWorkOrder(order, readingFromNbt);
+    }
+
+    /**
+     * Add a work order which is known to be placeable in the colony.
+     *
+     * @param order          the work order.
+     * @param readingFromNbt if being read from NBT.
+     */
+    private void addCheckedWorkOrder(@NotNull final IWorkOrder order, final boolean readingFromNbt)
+    {
+        setDirty(true);
 
         if (!(order instanceof WorkOrderMiner))
         {
@@ -269,11 +315,6 @@ public class WorkManager implements IWorkManager
                     break;
                 }
             }
-            if (!readingFromNbt && !isWorkOrderWithinColony(order))
-            {
-                MessageUtils.format(OUT_OF_COLONY, order.getDisplayName(), order.getLocation().getX(), order.getLocation().getZ()).sendTo(colony).forAllPlayers();
-                return;
-            }
         }
 
         if (order.getID() == 0)
@@ -301,27 +342,42 @@ public class WorkManager implements IWorkManager
             }
         }
 
-        workOrders.put(order.getID(), order);
+        final IWorkOrder previous = workOrders.put(order.getID(), order);
+        if (previous != null && previous != order)
+        {
+            removeFromQueue(previous);
+        }
+        queue.add(order, readingFromNbt);
+        if (order instanceof AbstractWorkOrder abstractWorkOrder)
+        {
+            abstractWorkOrder.setQueue(queue);
+        }
         order.onAdded(colony, readingFromNbt);
     }
 
     /**
-     * Check if the workOrder is within a colony.
+     * Remove a work order from the ordered queue.
+     *
+     * @param order the removed work order.
+     */
+    private void removeFromQueue(@NotNull final IWorkOrder order)
+    {
+        queue.remove(order);
+        if (order instanceof AbstractWorkOrder abstractWorkOrder)
+        {
+            abstractWorkOrder.setQueue(null);
+        }
+    }
+
+    /**
+     * Check if the footprint of a work order is within the colony.
      *
-     * @param order the workorder to check.
+     * @param corners the corners of the footprint.
      * @return true if so.
      */
-    private boolean isWorkOrderWithinColony(final IWorkOrder order)
+    private boolean isWorkOrderWithinColony(final Tuple<BlockPos, BlockPos> corners)
     {
         final Level world = colony.getWorld();
-        final Blueprint blueprint = StructurePacks.getBlueprint(order.getStructurePack(), order.getStructurePath());
-        final Tuple<BlockPos, BlockPos> corners
-          = ColonyUtils.calculateCorners(order.getLocation(),
-          world,
-          blueprint,
-          order.getRotation(),
-          order.isMirrored());
-
         Set<ChunkPos> chunks = new HashSet<>();
         final int minX = Math.min(corners.getA().getX(), corners.getB().getX()) + 1;
         final int maxX = Math.max(corners.getA().getX(), corners.getB().getX());
@@ -339,6 +395,12 @@ public class WorkManager implements IWorkManager
                 if (!chunks.contains(pos))
                 {
                     chunks.add(pos);
+                    if (ColonyChunkIndex.getOwner(world.dimension(), pos.getWorldPosition()) == colony.getID())
+                    {
+                        continue;
+                    }
+
+                    // Not indexed, e.g. claimed before the index existed.
                     final IColonyTagCapability colonyCap = world.getChunk(pos.x, pos.z).getCapability(CLOSE_COLONY_CAP, null).orElseGet(null);
                     if (colonyCap == null || colonyCap.getOwningColony() != colony.getID())
                     {
@@ -365,11 +427,12 @@ public class WorkManager implements IWorkManager
             if (!o.isValid(this.colony))
             {
                 iter.remove();
-                dirty = true;
+                removeFromQueue(o);
+                setDirty(true);
             }
             else if (o.isDirty())
             {
-                dirty = true;
+                setDirty(true);
                 o.resetChange();
             }
         }
@@ -386,10 +449,14 @@ public class WorkManager implements IWorkManager
     @Override
     public <W extends IWorkOrder> List<W> getOrderedList(Class<W> type, BlockPos builder)
     {
-        return getOrderedList(type::isInstance, builder)
-          .stream()
-          .map(m -> (W) m)
-          .collect(Collectors.toList());
+        return (List<W>) (List<?>) queue.getOrdered(type, order -> true, builder);
+    }
+
+    @Override
+    @Nullable
+    public <W extends IWorkOrder> W getFirstOrder(final Class<W> type, final BlockPos builder)
+    {
+        return type.cast(queue.getFirst(type, builder));
     }
 
     /**
@@ -402,11 +469,7 @@ public class WorkManager implements IWorkManager
     @Override
     public List<IWorkOrder> getOrderedList(@NotNull Predicate<IWorkOrder> predicate, final BlockPos builder)
     {
-        return workOrders.values().stream()
-          .filter(o -> (!o.isClaimed() || o.getClaimedBy().equals(builder)))
-          .filter(predicate)
-          .sorted(Comparator.comparingInt(IWorkOrder::getPriority).reversed())
-          .collect(Collectors.toList());
+        return queue.getOrdered(null, predicate, builder);
     }
 
     /**
@@ -429,6 +492,10 @@ public class WorkManager implements IWorkManager
     public void setDirty(final boolean dirty)
     {
         this.dirty = dirty;
+        if (dirty)
+        {
+            saveDirty = true;
+        }
     }
 
     @Override
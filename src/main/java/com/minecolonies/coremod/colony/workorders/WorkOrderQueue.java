@@ -0,0 +1,310 @@
+package com.minecolonies.coremod.colony.workorders;
+
+import com.minecolonies.api.colony.IColony;
+import com.minecolonies.api.colony.workorders.IWorkOrder;
+import net.minecraft.core.BlockPos;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.*;
+import java.util.function.Predicate;
+
+import static com.minecolonies.api.util.constant.StatisticsConstants.WORK_ORDER_QUEUE_UPDATES;
+
+/**
+ * Work orders of a colony ordered by priority. Unclaimed orders are kept in one sorted set per work order class, claimed orders in one sorted set per claiming building.
+ * The sets are updated on add, remove, claim and priority change, so the orders available to a builder are read in order without filtering and sorting all work orders,
+ * and the next one is found in O(log n). Every add, removal and move is counted once in the colony stats, orders loaded with the colony are not.
+ */
+class WorkOrderQueue
+{
+    /**
+     * Highest priority first, then in the order they were added.
+     */
+    private static final Comparator<Entry> ORDER = Comparator.comparingInt((Entry entry) -> entry.priority).reversed().thenComparingLong(entry -> entry.sequence);
+
+    /**
+     * The colony of the queue, to report the updates.
+     */
+    private final IColony colony;
+
+    /**
+     * The entry of each queued work order.
+     */
+    private final Map<IWorkOrder, Entry> entries = new IdentityHashMap<>();
+
+    /**
+     * Unclaimed work orders by their class.
+     */
+    private final Map<Class<?>, TreeSet<Entry>> unclaimed = new HashMap<>();
+
+    /**
+     * Claimed work orders by the building which claimed them.
+     */
+    private final Map<BlockPos, TreeSet<Entry>> claimed = new HashMap<>();
+
+    /**
+     * Sequence number of the next added work order.
+     */
+    private long nextSequence = 0;
+
+    /**
+     * Create the queue of a colony.
+     *
+     * @param colony the colony.
+     */
+    WorkOrderQueue(@NotNull final IColony colony)
+    {
+        this.colony = colony;
+    }
+
+    /**
+     * Add a work order, behind the queued orders of the same priority.
+     *
+     * @param order          the work order.
+     * @param readingFromNbt if the order is loaded with the colony, these are not counted as updates.
+     */
+    void add(@NotNull final IWorkOrder order, final boolean readingFromNbt)
+    {
+        final Entry previous = entries.remove(order);
+        if (previous != null)
+        {
+            detach(previous);
+        }
+
+        final Entry entry = new Entry(order, nextSequence++);
+        entries.put(order, entry);
+        attach(entry);
+        if (!readingFromNbt)
+        {
+            countUpdate();
+        }
+    }
+
+    /**
+     * Remove a work order.
+     *
+     * @param order the work order.
+     */
+    void remove(@NotNull final IWorkOrder order)
+    {
+        final Entry entry = entries.remove(order);
+        if (entry != null)
+        {
+            detach(entry);
+            countUpdate();
+        }
+    }
+
+    /**
+     * Move a work order to its new place after its priority or claim changed. Does nothing if neither changed.
+     *
+     * @param order the work order.
+     */
+    void update(@NotNull final IWorkOrder order)
+    {
+        final Entry entry = entries.get(order);
+        if (entry == null || (entry.priority == order.getPriority() && Objects.equals(entry.claimedBy, order.getClaimedBy())))
+        {
+            return;
+        }
+
+        detach(entry);
+        attach(entry);
+        countUpdate();
+    }
+
+    /**
+     * Remove all work orders.
+     */
+    void clear()
+    {
+        entries.clear();
+        unclaimed.clear();
+        claimed.clear();
+    }
+
+    /**
+     * Insert an entry into its set, with the current priority and claim of its work order.
+     *
+     * @param entry the entry.
+     */
+    private void attach(@NotNull final Entry entry)
+    {
+        entry.priority = entry.order.getPriority();
+        entry.claimedBy = entry.order.getClaimedBy();
+        if (entry.claimedBy == null)
+        {
+            unclaimed.computeIfAbsent(entry.order.getClass(), key -> new TreeSet<>(ORDER)).add(entry);
+        }
+        else
+        {
+            claimed.computeIfAbsent(entry.claimedBy, key -> new TreeSet<>(ORDER)).add(entry);
+        }
+    }
+
+    /**
+     * Remove an entry from the set it was inserted into.
+     *
+     * @param entry the entry.
+     */
+    private void detach(@NotNull final Entry entry)
+    {
+        final Map<?, TreeSet<Entry>> sets = entry.claimedBy == null ? unclaimed : claimed;
+        final Object key = entry.claimedBy == null ? entry.order.getClass() : entry.claimedBy;
+        final TreeSet<Entry> set = sets.get(key);
+        if (set != null)
+        {
+            set.remove(entry);
+            if (set.isEmpty())
+            {
+                sets.remove(key);
+            }
+        }
+    }
+
+    /**
+     * Count an add, removal or move of a work order in the colony stats.
+     */
+    private void countUpdate()
+    {
+        colony.getStatisticsManager().increment(WORK_ORDER_QUEUE_UPDATES);
+    }
+
+    /**
+     * Get the sets with the work orders of a type which a builder may take.
+     *
+     * @param type    the type of work order, null for all.
+     * @param builder the builder.
+     * @return the sets, the set of the builder may also contain other types.
+     */
+    @NotNull
+    private List<TreeSet<Entry>> getSets(@Nullable final Class<?> type, @Nullable final BlockPos builder)
+    {
+        final List<TreeSet<Entry>> sets = new ArrayList<>();
+        for (final Map.Entry<Class<?>, TreeSet<Entry>> entry : unclaimed.entrySet())
+        {
+            if (type == null || type.isAssignableFrom(entry.getKey()))
+            {
+                sets.add(entry.getValue());
+            }
+        }
+
+        final TreeSet<Entry> claimedByBuilder = builder == null ? null : claimed.get(builder);
+        if (claimedByBuilder != null)
+        {
+            sets.add(claimedByBuilder);
+        }
+        return sets;
+    }
+
+    /**
+     * Get the work orders a builder may take, highest priority first.
+     *
+     * @param type      the type of work order, null for all.
+     * @param predicate the predicate the work orders have to match.
+     * @param builder   the builder.
+     * @return the matching unclaimed work orders and the ones claimed by the builder.
+     */
+    @NotNull
+    List<IWorkOrder> getOrdered(@Nullable final Class<?> type, @NotNull final Predicate<IWorkOrder> predicate, @Nullable final BlockPos builder)
+    {
+        final List<TreeSet<Entry>> sets = getSets(type, builder);
+        final Predicate<IWorkOrder> matches = type == null ? predicate : predicate.and(type::isInstance);
+        final List<Iterator<Entry>> iterators = new ArrayList<>(sets.size());
+        final List<Entry> heads = new ArrayList<>(sets.size());
+        for (final TreeSet<Entry> set : sets)
+        {
+            final Iterator<Entry> iterator = set.iterator();
+            iterators.add(iterator);
+            heads.add(iterator.next());
+        }
+
+        // Merge the sorted sets, there is only one set per work order class and the builder's own.
+        final List<IWorkOrder> result = new ArrayList<>();
+        while (!heads.isEmpty())
+        {
+            int best = 0;
+            for (int i = 1; i < heads.size(); i++)
+            {
+                if (ORDER.compare(heads.get(i), heads.get(best)) < 0)
+                {
+                    best = i;
+                }
+            }
+
+            final IWorkOrder order = heads.get(best).order;
+            if (matches.test(order))
+            {
+                result.add(order);
+            }
+
+            if (iterators.get(best).hasNext())
+            {
+                heads.set(best, iterators.get(best).next());
+            }
+            else
+            {
+                heads.remove(best);
+                iterators.remove(best);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Get the work order of a type a builder should take next.
+     *
+     * @param type    the type of work order.
+     * @param builder the builder.
+     * @return the unclaimed or claimed by the builder work order with the highest priority, or null.
+     */
+    @Nullable
+    IWorkOrder getFirst(@NotNull final Class<?> type, @Nullable final BlockPos builder)
+    {
+        Entry best = null;
+        for (final TreeSet<Entry> set : getSets(type, builder))
+        {
+            for (final Entry entry : set)
+            {
+                if (type.isInstance(entry.order))
+                {
+                    if (best == null || ORDER.compare(entry, best) < 0)
+                    {
+                        best = entry;
+                    }
+                    break;
+                }
+            }
+        }
+        return best == null ? null : best.order;
+    }
+
+    /**
+     * A queued work order, with the priority and claim it is sorted by.
+     */
+    private static final class Entry
+    {
+        /**
+         * The work order.
+         */
+        private final IWorkOrder order;
+
+        /**
+         * Tie breaker between orders of the same priority.
+         */
+        private final long sequence;
+
+        /**
+         * Priority and claim at the time it was inserted into its set.
+         */
+        private int      priority;
+        private BlockPos claimedBy;
+
+        private Entry(@NotNull final IWorkOrder order, final long sequence)
+        {
+            this.order = order;
+            this.sequence = sequence;
+        }
+    }
+}
@@ -5,6 +5,7 @@ import com.minecolonies.coremod.commands.citizencommands.*;
 import com.minecolonies.coremod.commands.colonycommands.*;
 import com.minecolonies.coremod.commands.colonycommands.requestsystem.CommandRSReset;
 import com.minecolonies.coremod.commands.colonycommands.requestsystem.CommandRSResetAll;
+import com.minecolonies.coremod.commands.colonycommands.requestsystem.CommandRSStats;
 import com.minecolonies.coremod.commands.generalcommands.*;
 import com.minecolonies.coremod.commands.killcommands.*;
 import com.mojang.brigadier.CommandDispatcher;
@@ -55,10 +56,12 @@ public class EntryPoint
           .addNode(new CommandLoadAllBackups().build())
           .addNode(new CommandColonyInfo().build())
           .addNode(new CommandColonyPrintStats().build())
+          .addNode(new CommandPathfindingStats().build())
           .addNode(new CommandColonyRaidsInfo().build())
           .addNode(new CommandColonyChunks().build())
           .addNode(new CommandRSReset().build())
           .addNode(new CommandRSResetAll().build())
+          .addNode(new CommandRSStats().build())
           .addNode(new CommandSetAbandoned().build())
           .addNode(new CommandExportColony().build());
 
@@ -89,6 +92,9 @@ public class EntryPoint
           .addNode(new CommandUnloadForcedChunks().build())
           .addNode(new CommandRaidAll().build())
           .addNode(new CommandBackup().build())
+          .addNode(new CommandBackupStats().build())
+          .addNode(new CommandChunkSyncStats().build())
+          .addNode(new CommandCitizenAIStats().build())
           .addNode(new CommandResetPlayerSupplies().build())
           .addNode(new CommandHelp().build())
           .addNode(new ScanCommand().build())
@@ -109,6 +115,9 @@ public class EntryPoint
           .addNode(new CommandUnloadForcedChunks().build())
           .addNode(new CommandRaidAll().build())
           .addNode(new CommandBackup().build())
+          .addNode(new CommandBackupStats().build())
+          .addNode(new CommandChunkSyncStats().build())
+          .addNode(new CommandCitizenAIStats().build())
           .addNode(new CommandResetPlayerSupplies().build())
           .addNode(new CommandHelp().build())
           .addNode(new CommandPruneWorld().build());
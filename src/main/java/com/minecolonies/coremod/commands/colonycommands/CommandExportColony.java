@@ -6,25 +6,55 @@ import com.minecolonies.coremod.commands.commandTypes.IMCCommand;
 import com.minecolonies.coremod.commands.commandTypes.IMCOPCommand;
 import com.minecolonies.coremod.util.BackUpHelper;
 import com.mojang.brigadier.arguments.IntegerArgumentType;
+import com.mojang.brigadier.arguments.StringArgumentType;
 import com.mojang.brigadier.builder.LiteralArgumentBuilder;
 import com.mojang.brigadier.context.CommandContext;
 import net.minecraft.commands.CommandSourceStack;
+import net.minecraft.commands.SharedSuggestionProvider;
 import net.minecraft.network.chat.Component;
 
 import static com.minecolonies.api.util.constant.translation.CommandTranslationConstants.COMMAND_COLONY_EXPORT_SUCCESS;
 import static com.minecolonies.api.util.constant.translation.CommandTranslationConstants.COMMAND_COLONY_ID_NOT_FOUND;
+import static com.minecolonies.coremod.commands.CommandArgumentNames.BACKUP_ARG;
 import static com.minecolonies.coremod.commands.CommandArgumentNames.COLONYID_ARG;
 
 /**
- * Command to export a colony from a world save, exports region and backup file.
+ * Command to export a colony from a world save, exports region and backup file. The colony data can also be taken from a stored backup.
  */
 public class CommandExportColony implements IMCOPCommand
 {
     @Override
     public int onExecute(final CommandContext<CommandSourceStack> context)
     {
-        final int colonyId = IntegerArgumentType.getInteger(context, COLONYID_ARG);
         BackUpHelper.backupColonyData();
+        return export(context, null);
+    }
+
+    /**
+     * Export the colony with its data as it was in the stored backup given as argument.
+     *
+     * @param context the context of the command execution
+     * @return 1 if executed.
+     */
+    private int onBackupExecute(final CommandContext<CommandSourceStack> context)
+    {
+        if (!checkPreCondition(context))
+        {
+            return 0;
+        }
+        return export(context, StringArgumentType.getString(context, BACKUP_ARG));
+    }
+
+    /**
+     * Export the colony.
+     *
+     * @param context    the context of the command execution
+     * @param backupName the stored backup or null for the current colony data.
+     * @return 1 if executed.
+     */
+    private int export(final CommandContext<CommandSourceStack> context, final String backupName)
+    {
+        final int colonyId = IntegerArgumentType.getInteger(context, COLONYID_ARG);
         final IColony colony = IColonyManager.getInstance().getColonyByDimension(colonyId, context.getSource().getLevel().dimension());
         if (colony == null)
         {
@@ -32,7 +62,7 @@ public class CommandExportColony implements IMCOPCommand
             return 0;
         }
 
-        context.getSource().sendSuccess(Component.translatable(COMMAND_COLONY_EXPORT_SUCCESS, BackUpHelper.exportColony(colony)), true);
+        context.getSource().sendSuccess(Component.translatable(COMMAND_COLONY_EXPORT_SUCCESS, BackUpHelper.exportColony(colony, backupName)), true);
         return 1;
     }
 
@@ -49,6 +79,10 @@ public class CommandExportColony implements IMCOPCommand
     public LiteralArgumentBuilder<CommandSourceStack> build()
     {
         return IMCCommand.newLiteral(getName())
-                 .then(IMCCommand.newArgument(COLONYID_ARG, IntegerArgumentType.integer(1)).executes(this::checkPreConditionAndExecute));
+                 .then(IMCCommand.newArgument(COLONYID_ARG, IntegerArgumentType.integer(1))
+                         .then(IMCCommand.newArgument(BACKUP_ARG, StringArgumentType.word())
+                                 .suggests((ctx, builder) -> SharedSuggestionProvider.suggest(BackUpHelper.getBackupNames(), builder))
+                                 .executes(this::onBackupExecute))
+                         .executes(this::checkPreConditionAndExecute));
     }
 }
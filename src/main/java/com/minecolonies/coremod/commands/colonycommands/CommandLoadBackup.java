@@ -4,16 +4,19 @@ import com.minecolonies.coremod.commands.commandTypes.IMCCommand;
 import com.minecolonies.coremod.commands.commandTypes.IMCOPCommand;
 import com.minecolonies.coremod.util.BackUpHelper;
 import com.mojang.brigadier.arguments.IntegerArgumentType;
+import com.mojang.brigadier.arguments.StringArgumentType;
 import com.mojang.brigadier.builder.LiteralArgumentBuilder;
 import com.mojang.brigadier.context.CommandContext;
 import net.minecraft.commands.CommandSourceStack;
+import net.minecraft.commands.SharedSuggestionProvider;
 import net.minecraft.network.chat.Component;
 
 import static com.minecolonies.api.util.constant.translation.CommandTranslationConstants.COMMAND_COLONY_LOAD_BACKUP_SUCCESS;
+import static com.minecolonies.coremod.commands.CommandArgumentNames.BACKUP_ARG;
 import static com.minecolonies.coremod.commands.CommandArgumentNames.COLONYID_ARG;
 
 /**
- * Loads a colony by id from the backup file.
+ * Loads a colony by id from the backup file, or from a stored backup.
  */
 public class CommandLoadBackup implements IMCOPCommand
 {
@@ -24,9 +27,36 @@ public class CommandLoadBackup implements IMCOPCommand
      */
     @Override
     public int onExecute(final CommandContext<CommandSourceStack> context)
+    {
+        return loadBackup(context, null);
+    }
+
+    /**
+     * Load the colony as it was in the stored backup given as argument.
+     *
+     * @param context the context of the command execution
+     * @return 1 if executed.
+     */
+    private int onBackupExecute(final CommandContext<CommandSourceStack> context)
+    {
+        if (!checkPreCondition(context))
+        {
+            return 0;
+        }
+        return loadBackup(context, StringArgumentType.getString(context, BACKUP_ARG));
+    }
+
+    /**
+     * Load the colony.
+     *
+     * @param context    the context of the command execution
+     * @param backupName the stored backup or null for the backup file.
+     * @return 1 if executed.
+     */
+    private int loadBackup(final CommandContext<CommandSourceStack> context, final String backupName)
     {
         final int colonyId = IntegerArgumentType.getInteger(context, COLONYID_ARG);
-        BackUpHelper.loadColonyBackup(colonyId, context.getSource().getLevel().dimension(), true, true);
+        BackUpHelper.loadColonyBackup(colonyId, context.getSource().getLevel().dimension(), true, true, backupName);
         context.getSource().sendSuccess(Component.translatable(COMMAND_COLONY_LOAD_BACKUP_SUCCESS), true);
         return 1;
     }
@@ -44,6 +74,10 @@ public class CommandLoadBackup implements IMCOPCommand
     public LiteralArgumentBuilder<CommandSourceStack> build()
     {
         return IMCCommand.newLiteral(getName())
-                 .then(IMCCommand.newArgument(COLONYID_ARG, IntegerArgumentType.integer(1)).executes(this::checkPreConditionAndExecute));
+                 .then(IMCCommand.newArgument(COLONYID_ARG, IntegerArgumentType.integer(1))
+                         .then(IMCCommand.newArgument(BACKUP_ARG, StringArgumentType.word())
+                                 .suggests((ctx, builder) -> SharedSuggestionProvider.suggest(BackUpHelper.getBackupNames(), builder))
+                                 .executes(this::onBackupExecute))
+                         .executes(this::checkPreConditionAndExecute));
     }
 }
@@ -0,0 +1,108 @@
+package com.minecolonies.coremod.commands.colonycommands;
+
+import com.minecolonies.coremod.commands.commandTypes.IMCCommand;
+import com.minecolonies.coremod.commands.commandTypes.IMCOPCommand;
+import com.minecolonies.coremod.entity.pathfinding.PathJobTask;
+import com.minecolonies.coremod.entity.pathfinding.PathSearchStats;
+import com.minecolonies.coremod.entity.pathfinding.Pathfinding;
+import com.minecolonies.coremod.entity.pathfinding.PathfindingTelemetry;
+import com.mojang.brigadier.arguments.IntegerArgumentType;
+import com.mojang.brigadier.builder.LiteralArgumentBuilder;
+import com.mojang.brigadier.context.CommandContext;
+import net.minecraft.commands.CommandSourceStack;
+import net.minecraft.network.chat.Component;
+
+import java.util.Map;
+
+import static com.minecolonies.api.util.constant.translation.CommandTranslationConstants.*;
+import static com.minecolonies.coremod.commands.CommandArgumentNames.COLONYID_ARG;
+
+/**
+ * Command to print the pathfinding statistics per job type, of all colonies or of a single colony in the dimension of the sender.
+ */
+public class CommandPathfindingStats implements IMCOPCommand
+{
+    /**
+     * What happens when the command is executed after preConditions are successful.
+     *
+     * @param context the context of the command execution
+     */
+    @Override
+    public int onExecute(final CommandContext<CommandSourceStack> context)
+    {
+        context.getSource().sendSuccess(Component.translatable(COMMAND_PATHFINDING_STATS_QUEUE, Pathfinding.getJobQueue().getSummary()), false);
+        context.getSource().sendSuccess(Component.translatable(COMMAND_PATHFINDING_STATS_SEARCH, PathSearchStats.getSummary()), false);
+        return printStats(context, PathfindingTelemetry.getStats());
+    }
+
+    /**
+     * Print the statistics of a single colony.
+     *
+     * @param context the context of the command execution
+     * @return 1 if successful.
+     */
+    private int executeForColony(final CommandContext<CommandSourceStack> context)
+    {
+        if (!checkPreCondition(context))
+        {
+            return 0;
+        }
+
+        final PathJobTask.ColonyKey colony = new PathJobTask.ColonyKey(context.getSource().getLevel().dimension(), IntegerArgumentType.getInteger(context, COLONYID_ARG));
+        return printStats(context, PathfindingTelemetry.getStats(colony));
+    }
+
+    /**
+     * Print one line per job type.
+     *
+     * @param context the context of the command execution
+     * @param stats   the stats by job type.
+     * @return 1 if successful.
+     */
+    private int printStats(final CommandContext<CommandSourceStack> context, final Map<String, PathfindingTelemetry.JobStats> stats)
+    {
+        if (stats.isEmpty())
+        {
+            context.getSource().sendSuccess(Component.translatable(COMMAND_PATHFINDING_STATS_NONE), false);
+            return 1;
+        }
+
+        for (final Map.Entry<String, PathfindingTelemetry.JobStats> entry : stats.entrySet())
+        {
+            final PathfindingTelemetry.JobStats jobStats = entry.getValue();
+            context.getSource().sendSuccess(Component.translatable(COMMAND_PATHFINDING_STATS_JOB,
+              entry.getKey(),
+              jobStats.getJobs(),
+              jobStats.getCount(PathfindingTelemetry.ResultKind.REACHED),
+              jobStats.getCount(PathfindingTelemetry.ResultKind.BEST_EFFORT),
+              jobStats.getCount(PathfindingTelemetry.ResultKind.INTERRUPTED),
+              jobStats.getCount(PathfindingTelemetry.ResultKind.FAILED),
+              jobStats.getNodes().getPercentile(0.5),
+              jobStats.getNodes().getPercentile(0.99),
+              jobStats.getNodes().getMax(),
+              jobStats.getWallMicros().getPercentile(0.5),
+              jobStats.getWallMicros().getPercentile(0.99),
+              jobStats.getWallMicros().getMax(),
+              jobStats.getWaitMicros().getPercentile(0.5),
+              jobStats.getWaitMicros().getPercentile(0.99)), false);
+        }
+        return 1;
+    }
+
+    /**
+     * Name string of the command.
+     */
+    @Override
+    public String getName()
+    {
+        return "pathfindingStats";
+    }
+
+    @Override
+    public LiteralArgumentBuilder<CommandSourceStack> build()
+    {
+        return IMCCommand.newLiteral(getName())
+          .executes(this::checkPreConditionAndExecute)
+          .then(IMCCommand.newArgument(COLONYID_ARG, IntegerArgumentType.integer(1)).executes(this::executeForColony));
+    }
+}
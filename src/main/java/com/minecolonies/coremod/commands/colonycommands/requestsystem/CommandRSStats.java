@@ -0,0 +1,65 @@
+package com.minecolonies.coremod.commands.colonycommands.requestsystem;
+
+import com.minecolonies.api.colony.IColony;
+import com.minecolonies.api.colony.IColonyManager;
+import com.minecolonies.coremod.colony.requestsystem.management.manager.RequestSystemScheduler;
+import com.minecolonies.coremod.commands.commandTypes.IMCCommand;
+import com.minecolonies.coremod.commands.commandTypes.IMCOPCommand;
+import com.mojang.brigadier.builder.LiteralArgumentBuilder;
+import com.mojang.brigadier.context.CommandContext;
+import net.minecraft.commands.CommandSourceStack;
+import net.minecraft.network.chat.Component;
+
+import static com.minecolonies.api.util.constant.translation.CommandTranslationConstants.COMMAND_RS_STATS_COLONY;
+import static com.minecolonies.api.util.constant.translation.CommandTranslationConstants.COMMAND_RS_STATS_SCHEDULER;
+
+/**
+ * Command to print the request system scheduler state and the request system time spent per colony.
+ */
+public class CommandRSStats implements IMCOPCommand
+{
+    /**
+     * What happens when the command is executed after preConditions are successful.
+     *
+     * @param context the context of the command execution
+     */
+    @Override
+    public int onExecute(final CommandContext<CommandSourceStack> context)
+    {
+        context.getSource().sendSuccess(Component.translatable(COMMAND_RS_STATS_SCHEDULER, RequestSystemScheduler.getSummary()), false);
+        for (final IColony colony : IColonyManager.getInstance().getAllColonies())
+        {
+            final RequestSystemScheduler.ColonyStats stats = RequestSystemScheduler.getStats(colony);
+            if (stats == null || colony.getRequestManager() == null)
+            {
+                continue;
+            }
+
+            context.getSource().sendSuccess(Component.translatable(COMMAND_RS_STATS_COLONY,
+              colony.getID(),
+              colony.getName(),
+              stats.getTicks(),
+              stats.getCarriedOver(),
+              colony.getRequestManager().getRetryingRequestResolver().getDueRequestCount(),
+              String.format("%.1f", stats.getAverageMicros()),
+              stats.getMaxMicros(),
+              stats.getTotalMicros() / 1000), false);
+        }
+        return 1;
+    }
+
+    /**
+     * Name string of the command.
+     */
+    @Override
+    public String getName()
+    {
+        return "requestsystem-stats";
+    }
+
+    @Override
+    public LiteralArgumentBuilder<CommandSourceStack> build()
+    {
+        return IMCCommand.newLiteral(getName()).executes(this::checkPreConditionAndExecute);
+    }
+}
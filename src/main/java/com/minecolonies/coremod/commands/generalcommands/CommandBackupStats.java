@@ -0,0 +1,103 @@
+package com.minecolonies.coremod.commands.generalcommands;
+
+import com.minecolonies.coremod.commands.commandTypes.IMCCommand;
+import com.minecolonies.coremod.commands.commandTypes.IMCOPCommand;
+import com.minecolonies.coremod.util.BackUpHelper;
+import com.minecolonies.coremod.util.ColonyBackupStore;
+import com.mojang.brigadier.arguments.StringArgumentType;
+import com.mojang.brigadier.builder.LiteralArgumentBuilder;
+import com.mojang.brigadier.context.CommandContext;
+import net.minecraft.commands.CommandSourceStack;
+import net.minecraft.commands.SharedSuggestionProvider;
+import net.minecraft.network.chat.Component;
+
+import java.util.List;
+
+import static com.minecolonies.api.util.constant.translation.CommandTranslationConstants.*;
+import static com.minecolonies.coremod.commands.CommandArgumentNames.BACKUP_ARG;
+
+/**
+ * Command to print the stored colony backups and to measure how long restoring one of them takes.
+ */
+public class CommandBackupStats implements IMCOPCommand
+{
+    /**
+     * What happens when the command is executed after preConditions are successful.
+     *
+     * @param context the context of the command execution
+     */
+    @Override
+    public int onExecute(final CommandContext<CommandSourceStack> context)
+    {
+        return printStats(context, null);
+    }
+
+    /**
+     * Print the stats, benchmarking the backup given as argument.
+     *
+     * @param context the context of the command execution
+     * @return 1 if executed.
+     */
+    private int onBackupExecute(final CommandContext<CommandSourceStack> context)
+    {
+        if (!checkPreCondition(context))
+        {
+            return 0;
+        }
+        return printStats(context, StringArgumentType.getString(context, BACKUP_ARG));
+    }
+
+    /**
+     * Print the stats.
+     *
+     * @param context    the context of the command execution
+     * @param backupName the backup to benchmark, or null for the newest.
+     * @return 1 if executed.
+     */
+    private int printStats(final CommandContext<CommandSourceStack> context, final String backupName)
+    {
+        final ColonyBackupStore.RestoreBenchmark benchmark = BackUpHelper.benchmarkRestore(backupName);
+        final List<String> backups = BackUpHelper.getBackupNames();
+        if (backups.isEmpty() || benchmark == null)
+        {
+            context.getSource().sendFailure(backupName == null
+                                              ? Component.translatable(COMMAND_BACKUP_STATS_NONE)
+                                              : Component.translatable(COMMAND_BACKUP_STATS_NONE_NAMED, backupName));
+            return 0;
+        }
+
+        final long[] objects = ColonyBackupStore.getObjectStats(BackUpHelper.getSaveLocation().getParentFile());
+        context.getSource().sendSuccess(Component.translatable(COMMAND_BACKUP_STATS_STORE,
+          backups.size(),
+          backups.get(0),
+          backups.get(backups.size() - 1),
+          objects[0],
+          objects[1] / 1024), false);
+        context.getSource().sendSuccess(Component.translatable(COMMAND_BACKUP_STATS_RESTORE,
+          backupName == null ? backups.get(backups.size() - 1) : backupName,
+          benchmark.files(),
+          benchmark.failed(),
+          benchmark.bytes() / 1024,
+          benchmark.nanos() / 1_000_000), false);
+        return 1;
+    }
+
+    /**
+     * Name string of the command.
+     */
+    @Override
+    public String getName()
+    {
+        return "backupstats";
+    }
+
+    @Override
+    public LiteralArgumentBuilder<CommandSourceStack> build()
+    {
+        return IMCCommand.newLiteral(getName())
+                 .then(IMCCommand.newArgument(BACKUP_ARG, StringArgumentType.word())
+                         .suggests((ctx, builder) -> SharedSuggestionProvider.suggest(BackUpHelper.getBackupNames(), builder))
+                         .executes(this::onBackupExecute))
+                 .executes(this::checkPreConditionAndExecute);
+    }
+}
@@ -0,0 +1,53 @@
+package com.minecolonies.coremod.commands.generalcommands;
+
+import com.minecolonies.coremod.commands.commandTypes.IMCCommand;
+import com.minecolonies.coremod.commands.commandTypes.IMCOPCommand;
+import com.minecolonies.coremod.entity.ai.citizen.CitizenAIScheduler;
+import com.mojang.brigadier.builder.LiteralArgumentBuilder;
+import com.mojang.brigadier.context.CommandContext;
+import net.minecraft.commands.CommandSourceStack;
+import net.minecraft.network.chat.Component;
+
+import static com.minecolonies.api.util.constant.translation.CommandTranslationConstants.COMMAND_CITIZEN_AI_STATS;
+
+/**
+ * Command to print the state of the worker AI scheduler and the workers with the most expensive AI.
+ */
+public class CommandCitizenAIStats implements IMCOPCommand
+{
+    /**
+     * Amount of workers listed.
+     */
+    private static final int LISTED_WORKERS = 5;
+
+    /**
+     * What happens when the command is executed after preConditions are successful.
+     *
+     * @param context the context of the command execution
+     */
+    @Override
+    public int onExecute(final CommandContext<CommandSourceStack> context)
+    {
+        context.getSource().sendSuccess(Component.translatable(COMMAND_CITIZEN_AI_STATS, CitizenAIScheduler.getSummary()), false);
+        for (final String line : CitizenAIScheduler.getCostliest(LISTED_WORKERS))
+        {
+            context.getSource().sendSuccess(Component.literal(line), false);
+        }
+        return 1;
+    }
+
+    /**
+     * Name string of the command.
+     */
+    @Override
+    public String getName()
+    {
+        return "citizenaistats";
+    }
+
+    @Override
+    public LiteralArgumentBuilder<CommandSourceStack> build()
+    {
+        return IMCCommand.newLiteral(getName()).executes(this::checkPreConditionAndExecute);
+    }
+}
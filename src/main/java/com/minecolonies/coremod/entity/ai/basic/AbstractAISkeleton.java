@@ -2,6 +2,7 @@ package com.minecolonies.coremod.entity.ai.basic;
 
 import com.minecolonies.api.colony.jobs.IJob;
 import com.minecolonies.api.entity.ai.ITickingStateAI;
+import com.minecolonies.api.entity.ai.statemachine.states.AIWakeSignal;
 import com.minecolonies.api.entity.ai.statemachine.states.AIWorkerState;
 import com.minecolonies.api.entity.ai.statemachine.states.IAIState;
 import com.minecolonies.api.entity.ai.statemachine.tickratestatemachine.ITickRateStateMachine;
@@ -153,6 +154,12 @@ public abstract class AbstractAISkeleton<J extends IJob<?>> implements ITickingS
         worker.getInventoryCitizen().moveArmorToInventory(EquipmentSlot.LEGS);
     }
 
+    @Override
+    public void wakeUp(final AIWakeSignal signal)
+    {
+        stateMachine.signal(signal);
+    }
+
     /**
      * Sets the delay to next execution for the currently executed transition
      *
@@ -21,6 +21,7 @@ import com.minecolonies.api.entity.ai.pathfinding.IWalkToProxy;
 import com.minecolonies.api.entity.ai.statemachine.AIEventTarget;
 import com.minecolonies.api.entity.ai.statemachine.AITarget;
 import com.minecolonies.api.entity.ai.statemachine.states.AIBlockingEventType;
+import com.minecolonies.api.entity.ai.statemachine.states.AIWakeSignal;
 import com.minecolonies.api.entity.ai.statemachine.states.IAIState;
 import com.minecolonies.api.inventory.InventoryCitizen;
 import com.minecolonies.api.tileentities.TileEntityRack;
@@ -93,6 +94,11 @@ public abstract class AbstractEntityAIBasic<J extends AbstractJob<?, J>, B exten
      */
     protected static final int REQUEST_DELAY = TICKS_20 * 3;
 
+    /**
+     * Maximum amount of ticks an AI which waits for its requests stays parked without a signal.
+     */
+    private static final int REQUEST_PARK_TIMEOUT = TICKS_SECOND * 20;
+
     /**
      * Number of possible pickup attempts.
      */
@@ -222,7 +228,7 @@ public abstract class AbstractEntityAIBasic<J extends AbstractJob<?, J>, B exten
 
           new AIEventTarget(AIBlockingEventType.AI_BLOCKING, () -> building.hasCitizenCompletedRequests(worker.getCitizenData()) && this.cleanAsync(), NEEDS_ITEM, 200),
 
-          new AITarget(NEEDS_ITEM, this::waitForRequests, 40),
+          new AITarget(NEEDS_ITEM, this::waitForRequests, 40).waitFor(AIWakeSignal.INVENTORY_CHANGED, AIWakeSignal.REQUEST_STATE_CHANGED, AIWakeSignal.BUILDING_CHANGED),
           /*
            * Gather a needed item.
            */
@@ -633,9 +639,11 @@ public abstract class AbstractEntityAIBasic<J extends AbstractJob<?, J>, B exten
                 }
             }
         }
-        else
+        else if (!walkToBuilding())
         {
-            walkToBuilding();
+            // Nothing to do but wait at the hut until one of the requests changes.
+            delay = 0;
+            getStateAI().park(REQUEST_PARK_TIMEOUT);
         }
 
         return NEEDS_ITEM;
@@ -7,7 +7,6 @@ import com.ldtteam.structurize.placement.BlockPlacementResult;
 import com.ldtteam.structurize.placement.StructurePhasePlacementResult;
 import com.ldtteam.structurize.placement.StructurePlacer;
 import com.ldtteam.structurize.placement.structure.IStructureHandler;
-import com.ldtteam.structurize.storage.ServerFutureProcessor;
 import com.ldtteam.structurize.util.BlockUtils;
 import com.ldtteam.structurize.util.BlueprintPositionInfo;
 import com.ldtteam.structurize.util.PlacementSettings;
@@ -36,6 +35,7 @@ import com.minecolonies.coremod.colony.buildings.utils.BuildingBuilderResource;
 import com.minecolonies.coremod.colony.jobs.AbstractJobStructure;
 import com.minecolonies.coremod.entity.ai.util.BuildingStructureHandler;
 import com.minecolonies.coremod.tileentities.TileEntityDecorationController;
+import com.minecolonies.coremod.util.BlueprintPreparation;
 import net.minecraft.core.BlockPos;
 import net.minecraft.sounds.SoundEvents;
 import net.minecraft.tags.BlockTags;
@@ -57,7 +57,6 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.concurrent.Future;
 import java.util.function.Predicate;
 
 import static com.ldtteam.structurize.placement.AbstractBlueprintIterator.NULL_POS;
@@ -570,11 +569,10 @@ public abstract class AbstractEntityAIStructure<J extends AbstractJobStructure<?
      */
     public void loadStructure(@NotNull final IWorkOrder workOrder, final int rotateTimes, final BlockPos position, final boolean isMirrored, final boolean removal)
     {
-        final Future<Blueprint> blueprintFuture = workOrder.getBlueprintFuture();
         this.loadingBlueprint = true;
 
-        ServerFutureProcessor.queueBlueprint(new ServerFutureProcessor.BlueprintProcessingData(blueprintFuture, world, (blueprint -> {
-            if (blueprint == null)
+        BlueprintPreparation.prepare(workOrder, rotateTimes, isMirrored, world, prepared -> {
+            if (prepared == null)
             {
                 handleSpecificCancelActions();
                 Log.getLogger().warn("Couldn't find structure with name: " + workOrder.getStructurePath() + " in: " + workOrder.getStructurePack() + ". Aborting loading procedure");
@@ -582,6 +580,7 @@ public abstract class AbstractEntityAIStructure<J extends AbstractJobStructure<?
                 return;
             }
 
+            final Blueprint blueprint = prepared.blueprint();
             final BuildingStructureHandler<J, B> structure;
             IBuilding colonyBuilding = worker.getCitizenColonyHandler().getColony().getBuildingManager().getBuilding(position);
             final BlockEntity entity = world.getBlockEntity(position);
@@ -616,7 +615,6 @@ public abstract class AbstractEntityAIStructure<J extends AbstractJobStructure<?
             }
 
             job.setBlueprint(blueprint);
-            job.getBlueprint().rotateWithMirror(BlockPosUtil.getRotationFromRotations(rotateTimes), isMirrored ? Mirror.FRONT_BACK : Mirror.NONE, world);
             setStructurePlacer(structure);
 
             if (getProgressPos() != null)
@@ -624,7 +622,7 @@ public abstract class AbstractEntityAIStructure<J extends AbstractJobStructure<?
                 structure.setStage(getProgressPos().getB());
             }
             this.loadingBlueprint = false;
-        })));
+        });
     }
 
     /**
@@ -93,7 +93,7 @@ public class CitizenAI implements IStateAI
                 final ITickingStateAI ai = citizen.getCitizenJobHandler().getColonyJob().getWorkerAI();
                 if (ai != null)
                 {
-                    citizen.getCitizenJobHandler().getColonyJob().getWorkerAI().tick();
+                    CitizenAIScheduler.tickWorkAI(citizen, ai);
                 }
             }
 
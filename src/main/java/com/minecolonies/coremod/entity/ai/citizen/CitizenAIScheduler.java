@@ -0,0 +1,297 @@
+package com.minecolonies.coremod.entity.ai.citizen;
+
+import com.minecolonies.api.entity.ai.ITickingStateAI;
+import com.minecolonies.api.entity.ai.statemachine.states.CitizenAIState;
+import com.minecolonies.coremod.MineColonies;
+import com.minecolonies.coremod.entity.ai.basic.AbstractAISkeleton;
+import com.minecolonies.coremod.entity.citizen.EntityCitizen;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.world.entity.player.Player;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.*;
+
+/**
+ * Server wide scheduler of the worker AI ticks. Measures what each worker AI costs and limits the time all of them together may take per server tick. Workers which did
+ * not fit into the budget are ticked at the start of the next server tick, before any other worker. Workers far away from all players, or out of their sight, get their
+ * statemachine ticked at a lower rate. Only accessed from the server thread.
+ */
+public final class CitizenAIScheduler
+{
+    /**
+     * Ticks between level of detail updates of a worker.
+     */
+    private static final int LOD_UPDATE_INTERVAL = 20;
+
+    /**
+     * Statemachine tick rates of the level of detail steps.
+     */
+    private static final int FULL_RATE    = 1;
+    private static final int REDUCED_RATE = 2;
+    private static final int MINIMAL_RATE = 4;
+
+    /**
+     * Workers further away than this factor times the full rate distance from all players run at the minimal rate.
+     */
+    private static final int REDUCED_RATE_DISTANCE_FACTOR = 3;
+
+    /**
+     * Weight of the latest tick in the average cost of a worker.
+     */
+    private static final double COST_SMOOTHING = 0.05;
+
+    /**
+     * Ticks between removing the scheduling data of removed and unloaded workers.
+     */
+    private static final int PURGE_INTERVAL = 200;
+
+    /**
+     * Scheduling data of each worker entity.
+     */
+    private static final Map<EntityCitizen, Slot> SLOTS = new HashMap<>();
+
+    /**
+     * Workers which ran out of budget, in the order they are ticked on the next server tick.
+     */
+    private static final Set<EntityCitizen> DEFERRED = new LinkedHashSet<>();
+
+    /**
+     * Server ticks since the start, and the time spent on worker AIs in the current one.
+     */
+    private static long tick       = 0;
+    private static long spentNanos = 0;
+
+    /**
+     * Counters of the deferred worker ticks and of the server ticks on which the budget ran out.
+     */
+    private static long deferredTicks  = 0;
+    private static long exhaustedTicks = 0;
+
+    private CitizenAIScheduler()
+    {
+        //Hides default constructor.
+    }
+
+    /**
+     * Called at the start of each server tick, ticks the workers deferred in the previous one.
+     */
+    public static void onServerTickStart()
+    {
+        tick++;
+        spentNanos = 0;
+        if (tick % PURGE_INTERVAL == 0)
+        {
+            SLOTS.keySet().removeIf(EntityCitizen::isRemoved);
+        }
+
+        if (DEFERRED.isEmpty())
+        {
+            return;
+        }
+
+        final long budget = getBudgetNanos();
+        boolean first = true;
+        for (final Iterator<EntityCitizen> iterator = DEFERRED.iterator(); iterator.hasNext(); )
+        {
+            // The first deferred worker always runs, so the queue makes progress with a tiny budget.
+            if (!first && spentNanos >= budget)
+            {
+                exhaustedTicks++;
+                return;
+            }
+            first = false;
+
+            final EntityCitizen citizen = iterator.next();
+            iterator.remove();
+            if (citizen.isRemoved() || citizen.getCitizenAI().getState() != CitizenAIState.WORKING)
+            {
+                continue;
+            }
+
+            final ITickingStateAI ai = citizen.getCitizenJobHandler().getWorkAI();
+            if (ai != null)
+            {
+                run(ai, SLOTS.computeIfAbsent(citizen, key -> new Slot()));
+            }
+        }
+    }
+
+    /**
+     * Tick the work AI of a worker if the budget of this tick allows it, otherwise defer it to the start of the next tick.
+     *
+     * @param citizen the worker.
+     * @param ai      its work AI.
+     */
+    public static void tickWorkAI(@NotNull final EntityCitizen citizen, @NotNull final ITickingStateAI ai)
+    {
+        final Slot slot = SLOTS.computeIfAbsent(citizen, key -> new Slot());
+        if (slot.lastRun == tick || DEFERRED.contains(citizen))
+        {
+            // Already ran ahead of the other entities this tick, or still waiting for its turn.
+            return;
+        }
+
+        if (slot.ai != ai || tick >= slot.nextLodUpdate)
+        {
+            updateLevelOfDetail(citizen, ai, slot);
+        }
+
+        if (spentNanos >= getBudgetNanos())
+        {
+            DEFERRED.add(citizen);
+            slot.deferred++;
+            deferredTicks++;
+            return;
+        }
+
+        run(ai, slot);
+    }
+
+    /**
+     * Tick a work AI and measure it.
+     *
+     * @param ai   the work AI.
+     * @param slot the scheduling data of its worker.
+     */
+    private static void run(@NotNull final ITickingStateAI ai, @NotNull final Slot slot)
+    {
+        final long start = System.nanoTime();
+        ai.tick();
+        final long nanos = System.nanoTime() - start;
+
+        spentNanos += nanos;
+        slot.lastRun = tick;
+        slot.runs++;
+        slot.averageNanos += (nanos - slot.averageNanos) * COST_SMOOTHING;
+        slot.maxNanos = Math.max(slot.maxNanos, nanos);
+    }
+
+    /**
+     * Pick the statemachine tick rate of a worker by its distance to the closest player and whether any player can see its chunk.
+     *
+     * @param citizen the worker.
+     * @param ai      its work AI.
+     * @param slot    its scheduling data.
+     */
+    private static void updateLevelOfDetail(@NotNull final EntityCitizen citizen, @NotNull final ITickingStateAI ai, @NotNull final Slot slot)
+    {
+        if (slot.ai != ai)
+        {
+            // A new AI starts at the full rate.
+            slot.ai = ai;
+            slot.rate = FULL_RATE;
+        }
+        slot.nextLodUpdate = tick + LOD_UPDATE_INTERVAL;
+
+        final int rate;
+        final int fullRateDistance = MineColonies.getConfig().getServer().citizenAIFullRateDistance.get();
+        if (citizen.getTarget() != null || citizen.getLastHurtByMob() != null)
+        {
+            rate = FULL_RATE;
+        }
+        else
+        {
+            final Player player = citizen.level.getNearestPlayer(citizen, fullRateDistance * REDUCED_RATE_DISTANCE_FACTOR);
+            if (player == null || !(citizen.level instanceof ServerLevel level) || level.getChunkSource().chunkMap.getPlayers(citizen.chunkPosition(), false).isEmpty())
+            {
+                rate = MINIMAL_RATE;
+            }
+            else
+            {
+                rate = player.distanceToSqr(citizen) <= fullRateDistance * fullRateDistance ? FULL_RATE : REDUCED_RATE;
+            }
+        }
+
+        if (rate != slot.rate && ai instanceof AbstractAISkeleton<?> skeleton)
+        {
+            skeleton.getStateAI().setTickRate(rate);
+            slot.rate = rate;
+        }
+    }
+
+    /**
+     * @return the budget per server tick in nanoseconds.
+     */
+    private static long getBudgetNanos()
+    {
+        final int budgetMillis = MineColonies.getConfig().getServer().citizenAITickBudget.get();
+        return budgetMillis <= 0 ? Long.MAX_VALUE : budgetMillis * 1_000_000L;
+    }
+
+    /**
+     * Forget all workers and counters, e.g. when the server stops.
+     */
+    public static void clear()
+    {
+        SLOTS.clear();
+        DEFERRED.clear();
+        tick = 0;
+        spentNanos = 0;
+        deferredTicks = 0;
+        exhaustedTicks = 0;
+    }
+
+    /**
+     * Get a readable summary of the scheduler state.
+     *
+     * @return the summary.
+     */
+    public static String getSummary()
+    {
+        final int[] rates = new int[MINIMAL_RATE + 1];
+        for (final Slot slot : SLOTS.values())
+        {
+            rates[slot.rate]++;
+        }
+        return String.format("workers: %d (full rate %d, reduced %d, minimal %d) | budget %dms | deferred now: %d | deferred ticks: %d | exhausted ticks: %d",
+          SLOTS.size(),
+          rates[FULL_RATE],
+          rates[REDUCED_RATE],
+          rates[MINIMAL_RATE],
+          MineColonies.getConfig().getServer().citizenAITickBudget.get(),
+          DEFERRED.size(),
+          deferredTicks,
+          exhaustedTicks);
+    }
+
+    /**
+     * Get readable lines of the workers with the highest average AI cost.
+     *
+     * @param count the maximum amount of workers.
+     * @return one line per worker.
+     */
+    public static List<String> getCostliest(final int count)
+    {
+        final List<Map.Entry<EntityCitizen, Slot>> entries = new ArrayList<>(SLOTS.entrySet());
+        entries.sort(Comparator.comparingDouble(entry -> -entry.getValue().averageNanos));
+
+        final List<String> lines = new ArrayList<>();
+        for (final Map.Entry<EntityCitizen, Slot> entry : entries.subList(0, Math.min(count, entries.size())))
+        {
+            final Slot slot = entry.getValue();
+            lines.add(String.format("%s: avg %.1fus max %dus | rate 1/%d | runs %d | deferred %d",
+              entry.getKey().getCitizenData() == null ? entry.getKey().getName().getString() : entry.getKey().getCitizenData().getName(),
+              slot.averageNanos / 1000,
+              slot.maxNanos / 1000,
+              slot.rate,
+              slot.runs,
+              slot.deferred));
+        }
+        return lines;
+    }
+
+    /**
+     * Scheduling data and cost of one worker.
+     */
+    private static final class Slot
+    {
+        private ITickingStateAI ai            = null;
+        private int             rate          = FULL_RATE;
+        private long            nextLodUpdate = 0;
+        private long            lastRun       = -1;
+        private long            runs          = 0;
+        private long            deferred      = 0;
+        private double          averageNanos  = 0;
+        private long            maxNanos      = 0;
+    }
+}
@@ -126,6 +126,11 @@ public class EntityAIWorkLumberjack extends AbstractEntityAICrafting<JobLumberja
      */
     private static final int GATHERING_DELAY = 3;
 
+    /**
+     * Max amount of positions checked per tick while searching the logs of a new tree.
+     */
+    private static final int TREE_SCAN_BUDGET = 256;
+
     /**
      * Searching icon
      */
@@ -168,6 +173,12 @@ public class EntityAIWorkLumberjack extends AbstractEntityAICrafting<JobLumberja
      */
     private PathResult<?> pathToTree;
 
+    /**
+     * The log search of the tree which was found last, while it is spread over several ticks.
+     */
+    @Nullable
+    private TreeScanner pendingScan;
+
     @Override
     protected int getActionRewardForCraftingSuccess()
     {
@@ -292,6 +303,7 @@ public class EntityAIWorkLumberjack extends AbstractEntityAICrafting<JobLumberja
     private IAIState waitBeforeCheckingAgain()
     {
         pathResult = null;
+        pendingScan = null;
 
         if (hasNotDelayed(WAIT_BEFORE_SEARCH))
         {
@@ -423,7 +435,13 @@ public class EntityAIWorkLumberjack extends AbstractEntityAICrafting<JobLumberja
         }
         else
         {
-            job.setTree(new Tree(world, pathResult.treeLocation, building.shouldRestrict() ? null : building.getColony()));
+            final TreeScanner scan = scanTree(building);
+            if (scan == null)
+            {
+                return getState();
+            }
+
+            job.setTree(new Tree(world, pathResult.treeLocation, building.shouldRestrict() ? null : building.getColony(), scan));
 
             // Check if tree creation was successful
             if (job.getTree().isTree())
@@ -441,6 +459,42 @@ public class EntityAIWorkLumberjack extends AbstractEntityAICrafting<JobLumberja
         return getState();
     }
 
+    /**
+     * Get the log search of the found tree, from the colony tree registry or by searching it a few positions per tick.
+     *
+     * @param building the lumberjack building.
+     * @return the completed search, or null if it needs more ticks.
+     */
+    @Nullable
+    private TreeScanner scanTree(final BuildingLumberjack building)
+    {
+        final TreeRegistry registry = TreeRegistry.forColony(building.getColony());
+        if (pendingScan != null && !pendingScan.getStart().equals(pathResult.treeLocation))
+        {
+            pendingScan = null;
+        }
+
+        if (pendingScan == null)
+        {
+            final TreeScanner known = registry.get(pathResult.treeLocation, !building.shouldRestrict(), world.getGameTime());
+            if (known != null)
+            {
+                return known;
+            }
+            pendingScan = new TreeScanner(pathResult.treeLocation, world.getBlockState(pathResult.treeLocation), building.shouldRestrict() ? null : building.getColony());
+        }
+
+        if (!pendingScan.scan(world, TREE_SCAN_BUDGET))
+        {
+            return null;
+        }
+
+        final TreeScanner scan = pendingScan;
+        pendingScan = null;
+        registry.put(scan, world.getGameTime());
+        return scan;
+    }
+
     /**
      * Again checks if all preconditions are given to execute chopping. If yes go chopping, else return to previous AIStates.
      *
@@ -3,7 +3,6 @@ package com.minecolonies.coremod.entity.ai.citizen.lumberjack;
 import com.minecolonies.api.colony.IColony;
 import com.minecolonies.api.colony.IColonyManager;
 import com.minecolonies.api.colony.IColonyTagCapability;
-import com.minecolonies.api.colony.buildings.IBuilding;
 import com.minecolonies.api.compatibility.Compatibility;
 import com.minecolonies.api.crafting.ItemStorage;
 import com.minecolonies.api.items.ModTags;
@@ -11,6 +10,7 @@ import com.minecolonies.api.util.BlockPosUtil;
 import com.minecolonies.api.util.BlockStateUtils;
 import com.minecolonies.api.util.ItemStackUtils;
 import com.minecolonies.coremod.MineColonies;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.NonNullList;
 import net.minecraft.nbt.CompoundTag;
@@ -127,6 +127,12 @@ public class Tree
      */
     private boolean netherTree = false;
 
+    /**
+     * The completed log search of the tree, reused by {@link #findLogs(Level, IColony)}.
+     */
+    @Nullable
+    private TreeScanner scan;
+
     /**
      * Private constructor of the tree. Used by the equals and createFromNBt method.
      */
@@ -143,6 +149,19 @@ public class Tree
      * @param colony the colony to search for buildings, or null if we don't care.
      */
     public Tree(@NotNull final Level world, @NotNull final BlockPos log, @Nullable final IColony colony)
+    {
+        this(world, log, colony, null);
+    }
+
+    /**
+     * Creates a new tree Object for the lumberjack from an earlier search of its logs.
+     *
+     * @param world  The world where the tree is in.
+     * @param log    the position of the found log.
+     * @param colony the colony to search for buildings, or null if we don't care.
+     * @param scan   the completed search of the logs of the tree, or null to search now.
+     */
+    public Tree(@NotNull final Level world, @NotNull final BlockPos log, @Nullable final IColony colony, @Nullable final TreeScanner scan)
     {
         final BlockState block = BlockPosUtil.getBlockState(world, log);
         if (block.is(ModTags.tree) || Compatibility.isSlimeBlock(block.getBlock()) || Compatibility.isDynamicBlock(block.getBlock()))
@@ -153,7 +172,9 @@ public class Tree
             location = log;
             topLog = log;
 
-            addAndSearch(world, log, colony);
+            this.scan = scan != null && scan.isDone() ? scan : scanLogs(world, log, colony);
+            location = this.scan.getBottom();
+            topLog = this.scan.getTop();
             addAndSearch(world);
 
             checkTree(world, topLog);
@@ -371,7 +392,7 @@ public class Tree
             return false;
         }
 
-        final Tuple<BlockPos, BlockPos> baseAndTOp = getBottomAndTopLog(world, pos, new LinkedList<>(), null, null);
+        final Tuple<BlockPos, BlockPos> baseAndTOp = getBottomAndTopLog(world, pos);
 
         //Get base log, should already be base log.
         final BlockPos basePos = baseAndTOp.getA();
@@ -383,59 +404,69 @@ public class Tree
     }
 
     /**
-     * Adds a log and searches for further logs(Breadth first search).
+     * Follows the logs from a log, always to the first log next to the current one which was not visited yet.
      *
-     * @param world        The world the log is in.
-     * @param log          The log to add.
-     * @param woodenBlocks The wooden blocks.
-     * @param bottomLog    The bottom most log.
-     * @param topLog       The top most log.
+     * @param world The world the log is in.
+     * @param log   The log to start at.
      * @return a tuple containing, first: bottom log and second: top log.
      */
     @NotNull
-    private static Tuple<BlockPos, BlockPos> getBottomAndTopLog(
-      @NotNull final LevelReader world,
-      @NotNull final BlockPos log,
-      @NotNull final LinkedList<BlockPos> woodenBlocks,
-      final BlockPos bottomLog,
-      final BlockPos topLog)
+    private static Tuple<BlockPos, BlockPos> getBottomAndTopLog(@NotNull final LevelReader world, @NotNull final BlockPos log)
     {
-        BlockPos bottom = bottomLog == null ? log : bottomLog;
-        BlockPos top = topLog == null ? log : topLog;
+        final int maxTreeSize = MineColonies.getConfig().getServer().maxTreeSize.get();
+        final LongOpenHashSet woodenBlocks = new LongOpenHashSet();
+        BlockPos bottom = log;
+        BlockPos top = log;
+        BlockPos current = log;
 
-        if (woodenBlocks.size() >= MineColonies.getConfig().getServer().maxTreeSize.get())
+        while (current != null && woodenBlocks.size() < maxTreeSize)
         {
-            return new Tuple<>(bottom, top);
-        }
+            if (current.getY() < bottom.getY())
+            {
+                bottom = current;
+            }
 
-        if (log.getY() < bottom.getY())
-        {
-            bottom = log;
-        }
+            if (current.getY() > top.getY())
+            {
+                top = current;
+            }
 
-        if (log.getY() > top.getY())
-        {
-            top = log;
+            woodenBlocks.add(current.asLong());
+            current = getNextLog(world, current, woodenBlocks);
         }
 
-        woodenBlocks.add(log);
+        return new Tuple<>(bottom, top);
+    }
+
+    /**
+     * Get the first log next to a log which was not visited yet.
+     *
+     * @param world   The world the log is in.
+     * @param log     The current log.
+     * @param visited The visited logs.
+     * @return the next log, or null if there is none.
+     */
+    @Nullable
+    private static BlockPos getNextLog(@NotNull final LevelReader world, @NotNull final BlockPos log, @NotNull final LongOpenHashSet visited)
+    {
+        final BlockPos.MutableBlockPos temp = new BlockPos.MutableBlockPos();
         for (int y = -1; y <= 1; y++)
         {
             for (int x = -1; x <= 1; x++)
             {
                 for (int z = -1; z <= 1; z++)
                 {
-                    final BlockPos temp = log.offset(x, y, z);
+                    temp.setWithOffset(log, x, y, z);
                     final BlockState block = world.getBlockState(temp);
-                    if ((block.is(ModTags.tree) || Compatibility.isSlimeBlock(block.getBlock()) || Compatibility.isDynamicBlock(block.getBlock())) && !woodenBlocks.contains(temp))
+                    if ((block.is(ModTags.tree) || Compatibility.isSlimeBlock(block.getBlock()) || Compatibility.isDynamicBlock(block.getBlock()))
+                          && !visited.contains(temp.asLong()))
                     {
-                        return getBottomAndTopLog(world, temp, woodenBlocks, bottom, top);
+                        return temp.immutable();
                     }
                 }
             }
         }
-
-        return new Tuple<>(bottom, top);
+        return null;
     }
 
     /**
@@ -626,7 +657,12 @@ public class Tree
      */
     public void findLogs(@NotNull final Level world, @Nullable final IColony colony)
     {
-        addAndSearch(world, location, colony);
+        if (scan == null || scan.excludesBuildings() != (colony != null))
+        {
+            scan = scanLogs(world, location, colony);
+        }
+        woodBlocks = new LinkedList<>(scan.getLogs());
+        scan = null;
         woodBlocks.sort((c1, c2) -> (int) (c1.distSqr(location) - c2.distSqr(location)));
         if (getStumpLocations().isEmpty())
         {
@@ -667,92 +703,18 @@ public class Tree
     }
 
     /**
-     * Adds a log and searches for further logs(Breadth first search).
+     * Searches all logs connected to a log.
      *
-     * @param world The world the log is in.
-     * @param log   the log to add.
+     * @param world  The world the log is in.
+     * @param log    the log to start at.
      * @param colony the colony to search for buildings, or null if we don't care.
+     * @return the completed search.
      */
-    private void addAndSearch(@NotNull final Level world, @NotNull final BlockPos log, @Nullable final IColony colony)
-    {
-        if (woodBlocks.size() >= MineColonies.getConfig().getServer().maxTreeSize.get())
-        {
-            return;
-        }
-
-        if (woodBlocks.contains(log))
-        {
-            return;
-        }
-
-        // Check if the new log fits the Tree's base log type
-        if (!isBlockPartOfSameTree(world.getBlockState(log), world.getBlockState(location)))
-        {
-            return;
-        }
-
-        if (log.getY() < location.getY())
-        {
-            location = log;
-        }
-
-        if (log.getY() > topLog.getY())
-        {
-            topLog = log;
-        }
-
-        if (colony != null)
-        {
-            for (final IBuilding building : colony.getBuildingManager().getBuildings().values())
-            {
-                if (building.isInBuilding(log))
-                {
-                    return;
-                }
-            }
-        }
-
-        woodBlocks.add(log);
-
-        // Only add the base to a dynamic tree
-        if (Compatibility.isDynamicBlock(BlockPosUtil.getBlock(world, log)))
-        {
-            return;
-        }
-
-
-        for (int y = -1; y <= 1; y++)
-        {
-            for (int x = -1; x <= 1; x++)
-            {
-                for (int z = -1; z <= 1; z++)
-                {
-                    final BlockPos temp = log.offset(x, y, z);
-                    final BlockState block = BlockPosUtil.getBlockState(world, temp);
-                    if ((block.is(ModTags.tree) || Compatibility.isSlimeBlock(block.getBlock())))
-                    {
-                        addAndSearch(world, temp, colony);
-                    }
-                }
-            }
-        }
-    }
-
-    /**
-     * Check if this is a log in the same tree type.
-     * @param existingBlock the current block in the tree.
-     * @param newBlock      block to check.
-     * @return true if this is the same type of tree; false if it's something different.
-     */
-    private boolean isBlockPartOfSameTree(@NotNull final BlockState existingBlock,
-                                          @NotNull final BlockState newBlock)
+    private static TreeScanner scanLogs(@NotNull final Level world, @NotNull final BlockPos log, @Nullable final IColony colony)
     {
-        if (existingBlock.is(ModTags.mangroveTree))
-        {
-            return newBlock.is(ModTags.mangroveTree);
-        }
-
-        return existingBlock.getBlock().equals(newBlock.getBlock());
+        final TreeScanner scanner = new TreeScanner(log, world.getBlockState(log), colony);
+        scanner.scan(world, Integer.MAX_VALUE);
+        return scanner;
     }
 
     /**
@@ -1044,13 +1006,6 @@ public class Tree
             return true;
         }
 
-        for (final IBuilding building : colony.getBuildingManager().getBuildings().values())
-        {
-            if (building.isInBuilding(pos))
-            {
-                return false;
-            }
-        }
-        return true;
+        return colony.getBuildingManager().getBuildingContaining(pos) == null;
     }
 }
@@ -0,0 +1,203 @@
+package com.minecolonies.coremod.entity.ai.citizen.lumberjack;
+
+import com.minecolonies.api.colony.IColony;
+import com.minecolonies.api.compatibility.Compatibility;
+import com.minecolonies.api.items.ModTags;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import net.minecraft.core.BlockPos;
+import net.minecraft.resources.ResourceKey;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.level.block.state.BlockState;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.*;
+
+/**
+ * Colony scoped registry of the trees the lumberjacks of a colony discovered, so a tree found again does not have to be searched again. A tree is dropped as soon as one of
+ * its logs changes or a log is placed next to it, or when it gets too old. Only accessed from the server thread.
+ */
+public class TreeRegistry
+{
+    /**
+     * Max amount of registered trees per colony.
+     */
+    private static final int MAX_TREES = 64;
+
+    /**
+     * Max age of a registered tree in ticks.
+     */
+    private static final long MAX_AGE = 20 * 60 * 5;
+
+    /**
+     * Registries of all colonies, by dimension and colony id.
+     */
+    private static final Map<ResourceKey<Level>, Map<Integer, TreeRegistry>> REGISTRIES = new HashMap<>();
+
+    /**
+     * A registered tree.
+     */
+    private record Entry(TreeScanner scan, long created) {}
+
+    /**
+     * Registered trees in registration order, for eviction of the oldest.
+     */
+    private final Set<Entry> entries = new LinkedHashSet<>();
+
+    /**
+     * Registered tree of each log.
+     */
+    private final Long2ObjectOpenHashMap<Entry> entriesByLog = new Long2ObjectOpenHashMap<>();
+
+    /**
+     * Get the tree registry of a colony.
+     *
+     * @param colony the colony.
+     * @return the registry.
+     */
+    public static TreeRegistry forColony(@NotNull final IColony colony)
+    {
+        return REGISTRIES.computeIfAbsent(colony.getDimension(), k -> new HashMap<>()).computeIfAbsent(colony.getID(), k -> new TreeRegistry());
+    }
+
+    /**
+     * Drop the tree registry of a colony, e.g. on deletion.
+     *
+     * @param colony the colony.
+     */
+    public static void removeColony(@NotNull final IColony colony)
+    {
+        final Map<Integer, TreeRegistry> dimensionRegistries = REGISTRIES.get(colony.getDimension());
+        if (dimensionRegistries != null)
+        {
+            dimensionRegistries.remove(colony.getID());
+        }
+    }
+
+    /**
+     * Drop all registries, e.g. when the server stops.
+     */
+    public static void clear()
+    {
+        REGISTRIES.clear();
+    }
+
+    /**
+     * Drop the trees affected by a changed block.
+     *
+     * @param level the level.
+     * @param pos   the changed position.
+     * @param state the new block state.
+     */
+    public static void onBlockChanged(@NotNull final Level level, @NotNull final BlockPos pos, @NotNull final BlockState state)
+    {
+        final Map<Integer, TreeRegistry> dimensionRegistries = REGISTRIES.get(level.dimension());
+        if (dimensionRegistries == null || dimensionRegistries.isEmpty())
+        {
+            return;
+        }
+
+        // A new log can only change the trees next to it, anything else only the tree it replaced.
+        final boolean isLog = state.is(ModTags.tree) || Compatibility.isSlimeBlock(state.getBlock()) || Compatibility.isDynamicBlock(state.getBlock());
+        final long packed = pos.asLong();
+        for (final TreeRegistry registry : dimensionRegistries.values())
+        {
+            if (registry.entriesByLog.isEmpty())
+            {
+                continue;
+            }
+
+            if (!isLog)
+            {
+                registry.remove(registry.entriesByLog.get(packed));
+                continue;
+            }
+
+            for (int y = -1; y <= 1; y++)
+            {
+                for (int x = -1; x <= 1; x++)
+                {
+                    for (int z = -1; z <= 1; z++)
+                    {
+                        registry.remove(registry.entriesByLog.get(BlockPos.offset(packed, x, y, z)));
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Get the registered tree a log belongs to.
+     *
+     * @param log              the log.
+     * @param excludeBuildings if the logs inside colony buildings have to be excluded.
+     * @param gameTime         the current game time.
+     * @return the completed search of the tree, or null if it is not registered.
+     */
+    @Nullable
+    public TreeScanner get(@NotNull final BlockPos log, final boolean excludeBuildings, final long gameTime)
+    {
+        final Entry entry = entriesByLog.get(log.asLong());
+        if (entry == null)
+        {
+            return null;
+        }
+
+        if (gameTime - entry.created() > MAX_AGE)
+        {
+            remove(entry);
+            return null;
+        }
+
+        return entry.scan().excludesBuildings() == excludeBuildings ? entry.scan() : null;
+    }
+
+    /**
+     * Register a discovered tree.
+     *
+     * @param scan     the completed search of the tree.
+     * @param gameTime the current game time.
+     */
+    public void put(@NotNull final TreeScanner scan, final long gameTime)
+    {
+        if (!scan.isDone() || scan.getLogs().isEmpty())
+        {
+            return;
+        }
+
+        final Entry entry = new Entry(scan, gameTime);
+        for (final BlockPos log : scan.getLogs())
+        {
+            remove(entriesByLog.get(log.asLong()));
+        }
+
+        entries.add(entry);
+        for (final BlockPos log : scan.getLogs())
+        {
+            entriesByLog.put(log.asLong(), entry);
+        }
+
+        if (entries.size() > MAX_TREES)
+        {
+            remove(entries.iterator().next());
+        }
+    }
+
+    /**
+     * Remove a tree and its log references.
+     *
+     * @param entry the tree, may be null.
+     */
+    private void remove(@Nullable final Entry entry)
+    {
+        if (entry == null || !entries.remove(entry))
+        {
+            return;
+        }
+
+        for (final BlockPos log : entry.scan().getLogs())
+        {
+            entriesByLog.remove(log.asLong(), entry);
+        }
+    }
+}
@@ -0,0 +1,244 @@
+package com.minecolonies.coremod.entity.ai.citizen.lumberjack;
+
+import com.minecolonies.api.colony.IColony;
+import com.minecolonies.api.compatibility.Compatibility;
+import com.minecolonies.api.items.ModTags;
+import com.minecolonies.coremod.MineColonies;
+import it.unimi.dsi.fastutil.longs.LongArrayFIFOQueue;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+import net.minecraft.core.BlockPos;
+import net.minecraft.world.level.BlockGetter;
+import net.minecraft.world.level.block.state.BlockState;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Iterative breadth first search for the logs of a tree, over packed positions. The search can be spread over several calls with a budget of positions per call. Blocks are
+ * only read through the given {@link BlockGetter}, so it may also run against a chunk cache off the server thread.
+ */
+public class TreeScanner
+{
+    /**
+     * The log the search started at.
+     */
+    private final long start;
+
+    /**
+     * The block state of the start log, other logs have to be of the same tree type.
+     */
+    private final BlockState baseState;
+
+    /**
+     * The colony whose buildings are excluded, or null if we don't care.
+     */
+    @Nullable
+    private final IColony colony;
+
+    /**
+     * Max amount of logs to find.
+     */
+    private final int maxLogs;
+
+    /**
+     * Positions which were queued already, emptied once the search is complete.
+     */
+    private final LongOpenHashSet visited = new LongOpenHashSet();
+
+    /**
+     * Positions still to check.
+     */
+    private final LongArrayFIFOQueue open = new LongArrayFIFOQueue();
+
+    /**
+     * The logs found so far, in search order.
+     */
+    private final List<BlockPos> logs = new ArrayList<>();
+
+    /**
+     * The lowest and the highest log found so far.
+     */
+    private BlockPos bottom;
+    private BlockPos top;
+
+    /**
+     * Create a new search.
+     *
+     * @param start      the log to start at.
+     * @param startState the block state of that log.
+     * @param colony     the colony whose buildings are excluded, or null if we don't care.
+     */
+    public TreeScanner(@NotNull final BlockPos start, @NotNull final BlockState startState, @Nullable final IColony colony)
+    {
+        this.start = start.asLong();
+        this.baseState = startState;
+        this.colony = colony;
+        this.maxLogs = MineColonies.getConfig().getServer().maxTreeSize.get();
+        this.bottom = start.immutable();
+        this.top = start.immutable();
+
+        visited.add(this.start);
+        open.enqueue(this.start);
+    }
+
+    /**
+     * Continue the search.
+     *
+     * @param world  the world, or a snapshot of it.
+     * @param budget the max amount of positions to check in this call.
+     * @return true if the search is complete.
+     */
+    public boolean scan(@NotNull final BlockGetter world, final int budget)
+    {
+        final BlockPos.MutableBlockPos pos = new BlockPos.MutableBlockPos();
+        int checked = 0;
+        while (!open.isEmpty() && checked < budget)
+        {
+            if (logs.size() >= maxLogs)
+            {
+                open.clear();
+                break;
+            }
+
+            final long packed = open.dequeueLong();
+            checked++;
+            pos.set(packed);
+
+            final BlockState state = world.getBlockState(pos);
+            if ((packed != start && !isLog(state)) || !isBlockPartOfSameTree(state))
+            {
+                continue;
+            }
+
+            if (pos.getY() < bottom.getY())
+            {
+                bottom = pos.immutable();
+            }
+
+            if (pos.getY() > top.getY())
+            {
+                top = pos.immutable();
+            }
+
+            if (colony != null && colony.getBuildingManager().getBuildingContaining(pos) != null)
+            {
+                continue;
+            }
+
+            logs.add(pos.immutable());
+
+            // Only add the base to a dynamic tree
+            if (Compatibility.isDynamicBlock(state.getBlock()))
+            {
+                continue;
+            }
+
+            for (int y = -1; y <= 1; y++)
+            {
+                for (int x = -1; x <= 1; x++)
+                {
+                    for (int z = -1; z <= 1; z++)
+                    {
+                        final long neighbour = BlockPos.offset(packed, x, y, z);
+                        if (visited.add(neighbour))
+                        {
+                            open.enqueue(neighbour);
+                        }
+                    }
+                }
+            }
+        }
+
+        if (open.isEmpty())
+        {
+            // Finished scanners are kept by the tree registry, they only need the results.
+            visited.clear();
+            visited.trim();
+            open.trim();
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Check if a block is a log the lumberjack follows.
+     *
+     * @param state the block state.
+     * @return true if so.
+     */
+    private static boolean isLog(@NotNull final BlockState state)
+    {
+        return state.is(ModTags.tree) || Compatibility.isSlimeBlock(state.getBlock());
+    }
+
+    /**
+     * Check if this is a log in the same tree type as the start log.
+     *
+     * @param state the block to check.
+     * @return true if this is the same type of tree; false if it's something different.
+     */
+    private boolean isBlockPartOfSameTree(@NotNull final BlockState state)
+    {
+        if (baseState.is(ModTags.mangroveTree))
+        {
+            return state.is(ModTags.mangroveTree);
+        }
+
+        return baseState.getBlock() == state.getBlock();
+    }
+
+    /**
+     * @return the log the search started at.
+     */
+    @NotNull
+    public BlockPos getStart()
+    {
+        return BlockPos.of(start);
+    }
+
+    /**
+     * @return true if the search is complete.
+     */
+    public boolean isDone()
+    {
+        return open.isEmpty();
+    }
+
+    /**
+     * @return true if the logs inside colony buildings were excluded.
+     */
+    public boolean excludesBuildings()
+    {
+        return colony != null;
+    }
+
+    /**
+     * @return the logs found, in search order.
+     */
+    @NotNull
+    public List<BlockPos> getLogs()
+    {
+        return Collections.unmodifiableList(logs);
+    }
+
+    /**
+     * @return the lowest log found.
+     */
+    @NotNull
+    public BlockPos getBottom()
+    {
+        return bottom;
+    }
+
+    /**
+     * @return the highest log found.
+     */
+    @NotNull
+    public BlockPos getTop()
+    {
+        return top;
+    }
+}
@@ -34,8 +34,6 @@ import net.minecraftforge.common.ToolActions;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
-import java.util.List;
-
 import static com.minecolonies.api.entity.ai.statemachine.states.AIWorkerState.*;
 import static com.minecolonies.api.research.util.ResearchConstants.MORE_ORES;
 import static com.minecolonies.api.util.constant.Constants.TICKS_SECOND;
@@ -164,10 +162,10 @@ public class EntityAIStructureMiner extends AbstractEntityAIStructureWithWorkOrd
 
         if (!job.hasWorkOrder())
         {
-            final List<WorkOrderMiner> list = building.getColony().getWorkManager().getOrderedList(WorkOrderMiner.class, building.getPosition());
-            if (!list.isEmpty())
+            final WorkOrderMiner workOrder = building.getColony().getWorkManager().getFirstOrder(WorkOrderMiner.class, building.getPosition());
+            if (workOrder != null)
             {
-                job.setWorkOrder(list.get(0));
+                job.setWorkOrder(workOrder);
                 return LOAD_STRUCTURE;
             }
         }
@@ -8,6 +8,8 @@ import com.minecolonies.api.entity.combat.threat.IThreatTableEntity;
 import com.minecolonies.api.entity.combat.threat.ThreatTableEntry;
 import com.minecolonies.api.entity.pathfinding.AbstractAdvancedPathNavigate;
 import com.minecolonies.api.entity.pathfinding.PathResult;
+import com.minecolonies.coremod.entity.pathfinding.MinecoloniesAdvancedPathNavigate;
+import com.minecolonies.coremod.entity.pathfinding.PathJobPriority;
 import net.minecraft.world.InteractionHand;
 import net.minecraft.world.damagesource.EntityDamageSource;
 import net.minecraft.world.entity.LivingEntity;
@@ -212,6 +214,10 @@ public class AttackMoveAI<T extends Mob & IThreatTableEntity> extends TargetAI<T
      */
     protected PathResult moveInAttackPosition(final LivingEntity target)
     {
+        if (user.getNavigation() instanceof MinecoloniesAdvancedPathNavigate navigate)
+        {
+            return navigate.moveToLivingEntity(target, 1d, PathJobPriority.COMBAT);
+        }
         return ((AbstractAdvancedPathNavigate) user.getNavigation()).moveToLivingEntity(target, 1d);
     }
 }
@@ -19,6 +19,8 @@ import net.minecraft.world.level.border.WorldBorder;
 import net.minecraft.world.level.chunk.ChunkAccess;
 import net.minecraft.world.level.chunk.ChunkStatus;
 import net.minecraft.world.level.chunk.LevelChunk;
+import net.minecraft.world.level.chunk.LevelChunkSection;
+import net.minecraft.world.level.chunk.PalettedContainer;
 import net.minecraft.world.level.dimension.DimensionType;
 import net.minecraft.world.level.levelgen.Heightmap;
 import net.minecraft.world.level.lighting.LevelLightEngine;
@@ -33,6 +35,11 @@ import org.jetbrains.annotations.NotNull;
 import javax.annotation.Nullable;
 import java.util.List;
 
+/**
+ * Pathfinding view of the world. The block state containers of the sections in the area are copied when the job is created on the server thread, so block and fluid
+ * lookups from the pathfinding thread read a snapshot and never the containers the server thread is changing. Only the sections between the y levels of the area are
+ * copied, everything outside of them reads as air. Block entities are still read from the live chunks.
+ */
 public class ChunkCache implements LevelReader
 {
     /**
@@ -57,6 +64,24 @@ public class ChunkCache implements LevelReader
     private final int minBuildHeight;
     private final int maxBuildHeight;
 
+    /**
+     * Section layout of the snapshot.
+     */
+    private final int minSection;
+    private final int sectionCount;
+    private final int sizeZ;
+
+    /**
+     * Y range of the captured sections, in section coordinates, both inclusive.
+     */
+    private final int minCapturedSection;
+    private final int maxCapturedSection;
+
+    /**
+     * Copies of the block state containers of the captured sections, indexed by chunk x, chunk z and section y. Null for sections which are missing.
+     */
+    private final PalettedContainer<BlockState>[] sectionStates;
+
     public ChunkCache(Level worldIn, BlockPos posFromIn, BlockPos posToIn, int subIn, final DimensionType type)
     {
         this.world = worldIn;
@@ -67,6 +92,13 @@ public class ChunkCache implements LevelReader
         this.chunkArray = new LevelChunk[i - this.chunkX + 1][j - this.chunkZ + 1];
         this.empty = true;
 
+        this.minSection = worldIn.getMinSection();
+        this.sectionCount = worldIn.getSectionsCount();
+        this.sizeZ = j - this.chunkZ + 1;
+        this.minCapturedSection = Math.max(minSection, Math.min(posFromIn.getY(), posToIn.getY()) >> 4);
+        this.maxCapturedSection = Math.min(minSection + sectionCount - 1, Math.max(posFromIn.getY(), posToIn.getY()) >> 4);
+        this.sectionStates = new PalettedContainer[(i - this.chunkX + 1) * sizeZ * sectionCount];
+
         for (int k = this.chunkX; k <= i; ++k)
         {
             for (int l = this.chunkZ; l <= j; ++l)
@@ -76,7 +108,12 @@ public class ChunkCache implements LevelReader
                     final ChunkHolder holder = serverChunkCache.chunkMap.visibleChunkMap.get(ChunkPos.asLong(k, l));
                     if (holder != null)
                     {
-                        this.chunkArray[k - this.chunkX][l - this.chunkZ] = holder.getFullChunkFuture().getNow(ChunkHolder.UNLOADED_LEVEL_CHUNK).left().orElse(null);
+                        final LevelChunk chunk = holder.getFullChunkFuture().getNow(ChunkHolder.UNLOADED_LEVEL_CHUNK).left().orElse(null);
+                        this.chunkArray[k - this.chunkX][l - this.chunkZ] = chunk;
+                        if (chunk != null)
+                        {
+                            captureSections(chunk, k - this.chunkX, l - this.chunkZ);
+                        }
                     }
                 }
             }
@@ -87,6 +124,108 @@ public class ChunkCache implements LevelReader
         maxBuildHeight = worldIn.getMaxBuildHeight();
     }
 
+    /**
+     * Copy the block state containers of the sections of the chunk within the captured y range.
+     *
+     * @param chunk the chunk.
+     * @param x     the chunk x index within the cache.
+     * @param z     the chunk z index within the cache.
+     */
+    private void captureSections(final LevelChunk chunk, final int x, final int z)
+    {
+        final LevelChunkSection[] sections = chunk.getSections();
+        final int offset = (x * sizeZ + z) * sectionCount;
+        for (int y = minCapturedSection - minSection; y <= maxCapturedSection - minSection && y < sections.length; y++)
+        {
+            final LevelChunkSection section = sections[y];
+            if (section != null)
+            {
+                sectionStates[offset + y] = section.getStates().copy();
+                if (!section.hasOnlyAir())
+                {
+                    empty = false;
+                }
+            }
+        }
+    }
+
+    /**
+     * Check if all blocks of the box were captured in the snapshot.
+     *
+     * @param minX the min block x.
+     * @param minY the min block y.
+     * @param minZ the min block z.
+     * @param maxX the max block x.
+     * @param maxY the max block y.
+     * @param maxZ the max block z.
+     * @return true if every position of the box reads from a captured section.
+     */
+    public boolean isCaptured(final int minX, final int minY, final int minZ, final int maxX, final int maxY, final int maxZ)
+    {
+        if (minY >> 4 < minCapturedSection || maxY >> 4 > maxCapturedSection)
+        {
+            return false;
+        }
+
+        for (int x = minX >> 4; x <= maxX >> 4; x++)
+        {
+            for (int z = minZ >> 4; z <= maxZ >> 4; z++)
+            {
+                if (!withinBounds(x - this.chunkX, z - this.chunkZ))
+                {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Get the captured state container of the section at the given position.
+     *
+     * @param x the block x.
+     * @param y the block y.
+     * @param z the block z.
+     * @return the container or null if outside the cache or missing.
+     */
+    @Nullable
+    private PalettedContainer<BlockState> getSectionStates(final int x, final int y, final int z)
+    {
+        if (y < minBuildHeight || y >= maxBuildHeight)
+        {
+            return null;
+        }
+
+        final int i = (x >> 4) - this.chunkX;
+        final int j = (z >> 4) - this.chunkZ;
+        if (i < 0 || i >= this.chunkArray.length || j < 0 || j >= sizeZ)
+        {
+            return null;
+        }
+
+        return sectionStates[(i * sizeZ + j) * sectionCount + ((y >> 4) - minSection)];
+    }
+
+    /**
+     * Get the block state at the given coordinates without creating a position.
+     *
+     * @param x the block x.
+     * @param y the block y.
+     * @param z the block z.
+     * @return the state, air if outside the cache.
+     */
+    @NotNull
+    public BlockState getBlockState(final int x, final int y, final int z)
+    {
+        final PalettedContainer<BlockState> states = getSectionStates(x, y, z);
+        if (states == null)
+        {
+            return Blocks.AIR.defaultBlockState();
+        }
+
+        return states.get(x & 15, y & 15, z & 15);
+    }
+
     /**
      * set by !chunk.getAreLevelsEmpty
      *
@@ -133,45 +272,19 @@ public class ChunkCache implements LevelReader
     @Override
     public BlockState getBlockState(BlockPos pos)
     {
-        if (pos.getY() >= getMinBuildHeight() && pos.getY() < getMaxBuildHeight())
-        {
-            int i = (pos.getX() >> 4) - this.chunkX;
-            int j = (pos.getZ() >> 4) - this.chunkZ;
-
-            if (i >= 0 && i < this.chunkArray.length && j >= 0 && j < this.chunkArray[i].length)
-            {
-                LevelChunk chunk = this.chunkArray[i][j];
-
-                if (chunk != null)
-                {
-                    return chunk.getBlockState(pos);
-                }
-            }
-        }
-
-        return Blocks.AIR.defaultBlockState();
+        return getBlockState(pos.getX(), pos.getY(), pos.getZ());
     }
 
     @Override
     public FluidState getFluidState(final BlockPos pos)
     {
-        if (pos.getY() >= getMinBuildHeight() && pos.getY() < getMaxBuildHeight())
+        final PalettedContainer<BlockState> states = getSectionStates(pos.getX(), pos.getY(), pos.getZ());
+        if (states == null)
         {
-            int i = (pos.getX() >> 4) - this.chunkX;
-            int j = (pos.getZ() >> 4) - this.chunkZ;
-
-            if (i >= 0 && i < this.chunkArray.length && j >= 0 && j < this.chunkArray[i].length)
-            {
-                LevelChunk chunk = this.chunkArray[i][j];
-
-                if (chunk != null)
-                {
-                    return chunk.getFluidState(pos);
-                }
-            }
+            return Fluids.EMPTY.defaultFluidState();
         }
 
-        return Fluids.EMPTY.defaultFluidState();
+        return states.get(pos.getX() & 15, pos.getY() & 15, pos.getZ() & 15).getFluidState();
     }
 
     @Override
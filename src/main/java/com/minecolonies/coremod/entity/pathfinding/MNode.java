@@ -21,12 +21,17 @@ public class MNode implements Comparable<MNode>
      * The position of the node.
      */
     @NotNull
-    public final BlockPos pos;
+    public BlockPos pos;
 
     /**
      * The hash of the node.
      */
-    private final int hash;
+    private int hash;
+
+    /**
+     * Index of the node in the open heap, -1 if not queued.
+     */
+    private int heapIndex = -1;
 
     /**
      * The parent of the node (Node preceding this node).
@@ -115,6 +120,20 @@ public class MNode implements Comparable<MNode>
      * @param score     node total score.
      */
     public MNode(@Nullable final MNode parent, @NotNull final BlockPos pos, final double cost, final double heuristic, final double score)
+    {
+        reset(parent, pos, cost, heuristic, score);
+    }
+
+    /**
+     * Reinitialize a pooled node, clearing all state of its previous use.
+     *
+     * @param parent    parent node arrives from.
+     * @param pos       coordinate of node.
+     * @param cost      node cost.
+     * @param heuristic heuristic estimate.
+     * @param score     node total score.
+     */
+    public void reset(@Nullable final MNode parent, @NotNull final BlockPos pos, final double cost, final double heuristic, final double score)
     {
         this.parent = parent;
         this.pos = pos;
@@ -123,6 +142,15 @@ public class MNode implements Comparable<MNode>
         this.heuristic = heuristic;
         this.score = score;
         this.hash = pos.getX() ^ ((pos.getZ() << HASH_A) | (pos.getZ() >> HASH_B)) ^ (pos.getY() << HASH_C);
+        this.heapIndex = -1;
+        this.counterAdded = 0;
+        this.counterVisited = 0;
+        this.closed = false;
+        this.ladder = false;
+        this.swimming = false;
+        this.isOnRails = false;
+        this.isCornerNode = false;
+        this.isReachedByWorker = false;
     }
 
     /**
@@ -209,6 +237,26 @@ public class MNode implements Comparable<MNode>
         return false;
     }
 
+    /**
+     * Getter for the index of this node in the open heap.
+     *
+     * @return the index or -1 if not queued.
+     */
+    public int getHeapIndex()
+    {
+        return heapIndex;
+    }
+
+    /**
+     * Setter for the index of this node in the open heap.
+     *
+     * @param heapIndex the index or -1 if not queued.
+     */
+    public void setHeapIndex(final int heapIndex)
+    {
+        this.heapIndex = heapIndex;
+    }
+
     /**
      * Checks if node is closed.
      *
@@ -0,0 +1,215 @@
+package com.minecolonies.coremod.entity.pathfinding;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Arrays;
+
+/**
+ * Binary min heap of open nodes, the nodes track their own heap index so updates and removal don't need a linear search.
+ */
+public class MNodeHeap
+{
+    /**
+     * Initial capacity of the heap.
+     */
+    private static final int INITIAL_CAPACITY = 512;
+
+    /**
+     * The heap array.
+     */
+    private MNode[] heap = new MNode[INITIAL_CAPACITY];
+
+    /**
+     * Amount of nodes in the heap.
+     */
+    private int size = 0;
+
+    /**
+     * Add a node to the heap, or reposition it if it is already queued.
+     *
+     * @param node the node to add.
+     */
+    public void offer(@NotNull final MNode node)
+    {
+        if (node.getHeapIndex() >= 0)
+        {
+            update(node);
+            return;
+        }
+
+        if (size == heap.length)
+        {
+            heap = Arrays.copyOf(heap, size << 1);
+        }
+
+        heap[size] = node;
+        node.setHeapIndex(size);
+        size++;
+        siftUp(size - 1);
+    }
+
+    /**
+     * Remove the node with the lowest score.
+     *
+     * @return the node or null if empty.
+     */
+    @Nullable
+    public MNode poll()
+    {
+        if (size == 0)
+        {
+            return null;
+        }
+
+        final MNode first = heap[0];
+        removeAt(0);
+        return first;
+    }
+
+    /**
+     * Remove a node from the heap.
+     *
+     * @param node the node to remove.
+     * @return true if the node was queued.
+     */
+    public boolean remove(@NotNull final MNode node)
+    {
+        final int index = node.getHeapIndex();
+        if (index < 0 || index >= size || heap[index] != node)
+        {
+            return false;
+        }
+
+        removeAt(index);
+        return true;
+    }
+
+    /**
+     * Restore the heap order after the score of a queued node changed.
+     *
+     * @param node the changed node.
+     */
+    public void update(@NotNull final MNode node)
+    {
+        final int index = node.getHeapIndex();
+        if (index < 0 || index >= size || heap[index] != node)
+        {
+            return;
+        }
+
+        siftUp(index);
+        siftDown(node.getHeapIndex());
+    }
+
+    /**
+     * Check if the node is queued.
+     *
+     * @param node the node to check.
+     * @return true if so.
+     */
+    public boolean contains(@NotNull final MNode node)
+    {
+        final int index = node.getHeapIndex();
+        return index >= 0 && index < size && heap[index] == node;
+    }
+
+    /**
+     * @return true if there are no queued nodes.
+     */
+    public boolean isEmpty()
+    {
+        return size == 0;
+    }
+
+    /**
+     * @return the amount of queued nodes.
+     */
+    public int size()
+    {
+        return size;
+    }
+
+    /**
+     * Remove all nodes, keeping the allocated capacity.
+     */
+    public void clear()
+    {
+        for (int i = 0; i < size; i++)
+        {
+            heap[i].setHeapIndex(-1);
+            heap[i] = null;
+        }
+        size = 0;
+    }
+
+    private void removeAt(final int index)
+    {
+        final MNode removed = heap[index];
+        removed.setHeapIndex(-1);
+        size--;
+
+        if (index == size)
+        {
+            heap[size] = null;
+            return;
+        }
+
+        final MNode last = heap[size];
+        heap[size] = null;
+        heap[index] = last;
+        last.setHeapIndex(index);
+        siftUp(index);
+        siftDown(last.getHeapIndex());
+    }
+
+    private void siftUp(int index)
+    {
+        final MNode node = heap[index];
+        while (index > 0)
+        {
+            final int parentIndex = (index - 1) >>> 1;
+            final MNode parent = heap[parentIndex];
+            if (node.compareTo(parent) >= 0)
+            {
+                break;
+            }
+
+            heap[index] = parent;
+            parent.setHeapIndex(index);
+            index = parentIndex;
+        }
+
+        heap[index] = node;
+        node.setHeapIndex(index);
+    }
+
+    private void siftDown(int index)
+    {
+        final MNode node = heap[index];
+        final int half = size >>> 1;
+        while (index < half)
+        {
+            int childIndex = (index << 1) + 1;
+            MNode child = heap[childIndex];
+            final int rightIndex = childIndex + 1;
+            if (rightIndex < size && heap[rightIndex].compareTo(child) < 0)
+            {
+                childIndex = rightIndex;
+                child = heap[rightIndex];
+            }
+
+            if (node.compareTo(child) <= 0)
+            {
+                break;
+            }
+
+            heap[index] = child;
+            child.setHeapIndex(index);
+            index = childIndex;
+        }
+
+        heap[index] = node;
+        node.setHeapIndex(index);
+    }
+}
@@ -0,0 +1,196 @@
+package com.minecolonies.coremod.entity.pathfinding;
+
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import net.minecraft.core.BlockPos;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Arrays;
+
+/**
+ * Node storage of a single pathfinding search: the visited nodes keyed by packed position, the open heap and a pool of reusable nodes. One store is kept per worker thread
+ * and cleared after each job, so searches don't allocate new nodes or map entries.
+ */
+public class MNodeStore
+{
+    /**
+     * Initial amount of pooled nodes and visited map capacity.
+     */
+    private static final int INITIAL_CAPACITY = 1024;
+
+    /**
+     * Above this amount of nodes a released store drops its pool and map to free memory again.
+     */
+    private static final int MAX_RETAINED_NODES = 1 << 18;
+
+    /**
+     * Store of each pathfinding thread.
+     */
+    private static final ThreadLocal<MNodeStore> THREAD_STORE = ThreadLocal.withInitial(MNodeStore::new);
+
+    /**
+     * All visited nodes keyed by packed position.
+     */
+    private Long2ObjectOpenHashMap<MNode> visited = new Long2ObjectOpenHashMap<>(INITIAL_CAPACITY);
+
+    /**
+     * Queue of all open nodes.
+     */
+    private final MNodeHeap open = new MNodeHeap();
+
+    /**
+     * Pooled nodes, the ones below poolIndex are in use.
+     */
+    private MNode[] pool = new MNode[INITIAL_CAPACITY];
+
+    /**
+     * Amount of pooled nodes in use.
+     */
+    private int poolIndex = 0;
+
+    /**
+     * Whether nodes are pooled, nodes which have to outlive the search must not be reused.
+     */
+    private final boolean pooled;
+
+    /**
+     * Create a pooling store.
+     */
+    private MNodeStore()
+    {
+        this(true);
+    }
+
+    /**
+     * Create a store.
+     *
+     * @param pooled whether nodes are reused after release.
+     */
+    private MNodeStore(final boolean pooled)
+    {
+        this.pooled = pooled;
+    }
+
+    /**
+     * Get the reusable store of the current thread.
+     *
+     * @return the store, cleared.
+     */
+    public static MNodeStore forCurrentThread()
+    {
+        return THREAD_STORE.get();
+    }
+
+    /**
+     * Create a store whose nodes are never reused, e.g. for debug rendering, which keeps the nodes after the search.
+     *
+     * @return the new store.
+     */
+    public static MNodeStore unpooled()
+    {
+        return new MNodeStore(false);
+    }
+
+    /**
+     * Generate a unique key for identifying a node by its coordinates.
+     *
+     * @param pos the position.
+     * @return the key.
+     */
+    public static long computeNodeKey(@NotNull final BlockPos pos)
+    {
+        return BlockPos.asLong(pos.getX(), pos.getY(), pos.getZ());
+    }
+
+    /**
+     * Get a node for the given position, reusing a pooled node if possible.
+     *
+     * @param parent    parent node arrives from.
+     * @param pos       coordinate of node.
+     * @param cost      node cost.
+     * @param heuristic heuristic estimate.
+     * @param score     node total score.
+     * @return the node.
+     */
+    @NotNull
+    public MNode obtain(@Nullable final MNode parent, @NotNull final BlockPos pos, final double cost, final double heuristic, final double score)
+    {
+        if (!pooled)
+        {
+            return new MNode(parent, pos, cost, heuristic, score);
+        }
+
+        if (poolIndex == pool.length)
+        {
+            pool = Arrays.copyOf(pool, poolIndex << 1);
+        }
+
+        MNode node = pool[poolIndex];
+        if (node == null)
+        {
+            node = new MNode(parent, pos, cost, heuristic, score);
+            pool[poolIndex] = node;
+        }
+        else
+        {
+            node.reset(parent, pos, cost, heuristic, score);
+        }
+
+        poolIndex++;
+        return node;
+    }
+
+    /**
+     * Get the visited node at the given key.
+     *
+     * @param key the packed position.
+     * @return the node or null.
+     */
+    @Nullable
+    public MNode getVisited(final long key)
+    {
+        return visited.get(key);
+    }
+
+    /**
+     * Mark a node as visited.
+     *
+     * @param key  the packed position.
+     * @param node the node.
+     */
+    public void putVisited(final long key, @NotNull final MNode node)
+    {
+        visited.put(key, node);
+    }
+
+    /**
+     * @return the open node heap.
+     */
+    public MNodeHeap getOpen()
+    {
+        return open;
+    }
+
+    /**
+     * Clear the store after a search, making the pooled nodes available again.
+     */
+    public void release()
+    {
+        open.clear();
+
+        if (poolIndex > MAX_RETAINED_NODES)
+        {
+            visited = new Long2ObjectOpenHashMap<>(INITIAL_CAPACITY);
+            pool = new MNode[INITIAL_CAPACITY];
+        }
+        else
+        {
+            visited.clear();
+            for (int i = 0; i < poolIndex; i++)
+            {
+                pool[i].parent = null;
+            }
+        }
+        poolIndex = 0;
+    }
+}
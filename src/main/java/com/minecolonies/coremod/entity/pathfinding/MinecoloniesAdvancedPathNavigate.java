@@ -4,9 +4,11 @@ import com.minecolonies.api.colony.IColony;
 import com.minecolonies.api.crafting.ItemStorage;
 import com.minecolonies.api.entity.MinecoloniesMinecart;
 import com.minecolonies.api.entity.ModEntities;
+import com.minecolonies.api.entity.ai.statemachine.states.AIWakeSignal;
 import com.minecolonies.api.entity.citizen.AbstractEntityCitizen;
 import com.minecolonies.api.entity.pathfinding.*;
 import com.minecolonies.api.util.*;
+import com.minecolonies.coremod.MineColonies;
 import com.minecolonies.coremod.entity.pathfinding.pathjobs.*;
 import com.minecolonies.coremod.util.WorkerUtil;
 import net.minecraft.core.BlockPos;
@@ -101,6 +103,10 @@ public class MinecoloniesAdvancedPathNavigate extends AbstractAdvancedPathNaviga
         getPathingOptions().setCanOpenDoors(true);
         this.nodeEvaluator.setCanFloat(true);
         getPathingOptions().setCanSwim(true);
+        if (!world.isClientSide)
+        {
+            getPathingOptions().setHierarchical(MineColonies.getConfig().getServer().pathfindingHierarchical.get());
+        }
 
         stuckHandler = PathingStuckHandler.createStuckHandler().withTakeDamageOnStuck(0.2f).withTeleportSteps(6).withTeleportOnFullStuck();
     }
@@ -194,6 +200,57 @@ public class MinecoloniesAdvancedPathNavigate extends AbstractAdvancedPathNaviga
       @NotNull final AbstractPathJob job,
       final BlockPos dest,
       final double speedFactor, final boolean safeDestination)
+    {
+        if (!prepareNewPath(dest, speedFactor, safeDestination))
+        {
+            return null;
+        }
+
+        job.setPathingOptions(getPathingOptions());
+        if (getPathingOptions().isHierarchical())
+        {
+            final IColony colony = getColony();
+            if (colony != null)
+            {
+                job.setSectionGraph(SectionGraph.forColony(colony));
+            }
+        }
+        pathResult = job.getResult();
+        pathResult.startJob(Pathfinding.getExecutor());
+        return pathResult;
+    }
+
+    /**
+     * Follow a cached path, without running a path job.
+     *
+     * @param path            the cached path.
+     * @param dest            the destination.
+     * @param speedFactor     the speed factor.
+     * @param safeDestination whether the destination is safe.
+     * @return the completed path result.
+     */
+    @Nullable
+    private PathResult<AbstractPathJob> setCachedPath(@NotNull final Path path, final BlockPos dest, final double speedFactor, final boolean safeDestination)
+    {
+        if (!prepareNewPath(dest, speedFactor, safeDestination))
+        {
+            return null;
+        }
+
+        pathResult = new PathResult<>();
+        pathResult.completeWith(path, true);
+        return pathResult;
+    }
+
+    /**
+     * Stop the current path and set up the destination and speed of a new one.
+     *
+     * @param dest            the destination.
+     * @param speedFactor     the speed factor.
+     * @param safeDestination whether the destination is safe.
+     * @return false if the speed is invalid.
+     */
+    private boolean prepareNewPath(final BlockPos dest, final double speedFactor, final boolean safeDestination)
     {
         stop();
 
@@ -213,13 +270,36 @@ public class MinecoloniesAdvancedPathNavigate extends AbstractAdvancedPathNaviga
         if (speedFactor > MAX_SPEED_ALLOWED || speedFactor < MIN_SPEED_ALLOWED)
         {
             Log.getLogger().error("Tried to set a bad speed:" + speedFactor + " for entity:" + ourEntity, new Exception());
-            return null;
+            return false;
         }
+        return true;
+    }
 
-        job.setPathingOptions(getPathingOptions());
-        pathResult = job.getResult();
-        pathResult.startJob(Pathfinding.getExecutor());
-        return pathResult;
+    /**
+     * Get the route cache of the colony of our entity.
+     *
+     * @return the cache or null if the entity doesn't belong to a colony.
+     */
+    @Nullable
+    private PathCache getColonyPathCache()
+    {
+        final IColony colony = getColony();
+        return colony == null ? null : PathCache.forColony(colony);
+    }
+
+    /**
+     * Get the colony of our entity.
+     *
+     * @return the colony or null if the entity doesn't belong to a colony.
+     */
+    @Nullable
+    private IColony getColony()
+    {
+        if (ourEntity instanceof AbstractEntityCitizen citizen)
+        {
+            return citizen.getCitizenColonyHandler().getColony();
+        }
+        return null;
     }
 
     @Override
@@ -347,12 +427,28 @@ public class MinecoloniesAdvancedPathNavigate extends AbstractAdvancedPathNaviga
 
     @Nullable
     public PathResult<AbstractPathJob> moveToXYZ(final double x, final double y, final double z, final double speedFactor)
+    {
+        return moveToXYZ(x, y, z, speedFactor, PathJobPriority.WORK);
+    }
+
+    /**
+     * Move to a position, scheduling the path job with the given priority.
+     *
+     * @param x           the x coordinate.
+     * @param y           the y coordinate.
+     * @param z           the z coordinate.
+     * @param speedFactor the speed factor.
+     * @param priority    the priority class of the path job.
+     * @return the path result.
+     */
+    @Nullable
+    public PathResult<AbstractPathJob> moveToXYZ(final double x, final double y, final double z, final double speedFactor, @NotNull final PathJobPriority priority)
     {
         final int newX = Mth.floor(x);
         final int newY = (int) y;
         final int newZ = Mth.floor(z);
 
-        if (pathResult != null && pathResult.getJob() instanceof PathJobMoveToLocation &&
+        if (pathResult != null && (pathResult.getJob() instanceof PathJobMoveToLocation || pathResult.getJob() == null) &&
               (
                 pathResult.isComputing()
                   || (destination != null && BlockPosUtil.isEqual(destination, newX, newY, newZ))
@@ -366,13 +462,23 @@ public class MinecoloniesAdvancedPathNavigate extends AbstractAdvancedPathNaviga
         @NotNull final BlockPos start = AbstractPathJob.prepareStart(ourEntity);
         desiredPos = new BlockPos(newX, newY, newZ);
 
-        return setPathJob(
-          new PathJobMoveToLocation(CompatibilityUtils.getWorldFromEntity(ourEntity),
-            start,
-            desiredPos,
-            (int) ourEntity.getAttribute(Attributes.FOLLOW_RANGE).getValue(),
-            ourEntity),
-          desiredPos, speedFactor, true);
+        final PathCache pathCache = getColonyPathCache();
+        if (pathCache != null)
+        {
+            final Path cachedPath = pathCache.get(start, desiredPos, getPathingOptions(), level.getGameTime(), level);
+            if (cachedPath != null)
+            {
+                return setCachedPath(cachedPath, desiredPos, speedFactor, true);
+            }
+        }
+
+        final PathJobMoveToLocation job = new PathJobMoveToLocation(CompatibilityUtils.getWorldFromEntity(ourEntity),
+          start,
+          desiredPos,
+          (int) ourEntity.getAttribute(Attributes.FOLLOW_RANGE).getValue(),
+          ourEntity);
+        job.setPriority(priority);
+        return setPathJob(job, desiredPos, speedFactor, true);
     }
 
     @Override
@@ -548,15 +654,39 @@ public class MinecoloniesAdvancedPathNavigate extends AbstractAdvancedPathNaviga
 
     private boolean processCompletedCalculationResult()
     {
-        pathResult.getJob().synchToClient(mob);
+        if (pathResult.getJob() != null)
+        {
+            pathResult.getJob().synchToClient(mob);
+            cacheCompletedRoute();
+        }
         moveTo(pathResult.getPath(), getSpeedFactor());
         if (pathResult != null)
         {
             pathResult.setStatus(PathFindingStatus.IN_PROGRESS_FOLLOWING);
         }
+
+        if (ourEntity instanceof AbstractEntityCitizen citizen && citizen.getCitizenData() != null)
+        {
+            citizen.getCitizenData().wakeWorkerAI(AIWakeSignal.PATH_RESULT);
+        }
         return false;
     }
 
+    /**
+     * Remember a completed route to a location in the colony route cache.
+     */
+    private void cacheCompletedRoute()
+    {
+        if (pathResult.getJob() instanceof PathJobMoveToLocation moveJob && pathResult.isPathReachingDestination())
+        {
+            final PathCache pathCache = getColonyPathCache();
+            if (pathCache != null)
+            {
+                pathCache.put(moveJob.getStart(), moveJob.getDestination(), getPathingOptions(), pathResult.getPath(), level.getGameTime());
+            }
+        }
+    }
+
     private boolean handleLadders(int oldIndex)
     {
         //  Ladder Workaround
@@ -1026,6 +1156,20 @@ public class MinecoloniesAdvancedPathNavigate extends AbstractAdvancedPathNaviga
         return moveToXYZ(e.getX(), e.getY(), e.getZ(), speed);
     }
 
+    /**
+     * Move to an entity, scheduling the path job with the given priority.
+     *
+     * @param e        the entity.
+     * @param speed    the speed factor.
+     * @param priority the priority class of the path job.
+     * @return the path result.
+     */
+    @Nullable
+    public PathResult<AbstractPathJob> moveToLivingEntity(@NotNull final Entity e, final double speed, @NotNull final PathJobPriority priority)
+    {
+        return moveToXYZ(e.getX(), e.getY(), e.getZ(), speed, priority);
+    }
+
     @Nullable
     @Override
     public PathResult<AbstractPathJob> moveAwayFromLivingEntity(@NotNull final Entity e, final double distance, final double speed)
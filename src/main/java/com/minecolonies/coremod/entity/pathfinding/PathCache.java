@@ -0,0 +1,282 @@
+package com.minecolonies.coremod.entity.pathfinding;
+
+import com.minecolonies.api.colony.IColony;
+import com.minecolonies.api.entity.pathfinding.PathingOptions;
+import com.minecolonies.api.util.WorldUtil;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+import it.unimi.dsi.fastutil.longs.LongSet;
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.SectionPos;
+import net.minecraft.resources.ResourceKey;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.level.block.state.BlockState;
+import net.minecraft.world.level.pathfinder.Node;
+import net.minecraft.world.level.pathfinder.Path;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.*;
+
+/**
+ * Colony scoped cache of recently computed routes, keyed by start block, target block and pathing options. A route is dropped as soon as a block changes in one of the
+ * chunk sections it crosses, or when it gets too old. Block changes without neighbour notification are not seen, so the nodes of a route are checked again when it is
+ * reused. Only accessed from the server thread.
+ */
+public class PathCache
+{
+    /**
+     * Max amount of cached routes per colony.
+     */
+    private static final int MAX_ENTRIES = 256;
+
+    /**
+     * Max age of a cached route in ticks.
+     */
+    private static final long MAX_AGE = 20 * 60 * 5;
+
+    /**
+     * Caches of all colonies, by dimension and colony id.
+     */
+    private static final Map<ResourceKey<Level>, Map<Integer, PathCache>> CACHES = new HashMap<>();
+
+    /**
+     * Key of a cached route.
+     */
+    private record RouteKey(long start, long end, PathingOptions options) {}
+
+    /**
+     * A cached route.
+     */
+    private record Route(Path path, long created, LongSet sections) {}
+
+    /**
+     * Cached routes in access order, for eviction of the least recently used.
+     */
+    private final LinkedHashMap<RouteKey, Route> routes = new LinkedHashMap<>(16, 0.75f, true);
+
+    /**
+     * Routes crossing each chunk section.
+     */
+    private final Long2ObjectOpenHashMap<Set<RouteKey>> routesBySection = new Long2ObjectOpenHashMap<>();
+
+    /**
+     * Get the route cache of a colony.
+     *
+     * @param colony the colony.
+     * @return the cache.
+     */
+    public static PathCache forColony(@NotNull final IColony colony)
+    {
+        return CACHES.computeIfAbsent(colony.getDimension(), k -> new HashMap<>()).computeIfAbsent(colony.getID(), k -> new PathCache());
+    }
+
+    /**
+     * Drop the route cache of a colony, e.g. on deletion.
+     *
+     * @param colony the colony.
+     */
+    public static void removeColony(@NotNull final IColony colony)
+    {
+        final Map<Integer, PathCache> dimensionCaches = CACHES.get(colony.getDimension());
+        if (dimensionCaches != null)
+        {
+            dimensionCaches.remove(colony.getID());
+        }
+    }
+
+    /**
+     * Drop all caches, e.g. when the server stops.
+     */
+    public static void clear()
+    {
+        CACHES.clear();
+    }
+
+    /**
+     * Invalidate all routes crossing the section of a changed block.
+     *
+     * @param level the level.
+     * @param pos   the changed position.
+     */
+    public static void onBlockChanged(@NotNull final Level level, @NotNull final BlockPos pos)
+    {
+        final Map<Integer, PathCache> dimensionCaches = CACHES.get(level.dimension());
+        if (dimensionCaches == null || dimensionCaches.isEmpty())
+        {
+            return;
+        }
+
+        final long section = SectionPos.asLong(pos.getX() >> 4, pos.getY() >> 4, pos.getZ() >> 4);
+        for (final PathCache cache : dimensionCaches.values())
+        {
+            cache.invalidateSection(section);
+        }
+    }
+
+    /**
+     * Get a cached route.
+     *
+     * @param start    the start block.
+     * @param end      the target block.
+     * @param options  the pathing options.
+     * @param gameTime the current game time.
+     * @param level    the level, to check the route is still free.
+     * @return a copy of the cached path, or null if there is none.
+     */
+    @Nullable
+    public Path get(@NotNull final BlockPos start, @NotNull final BlockPos end, @NotNull final PathingOptions options, final long gameTime, @NotNull final Level level)
+    {
+        final RouteKey key = new RouteKey(start.asLong(), end.asLong(), options);
+        final Route route = routes.get(key);
+        if (route == null)
+        {
+            return null;
+        }
+
+        if (gameTime - route.created() > MAX_AGE || !isFree(level, route.path()))
+        {
+            remove(key);
+            return null;
+        }
+
+        return copy(route.path());
+    }
+
+    /**
+     * Check that no node of a route got blocked in the meantime.
+     *
+     * @param level the level.
+     * @param path  the route.
+     * @return true if feet and head of all nodes are loaded and can still be walked through.
+     */
+    private static boolean isFree(@NotNull final Level level, @NotNull final Path path)
+    {
+        final BlockPos.MutableBlockPos pos = new BlockPos.MutableBlockPos();
+        for (int i = 0; i < path.getNodeCount(); i++)
+        {
+            final Node node = path.getNode(i);
+            for (int y = node.y; y <= node.y + 1; y++)
+            {
+                pos.set(node.x, y, node.z);
+                if (!WorldUtil.isBlockLoaded(level, pos))
+                {
+                    return false;
+                }
+
+                final BlockState state = level.getBlockState(pos);
+                final PathfindingStateCache.StateInfo info = PathfindingStateCache.get(state);
+                if (info.blocksMotion
+                      && !info.doorOrGate
+                      && !info.trapdoorOrPanel
+                      && !info.passableDecoration
+                      && !PathfindingStateCache.hasLowCollision(level, state, pos))
+                {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Cache a route which reaches its destination.
+     *
+     * @param start    the start block.
+     * @param end      the target block.
+     * @param options  the pathing options.
+     * @param path     the path.
+     * @param gameTime the current game time.
+     */
+    public void put(@NotNull final BlockPos start, @NotNull final BlockPos end, @NotNull final PathingOptions options, @NotNull final Path path, final long gameTime)
+    {
+        final PathingOptions optionsCopy = new PathingOptions();
+        optionsCopy.importFrom(options);
+        final RouteKey key = new RouteKey(start.asLong(), end.asLong(), optionsCopy);
+        remove(key);
+
+        // Feet, head and ground of every node decide whether the route is still walkable.
+        final LongSet sections = new LongOpenHashSet();
+        for (int i = 0; i < path.getNodeCount(); i++)
+        {
+            final Node node = path.getNode(i);
+            for (int y = node.y - 1; y <= node.y + 1; y++)
+            {
+                sections.add(SectionPos.asLong(node.x >> 4, y >> 4, node.z >> 4));
+            }
+        }
+
+        routes.put(key, new Route(copy(path), gameTime, sections));
+        for (final long section : sections)
+        {
+            routesBySection.computeIfAbsent(section, k -> new HashSet<>()).add(key);
+        }
+
+        if (routes.size() > MAX_ENTRIES)
+        {
+            remove(routes.keySet().iterator().next());
+        }
+    }
+
+    /**
+     * Drop all routes crossing the given section.
+     *
+     * @param section the packed section position.
+     */
+    private void invalidateSection(final long section)
+    {
+        final Set<RouteKey> keys = routesBySection.get(section);
+        if (keys == null)
+        {
+            return;
+        }
+
+        for (final RouteKey key : new ArrayList<>(keys))
+        {
+            remove(key);
+        }
+    }
+
+    /**
+     * Remove a route and its section references.
+     *
+     * @param key the route key.
+     */
+    private void remove(final RouteKey key)
+    {
+        final Route route = routes.remove(key);
+        if (route == null)
+        {
+            return;
+        }
+
+        for (final long section : route.sections())
+        {
+            final Set<RouteKey> keys = routesBySection.get(section);
+            if (keys != null)
+            {
+                keys.remove(key);
+                if (keys.isEmpty())
+                {
+                    routesBySection.remove(section);
+                }
+            }
+        }
+    }
+
+    /**
+     * Copy a path, the nodes are not modified while following so they are shared.
+     *
+     * @param path the path to copy.
+     * @return the fresh path.
+     */
+    private static Path copy(final Path path)
+    {
+        final List<Node> nodes = new ArrayList<>(path.getNodeCount());
+        for (int i = 0; i < path.getNodeCount(); i++)
+        {
+            nodes.add(path.getNode(i));
+        }
+        return new Path(nodes, path.getTarget(), path.canReach());
+    }
+}
@@ -0,0 +1,22 @@
+package com.minecolonies.coremod.entity.pathfinding;
+
+/**
+ * Priority classes of path jobs, in the order they are served by the pathfinding threads.
+ */
+public enum PathJobPriority
+{
+    /**
+     * Guards and other entities in a fight.
+     */
+    COMBAT,
+
+    /**
+     * Regular movement, e.g. to a work or target position.
+     */
+    WORK,
+
+    /**
+     * Wandering and patrolling, dropped first under load.
+     */
+    IDLE
+}
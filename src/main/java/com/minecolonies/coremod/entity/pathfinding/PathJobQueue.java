@@ -0,0 +1,478 @@
+package com.minecolonies.coremod.entity.pathfinding;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.*;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Bounded work queue of the pathfinding executor. Jobs are served by priority class, and round-robin between colonies within a class. A new job of an entity replaces and
+ * cancels its still queued previous job. When full, the oldest job of the lowest queued class is dropped to make room for a more important one.
+ */
+public class PathJobQueue extends AbstractQueue<Runnable> implements BlockingQueue<Runnable>
+{
+    /**
+     * Max amount of queued jobs.
+     */
+    private final int capacity;
+
+    /**
+     * Guards all queue state.
+     */
+    private final ReentrantLock lock     = new ReentrantLock();
+    private final Condition     notEmpty = lock.newCondition();
+
+    /**
+     * Queued tasks of each priority class by dimension and colony id. Insertion order is the round-robin order, a served colony is moved to the end.
+     */
+    private final List<LinkedHashMap<PathJobTask.ColonyKey, ArrayDeque<Runnable>>> queues = new ArrayList<>();
+
+    /**
+     * Queued task of each entity, for coalescing.
+     */
+    private final Map<Integer, PathJobTask> queuedByEntity = new HashMap<>();
+
+    /**
+     * Amount of queued tasks.
+     */
+    private int size = 0;
+
+    /**
+     * Metrics.
+     */
+    private final AtomicLong dropped   = new AtomicLong();
+    private final AtomicLong coalesced = new AtomicLong();
+    private final AtomicLong served    = new AtomicLong();
+    private final AtomicLong totalWait = new AtomicLong();
+    private final AtomicLong maxWait   = new AtomicLong();
+
+    /**
+     * Create a new queue.
+     *
+     * @param capacity the max amount of queued jobs.
+     */
+    public PathJobQueue(final int capacity)
+    {
+        this.capacity = capacity;
+        for (int i = 0; i < PathJobPriority.values().length; i++)
+        {
+            queues.add(new LinkedHashMap<>());
+        }
+    }
+
+    @Override
+    public boolean offer(@NotNull final Runnable runnable)
+    {
+        lock.lock();
+        try
+        {
+            final PathJobTask task = runnable instanceof PathJobTask pathJobTask ? pathJobTask : null;
+            if (task != null && task.getEntityId() != PathJobTask.NONE)
+            {
+                final PathJobTask previous = queuedByEntity.get(task.getEntityId());
+                if (previous != null && removeInternal(previous))
+                {
+                    previous.cancel(false);
+                    coalesced.incrementAndGet();
+                }
+            }
+
+            if (size >= capacity && !shedFor(priorityOf(runnable)))
+            {
+                return false;
+            }
+
+            queues.get(priorityOf(runnable).ordinal()).computeIfAbsent(colonyOf(runnable), k -> new ArrayDeque<>()).addLast(runnable);
+            if (task != null)
+            {
+                task.setQueued();
+                if (task.getEntityId() != PathJobTask.NONE)
+                {
+                    queuedByEntity.put(task.getEntityId(), task);
+                }
+            }
+            size++;
+            notEmpty.signal();
+            return true;
+        }
+        finally
+        {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Drop a queued job with lower priority than the given one, or an idle job for another idle job.
+     *
+     * @param priority the priority of the job to make room for.
+     * @return true if a job was dropped.
+     */
+    private boolean shedFor(final PathJobPriority priority)
+    {
+        for (int i = queues.size() - 1; i >= priority.ordinal(); i--)
+        {
+            if (i == priority.ordinal() && priority != PathJobPriority.IDLE)
+            {
+                return false;
+            }
+
+            // Drop from the colony with the most queued jobs, to keep the sharing fair.
+            ArrayDeque<Runnable> largest = null;
+            for (final ArrayDeque<Runnable> colonyQueue : queues.get(i).values())
+            {
+                if (largest == null || colonyQueue.size() > largest.size())
+                {
+                    largest = colonyQueue;
+                }
+            }
+
+            if (largest != null)
+            {
+                final Runnable victim = largest.peekFirst();
+                removeInternal(victim);
+                if (victim instanceof PathJobTask task)
+                {
+                    task.cancel(false);
+                }
+                dropped.incrementAndGet();
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public void put(@NotNull final Runnable runnable)
+    {
+        offer(runnable);
+    }
+
+    @Override
+    public boolean offer(final Runnable runnable, final long timeout, @NotNull final TimeUnit unit)
+    {
+        return offer(runnable);
+    }
+
+    @Override
+    public Runnable poll()
+    {
+        lock.lock();
+        try
+        {
+            return pollInternal();
+        }
+        finally
+        {
+            lock.unlock();
+        }
+    }
+
+    @NotNull
+    @Override
+    public Runnable take() throws InterruptedException
+    {
+        lock.lockInterruptibly();
+        try
+        {
+            while (size == 0)
+            {
+                notEmpty.await();
+            }
+            return pollInternal();
+        }
+        finally
+        {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public Runnable poll(final long timeout, @NotNull final TimeUnit unit) throws InterruptedException
+    {
+        long nanos = unit.toNanos(timeout);
+        lock.lockInterruptibly();
+        try
+        {
+            while (size == 0)
+            {
+                if (nanos <= 0)
+                {
+                    return null;
+                }
+                nanos = notEmpty.awaitNanos(nanos);
+            }
+            return pollInternal();
+        }
+        finally
+        {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public Runnable peek()
+    {
+        lock.lock();
+        try
+        {
+            for (final LinkedHashMap<PathJobTask.ColonyKey, ArrayDeque<Runnable>> priorityQueues : queues)
+            {
+                if (!priorityQueues.isEmpty())
+                {
+                    return priorityQueues.values().iterator().next().peekFirst();
+                }
+            }
+            return null;
+        }
+        finally
+        {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Take the next task, must hold the lock.
+     *
+     * @return the task or null if empty.
+     */
+    private Runnable pollInternal()
+    {
+        for (final LinkedHashMap<PathJobTask.ColonyKey, ArrayDeque<Runnable>> priorityQueues : queues)
+        {
+            if (priorityQueues.isEmpty())
+            {
+                continue;
+            }
+
+            final Map.Entry<PathJobTask.ColonyKey, ArrayDeque<Runnable>> next = priorityQueues.entrySet().iterator().next();
+            final Runnable runnable = next.getValue().pollFirst();
+            priorityQueues.remove(next.getKey());
+            if (!next.getValue().isEmpty())
+            {
+                priorityQueues.put(next.getKey(), next.getValue());
+            }
+            size--;
+
+            if (runnable instanceof PathJobTask task)
+            {
+                queuedByEntity.remove(task.getEntityId(), task);
+                final long wait = System.nanoTime() - task.getQueuedAt();
+                served.incrementAndGet();
+                totalWait.addAndGet(wait);
+                maxWait.accumulateAndGet(wait, Math::max);
+            }
+            return runnable;
+        }
+        return null;
+    }
+
+    @Override
+    public boolean remove(final Object o)
+    {
+        if (!(o instanceof Runnable runnable))
+        {
+            return false;
+        }
+
+        lock.lock();
+        try
+        {
+            return removeInternal(runnable);
+        }
+        finally
+        {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Remove a queued task, must hold the lock.
+     *
+     * @param runnable the task.
+     * @return true if it was queued.
+     */
+    private boolean removeInternal(final Runnable runnable)
+    {
+        final LinkedHashMap<PathJobTask.ColonyKey, ArrayDeque<Runnable>> priorityQueues = queues.get(priorityOf(runnable).ordinal());
+        final PathJobTask.ColonyKey colonyKey = colonyOf(runnable);
+        final ArrayDeque<Runnable> colonyQueue = priorityQueues.get(colonyKey);
+        if (colonyQueue == null || !colonyQueue.remove(runnable))
+        {
+            return false;
+        }
+
+        if (colonyQueue.isEmpty())
+        {
+            priorityQueues.remove(colonyKey);
+        }
+        if (runnable instanceof PathJobTask task)
+        {
+            queuedByEntity.remove(task.getEntityId(), task);
+        }
+        size--;
+        return true;
+    }
+
+    @Override
+    public int size()
+    {
+        lock.lock();
+        try
+        {
+            return size;
+        }
+        finally
+        {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Get the amount of queued jobs of a priority class.
+     *
+     * @param priority the priority class.
+     * @return the amount.
+     */
+    public int size(final PathJobPriority priority)
+    {
+        lock.lock();
+        try
+        {
+            int count = 0;
+            for (final ArrayDeque<Runnable> colonyQueue : queues.get(priority.ordinal()).values())
+            {
+                count += colonyQueue.size();
+            }
+            return count;
+        }
+        finally
+        {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public int remainingCapacity()
+    {
+        return Math.max(0, capacity - size());
+    }
+
+    @Override
+    public int drainTo(@NotNull final Collection<? super Runnable> collection)
+    {
+        return drainTo(collection, Integer.MAX_VALUE);
+    }
+
+    @Override
+    public int drainTo(@NotNull final Collection<? super Runnable> collection, final int maxElements)
+    {
+        lock.lock();
+        try
+        {
+            int count = 0;
+            Runnable next;
+            while (count < maxElements && (next = pollInternal()) != null)
+            {
+                collection.add(next);
+                count++;
+            }
+            return count;
+        }
+        finally
+        {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Iterates over a snapshot, removal goes through the queue.
+     */
+    @NotNull
+    @Override
+    public Iterator<Runnable> iterator()
+    {
+        final List<Runnable> snapshot = new ArrayList<>();
+        lock.lock();
+        try
+        {
+            for (final LinkedHashMap<PathJobTask.ColonyKey, ArrayDeque<Runnable>> priorityQueues : queues)
+            {
+                for (final ArrayDeque<Runnable> colonyQueue : priorityQueues.values())
+                {
+                    snapshot.addAll(colonyQueue);
+                }
+            }
+        }
+        finally
+        {
+            lock.unlock();
+        }
+
+        final Iterator<Runnable> iterator = snapshot.iterator();
+        return new Iterator<>()
+        {
+            private Runnable last;
+
+            @Override
+            public boolean hasNext()
+            {
+                return iterator.hasNext();
+            }
+
+            @Override
+            public Runnable next()
+            {
+                last = iterator.next();
+                return last;
+            }
+
+            @Override
+            public void remove()
+            {
+                PathJobQueue.this.remove(last);
+            }
+        };
+    }
+
+    /**
+     * Count a job which was rejected because the queue was full.
+     */
+    public void onRejected()
+    {
+        dropped.incrementAndGet();
+    }
+
+    /**
+     * Get a readable summary of the queue metrics.
+     *
+     * @return the summary.
+     */
+    public String getSummary()
+    {
+        final long servedCount = served.get();
+        return String.format("queued: %d (combat %d, work %d, idle %d) | served: %d, avg wait %.2fms, max wait %.2fms | dropped: %d, coalesced: %d",
+          size(),
+          size(PathJobPriority.COMBAT),
+          size(PathJobPriority.WORK),
+          size(PathJobPriority.IDLE),
+          servedCount,
+          servedCount == 0 ? 0 : totalWait.get() / (double) servedCount / 1_000_000,
+          maxWait.get() / 1_000_000.0,
+          dropped.get(),
+          coalesced.get());
+    }
+
+    private static PathJobPriority priorityOf(final Runnable runnable)
+    {
+        return runnable instanceof PathJobTask task ? task.getPriority() : PathJobPriority.WORK;
+    }
+
+    private static PathJobTask.ColonyKey colonyOf(final Runnable runnable)
+    {
+        return runnable instanceof PathJobTask task ? task.getColonyKey() : PathJobTask.NO_COLONY;
+    }
+}
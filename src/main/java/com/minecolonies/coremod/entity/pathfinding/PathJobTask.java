@@ -0,0 +1,150 @@
+package com.minecolonies.coremod.entity.pathfinding;
+
+import com.minecolonies.api.entity.citizen.AbstractEntityCitizen;
+import com.minecolonies.api.entity.mobs.AbstractEntityRaiderMob;
+import com.minecolonies.coremod.entity.pathfinding.pathjobs.AbstractPathJob;
+import net.minecraft.resources.ResourceKey;
+import net.minecraft.world.entity.LivingEntity;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.level.pathfinder.Path;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.concurrent.FutureTask;
+
+/**
+ * Queued path job, carrying the scheduling data which is read on submission from the server thread.
+ */
+public class PathJobTask extends FutureTask<Path>
+{
+    /**
+     * Key used for jobs without an entity or colony.
+     */
+    public static final int NONE = -1;
+
+    /**
+     * Fairness key of jobs which are not accounted to a colony.
+     */
+    public static final ColonyKey NO_COLONY = new ColonyKey(null, NONE);
+
+    /**
+     * The queued job.
+     */
+    private final AbstractPathJob job;
+
+    /**
+     * The priority class.
+     */
+    private final PathJobPriority priority;
+
+    /**
+     * The colony the job is accounted to, or NONE.
+     */
+    private final int colonyId;
+
+    /**
+     * The colony the job is shared fairly with, colony ids are only unique per dimension.
+     */
+    private final ColonyKey colonyKey;
+
+    /**
+     * The entity the job paths for, or NONE.
+     */
+    private final int entityId;
+
+    /**
+     * Time the task was queued, in nanoseconds.
+     */
+    private long queuedAt;
+
+    /**
+     * Create a task for a path job.
+     *
+     * @param job the job.
+     */
+    public PathJobTask(@NotNull final AbstractPathJob job)
+    {
+        super(job);
+        this.job = job;
+        this.priority = job.getPriority();
+
+        final LivingEntity entity = job.getEntity();
+        this.entityId = entity == null ? NONE : entity.getId();
+        if (entity instanceof AbstractEntityCitizen citizen)
+        {
+            this.colonyId = citizen.getCitizenColonyHandler().getColonyId();
+        }
+        else if (entity instanceof AbstractEntityRaiderMob raider && raider.getColony() != null)
+        {
+            this.colonyId = raider.getColony().getID();
+        }
+        else
+        {
+            this.colonyId = NONE;
+        }
+        this.colonyKey = colonyId == NONE ? NO_COLONY : new ColonyKey(entity.level.dimension(), colonyId);
+    }
+
+    /**
+     * @return the priority class.
+     */
+    public PathJobPriority getPriority()
+    {
+        return priority;
+    }
+
+    /**
+     * @return the colony id or NONE.
+     */
+    public int getColonyId()
+    {
+        return colonyId;
+    }
+
+    /**
+     * @return the dimension qualified colony key, or NO_COLONY.
+     */
+    public ColonyKey getColonyKey()
+    {
+        return colonyKey;
+    }
+
+    /**
+     * @return the entity id or NONE.
+     */
+    public int getEntityId()
+    {
+        return entityId;
+    }
+
+    /**
+     * @return the time the task was queued, in nanoseconds.
+     */
+    public long getQueuedAt()
+    {
+        return queuedAt;
+    }
+
+    /**
+     * Mark the task as queued now.
+     */
+    public void setQueued()
+    {
+        this.queuedAt = System.nanoTime();
+    }
+
+    @Override
+    public void run()
+    {
+        // Tasks started directly by a new pool thread never went through the queue.
+        job.setScheduling(colonyKey, queuedAt == 0 ? 0 : System.nanoTime() - queuedAt);
+        super.run();
+    }
+
+    /**
+     * Key of a colony in the fair sharing of the queue.
+     *
+     * @param dimension the dimension of the colony.
+     * @param colonyId  the id of the colony.
+     */
+    public record ColonyKey(ResourceKey<Level> dimension, int colonyId) {}
+}
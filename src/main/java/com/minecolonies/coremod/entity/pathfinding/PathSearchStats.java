@@ -0,0 +1,83 @@
+package com.minecolonies.coremod.entity.pathfinding;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Running totals of flat and hierarchical path searches, to compare both modes. Updated from the pathfinding threads.
+ */
+public final class PathSearchStats
+{
+    private static final AtomicLong flatJobs              = new AtomicLong();
+    private static final AtomicLong flatNodes             = new AtomicLong();
+    private static final AtomicLong flatReached           = new AtomicLong();
+    private static final AtomicLong hierarchicalJobs      = new AtomicLong();
+    private static final AtomicLong hierarchicalNodes     = new AtomicLong();
+    private static final AtomicLong hierarchicalReached   = new AtomicLong();
+    private static final AtomicLong hierarchicalFallbacks = new AtomicLong();
+
+    private PathSearchStats()
+    {
+        //Hides default constructor.
+    }
+
+    /**
+     * Record a finished search towards a destination.
+     *
+     * @param hierarchical if the search was restricted to a section corridor.
+     * @param nodesVisited the amount of visited nodes.
+     * @param reached      if the destination was reached.
+     */
+    public static void record(final boolean hierarchical, final int nodesVisited, final boolean reached)
+    {
+        (hierarchical ? hierarchicalJobs : flatJobs).incrementAndGet();
+        (hierarchical ? hierarchicalNodes : flatNodes).addAndGet(nodesVisited);
+        if (reached)
+        {
+            (hierarchical ? hierarchicalReached : flatReached).incrementAndGet();
+        }
+    }
+
+    /**
+     * Record a hierarchical search which had to be repeated as flat search.
+     */
+    public static void recordFallback()
+    {
+        hierarchicalFallbacks.incrementAndGet();
+    }
+
+    /**
+     * Reset all totals.
+     */
+    public static void reset()
+    {
+        flatJobs.set(0);
+        flatNodes.set(0);
+        flatReached.set(0);
+        hierarchicalJobs.set(0);
+        hierarchicalNodes.set(0);
+        hierarchicalReached.set(0);
+        hierarchicalFallbacks.set(0);
+    }
+
+    /**
+     * Get a readable summary of the totals.
+     *
+     * @return the summary.
+     */
+    public static String getSummary()
+    {
+        return String.format("flat: %d jobs, %.1f nodes/job, %d reached | hierarchical: %d jobs, %.1f nodes/job, %d reached, %d fallbacks",
+          flatJobs.get(),
+          average(flatNodes.get(), flatJobs.get()),
+          flatReached.get(),
+          hierarchicalJobs.get(),
+          average(hierarchicalNodes.get(), hierarchicalJobs.get()),
+          hierarchicalReached.get(),
+          hierarchicalFallbacks.get());
+    }
+
+    private static double average(final long total, final long count)
+    {
+        return count == 0 ? 0 : (double) total / count;
+    }
+}
@@ -4,19 +4,21 @@ import com.minecolonies.api.util.Log;
 import com.minecolonies.coremod.MineColonies;
 import com.minecolonies.coremod.entity.pathfinding.pathjobs.AbstractPathJob;
 import org.jetbrains.annotations.NotNull;
-import java.util.concurrent.BlockingQueue;
-import java.util.concurrent.LinkedBlockingDeque;
-import java.util.concurrent.ThreadFactory;
-import java.util.concurrent.ThreadPoolExecutor;
-import java.util.concurrent.TimeUnit;
+
+import java.util.concurrent.*;
 
 /**
  * Static class the handles all the Pathfinding.
  */
 public final class Pathfinding
 {
-    private static final BlockingQueue<Runnable> jobQueue = new LinkedBlockingDeque<>();
-    private static       ThreadPoolExecutor      executor;
+    /**
+     * Max amount of queued path jobs, beyond that low priority jobs are dropped.
+     */
+    private static final int MAX_QUEUED_JOBS = 1024;
+
+    private static final PathJobQueue       jobQueue = new PathJobQueue(MAX_QUEUED_JOBS);
+    private static       ThreadPoolExecutor executor;
 
     /**
      * Minecolonies specific thread factory.
@@ -39,6 +41,37 @@ public final class Pathfinding
         }
     }
 
+    /**
+     * Executor which wraps path jobs into prioritized tasks for the job queue.
+     */
+    private static class PathJobExecutor extends ThreadPoolExecutor
+    {
+        private PathJobExecutor(final int threads)
+        {
+            // The queue is bounded and only rejects once full, so all threads are core threads which time out when idle.
+            super(threads, threads, 10, TimeUnit.SECONDS, jobQueue, new MinecoloniesThreadFactory(), (runnable, executor) -> {
+                if (runnable instanceof Future<?> future)
+                {
+                    future.cancel(false);
+                }
+                jobQueue.onRejected();
+            });
+            allowCoreThreadTimeOut(true);
+        }
+
+        @Override
+        protected <T> RunnableFuture<T> newTaskFor(final Callable<T> callable)
+        {
+            if (callable instanceof AbstractPathJob job)
+            {
+                @SuppressWarnings("unchecked")
+                final RunnableFuture<T> task = (RunnableFuture<T>) new PathJobTask(job);
+                return task;
+            }
+            return super.newTaskFor(callable);
+        }
+    }
+
     /**
      * Creates a new thread pool for pathfinding jobs
      *
@@ -48,11 +81,21 @@ public final class Pathfinding
     {
         if (executor == null)
         {
-            executor = new ThreadPoolExecutor(1, MineColonies.getConfig().getServer().pathfindingMaxThreadCount.get(), 10, TimeUnit.SECONDS, jobQueue, new MinecoloniesThreadFactory());
+            executor = new PathJobExecutor(MineColonies.getConfig().getServer().pathfindingMaxThreadCount.get());
         }
         return executor;
     }
 
+    /**
+     * Get the queue of waiting path jobs, e.g. for its metrics.
+     *
+     * @return the queue.
+     */
+    public static PathJobQueue getJobQueue()
+    {
+        return jobQueue;
+    }
+
     /**
      * Stops all running threads in this thread pool
      */
@@ -0,0 +1,345 @@
+package com.minecolonies.coremod.entity.pathfinding;
+
+import com.ldtteam.domumornamentum.block.decorative.FloatingCarpetBlock;
+import com.ldtteam.domumornamentum.block.decorative.PanelBlock;
+import com.minecolonies.api.blocks.decorative.AbstractBlockMinecoloniesConstructionTape;
+import com.minecolonies.api.entity.pathfinding.PathingOptions;
+import com.minecolonies.api.entity.pathfinding.SurfaceType;
+import com.minecolonies.coremod.blocks.BlockDecorationController;
+import com.minecolonies.coremod.util.WorkerUtil;
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.Direction;
+import net.minecraft.world.level.BlockGetter;
+import net.minecraft.world.level.EmptyBlockGetter;
+import net.minecraft.world.level.block.*;
+import net.minecraft.world.level.block.entity.BlockEntity;
+import net.minecraft.world.level.block.state.BlockState;
+import net.minecraft.world.level.block.state.properties.BlockStateProperties;
+import net.minecraft.world.level.material.FluidState;
+import net.minecraft.world.level.material.Material;
+import net.minecraft.world.phys.shapes.VoxelShape;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Global cache of the pathfinding relevant properties of each block state, indexed by the state registry id. Filled lazily from any pathfinding thread and cleared on
+ * tag reload. Shape derived values are only cached for blocks without a dynamic shape, everything else is computed at the position.
+ */
+public final class PathfindingStateCache
+{
+    /**
+     * Collision heights at or below this are considered walk-through.
+     */
+    private static final double LOW_COLLISION_HEIGHT = 0.1;
+
+    /**
+     * Options used to evaluate the surface type for entities which can pass dangers.
+     */
+    private static final PathingOptions DANGER_PASSABLE_OPTIONS = new PathingOptions();
+
+    static
+    {
+        DANGER_PASSABLE_OPTIONS.setPassDanger(true);
+    }
+
+    /**
+     * Cached infos by state id. Entries are immutable, so a racing fill at worst computes an entry twice.
+     */
+    private static volatile StateInfo[] infos = new StateInfo[0];
+
+    private PathfindingStateCache()
+    {
+        //Hides default constructor.
+    }
+
+    /**
+     * Cached pathfinding properties of a block state.
+     */
+    public static final class StateInfo
+    {
+        /**
+         * If the shape does not depend on the position, making the shape values below usable.
+         */
+        public final boolean staticShape;
+
+        /**
+         * Collision shape values.
+         */
+        public final boolean collisionEmpty;
+        public final double  collisionMinY;
+        public final double  collisionMaxY;
+
+        /**
+         * Surface type when dangers are avoided or passable.
+         */
+        public final SurfaceType surface;
+        public final SurfaceType surfaceDangerPassable;
+
+        /**
+         * Block flags.
+         */
+        public final boolean air;
+        public final boolean liquid;
+        public final boolean blocksMotion;
+        public final boolean trapdoorOrPanel;
+        public final boolean doorOrGate;
+        public final boolean passableDecoration;
+        public final boolean hazard;
+        public final boolean rail;
+        public final boolean carpet;
+        public final boolean stair;
+        public final boolean vine;
+        public final boolean toggleable;
+        public final boolean pathBlock;
+
+        private StateInfo(final BlockState state)
+        {
+            final Block block = state.getBlock();
+            staticShape = !block.hasDynamicShape();
+
+            if (staticShape)
+            {
+                final VoxelShape shape = state.getCollisionShape(EmptyBlockGetter.INSTANCE, BlockPos.ZERO);
+                collisionEmpty = shape.isEmpty();
+                collisionMinY = collisionEmpty ? 0 : shape.min(Direction.Axis.Y);
+                collisionMaxY = collisionEmpty ? 0 : shape.max(Direction.Axis.Y);
+
+                final BlockGetter getter = new SingleStateGetter(state);
+                surface = SurfaceType.getSurfaceType(getter, state, BlockPos.ZERO, null);
+                surfaceDangerPassable = SurfaceType.getSurfaceType(getter, state, BlockPos.ZERO, DANGER_PASSABLE_OPTIONS);
+            }
+            else
+            {
+                collisionEmpty = false;
+                collisionMinY = 0;
+                collisionMaxY = 0;
+                surface = null;
+                surfaceDangerPassable = null;
+            }
+
+            air = state.getMaterial() == Material.AIR;
+            liquid = state.getMaterial().isLiquid() || (!state.getMaterial().blocksMotion() && !state.getFluidState().isEmpty());
+            blocksMotion = state.getMaterial().blocksMotion();
+            trapdoorOrPanel = block instanceof TrapDoorBlock || block instanceof PanelBlock;
+            doorOrGate = block instanceof DoorBlock || block instanceof FenceGateBlock;
+            passableDecoration = block instanceof AbstractBlockMinecoloniesConstructionTape
+                                   || block instanceof PressurePlateBlock
+                                   || block instanceof BlockDecorationController
+                                   || block instanceof SignBlock
+                                   || block instanceof AbstractBannerBlock
+                                   || !block.properties.hasCollision;
+            hazard = block instanceof FireBlock || block instanceof SweetBerryBushBlock || block instanceof PowderSnowBlock;
+            rail = block instanceof BaseRailBlock;
+            carpet = block instanceof WoolCarpetBlock || block instanceof FloatingCarpetBlock;
+            stair = block instanceof StairBlock;
+            vine = block instanceof VineBlock;
+            toggleable = state.hasProperty(BlockStateProperties.OPEN);
+            pathBlock = WorkerUtil.isPathBlock(block);
+        }
+    }
+
+    /**
+     * Get the cached info of a state, computing it if necessary.
+     *
+     * @param state the state.
+     * @return the info.
+     */
+    @NotNull
+    public static StateInfo get(@NotNull final BlockState state)
+    {
+        final int id = Block.getId(state);
+        StateInfo[] current = infos;
+        if (id < 0)
+        {
+            return new StateInfo(state);
+        }
+
+        if (id >= current.length)
+        {
+            current = grow();
+            if (id >= current.length)
+            {
+                return new StateInfo(state);
+            }
+        }
+
+        StateInfo info = current[id];
+        if (info == null)
+        {
+            info = new StateInfo(state);
+            current[id] = info;
+        }
+        return info;
+    }
+
+    /**
+     * Clear all cached infos, e.g. after tags or datapacks were reloaded.
+     */
+    public static void clear()
+    {
+        infos = new StateInfo[Block.BLOCK_STATE_REGISTRY.size()];
+    }
+
+    /**
+     * Size the table to the state registry.
+     *
+     * @return the current table.
+     */
+    private static synchronized StateInfo[] grow()
+    {
+        if (infos.length < Block.BLOCK_STATE_REGISTRY.size())
+        {
+            infos = new StateInfo[Block.BLOCK_STATE_REGISTRY.size()];
+        }
+        return infos;
+    }
+
+    /**
+     * Get the surface type of a state, cached unless the shape depends on the position.
+     *
+     * @param world          the world.
+     * @param state          the state.
+     * @param pos            the position.
+     * @param pathingOptions the pathing options or null.
+     * @return the surface type.
+     */
+    @NotNull
+    public static SurfaceType getSurfaceType(final BlockGetter world, final BlockState state, final BlockPos pos, @Nullable final PathingOptions pathingOptions)
+    {
+        final StateInfo info = get(state);
+        // Fluids are looked up at the given position, which callers don't always match with the state, so only fluid free surfaces are served from the cache.
+        if (!info.staticShape || !state.getFluidState().isEmpty() || !world.getFluidState(pos).isEmpty())
+        {
+            return SurfaceType.getSurfaceType(world, state, pos, pathingOptions);
+        }
+
+        return pathingOptions != null && pathingOptions.canPassDanger() ? info.surfaceDangerPassable : info.surface;
+    }
+
+    /**
+     * Check if the collision shape is empty.
+     *
+     * @param world the world.
+     * @param state the state.
+     * @param pos   the position.
+     * @return true if so.
+     */
+    public static boolean hasEmptyCollision(final BlockGetter world, final BlockState state, final BlockPos pos)
+    {
+        final StateInfo info = get(state);
+        if (!info.staticShape)
+        {
+            return state.getCollisionShape(world, pos).isEmpty();
+        }
+
+        return info.collisionEmpty;
+    }
+
+    /**
+     * Check if the collision shape is empty or low enough to walk through.
+     *
+     * @param world the world.
+     * @param state the state.
+     * @param pos   the position.
+     * @return true if so.
+     */
+    public static boolean hasLowCollision(final BlockGetter world, final BlockState state, final BlockPos pos)
+    {
+        final StateInfo info = get(state);
+        if (!info.staticShape)
+        {
+            final VoxelShape shape = state.getCollisionShape(world, pos);
+            return shape.isEmpty() || shape.max(Direction.Axis.Y) <= LOW_COLLISION_HEIGHT;
+        }
+
+        return info.collisionEmpty || info.collisionMaxY <= LOW_COLLISION_HEIGHT;
+    }
+
+    /**
+     * Get the start y of the collision shape.
+     *
+     * @param world the world.
+     * @param state the state.
+     * @param pos   the position.
+     * @param def   the default if empty.
+     * @return the start y.
+     */
+    public static double getCollisionStartY(final BlockGetter world, final BlockState state, final BlockPos pos, final double def)
+    {
+        final StateInfo info = get(state);
+        if (!info.staticShape)
+        {
+            final VoxelShape shape = state.getCollisionShape(world, pos);
+            return shape.isEmpty() ? def : shape.min(Direction.Axis.Y);
+        }
+
+        return info.collisionEmpty ? def : info.collisionMinY;
+    }
+
+    /**
+     * Get the end y of the collision shape.
+     *
+     * @param world the world.
+     * @param state the state.
+     * @param pos   the position.
+     * @param def   the default if empty.
+     * @return the end y.
+     */
+    public static double getCollisionEndY(final BlockGetter world, final BlockState state, final BlockPos pos, final double def)
+    {
+        final StateInfo info = get(state);
+        if (!info.staticShape)
+        {
+            final VoxelShape shape = state.getCollisionShape(world, pos);
+            return shape.isEmpty() ? def : shape.max(Direction.Axis.Y);
+        }
+
+        return info.collisionEmpty ? def : info.collisionMaxY;
+    }
+
+    /**
+     * Block getter which only contains a single state, used to evaluate position independent properties.
+     */
+    private static class SingleStateGetter implements BlockGetter
+    {
+        private final BlockState state;
+
+        private SingleStateGetter(final BlockState state)
+        {
+            this.state = state;
+        }
+
+        @Nullable
+        @Override
+        public BlockEntity getBlockEntity(@NotNull final BlockPos pos)
+        {
+            return null;
+        }
+
+        @NotNull
+        @Override
+        public BlockState getBlockState(@NotNull final BlockPos pos)
+        {
+            return state;
+        }
+
+        @NotNull
+        @Override
+        public FluidState getFluidState(@NotNull final BlockPos pos)
+        {
+            return state.getFluidState();
+        }
+
+        @Override
+        public int getHeight()
+        {
+            return EmptyBlockGetter.INSTANCE.getHeight();
+        }
+
+        @Override
+        public int getMinBuildHeight()
+        {
+            return EmptyBlockGetter.INSTANCE.getMinBuildHeight();
+        }
+    }
+}
@@ -0,0 +1,350 @@
+package com.minecolonies.coremod.entity.pathfinding;
+
+import com.minecolonies.api.util.Log;
+import com.minecolonies.coremod.MineColonies;
+import net.minecraft.Util;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.world.level.storage.LevelResource;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+import static com.minecolonies.api.util.constant.ColonyManagerConstants.FILENAME_MINECOLONIES_PATH;
+
+/**
+ * Always-on statistics of finished path jobs, per job class and per colony. Recording is lock free and only touches a few atomic counters, so it is done for every job on
+ * the pathfinding threads.
+ */
+public final class PathfindingTelemetry
+{
+    /**
+     * Header of the csv dump.
+     */
+    private static final String CSV_HEADER =
+      "time,job,jobs,reached,besteffort,interrupted,failed,nodes_p50,nodes_p99,nodes_max,wall_us_p50,wall_us_p99,wall_us_max,wait_us_p50,wait_us_p99,wait_us_max\n";
+
+    /**
+     * Name of the csv dump in the minecolonies save folder.
+     */
+    private static final String CSV_FILE = "pathfinding_telemetry.csv";
+
+    /**
+     * Ticks per minute.
+     */
+    private static final int TICKS_PER_MINUTE = 20 * 60;
+
+    /**
+     * Result kinds of a job.
+     */
+    public enum ResultKind
+    {
+        REACHED,
+        BEST_EFFORT,
+        INTERRUPTED,
+        FAILED
+    }
+
+    /**
+     * Stats of each job class by simple class name.
+     */
+    private static final Map<String, JobStats> STATS_BY_JOB = new ConcurrentHashMap<>();
+
+    /**
+     * Stats of each job class by colony, colony ids are only unique per dimension.
+     */
+    private static final Map<PathJobTask.ColonyKey, Map<String, JobStats>> STATS_BY_COLONY = new ConcurrentHashMap<>();
+
+    private PathfindingTelemetry()
+    {
+        //Hides default constructor.
+    }
+
+    /**
+     * Record a finished job.
+     *
+     * @param jobName   the job class name.
+     * @param colony    the colony or {@link PathJobTask#NO_COLONY}.
+     * @param nodes     the visited nodes.
+     * @param wallNanos the time spent in the search.
+     * @param waitNanos the time spent in the queue.
+     * @param kind      the result kind.
+     */
+    public static void record(final String jobName, final PathJobTask.ColonyKey colony, final long nodes, final long wallNanos, final long waitNanos, final ResultKind kind)
+    {
+        final long wallMicros = wallNanos / 1000;
+        final long waitMicros = waitNanos / 1000;
+        STATS_BY_JOB.computeIfAbsent(jobName, k -> new JobStats()).record(nodes, wallMicros, waitMicros, kind);
+        if (!PathJobTask.NO_COLONY.equals(colony))
+        {
+            STATS_BY_COLONY.computeIfAbsent(colony, k -> new ConcurrentHashMap<>()).computeIfAbsent(jobName, k -> new JobStats()).record(nodes, wallMicros, waitMicros, kind);
+        }
+    }
+
+    /**
+     * Get the stats of all job classes, sorted by name.
+     *
+     * @return the stats by job class.
+     */
+    public static Map<String, JobStats> getStats()
+    {
+        return new TreeMap<>(STATS_BY_JOB);
+    }
+
+    /**
+     * Get the stats of all job classes of a colony, sorted by name.
+     *
+     * @param colony the colony.
+     * @return the stats by job class.
+     */
+    public static Map<String, JobStats> getStats(final PathJobTask.ColonyKey colony)
+    {
+        return new TreeMap<>(STATS_BY_COLONY.getOrDefault(colony, Map.of()));
+    }
+
+    /**
+     * Reset all stats.
+     */
+    public static void reset()
+    {
+        STATS_BY_JOB.clear();
+        STATS_BY_COLONY.clear();
+    }
+
+    /**
+     * Periodically dump the stats to the world folder, if enabled in the config.
+     *
+     * @param server the server.
+     */
+    public static void onServerTick(@NotNull final MinecraftServer server)
+    {
+        final int interval = MineColonies.getConfig().getServer().pathfindingTelemetryDumpInterval.get();
+        if (interval <= 0 || server.getTickCount() % (interval * TICKS_PER_MINUTE) != 0 || STATS_BY_JOB.isEmpty())
+        {
+            return;
+        }
+
+        final File file = new File(new File(server.getWorldPath(LevelResource.ROOT).toFile(), FILENAME_MINECOLONIES_PATH), CSV_FILE);
+        Util.ioPool().execute(() -> dumpCsv(file));
+    }
+
+    /**
+     * Append the current stats to a csv file.
+     *
+     * @param file the file.
+     */
+    public static void dumpCsv(@NotNull final File file)
+    {
+        final boolean newFile = !file.exists();
+        try (Writer writer = new FileWriter(file, true))
+        {
+            if (newFile)
+            {
+                writer.write(CSV_HEADER);
+            }
+
+            final long time = System.currentTimeMillis();
+            for (final Map.Entry<String, JobStats> entry : getStats().entrySet())
+            {
+                final JobStats stats = entry.getValue();
+                writer.write(time + "," + entry.getKey()
+                               + "," + stats.getJobs()
+                               + "," + stats.getCount(ResultKind.REACHED)
+                               + "," + stats.getCount(ResultKind.BEST_EFFORT)
+                               + "," + stats.getCount(ResultKind.INTERRUPTED)
+                               + "," + stats.getCount(ResultKind.FAILED)
+                               + "," + stats.nodes.getPercentile(0.5) + "," + stats.nodes.getPercentile(0.99) + "," + stats.nodes.getMax()
+                               + "," + stats.wallMicros.getPercentile(0.5) + "," + stats.wallMicros.getPercentile(0.99) + "," + stats.wallMicros.getMax()
+                               + "," + stats.waitMicros.getPercentile(0.5) + "," + stats.waitMicros.getPercentile(0.99) + "," + stats.waitMicros.getMax()
+                               + "\n");
+            }
+        }
+        catch (final IOException e)
+        {
+            Log.getLogger().warn("Unable to write pathfinding telemetry to " + file, e);
+        }
+    }
+
+    /**
+     * Stats of one job class.
+     */
+    public static final class JobStats
+    {
+        private final Histogram   nodes      = new Histogram();
+        private final Histogram   wallMicros = new Histogram();
+        private final Histogram   waitMicros = new Histogram();
+        private final LongAdder[] results    = new LongAdder[ResultKind.values().length];
+
+        private JobStats()
+        {
+            for (int i = 0; i < results.length; i++)
+            {
+                results[i] = new LongAdder();
+            }
+        }
+
+        private void record(final long nodeCount, final long wall, final long wait, final ResultKind kind)
+        {
+            nodes.record(nodeCount);
+            wallMicros.record(wall);
+            waitMicros.record(wait);
+            results[kind.ordinal()].increment();
+        }
+
+        /**
+         * @return the amount of recorded jobs.
+         */
+        public long getJobs()
+        {
+            return nodes.getCount();
+        }
+
+        /**
+         * Get the amount of jobs with the given result.
+         *
+         * @param kind the result kind.
+         * @return the amount.
+         */
+        public long getCount(final ResultKind kind)
+        {
+            return results[kind.ordinal()].sum();
+        }
+
+        /**
+         * @return the visited nodes histogram.
+         */
+        public Histogram getNodes()
+        {
+            return nodes;
+        }
+
+        /**
+         * @return the search time histogram, in microseconds.
+         */
+        public Histogram getWallMicros()
+        {
+            return wallMicros;
+        }
+
+        /**
+         * @return the queue wait histogram, in microseconds.
+         */
+        public Histogram getWaitMicros()
+        {
+            return waitMicros;
+        }
+    }
+
+    /**
+     * Lock free log-linear histogram: exact below 16, above that 8 buckets per power of two, so values are kept within 12.5%.
+     */
+    public static final class Histogram
+    {
+        private static final int LINEAR_LIMIT    = 16;
+        private static final int SUB_BUCKET_BITS = 3;
+        private static final int SUB_BUCKETS     = 1 << SUB_BUCKET_BITS;
+        private static final int BUCKETS         = LINEAR_LIMIT + (63 - 4) * SUB_BUCKETS;
+
+        private final AtomicLongArray counts = new AtomicLongArray(BUCKETS);
+        private final LongAdder       count  = new LongAdder();
+        private final LongAdder       sum    = new LongAdder();
+        private final AtomicLongArray max    = new AtomicLongArray(1);
+
+        /**
+         * Record a value.
+         *
+         * @param value the value, negative values count as 0.
+         */
+        public void record(final long value)
+        {
+            final long clamped = Math.max(0, value);
+            counts.incrementAndGet(indexOf(clamped));
+            count.increment();
+            sum.add(clamped);
+            max.accumulateAndGet(0, clamped, Math::max);
+        }
+
+        /**
+         * @return the amount of recorded values.
+         */
+        public long getCount()
+        {
+            return count.sum();
+        }
+
+        /**
+         * @return the mean of the recorded values.
+         */
+        public double getMean()
+        {
+            final long total = count.sum();
+            return total == 0 ? 0 : (double) sum.sum() / total;
+        }
+
+        /**
+         * @return the largest recorded value.
+         */
+        public long getMax()
+        {
+            return max.get(0);
+        }
+
+        /**
+         * Get the approximate value below which the given fraction of the recorded values lies.
+         *
+         * @param fraction the fraction, from 0 to 1.
+         * @return the lower bound of the matching bucket.
+         */
+        public long getPercentile(final double fraction)
+        {
+            final long total = count.sum();
+            if (total == 0)
+            {
+                return 0;
+            }
+
+            final long target = Math.max(1, (long) Math.ceil(total * fraction));
+            long seen = 0;
+            for (int i = 0; i < BUCKETS; i++)
+            {
+                seen += counts.get(i);
+                if (seen >= target)
+                {
+                    return Math.min(lowerBoundOf(i), getMax());
+                }
+            }
+            return getMax();
+        }
+
+        private static int indexOf(final long value)
+        {
+            if (value < LINEAR_LIMIT)
+            {
+                return (int) value;
+            }
+
+            final int exponent = 63 - Long.numberOfLeadingZeros(value);
+            final int subBucket = (int) (value >>> (exponent - SUB_BUCKET_BITS)) & (SUB_BUCKETS - 1);
+            return LINEAR_LIMIT + (exponent - 4) * SUB_BUCKETS + subBucket;
+        }
+
+        private static long lowerBoundOf(final int index)
+        {
+            if (index < LINEAR_LIMIT)
+            {
+                return index;
+            }
+
+            final int exponent = (index - LINEAR_LIMIT) / SUB_BUCKETS + 4;
+            final int subBucket = (index - LINEAR_LIMIT) % SUB_BUCKETS;
+            return (1L << exponent) + ((long) subBucket << (exponent - SUB_BUCKET_BITS));
+        }
+    }
+}
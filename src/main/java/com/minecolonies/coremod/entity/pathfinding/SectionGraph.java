@@ -0,0 +1,396 @@
+package com.minecolonies.coremod.entity.pathfinding;
+
+import com.minecolonies.api.colony.IColony;
+import com.minecolonies.api.entity.pathfinding.SurfaceType;
+import it.unimi.dsi.fastutil.longs.*;
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.SectionPos;
+import net.minecraft.resources.ResourceKey;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.level.LevelReader;
+import net.minecraft.world.level.block.state.BlockState;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Colony scoped abstract graph over 16x16x16 chunk sections, used for hierarchical pathfinding. Two neighbouring sections are connected if there is at least one standable
+ * position on both sides of their shared face (a portal). Section infos are computed lazily by the pathfinding threads from the job's chunk snapshot and dropped when a block
+ * in or next to the section changes. Only used if hierarchical pathfinding is enabled in the config.
+ */
+public class SectionGraph
+{
+    /**
+     * Max amount of sections expanded by one abstract search.
+     */
+    private static final int MAX_ABSTRACT_NODES = 4096;
+
+    /**
+     * Portal flags of the positive faces, the negative faces are the positive faces of the neighbours.
+     */
+    private static final byte PORTAL_EAST  = 1;
+    private static final byte PORTAL_UP    = 2;
+    private static final byte PORTAL_SOUTH = 4;
+
+    /**
+     * Max amount of remembered section changes, beyond that all older snapshots are treated as outdated.
+     */
+    private static final int MAX_TRACKED_CHANGES = 4096;
+
+    /**
+     * Graphs of all colonies, by dimension and colony id. Accessed from the server and pathfinding threads.
+     */
+    private static final Map<ResourceKey<Level>, Map<Integer, SectionGraph>> GRAPHS = new ConcurrentHashMap<>();
+
+    /**
+     * Portal flags of each computed section, -1 if unknown. Guarded by this graph.
+     */
+    private final Long2ByteOpenHashMap portals = new Long2ByteOpenHashMap();
+
+    /**
+     * Version of the last change of each recently changed section, so infos computed from a snapshot older than that are not stored. Guarded by this graph.
+     */
+    private final Long2LongOpenHashMap changedAt = new Long2LongOpenHashMap();
+
+    /**
+     * Counts invalidations.
+     */
+    private final AtomicLong version = new AtomicLong();
+
+    /**
+     * Snapshots older than this version are outdated, because the changes after it were forgotten. Guarded by this graph.
+     */
+    private long oldestTrackedVersion = 0;
+
+    private SectionGraph()
+    {
+        portals.defaultReturnValue((byte) -1);
+    }
+
+    /**
+     * Get the section graph of a colony.
+     *
+     * @param colony the colony.
+     * @return the graph.
+     */
+    public static SectionGraph forColony(@NotNull final IColony colony)
+    {
+        return GRAPHS.computeIfAbsent(colony.getDimension(), k -> new ConcurrentHashMap<>()).computeIfAbsent(colony.getID(), k -> new SectionGraph());
+    }
+
+    /**
+     * Drop the graph of a colony, e.g. on deletion.
+     *
+     * @param colony the colony.
+     */
+    public static void removeColony(@NotNull final IColony colony)
+    {
+        final Map<Integer, SectionGraph> dimensionGraphs = GRAPHS.get(colony.getDimension());
+        if (dimensionGraphs != null)
+        {
+            dimensionGraphs.remove(colony.getID());
+        }
+    }
+
+    /**
+     * Drop all graphs, e.g. when the server stops.
+     */
+    public static void clear()
+    {
+        GRAPHS.clear();
+    }
+
+    /**
+     * Invalidate the sections whose portals depend on a changed block.
+     *
+     * @param level the level.
+     * @param pos   the changed position.
+     */
+    public static void onBlockChanged(@NotNull final Level level, @NotNull final BlockPos pos)
+    {
+        final Map<Integer, SectionGraph> dimensionGraphs = GRAPHS.get(level.dimension());
+        if (dimensionGraphs == null || dimensionGraphs.isEmpty())
+        {
+            return;
+        }
+
+        final int x = pos.getX() >> 4;
+        final int y = pos.getY() >> 4;
+        final int z = pos.getZ() >> 4;
+        for (final SectionGraph graph : dimensionGraphs.values())
+        {
+            graph.invalidate(x, y, z);
+        }
+    }
+
+    /**
+     * Drop a section and its neighbours, their portal checks read up to a block into it.
+     *
+     * @param x the section x.
+     * @param y the section y.
+     * @param z the section z.
+     */
+    private synchronized void invalidate(final int x, final int y, final int z)
+    {
+        final long changeVersion = version.incrementAndGet();
+        if (changedAt.size() >= MAX_TRACKED_CHANGES)
+        {
+            changedAt.clear();
+            oldestTrackedVersion = changeVersion;
+        }
+
+        for (int dx = -1; dx <= 1; dx++)
+        {
+            for (int dy = -1; dy <= 1; dy++)
+            {
+                for (int dz = -1; dz <= 1; dz++)
+                {
+                    final long section = SectionPos.asLong(x + dx, y + dy, z + dz);
+                    portals.remove(section);
+                    changedAt.put(section, changeVersion);
+                }
+            }
+        }
+    }
+
+    /**
+     * Get the current version, to be captured together with the chunk snapshot of a job.
+     *
+     * @return the version.
+     */
+    public long getVersion()
+    {
+        return version.get();
+    }
+
+    /**
+     * Search a corridor of sections from start to end over the section graph.
+     *
+     * @param world           the chunk snapshot of the job.
+     * @param snapshotVersion the graph version at the time of the snapshot.
+     * @param start           the start position.
+     * @param end             the target position.
+     * @return the sections on the found route and their direct neighbours, or null if no route was found.
+     */
+    @Nullable
+    public LongSet findCorridor(@NotNull final LevelReader world, final long snapshotVersion, @NotNull final BlockPos start, @NotNull final BlockPos end)
+    {
+        final long startSection = SectionPos.asLong(start.getX() >> 4, start.getY() >> 4, start.getZ() >> 4);
+        final long endSection = SectionPos.asLong(end.getX() >> 4, end.getY() >> 4, end.getZ() >> 4);
+
+        final Long2LongOpenHashMap cameFrom = new Long2LongOpenHashMap();
+        final Long2IntOpenHashMap costs = new Long2IntOpenHashMap();
+        costs.defaultReturnValue(Integer.MAX_VALUE);
+        final PriorityQueue<long[]> open = new PriorityQueue<>((a, b) -> Long.compare(a[1], b[1]));
+
+        costs.put(startSection, 0);
+        open.add(new long[] {startSection, heuristic(startSection, endSection)});
+
+        int expanded = 0;
+        boolean found = false;
+        while (!open.isEmpty() && expanded < MAX_ABSTRACT_NODES)
+        {
+            final long current = open.poll()[0];
+            if (current == endSection)
+            {
+                found = true;
+                break;
+            }
+            expanded++;
+
+            final int cost = costs.get(current) + 1;
+            final int x = SectionPos.x(current);
+            final int y = SectionPos.y(current);
+            final int z = SectionPos.z(current);
+            final byte flags = getPortals(world, snapshotVersion, x, y, z);
+
+            visit(open, cameFrom, costs, current, SectionPos.asLong(x + 1, y, z), cost, endSection, (flags & PORTAL_EAST) != 0);
+            visit(open, cameFrom, costs, current, SectionPos.asLong(x, y + 1, z), cost, endSection, (flags & PORTAL_UP) != 0);
+            visit(open, cameFrom, costs, current, SectionPos.asLong(x, y, z + 1), cost, endSection, (flags & PORTAL_SOUTH) != 0);
+            visit(open, cameFrom, costs, current, SectionPos.asLong(x - 1, y, z), cost, endSection, (getPortals(world, snapshotVersion, x - 1, y, z) & PORTAL_EAST) != 0);
+            visit(open, cameFrom, costs, current, SectionPos.asLong(x, y - 1, z), cost, endSection, (getPortals(world, snapshotVersion, x, y - 1, z) & PORTAL_UP) != 0);
+            visit(open, cameFrom, costs, current, SectionPos.asLong(x, y, z - 1), cost, endSection, (getPortals(world, snapshotVersion, x, y, z - 1) & PORTAL_SOUTH) != 0);
+        }
+
+        if (!found)
+        {
+            return null;
+        }
+
+        final LongSet corridor = new LongOpenHashSet();
+        long section = endSection;
+        while (true)
+        {
+            final int x = SectionPos.x(section);
+            final int y = SectionPos.y(section);
+            final int z = SectionPos.z(section);
+            for (int dx = -1; dx <= 1; dx++)
+            {
+                for (int dy = -1; dy <= 1; dy++)
+                {
+                    for (int dz = -1; dz <= 1; dz++)
+                    {
+                        corridor.add(SectionPos.asLong(x + dx, y + dy, z + dz));
+                    }
+                }
+            }
+
+            if (section == startSection)
+            {
+                break;
+            }
+            section = cameFrom.get(section);
+        }
+
+        return corridor;
+    }
+
+    private static void visit(
+      final PriorityQueue<long[]> open,
+      final Long2LongOpenHashMap cameFrom,
+      final Long2IntOpenHashMap costs,
+      final long from,
+      final long to,
+      final int cost,
+      final long endSection,
+      final boolean connected)
+    {
+        if (!connected || cost >= costs.get(to))
+        {
+            return;
+        }
+
+        costs.put(to, cost);
+        cameFrom.put(to, from);
+        open.add(new long[] {to, cost + heuristic(to, endSection)});
+    }
+
+    private static long heuristic(final long from, final long to)
+    {
+        return Math.abs(SectionPos.x(from) - SectionPos.x(to)) + Math.abs(SectionPos.y(from) - SectionPos.y(to)) + Math.abs(SectionPos.z(from) - SectionPos.z(to));
+    }
+
+    /**
+     * Get the portal flags of a section, computing them if needed.
+     */
+    private byte getPortals(final LevelReader world, final long snapshotVersion, final int x, final int y, final int z)
+    {
+        final long key = SectionPos.asLong(x, y, z);
+        synchronized (this)
+        {
+            final byte known = portals.get(key);
+            if (known != -1)
+            {
+                return known;
+            }
+        }
+
+        // Positions outside of the snapshot read as air, so a section which is not fully captured is treated as open and not stored for other jobs.
+        if (!isCaptured(world, x, y, z))
+        {
+            return PORTAL_EAST | PORTAL_UP | PORTAL_SOUTH;
+        }
+
+        final byte computed = computePortals(world, x, y, z);
+        synchronized (this)
+        {
+            // Only store infos of sections which did not change since the snapshot was taken.
+            if (snapshotVersion >= oldestTrackedVersion && changedAt.get(key) <= snapshotVersion)
+            {
+                portals.put(key, computed);
+            }
+        }
+        return computed;
+    }
+
+    /**
+     * Check if all blocks the portal check of a section reads are in the snapshot, that is the section and a block around it.
+     */
+    private static boolean isCaptured(final LevelReader world, final int sectionX, final int sectionY, final int sectionZ)
+    {
+        if (!(world instanceof ChunkCache chunkCache))
+        {
+            return true;
+        }
+
+        final int minX = sectionX << 4;
+        final int minY = sectionY << 4;
+        final int minZ = sectionZ << 4;
+        return chunkCache.isCaptured(minX - 1, minY - 1, minZ - 1, minX + 16, minY + 17, minZ + 16);
+    }
+
+    /**
+     * Compute the portals on the positive faces of a section.
+     */
+    private static byte computePortals(final LevelReader world, final int sectionX, final int sectionY, final int sectionZ)
+    {
+        final int minX = sectionX << 4;
+        final int minY = sectionY << 4;
+        final int minZ = sectionZ << 4;
+        final BlockPos.MutableBlockPos pos = new BlockPos.MutableBlockPos();
+        byte flags = 0;
+
+        for (int a = 0; a < 16; a++)
+        {
+            for (int b = 0; b < 16; b++)
+            {
+                if ((flags & PORTAL_EAST) == 0 && isStandable(world, pos, minX + 15, minY + a, minZ + b) && isStandable(world, pos, minX + 16, minY + a, minZ + b))
+                {
+                    flags |= PORTAL_EAST;
+                }
+                if ((flags & PORTAL_SOUTH) == 0 && isStandable(world, pos, minX + a, minY + b, minZ + 15) && isStandable(world, pos, minX + a, minY + b, minZ + 16))
+                {
+                    flags |= PORTAL_SOUTH;
+                }
+                if ((flags & PORTAL_UP) == 0 && isStandable(world, pos, minX + a, minY + 15, minZ + b) && hasStandableNeighbourAbove(world, pos, minX + a, minY + 16, minZ + b))
+                {
+                    flags |= PORTAL_UP;
+                }
+            }
+
+            if (flags == (PORTAL_EAST | PORTAL_UP | PORTAL_SOUTH))
+            {
+                break;
+            }
+        }
+
+        return flags;
+    }
+
+    /**
+     * Check if a position one block higher can be reached by a jump or a ladder.
+     */
+    private static boolean hasStandableNeighbourAbove(final LevelReader world, final BlockPos.MutableBlockPos pos, final int x, final int y, final int z)
+    {
+        return isStandable(world, pos, x, y, z)
+                 || isStandable(world, pos, x + 1, y, z)
+                 || isStandable(world, pos, x - 1, y, z)
+                 || isStandable(world, pos, x, y, z + 1)
+                 || isStandable(world, pos, x, y, z - 1);
+    }
+
+    /**
+     * Approximate check whether an entity can stand at a position: walkable ground and room for feet and head.
+     */
+    private static boolean isStandable(final LevelReader world, final BlockPos.MutableBlockPos pos, final int x, final int y, final int z)
+    {
+        final BlockState feet = world.getBlockState(pos.set(x, y, z));
+        if (!PathfindingStateCache.hasLowCollision(world, feet, pos) || PathfindingStateCache.get(feet).liquid)
+        {
+            return false;
+        }
+
+        final BlockState head = world.getBlockState(pos.set(x, y + 1, z));
+        if (!PathfindingStateCache.hasLowCollision(world, head, pos))
+        {
+            return false;
+        }
+
+        final BlockState ground = world.getBlockState(pos.set(x, y - 1, z));
+        return PathfindingStateCache.getSurfaceType(world, ground, pos, null) == SurfaceType.WALKABLE;
+    }
+}
@@ -1,24 +1,29 @@
 package com.minecolonies.coremod.entity.pathfinding.pathjobs;
 
-import com.ldtteam.domumornamentum.block.decorative.FloatingCarpetBlock;
 import com.ldtteam.domumornamentum.block.decorative.PanelBlock;
-import com.minecolonies.api.blocks.decorative.AbstractBlockMinecoloniesConstructionTape;
 import com.minecolonies.api.blocks.huts.AbstractBlockMinecoloniesDefault;
 import com.minecolonies.api.entity.pathfinding.*;
 import com.minecolonies.api.util.BlockPosUtil;
 import com.minecolonies.api.util.Log;
 import com.minecolonies.coremod.MineColonies;
 import com.minecolonies.coremod.Network;
-import com.minecolonies.coremod.blocks.BlockDecorationController;
-import com.minecolonies.coremod.entity.pathfinding.CachingBlockLookup;
 import com.minecolonies.coremod.entity.pathfinding.ChunkCache;
 import com.minecolonies.coremod.entity.pathfinding.MNode;
+import com.minecolonies.coremod.entity.pathfinding.MNodeHeap;
+import com.minecolonies.coremod.entity.pathfinding.MNodeStore;
+import com.minecolonies.coremod.entity.pathfinding.PathJobPriority;
 import com.minecolonies.coremod.entity.pathfinding.PathPointExtended;
+import com.minecolonies.coremod.entity.pathfinding.PathJobTask;
+import com.minecolonies.coremod.entity.pathfinding.PathSearchStats;
+import com.minecolonies.coremod.entity.pathfinding.PathfindingTelemetry;
+import com.minecolonies.coremod.entity.pathfinding.PathfindingStateCache;
+import com.minecolonies.coremod.entity.pathfinding.SectionGraph;
 import com.minecolonies.coremod.network.messages.client.SyncPathMessage;
 import com.minecolonies.coremod.network.messages.client.SyncPathReachedMessage;
-import com.minecolonies.coremod.util.WorkerUtil;
+import it.unimi.dsi.fastutil.longs.LongSet;
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.Direction;
+import net.minecraft.core.SectionPos;
 import net.minecraft.core.Vec3i;
 import net.minecraft.server.level.ServerPlayer;
 import net.minecraft.util.Mth;
@@ -29,9 +34,7 @@ import net.minecraft.world.level.Level;
 import net.minecraft.world.level.LevelReader;
 import net.minecraft.world.level.block.*;
 import net.minecraft.world.level.block.state.BlockState;
-import net.minecraft.world.level.block.state.properties.BlockStateProperties;
 import net.minecraft.world.level.block.state.properties.Half;
-import net.minecraft.world.level.material.Material;
 import net.minecraft.world.level.pathfinder.BlockPathTypes;
 import net.minecraft.world.level.pathfinder.Node;
 import net.minecraft.world.level.pathfinder.Path;
@@ -63,16 +66,11 @@ public abstract class AbstractPathJob implements Callable<Path>, IPathJob
     protected BlockPos end = null;
 
     /**
-     * The pathing cache.
+     * The pathing cache, a snapshot of the chunk sections in the search area.
      */
     @NotNull
     protected final LevelReader world;
 
-    /**
-     * Cached block lookup
-     */
-    protected CachingBlockLookup cachedBlockLookup;
-
     /**
      * The result of the path calculation.
      */
@@ -84,14 +82,22 @@ public abstract class AbstractPathJob implements Callable<Path>, IPathJob
     protected final int maxRange;
 
     /**
-     * Queue of all open nodes.
+     * Open and visited nodes of the running search, acquired on the pathfinding thread.
      */
-    private final Queue<MNode> nodesOpen = new PriorityQueue<>(500);
+    private MNodeStore nodeStore;
 
     /**
-     * Queue of all the visited nodes.
+     * Section graph of the colony for hierarchical searches, with its version at job creation.
      */
-    private final Map<Integer, MNode> nodesVisited = new HashMap<>();
+    @Nullable
+    private SectionGraph sectionGraph;
+    private long         sectionGraphVersion;
+
+    /**
+     * Sections the running search is restricted to, null for a flat search.
+     */
+    @Nullable
+    private LongSet corridor;
 
     //  Debug Rendering
     protected     boolean    debugDrawEnabled     = false;
@@ -106,6 +112,11 @@ public abstract class AbstractPathJob implements Callable<Path>, IPathJob
     private       int        totalNodesAdded      = 0;
     private       int        totalNodesVisited    = 0;
 
+    /**
+     * Blocks around a hard restricted area which are captured for the search.
+     */
+    private static final int HARD_RESTRICTION_PADDING = 2;
+
     /**
      * Which citizens are being tracked by which players.
      */
@@ -141,6 +152,17 @@ public abstract class AbstractPathJob implements Callable<Path>, IPathJob
      */
     protected WeakReference<LivingEntity> entity;
 
+    /**
+     * Scheduling priority of this job.
+     */
+    private PathJobPriority priority = PathJobPriority.WORK;
+
+    /**
+     * Colony the job is accounted to and the time it waited in the queue, set by the scheduler.
+     */
+    private PathJobTask.ColonyKey colonyKey      = PathJobTask.NO_COLONY;
+    private long                  queueWaitNanos = 0;
+
     /**
      * AbstractPathJob constructor.
      *
@@ -176,12 +198,15 @@ public abstract class AbstractPathJob implements Callable<Path>, IPathJob
         this.restrictionType = AbstractAdvancedPathNavigate.RestrictionType.NONE;
         this.hardXzRestriction = false;
 
-        this.world = new ChunkCache(world, new BlockPos(minX, world.getMinBuildHeight(), minZ), new BlockPos(maxX, world.getMaxBuildHeight(), maxZ), range, world.dimensionType());
+        // A path of the given range can't leave this y band, the snapshot only copies the sections within it.
+        final int minY = Math.min(start.getY(), end.getY()) - range;
+        final int maxY = Math.max(start.getY(), end.getY()) + range;
+
+        this.world = new ChunkCache(world, new BlockPos(minX, minY, minZ), new BlockPos(maxX, maxY, maxZ), range, world.dimensionType());
 
         this.start = new BlockPos(start);
         this.end = end;
 
-        cachedBlockLookup = new CachingBlockLookup(start, this.world);
         this.maxRange = range;
 
         this.result = result;
@@ -264,10 +289,14 @@ public abstract class AbstractPathJob implements Callable<Path>, IPathJob
         this.restrictionType = restrictionType;
         this.hardXzRestriction = hardRestriction;
 
-        this.world = new ChunkCache(world, new BlockPos(minX, world.getMinBuildHeight(), minZ), new BlockPos(maxX, world.getMaxBuildHeight(), maxZ), range, world.dimensionType());
+        // A hard restriction only walks nodes inside the box, so just the blocks next to it are read. The y band is left by up to the range either way.
+        this.world = new ChunkCache(world,
+          new BlockPos(minX, Math.min(start.getY(), minY) - range, minZ),
+          new BlockPos(maxX, Math.max(start.getY(), maxY) + range, maxZ),
+          hardRestriction ? HARD_RESTRICTION_PADDING : range,
+          world.dimensionType());
 
         this.start = start;
-        cachedBlockLookup = new CachingBlockLookup(start, this.world);
         this.maxRange = range;
 
         this.result = result;
@@ -500,20 +529,6 @@ public abstract class AbstractPathJob implements Callable<Path>, IPathJob
                  (nextInPath.pos.getX() == pos.getX() && nextInPath.pos.getZ() == pos.getZ());
     }
 
-    /**
-     * Generate a pseudo-unique key for identifying a given node by it's coordinates Encodes the lowest 12 bits of x,z and all useful bits of y. This creates unique keys for all
-     * blocks within a 4096x256x4096 cube, which is FAR bigger volume than one should attempt to pathfind within This version takes a BlockPos
-     *
-     * @param pos BlockPos to generate key from
-     * @return key for node in map
-     */
-    private static int computeNodeKey(@NotNull final BlockPos pos)
-    {
-        return ((pos.getX() & 0xFFF) << SHIFT_X_BY)
-                 | ((pos.getY() & 0xFF) << SHIFT_Y_BY)
-                 | (pos.getZ() & 0xFFF);
-    }
-
     /**
      * Compute the cost (immediate 'g' value) of moving from the parent space to the new space.
      *
@@ -538,8 +553,9 @@ public abstract class AbstractPathJob implements Callable<Path>, IPathJob
       final BlockPos blockPos)
     {
         double cost = Math.sqrt(dPos.getX() * dPos.getX() + dPos.getZ() * dPos.getZ());
+        final PathfindingStateCache.StateInfo info = PathfindingStateCache.get(world.getBlockState(blockPos));
 
-        if (dPos.getY() != 0 && !(Math.abs(dPos.getY()) <= 1 && world.getBlockState(blockPos).getBlock() instanceof StairBlock))
+        if (dPos.getY() != 0 && !(Math.abs(dPos.getY()) <= 1 && info.stair))
         {
             if (dPos.getY() > 0 && pathingOptions.jumpCost != 1)
             {
@@ -551,7 +567,7 @@ public abstract class AbstractPathJob implements Callable<Path>, IPathJob
             }
         }
 
-        if (world.getBlockState(blockPos).hasProperty(BlockStateProperties.OPEN))
+        if (info.toggleable)
         {
             cost *= pathingOptions.traverseToggleAbleCost;
         }
@@ -571,7 +587,7 @@ public abstract class AbstractPathJob implements Callable<Path>, IPathJob
             cost *= pathingOptions.railsExitCost;
         }
 
-        if (state.getBlock() instanceof VineBlock)
+        if (PathfindingStateCache.get(state).vine)
         {
             cost *= pathingOptions.vineCost;
         }
@@ -601,6 +617,17 @@ public abstract class AbstractPathJob implements Callable<Path>, IPathJob
         return (node == null) ? SurfaceType.isWater(world, pos.below()) : node.isSwimming();
     }
 
+    /**
+     * Get the start position of the search.
+     *
+     * @return the start position.
+     */
+    @NotNull
+    public BlockPos getStart()
+    {
+        return start;
+    }
+
     @Override
     public PathResult getResult()
     {
@@ -621,15 +648,35 @@ public abstract class AbstractPathJob implements Callable<Path>, IPathJob
     @Override
     public final Path call()
     {
+        final long startTime = System.nanoTime();
+        PathfindingTelemetry.ResultKind resultKind = PathfindingTelemetry.ResultKind.FAILED;
         try
         {
-            return search();
+            final Path path = search();
+            if (path != null)
+            {
+                resultKind = result.isPathReachingDestination() ? PathfindingTelemetry.ResultKind.REACHED : PathfindingTelemetry.ResultKind.BEST_EFFORT;
+            }
+            else if (Thread.currentThread().isInterrupted())
+            {
+                resultKind = PathfindingTelemetry.ResultKind.INTERRUPTED;
+            }
+            return path;
         }
         catch (final Exception e)
         {
             // Log everything, so exceptions of the pathfinding-thread show in Log
             Log.getLogger().warn("Pathfinding Exception", e);
         }
+        finally
+        {
+            if (nodeStore != null)
+            {
+                nodeStore.release();
+                nodeStore = null;
+            }
+            PathfindingTelemetry.record(getClass().getSimpleName(), colonyKey, totalNodesVisited, System.nanoTime() - startTime, queueWaitNanos, resultKind);
+        }
 
         return null;
     }
@@ -642,6 +689,57 @@ public abstract class AbstractPathJob implements Callable<Path>, IPathJob
     @Nullable
     protected Path search()
     {
+        // Debug nodes are synced to the client after the search, so they must not be reused.
+        nodeStore = debugDrawEnabled ? MNodeStore.unpooled() : MNodeStore.forCurrentThread();
+
+        if (end == null)
+        {
+            return searchNodes();
+        }
+
+        if (pathingOptions.isHierarchical() && sectionGraph != null)
+        {
+            // Route over the section graph first, then refine within the found sections only.
+            corridor = sectionGraph.findCorridor(world, sectionGraphVersion, start, end);
+            if (corridor != null)
+            {
+                final Path path = searchNodes();
+                PathSearchStats.record(true, totalNodesVisited, result.isPathReachingDestination());
+                if (path == null || result.isPathReachingDestination())
+                {
+                    return path;
+                }
+
+                // The section graph is only an approximation, so retry without the corridor.
+                PathSearchStats.recordFallback();
+                corridor = null;
+                nodeStore.release();
+                totalNodesAdded = 0;
+                totalNodesVisited = 0;
+                if (debugDrawEnabled)
+                {
+                    debugNodesVisited.clear();
+                    debugNodesNotVisited.clear();
+                    debugNodesPath.clear();
+                }
+            }
+        }
+
+        final Path path = searchNodes();
+        PathSearchStats.record(false, totalNodesVisited, result.isPathReachingDestination());
+        return path;
+    }
+
+    /**
+     * Run the node search from the start node.
+     *
+     * @return Path of a path to the given location, a best-effort, or null.
+     */
+    @Nullable
+    private Path searchNodes()
+    {
+        final MNodeHeap nodesOpen = nodeStore.getOpen();
+
         MNode bestNode = getAndSetupStartNode();
 
         double bestNodeResultScore = Double.MAX_VALUE;
@@ -668,7 +766,7 @@ public abstract class AbstractPathJob implements Callable<Path>, IPathJob
             currentNode.setClosed();
 
             final boolean isViablePosition = isInRestrictedArea(currentNode.pos)
-                                               && SurfaceType.getSurfaceType(world, world.getBlockState(currentNode.pos.below()), currentNode.pos.below()) == SurfaceType.WALKABLE;
+                                               && PathfindingStateCache.getSurfaceType(world, world.getBlockState(currentNode.pos.below()), currentNode.pos.below(), null) == SurfaceType.WALKABLE;
             if (isViablePosition && isAtDestination(currentNode))
             {
                 bestNode = currentNode;
@@ -725,8 +823,6 @@ public abstract class AbstractPathJob implements Callable<Path>, IPathJob
 
     private void walkCurrentNode(@NotNull final MNode currentNode)
     {
-        cachedBlockLookup.resetToNextPos(currentNode.pos);
-
         BlockPos dPos = BLOCKPOS_IDENTITY;
         if (currentNode.parent != null)
         {
@@ -753,7 +849,7 @@ public abstract class AbstractPathJob implements Callable<Path>, IPathJob
         }
 
         // Walk downwards node if passable
-        if (isPassable(currentNode.pos.below(), false, currentNode.parent) && (!currentNode.isSwimming() && isLiquid(cachedBlockLookup.getBlockState(currentNode.pos.below()))))
+        if (isPassable(currentNode.pos.below(), false, currentNode.parent) && (!currentNode.isSwimming() && isLiquid(world.getBlockState(currentNode.pos.below()))))
         {
             walk(currentNode, BLOCKPOS_DOWN);
         }
@@ -791,8 +887,8 @@ public abstract class AbstractPathJob implements Callable<Path>, IPathJob
     @NotNull
     private MNode getAndSetupStartNode()
     {
-        @NotNull final MNode startNode = new MNode(start,
-          computeHeuristic(start));
+        final double heuristic = computeHeuristic(start);
+        @NotNull final MNode startNode = nodeStore.obtain(null, start, 0, heuristic, heuristic);
 
         if (isLadder(start))
         {
@@ -803,10 +899,10 @@ public abstract class AbstractPathJob implements Callable<Path>, IPathJob
             startNode.setSwimming();
         }
 
-        startNode.setOnRails(pathingOptions.canUseRails() && world.getBlockState(start).getBlock() instanceof BaseRailBlock);
+        startNode.setOnRails(pathingOptions.canUseRails() && PathfindingStateCache.get(world.getBlockState(start)).rail);
 
-        nodesOpen.offer(startNode);
-        nodesVisited.put(computeNodeKey(start), startNode);
+        nodeStore.getOpen().offer(startNode);
+        nodeStore.putVisited(MNodeStore.computeNodeKey(start), startNode);
 
         ++totalNodesAdded;
 
@@ -821,7 +917,7 @@ public abstract class AbstractPathJob implements Callable<Path>, IPathJob
      */
     public boolean isLiquid(final BlockState state)
     {
-        return state.getMaterial().isLiquid() || (!state.getMaterial().blocksMotion() && !state.getFluidState().isEmpty());
+        return PathfindingStateCache.get(state).liquid;
     }
 
     /**
@@ -1039,8 +1135,13 @@ public abstract class AbstractPathJob implements Callable<Path>, IPathJob
             }
         }
 
-        int nodeKey = computeNodeKey(pos);
-        MNode node = nodesVisited.get(nodeKey);
+        if (corridor != null && !corridor.contains(SectionPos.asLong(pos.getX() >> 4, pos.getY() >> 4, pos.getZ() >> 4)))
+        {
+            return false;
+        }
+
+        final long nodeKey = MNodeStore.computeNodeKey(pos);
+        MNode node = nodeStore.getVisited(nodeKey);
         if (nodeClosed(node))
         {
             //  Early out on closed nodes (closed = expanded from)
@@ -1055,9 +1156,9 @@ public abstract class AbstractPathJob implements Callable<Path>, IPathJob
         }
 
         final boolean swimStart = isSwimming && !parent.isSwimming();
-        final BlockState state = cachedBlockLookup.getBlockState(pos);
-        final boolean onRoad = WorkerUtil.isPathBlock(cachedBlockLookup.getBlockState(pos.below()).getBlock());
-        final boolean onRails = pathingOptions.canUseRails() && cachedBlockLookup.getBlockState(corner ? pos.below() : pos).getBlock() instanceof BaseRailBlock;
+        final BlockState state = world.getBlockState(pos);
+        final boolean onRoad = PathfindingStateCache.get(world.getBlockState(pos.below())).pathBlock;
+        final boolean onRails = pathingOptions.canUseRails() && PathfindingStateCache.get(world.getBlockState(corner ? pos.below() : pos)).rail;
         final boolean railsExit = !onRails && parent != null && parent.isOnRails();
         //  Cost may have changed due to a jump up or drop
         double stepCost = computeCost(dPos, isSwimming, onRoad, onRails, railsExit, swimStart, corner, state, pos);
@@ -1078,7 +1179,7 @@ public abstract class AbstractPathJob implements Callable<Path>, IPathJob
             return false;
         }
 
-        nodesOpen.offer(node);
+        nodeStore.getOpen().offer(node);
 
         //  Jump Point Search-ish optimization:
         // If this node was a (heuristic-based) improvement on our parent,
@@ -1112,12 +1213,12 @@ public abstract class AbstractPathJob implements Callable<Path>, IPathJob
 
     @NotNull
     private MNode createNode(
-      final MNode parent, @NotNull final BlockPos pos, final int nodeKey,
+      final MNode parent, @NotNull final BlockPos pos, final long nodeKey,
       final boolean isSwimming, final double heuristic, final double cost, final double score)
     {
         final MNode node;
-        node = new MNode(parent, pos, cost, heuristic, score);
-        nodesVisited.put(nodeKey, node);
+        node = nodeStore.obtain(parent, pos, cost, heuristic, score);
+        nodeStore.putVisited(nodeKey, node);
         if (debugDrawEnabled)
         {
             debugNodesNotVisited.add(node);
@@ -1146,7 +1247,7 @@ public abstract class AbstractPathJob implements Callable<Path>, IPathJob
             return true;
         }
 
-        if (!nodesOpen.remove(node))
+        if (!nodeStore.getOpen().remove(node))
         {
             return true;
         }
@@ -1168,7 +1269,7 @@ public abstract class AbstractPathJob implements Callable<Path>, IPathJob
      */
     protected int getGroundHeight(final MNode parent, @NotNull final BlockPos pos)
     {
-        if (isLiquid(cachedBlockLookup.getBlockState(pos.above())))
+        if (isLiquid(world.getBlockState(pos.above())))
         {
             return -100;
         }
@@ -1176,19 +1277,19 @@ public abstract class AbstractPathJob implements Callable<Path>, IPathJob
         //  lower body (headroom drop) or lower body (jump up)
         if (checkHeadBlock(parent, pos))
         {
-            return handleTargetNotPassable(parent, pos.above(), cachedBlockLookup.getBlockState(pos.above()));
+            return handleTargetNotPassable(parent, pos.above(), world.getBlockState(pos.above()));
         }
 
         //  Now check the block we want to move to
-        final BlockState target = cachedBlockLookup.getBlockState(pos);
+        final BlockState target = world.getBlockState(pos);
         if (!isPassable(target, pos, parent, false))
         {
             return handleTargetNotPassable(parent, pos, target);
         }
 
         //  Do we have something to stand on in the target space?
-        final BlockState below = cachedBlockLookup.getBlockState(pos.below());
-        final SurfaceType walkability = SurfaceType.getSurfaceType(world, below, pos);
+        final BlockState below = world.getBlockState(pos.below());
+        final SurfaceType walkability = PathfindingStateCache.getSurfaceType(world, below, pos, null);
         if (walkability == SurfaceType.WALKABLE)
         {
             //  Level path
@@ -1224,20 +1325,20 @@ public abstract class AbstractPathJob implements Callable<Path>, IPathJob
         final boolean canDrop = parent != null && !parent.isLadder();
         //  Nothing to stand on
         if (!canDrop || ((parent.pos.getX() != pos.getX() || parent.pos.getZ() != pos.getZ()) && isPassable(parent.pos.below(), false, parent)
-                           && SurfaceType.getSurfaceType(world, cachedBlockLookup.getBlockState(parent.pos.below()), parent.pos.below()) == SurfaceType.DROPABLE))
+                           && PathfindingStateCache.getSurfaceType(world, world.getBlockState(parent.pos.below()), parent.pos.below(), null) == SurfaceType.DROPABLE))
         {
             return -100;
         }
 
         for (int i = 2; i <= 10; i++)
         {
-            final BlockState below = cachedBlockLookup.getBlockState(pos.below(i));
-            if (SurfaceType.getSurfaceType(world, below, pos) == SurfaceType.WALKABLE && i <= 3 || isLiquid(below))
+            final BlockState below = world.getBlockState(pos.below(i));
+            if (PathfindingStateCache.getSurfaceType(world, below, pos, null) == SurfaceType.WALKABLE && i <= 3 || isLiquid(below))
             {
                 //  Level path
                 return pos.getY() - i + 1;
             }
-            else if (below.getMaterial() != Material.AIR)
+            else if (!PathfindingStateCache.get(below).air)
             {
                 return -100;
             }
@@ -1268,7 +1369,7 @@ public abstract class AbstractPathJob implements Callable<Path>, IPathJob
     {
         final boolean canJump = parent != null && !parent.isLadder() && !parent.isSwimming();
         //  Need to try jumping up one, if we can
-        if (!canJump || SurfaceType.getSurfaceType(world, target, pos) != SurfaceType.WALKABLE)
+        if (!canJump || PathfindingStateCache.getSurfaceType(world, target, pos, null) != SurfaceType.WALKABLE)
         {
             return -100;
         }
@@ -1276,9 +1377,7 @@ public abstract class AbstractPathJob implements Callable<Path>, IPathJob
         //  Check for headroom in the target space
         if (!isPassable(pos.above(2), false, parent))
         {
-            final VoxelShape bb1 = cachedBlockLookup.getBlockState(pos).getCollisionShape(world, pos);
-            final VoxelShape bb2 = cachedBlockLookup.getBlockState(pos.above(2)).getCollisionShape(world, pos.above(2));
-            if ((pos.above(2).getY() + getStartY(bb2, 1)) - (pos.getY() + getEndY(bb1, 0)) < 2)
+            if ((pos.above(2).getY() + getStartY(pos.above(2), 1)) - (pos.getY() + getEndY(pos, 0)) < 2)
             {
                 return -100;
             }
@@ -1292,26 +1391,21 @@ public abstract class AbstractPathJob implements Callable<Path>, IPathJob
         //  Check for jump room from the origin space
         if (!isPassable(parent.pos.above(2), false, parent))
         {
-            final VoxelShape bb1 = cachedBlockLookup.getBlockState(pos).getCollisionShape(world, pos);
-            final VoxelShape bb2 = cachedBlockLookup.getBlockState(parent.pos.above(2)).getCollisionShape(world, parent.pos.above(2));
-            if ((parent.pos.above(2).getY() + getStartY(bb2, 1)) - (pos.getY() + getEndY(bb1, 0)) < 2)
+            if ((parent.pos.above(2).getY() + getStartY(parent.pos.above(2), 1)) - (pos.getY() + getEndY(pos, 0)) < 2)
             {
                 return -100;
             }
         }
 
 
-        final BlockState parentBelow = cachedBlockLookup.getBlockState(parent.pos.below());
-        final VoxelShape parentBB = parentBelow.getCollisionShape(world, parent.pos.below());
-
-        double parentY = parentBB.max(Direction.Axis.Y);
+        double parentY = getEndY(parent.pos.below(), Double.NEGATIVE_INFINITY);
         double parentMaxY = parentY + parent.pos.below().getY();
-        final double targetMaxY = target.getCollisionShape(world, pos).max(Direction.Axis.Y) + pos.getY();
+        final double targetMaxY = PathfindingStateCache.getCollisionEndY(world, target, pos, Double.NEGATIVE_INFINITY) + pos.getY();
         if (targetMaxY - parentMaxY < MAX_JUMP_HEIGHT)
         {
             return pos.getY() + 1;
         }
-        if (target.getBlock() instanceof StairBlock
+        if (PathfindingStateCache.get(target).stair
               && parentY - HALF_A_BLOCK < MAX_JUMP_HEIGHT
               && target.getValue(StairBlock.HALF) == Half.BOTTOM
               && BlockPosUtil.getXZFacing(parent.pos, pos) == target.getValue(StairBlock.FACING))
@@ -1324,8 +1418,7 @@ public abstract class AbstractPathJob implements Callable<Path>, IPathJob
     private boolean checkHeadBlock(@Nullable final MNode parent, @NotNull final BlockPos pos)
     {
         BlockPos localPos = pos;
-        final VoxelShape bb = cachedBlockLookup.getBlockState(localPos).getCollisionShape(world, localPos);
-        if (bb.max(Direction.Axis.Y) < 1)
+        if (getEndY(localPos, Double.NEGATIVE_INFINITY) < 1)
         {
             localPos = pos.above();
         }
@@ -1337,16 +1430,15 @@ public abstract class AbstractPathJob implements Callable<Path>, IPathJob
 
         if (!isPassable(pos.above(), true, parent))
         {
-            final VoxelShape bb1 = cachedBlockLookup.getBlockState(pos.below()).getCollisionShape(world, pos.below());
-            final VoxelShape bb2 = cachedBlockLookup.getBlockState(pos.above()).getCollisionShape(world, pos.above());
-            if ((pos.above().getY() + getStartY(bb2, 1)) - (pos.below().getY() + getEndY(bb1, 0)) < 2)
+            final double headStartY = getStartY(pos.above(), 1);
+            if ((pos.above().getY() + headStartY) - (pos.below().getY() + getEndY(pos.below(), 0)) < 2)
             {
                 return true;
             }
             if (parent != null)
             {
-                final VoxelShape bb3 = cachedBlockLookup.getBlockState(parent.pos.below()).getCollisionShape(world, pos.below());
-                if ((pos.above().getY() + getStartY(bb2, 1)) - (parent.pos.below().getY() + getEndY(bb3, 0)) < 1.75)
+                final double parentEndY = PathfindingStateCache.getCollisionEndY(world, world.getBlockState(parent.pos.below()), pos.below(), 0);
+                if ((pos.above().getY() + headStartY) - (parent.pos.below().getY() + parentEndY) < 1.75)
                 {
                     return true;
                 }
@@ -1355,10 +1447,8 @@ public abstract class AbstractPathJob implements Callable<Path>, IPathJob
 
         if (parent != null)
         {
-            final BlockState hereState = cachedBlockLookup.getBlockState(localPos.below());
-            final VoxelShape bb1 = cachedBlockLookup.getBlockState(pos).getCollisionShape(world, pos);
-            final VoxelShape bb2 = cachedBlockLookup.getBlockState(localPos.above()).getCollisionShape(world, localPos.above());
-            if ((localPos.above().getY() + getStartY(bb2, 1)) - (pos.getY() + getEndY(bb1, 0)) >= 2)
+            final BlockState hereState = world.getBlockState(localPos.below());
+            if ((localPos.above().getY() + getStartY(localPos.above(), 1)) - (pos.getY() + getEndY(pos, 0)) >= 2)
             {
                 return false;
             }
@@ -1369,27 +1459,27 @@ public abstract class AbstractPathJob implements Callable<Path>, IPathJob
     }
 
     /**
-     * Get the start y of a voxelshape.
+     * Get the start y of the collision shape at a position.
      *
-     * @param bb  the voxelshape.
+     * @param pos the position.
      * @param def the default if empty.
      * @return the start y.
      */
-    private double getStartY(final VoxelShape bb, final int def)
+    private double getStartY(final BlockPos pos, final double def)
     {
-        return bb.isEmpty() ? def : bb.min(Direction.Axis.Y);
+        return PathfindingStateCache.getCollisionStartY(world, world.getBlockState(pos), pos, def);
     }
 
     /**
-     * Get the end y of a voxelshape.
+     * Get the end y of the collision shape at a position.
      *
-     * @param bb  the voxelshape.
+     * @param pos the position.
      * @param def the default if empty.
      * @return the end y.
      */
-    private double getEndY(final VoxelShape bb, final int def)
+    private double getEndY(final BlockPos pos, final double def)
     {
-        return bb.isEmpty() ? def : bb.max(Direction.Axis.Y);
+        return PathfindingStateCache.getCollisionEndY(world, world.getBlockState(pos), pos, def);
     }
 
     /**
@@ -1407,12 +1497,13 @@ public abstract class AbstractPathJob implements Callable<Path>, IPathJob
             return false;
         }
 
-        if (block.getMaterial() != Material.AIR)
+        final PathfindingStateCache.StateInfo info = PathfindingStateCache.get(block);
+        if (!info.air)
         {
-            final VoxelShape shape = block.getCollisionShape(world, pos);
-            if (block.getMaterial().blocksMotion() && !(shape.isEmpty() || shape.max(Direction.Axis.Y) <= 0.1))
+            final boolean lowCollision = PathfindingStateCache.hasLowCollision(world, block, pos);
+            if (info.blocksMotion && !lowCollision)
             {
-                if (block.getBlock() instanceof TrapDoorBlock || block.getBlock() instanceof PanelBlock)
+                if (info.trapdoorOrPanel)
                 {
                     BlockPos parentPos = parent == null ? start : parent.pos;
                     if (head)
@@ -1459,16 +1550,10 @@ public abstract class AbstractPathJob implements Callable<Path>, IPathJob
                 }
                 else
                 {
-                    return pathingOptions.canEnterDoors() && (block.getBlock() instanceof DoorBlock || block.getBlock() instanceof FenceGateBlock)
-                             || block.getBlock() instanceof AbstractBlockMinecoloniesConstructionTape
-                             || block.getBlock() instanceof PressurePlateBlock
-                             || block.getBlock() instanceof BlockDecorationController
-                             || block.getBlock() instanceof SignBlock
-                             || block.getBlock() instanceof AbstractBannerBlock
-                             || !block.getBlock().properties.hasCollision;
+                    return pathingOptions.canEnterDoors() && info.doorOrGate || info.passableDecoration;
                 }
             }
-            else if (block.getBlock() instanceof FireBlock || block.getBlock() instanceof SweetBerryBushBlock || block.getBlock() instanceof PowderSnowBlock)
+            else if (info.hazard)
             {
                 return false;
             }
@@ -1479,7 +1564,8 @@ public abstract class AbstractPathJob implements Callable<Path>, IPathJob
                     return true;
                 }
 
-                if (shape.isEmpty() || shape.max(Direction.Axis.Y) <= 0.1 && !isLiquid((block)) && (block.getBlock() != Blocks.SNOW || block.getValue(SnowLayerBlock.LAYERS) == 1))
+                if (PathfindingStateCache.hasEmptyCollision(world, block, pos)
+                      || (lowCollision && !info.liquid && (block.getBlock() != Blocks.SNOW || block.getValue(SnowLayerBlock.LAYERS) == 1)))
                 {
                     final BlockPathTypes pathType = block.getBlockPathType(world, pos, (Mob) entity.get());
                     if (pathType == null || pathType.getDanger() == null)
@@ -1496,12 +1582,11 @@ public abstract class AbstractPathJob implements Callable<Path>, IPathJob
 
     protected boolean isPassable(final BlockPos pos, final boolean head, final MNode parent)
     {
-        final BlockState state = cachedBlockLookup.getBlockState(pos);
-        final VoxelShape shape = state.getCollisionShape(world, pos);
-        if (shape.isEmpty() || shape.max(Direction.Axis.Y) <= 0.1)
+        final BlockState state = world.getBlockState(pos);
+        if (PathfindingStateCache.hasLowCollision(world, state, pos))
         {
             return !head
-                     || !(state.getBlock() instanceof WoolCarpetBlock || state.getBlock() instanceof FloatingCarpetBlock)
+                     || !PathfindingStateCache.get(state).carpet
                      || isLadder(state.getBlock(), pos);
         }
         return isPassable(state, pos, parent, head);
@@ -1521,8 +1606,8 @@ public abstract class AbstractPathJob implements Callable<Path>, IPathJob
         {
             parentPos = parentPos.above();
         }
-        final BlockState parentBlock = cachedBlockLookup.getBlockState(parentPos);
-        if (parentBlock.getBlock() instanceof TrapDoorBlock || parentBlock.getBlock() instanceof PanelBlock)
+        final BlockState parentBlock = world.getBlockState(parentPos);
+        if (PathfindingStateCache.get(parentBlock).trapdoorOrPanel)
         {
             final BlockPos dir = pos.subtract(parentPos);
             if (!parentBlock.getValue(TrapDoorBlock.OPEN))
@@ -1557,12 +1642,12 @@ public abstract class AbstractPathJob implements Callable<Path>, IPathJob
      */
     protected boolean isLadder(@NotNull final Block block, final BlockPos pos)
     {
-        return block.isLadder(this.cachedBlockLookup.getBlockState(pos), world, pos, entity.get()) && (block != Blocks.VINE || pathingOptions.canClimbVines());
+        return block.isLadder(world.getBlockState(pos), world, pos, entity.get()) && (block != Blocks.VINE || pathingOptions.canClimbVines());
     }
 
     protected boolean isLadder(final BlockPos pos)
     {
-        return isLadder(cachedBlockLookup.getBlockState(pos).getBlock(), pos);
+        return isLadder(world.getBlockState(pos).getBlock(), pos);
     }
 
     /**
@@ -1575,6 +1660,61 @@ public abstract class AbstractPathJob implements Callable<Path>, IPathJob
         this.pathingOptions.importFrom(pathingOptions);
     }
 
+    /**
+     * Sets the scheduling priority, must be called before the job is queued.
+     *
+     * @param priority the priority class.
+     */
+    public void setPriority(@NotNull final PathJobPriority priority)
+    {
+        this.priority = priority;
+    }
+
+    /**
+     * Get the scheduling priority.
+     *
+     * @return the priority class.
+     */
+    @NotNull
+    public PathJobPriority getPriority()
+    {
+        return priority;
+    }
+
+    /**
+     * Sets the scheduling data for telemetry, called by the scheduler right before the job runs.
+     *
+     * @param colonyKey      the colony the job is accounted to.
+     * @param queueWaitNanos the time the job waited in the queue.
+     */
+    public void setScheduling(final PathJobTask.ColonyKey colonyKey, final long queueWaitNanos)
+    {
+        this.colonyKey = colonyKey;
+        this.queueWaitNanos = queueWaitNanos;
+    }
+
+    /**
+     * Get the entity this job paths for.
+     *
+     * @return the entity or null if there is none or it was unloaded.
+     */
+    @Nullable
+    public LivingEntity getEntity()
+    {
+        return entity == null ? null : entity.get();
+    }
+
+    /**
+     * Sets the section graph used by hierarchical searches, must be called on the server thread together with the chunk snapshot.
+     *
+     * @param sectionGraph the colony section graph.
+     */
+    public void setSectionGraph(@Nullable final SectionGraph sectionGraph)
+    {
+        this.sectionGraph = sectionGraph;
+        this.sectionGraphVersion = sectionGraph == null ? 0 : sectionGraph.getVersion();
+    }
+
     /**
      * Check if in restricted area.
      *
@@ -66,6 +66,17 @@ public class PathJobMoveToLocation extends AbstractPathJob
         return super.search();
     }
 
+    /**
+     * Get the location this job paths to.
+     *
+     * @return the destination.
+     */
+    @NotNull
+    public BlockPos getDestination()
+    {
+        return destination;
+    }
+
     @Override
     protected BlockPos getPathTargetPos(final MNode finalNode)
     {
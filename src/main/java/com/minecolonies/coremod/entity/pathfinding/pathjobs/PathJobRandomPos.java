@@ -7,6 +7,7 @@ import com.minecolonies.api.util.BlockPosUtil;
 import com.minecolonies.api.util.Log;
 import com.minecolonies.coremod.MineColonies;
 import com.minecolonies.coremod.entity.pathfinding.MNode;
+import com.minecolonies.coremod.entity.pathfinding.PathJobPriority;
 import net.minecraft.util.RandomSource;
 import net.minecraft.world.entity.LivingEntity;
 import net.minecraft.world.level.pathfinder.Path;
@@ -64,6 +65,7 @@ public class PathJobRandomPos extends AbstractPathJob
       final LivingEntity entity)
     {
         super(world, start, start, range, new PathResult<PathJobRandomPos>(), entity);
+        setPriority(PathJobPriority.IDLE);
         this.minDistFromStart = minDistFromStart;
         this.maxDistToDest = -1;
 
@@ -90,6 +92,7 @@ public class PathJobRandomPos extends AbstractPathJob
       @NotNull final BlockPos dest)
     {
         super(world, start, dest, searchRange, new PathResult<PathJobRandomPos>(), entity);
+        setPriority(PathJobPriority.IDLE);
         this.minDistFromStart = minDistFromStart;
         this.maxDistToDest = maxDistToDest;
         this.destination = dest;
@@ -115,6 +118,7 @@ public class PathJobRandomPos extends AbstractPathJob
       final AbstractAdvancedPathNavigate.RestrictionType restrictionType)
     {
         super(world, start, startRestriction, endRestriction, range, false, new PathResult<PathJobRandomPos>(), entity, restrictionType);
+        setPriority(PathJobPriority.IDLE);
 
         this.minDistFromStart = minDistFromStart;
         this.maxDistToDest = -1;
@@ -1,6 +1,7 @@
 package com.minecolonies.coremod.entity.pathfinding.pathjobs;
 
 import com.minecolonies.coremod.entity.pathfinding.MNode;
+import com.minecolonies.coremod.entity.pathfinding.PathJobPriority;
 import net.minecraft.world.entity.LivingEntity;
 import net.minecraft.core.Direction;
 import net.minecraft.core.BlockPos;
@@ -29,6 +30,7 @@ public class PathJobWalkRandomEdge extends AbstractPathJob
       @NotNull final BlockPos start, final int range, final LivingEntity entity)
     {
         super(world, AbstractPathJob.prepareStart(entity), start, range, entity);
+        setPriority(PathJobPriority.IDLE);
     }
 
     @Override
@@ -29,8 +29,11 @@ import com.minecolonies.coremod.colony.jobs.AbstractJobGuard;
 import com.minecolonies.coremod.colony.jobs.JobFarmer;
 import com.minecolonies.coremod.colony.requestsystem.locations.EntityLocation;
 import com.minecolonies.coremod.commands.EntryPoint;
+import com.minecolonies.coremod.entity.ai.citizen.lumberjack.TreeRegistry;
 import com.minecolonies.coremod.entity.citizen.EntityCitizen;
 import com.minecolonies.coremod.entity.mobs.EntityMercenary;
+import com.minecolonies.coremod.entity.pathfinding.PathCache;
+import com.minecolonies.coremod.entity.pathfinding.SectionGraph;
 import com.minecolonies.coremod.event.capabilityproviders.MinecoloniesChunkCapabilityProvider;
 import com.minecolonies.coremod.event.capabilityproviders.MinecoloniesWorldCapabilityProvider;
 import com.minecolonies.coremod.event.capabilityproviders.MinecoloniesWorldColonyManagerCapabilityProvider;
@@ -492,6 +495,24 @@ public class EventHandler
         }
     }
 
+    /**
+     * Event called when a block changed and notifies its neighbours.
+     *
+     * @param event the event.
+     */
+    @SubscribeEvent
+    public static void onBlockNeighborNotify(@NotNull final BlockEvent.NeighborNotifyEvent event)
+    {
+        if (event.getLevel().isClientSide() || !(event.getLevel() instanceof Level))
+        {
+            return;
+        }
+
+        PathCache.onBlockChanged((Level) event.getLevel(), event.getPos());
+        SectionGraph.onBlockChanged((Level) event.getLevel(), event.getPos());
+        TreeRegistry.onBlockChanged((Level) event.getLevel(), event.getPos(), event.getState());
+    }
+
     /**
      * Event when a player right clicks a block, or right clicks with an item. Event gets cancelled when player has no permission. Event gets cancelled when the player has no
      * permission to place a hut, and tried it.
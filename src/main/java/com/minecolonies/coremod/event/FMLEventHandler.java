@@ -2,11 +2,22 @@ package com.minecolonies.coremod.event;
 
 import com.minecolonies.api.colony.IColonyManager;
 import com.minecolonies.coremod.Network;
+import com.minecolonies.coremod.colony.ColonyChunkIndex;
+import com.minecolonies.coremod.colony.requestsystem.management.manager.RequestSystemScheduler;
 import com.minecolonies.coremod.datalistener.*;
+import com.minecolonies.coremod.entity.ai.citizen.CitizenAIScheduler;
+import com.minecolonies.coremod.entity.ai.citizen.lumberjack.TreeRegistry;
+import com.minecolonies.coremod.entity.pathfinding.PathCache;
 import com.minecolonies.coremod.entity.pathfinding.Pathfinding;
+import com.minecolonies.coremod.entity.pathfinding.PathfindingStateCache;
+import com.minecolonies.coremod.entity.pathfinding.PathfindingTelemetry;
+import com.minecolonies.coremod.entity.pathfinding.SectionGraph;
 import com.minecolonies.coremod.network.messages.client.ServerUUIDMessage;
+import com.minecolonies.coremod.util.BlueprintPreparation;
+import com.minecolonies.coremod.util.ChunkCapabilitySync;
 import net.minecraft.server.level.ServerPlayer;
 import net.minecraftforge.event.AddReloadListenerEvent;
+import net.minecraftforge.event.TagsUpdatedEvent;
 import net.minecraftforge.event.TickEvent;
 import net.minecraftforge.event.entity.player.PlayerEvent;
 import net.minecraftforge.eventbus.api.SubscribeEvent;
@@ -22,13 +33,28 @@ public class FMLEventHandler
     @SubscribeEvent
     public static void onServerTick(final TickEvent.ServerTickEvent event)
     {
+        if (event.phase == TickEvent.Phase.START)
+        {
+            CitizenAIScheduler.onServerTickStart();
+        }
         IColonyManager.getInstance().onServerTick(event);
+        if (event.phase == TickEvent.Phase.END)
+        {
+            PathfindingTelemetry.onServerTick(event.getServer());
+            RequestSystemScheduler.onServerTick();
+            ChunkCapabilitySync.onServerTick(event.getServer());
+            Network.getNetwork().expireSplitTransfers();
+        }
     }
 
     @SubscribeEvent
     public static void onClientTick(final TickEvent.ClientTickEvent event)
     {
         IColonyManager.getInstance().onClientTick(event);
+        if (event.phase == TickEvent.Phase.END)
+        {
+            Network.getNetwork().expireSplitTransfers();
+        }
     }
 
     @SubscribeEvent
@@ -55,6 +81,12 @@ public class FMLEventHandler
         event.addListener(new ItemNbtListener());
     }
 
+    @SubscribeEvent
+    public static void onTagsUpdated(@NotNull final TagsUpdatedEvent event)
+    {
+        PathfindingStateCache.clear();
+    }
+
     @SubscribeEvent
     public static void onWorldTick(final TickEvent.LevelTickEvent event)
     {
@@ -65,11 +97,19 @@ public class FMLEventHandler
     public static void onServerAboutToStart(@NotNull final ServerAboutToStartEvent event)
     {
         IColonyManager.getInstance().getRecipeManager().reset();
+        ColonyChunkIndex.clear();
     }
 
     @SubscribeEvent
     public static void onServerStopped(@NotNull final ServerStoppingEvent event)
     {
         Pathfinding.shutdown();
+        RequestSystemScheduler.clear();
+        ChunkCapabilitySync.clear();
+        CitizenAIScheduler.clear();
+        TreeRegistry.clear();
+        PathCache.clear();
+        SectionGraph.clear();
+        BlueprintPreparation.clear();
     }
 }
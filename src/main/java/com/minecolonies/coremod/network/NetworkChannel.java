@@ -1,7 +1,5 @@
 package com.minecolonies.coremod.network;
 
-import com.google.common.cache.Cache;
-import com.google.common.cache.CacheBuilder;
 import com.google.common.collect.Maps;
 import com.minecolonies.api.network.IMessage;
 import com.minecolonies.api.util.Log;
@@ -27,6 +25,7 @@ import com.minecolonies.coremod.network.messages.server.colony.building.warehous
 import com.minecolonies.coremod.network.messages.server.colony.building.worker.*;
 import com.minecolonies.coremod.network.messages.server.colony.citizen.*;
 import com.minecolonies.coremod.network.messages.splitting.SplitPacketMessage;
+import com.minecolonies.coremod.network.messages.splitting.SplitPacketTransfer;
 import com.minecolonies.coremod.research.GlobalResearchTreeMessage;
 import io.netty.buffer.ByteBuf;
 import io.netty.buffer.Unpooled;
@@ -43,9 +42,10 @@ import net.minecraftforge.network.NetworkEvent;
 import net.minecraftforge.network.NetworkRegistry;
 import net.minecraftforge.network.PacketDistributor;
 import net.minecraftforge.network.simple.SimpleChannel;
+import org.jetbrains.annotations.Nullable;
 
-import java.util.Arrays;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
@@ -107,6 +107,11 @@ public class NetworkChannel
         }
     }
 
+    /**
+     * Time after which a split message which did not receive a fragment is dropped, in nanoseconds.
+     */
+    private static final long SPLIT_TRANSFER_TIMEOUT = TimeUnit.MINUTES.toNanos(1);
+
     /**
      * Forge network channel
      */
@@ -120,12 +125,9 @@ public class NetworkChannel
      */
     private final Map<Class<? extends IMessage>, Integer> messageTypeToIdMap = Maps.newHashMap();
     /**
-     * Cache of partially received messages, this holds the data untill it is processed.
+     * Partially received split messages, this holds the fragments untill the message is complete or expires.
      */
-    private final Cache<Integer, Map<Integer, byte[]>>    messageCache       = CacheBuilder.newBuilder()
-                                                                                 .expireAfterAccess(1, TimeUnit.MINUTES)
-                                                                                 .concurrencyLevel(8)
-                                                                                 .build();
+    private final Map<SplitPacketTransfer.Key, SplitPacketTransfer> splitTransfers = new ConcurrentHashMap<>();
     /**
      * An atomic counter which keeps track of the split messages that have been send to somewhere from this network node.
      */
@@ -166,6 +168,7 @@ public class NetworkChannel
         registerMessage(++idx, ColonyViewRemoveWorkOrderMessage.class, ColonyViewRemoveWorkOrderMessage::new);
         registerMessage(++idx, UpdateChunkCapabilityMessage.class, UpdateChunkCapabilityMessage::new);
         registerMessage(++idx, ColonyViewResearchManagerViewMessage.class, ColonyViewResearchManagerViewMessage::new);
+        registerMessage(++idx, ColonyViewCitizensBatchMessage.class, ColonyViewCitizensBatchMessage::new);
 
         //  Permission Request messages
         registerMessage(++idx, PermissionsMessage.Permission.class, PermissionsMessage.Permission::new);
@@ -235,6 +238,7 @@ public class NetworkChannel
         registerMessage(++idx, RemoveMinimumStockFromBuildingModuleMessage.class, RemoveMinimumStockFromBuildingModuleMessage::new);
         registerMessage(++idx, FarmFieldPlotResizeMessage.class, FarmFieldPlotResizeMessage::new);
         registerMessage(++idx, FarmFieldRegistrationMessage.class, FarmFieldRegistrationMessage::new);
+        registerMessage(++idx, ColonyViewResyncMessage.class, ColonyViewResyncMessage::new);
         registerMessage(++idx, FarmFieldUpdateSeedMessage.class, FarmFieldUpdateSeedMessage::new);
         registerMessage(++idx, AdjustSkillCitizenMessage.class, AdjustSkillCitizenMessage::new);
         registerMessage(++idx, BuilderSelectWorkOrderMessage.class, BuilderSelectWorkOrderMessage::new);
@@ -406,12 +410,11 @@ public class NetworkChannel
             throw new IllegalArgumentException("The message is unknown to this channel!");
         }
 
-        //Write the message into a buffer and copy that buffer into a byte array for processing.
+        //Write the message into a buffer, the parts are sent as slices of it.
         final ByteBuf buffer = Unpooled.buffer();
         final FriendlyByteBuf innerFriendlyByteBuf = new FriendlyByteBuf(buffer);
         msg.toBytes(innerFriendlyByteBuf);
-        final byte[] data = buffer.array();
-        buffer.release();
+        final int length = buffer.writerIndex();
 
         //Some tracking variables.
         //Max packet size: 90% of maximum.
@@ -424,17 +427,16 @@ public class NetworkChannel
         final int comId = messageCounter.getAndIncrement();
 
         //Loop while data is available.
-        while (currentIndex < data.length)
+        while (currentIndex < length)
         {
             //Tell the network message entry that we are splitting a packet.
             this.getMessagesTypes().get(messageId).onSplitting(packetIndex);
 
-            final int extra = Math.min(max_packet_size, data.length - currentIndex);
-            //Extract the sub data array.
-            final byte[] subPacketData = Arrays.copyOfRange(data, currentIndex, currentIndex + extra);
+            final int extra = Math.min(max_packet_size, length - currentIndex);
 
-            //Construct the wrapping packet.
-            final SplitPacketMessage splitPacketMessage = new SplitPacketMessage(comId, packetIndex++, (currentIndex + extra) >= data.length, messageId, subPacketData);
+            //Construct the wrapping packet, it is encoded right away when sending so the slice does not outlive the buffer.
+            final SplitPacketMessage splitPacketMessage =
+              new SplitPacketMessage(comId, packetIndex++, (currentIndex + extra) >= length, messageId, buffer.slice(currentIndex, extra));
 
             //Send the wrapping packet.
             splitMessageConsumer.accept(splitPacketMessage);
@@ -442,6 +444,7 @@ public class NetworkChannel
             //Move our working index.
             currentIndex += extra;
         }
+        buffer.release();
     }
 
     /**
@@ -510,12 +513,45 @@ public class NetworkChannel
     }
 
     /**
-     * Gives access to the cache of messages that are being received.
+     * Add a received fragment of a split message.
      *
-     * @return The message cache.
+     * @param connection      the connection the fragment arrived on.
+     * @param communicationId the communication id of the split message.
+     * @param index           the fragment index.
+     * @param terminator      if it is the last fragment.
+     * @param fragment        the fragment data, ownership passes to the channel.
+     * @return the complete message data if this was the last missing fragment, the caller has to release it. Null otherwise.
      */
-    public Cache<Integer, Map<Integer, byte[]>> getMessageCache()
+    @Nullable
+    public ByteBuf receiveSplitFragment(final Object connection, final int communicationId, final int index, final boolean terminator, final ByteBuf fragment)
     {
-        return messageCache;
+        final SplitPacketTransfer.Key key = new SplitPacketTransfer.Key(connection, communicationId);
+        final SplitPacketTransfer transfer = splitTransfers.computeIfAbsent(key, k -> new SplitPacketTransfer());
+        if (!transfer.add(index, terminator, fragment) || !splitTransfers.remove(key, transfer))
+        {
+            return null;
+        }
+        return transfer.assemble();
+    }
+
+    /**
+     * Drop split messages which did not receive a fragment for a while, called each tick.
+     */
+    public void expireSplitTransfers()
+    {
+        if (splitTransfers.isEmpty())
+        {
+            return;
+        }
+
+        final long cutoff = System.nanoTime() - SPLIT_TRANSFER_TIMEOUT;
+        for (final Map.Entry<SplitPacketTransfer.Key, SplitPacketTransfer> entry : splitTransfers.entrySet())
+        {
+            if (entry.getValue().getLastReceived() < cutoff && splitTransfers.remove(entry.getKey(), entry.getValue()))
+            {
+                Log.getLogger().warn("Dropping incomplete split message " + entry.getKey().communicationId());
+                entry.getValue().release();
+            }
+        }
     }
 }
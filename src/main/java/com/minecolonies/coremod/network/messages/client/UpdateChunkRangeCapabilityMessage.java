@@ -39,6 +39,17 @@ public class UpdateChunkRangeCapabilityMessage implements IMessage
         super();
     }
 
+    /**
+     * Create a message to update the chunk caps of a set of chunks on the client side.
+     *
+     * @param caps the cap data of the chunks.
+     */
+    public UpdateChunkRangeCapabilityMessage(@NotNull final List<ChunkCapData> caps)
+    {
+        super();
+        this.caps.addAll(caps);
+    }
+
     /**
      * Create a message to update the chunk cap on the client side.
      *
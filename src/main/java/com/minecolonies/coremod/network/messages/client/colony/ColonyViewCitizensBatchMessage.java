@@ -0,0 +1,187 @@
+package com.minecolonies.coremod.network.messages.client.colony;
+
+import com.minecolonies.api.colony.IColonyManager;
+import com.minecolonies.api.network.IMessage;
+import com.minecolonies.api.util.Log;
+import com.minecolonies.coremod.colony.Colony;
+import io.netty.buffer.Unpooled;
+import net.minecraft.core.Registry;
+import net.minecraft.network.FriendlyByteBuf;
+import net.minecraft.resources.ResourceKey;
+import net.minecraft.resources.ResourceLocation;
+import net.minecraft.world.level.Level;
+import net.minecraftforge.fml.LogicalSide;
+import net.minecraftforge.network.NetworkEvent;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.ByteArrayOutputStream;
+import java.util.Map;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * Add or Update many citizen views of a ColonyView on the client at once. The view data is compressed when it is large enough to benefit from it.
+ */
+public class ColonyViewCitizensBatchMessage implements IMessage
+{
+    /**
+     * Payloads smaller than this are sent uncompressed.
+     */
+    private static final int COMPRESSION_THRESHOLD = 256;
+
+    private int                colonyId;
+    private ResourceKey<Level> dimension;
+
+    /**
+     * Uncompressed size of the payload, or -1 if it is sent uncompressed.
+     */
+    private int    rawLength;
+    private byte[] payload;
+
+    /**
+     * Empty constructor used when registering the
+     */
+    public ColonyViewCitizensBatchMessage()
+    {
+        super();
+    }
+
+    /**
+     * Updates the {@link com.minecolonies.coremod.colony.CitizenDataView}s of the given citizens.
+     *
+     * @param colony   colony of the citizens.
+     * @param citizens the serialized view data by citizen id.
+     */
+    public ColonyViewCitizensBatchMessage(@NotNull final Colony colony, @NotNull final Map<Integer, byte[]> citizens)
+    {
+        super();
+        this.colonyId = colony.getID();
+        this.dimension = colony.getDimension();
+
+        final FriendlyByteBuf buf = new FriendlyByteBuf(Unpooled.buffer());
+        buf.writeVarInt(citizens.size());
+        for (final Map.Entry<Integer, byte[]> citizen : citizens.entrySet())
+        {
+            buf.writeVarInt(citizen.getKey());
+            buf.writeByteArray(citizen.getValue());
+        }
+        final byte[] raw = new byte[buf.readableBytes()];
+        buf.readBytes(raw);
+        buf.release();
+
+        if (raw.length < COMPRESSION_THRESHOLD)
+        {
+            this.rawLength = -1;
+            this.payload = raw;
+        }
+        else
+        {
+            this.rawLength = raw.length;
+            this.payload = compress(raw);
+        }
+    }
+
+    @Override
+    public void fromBytes(@NotNull final FriendlyByteBuf buf)
+    {
+        colonyId = buf.readInt();
+        dimension = ResourceKey.create(Registry.DIMENSION_REGISTRY, new ResourceLocation(buf.readUtf(32767)));
+        rawLength = buf.readInt();
+        payload = buf.readByteArray();
+    }
+
+    @Override
+    public void toBytes(@NotNull final FriendlyByteBuf buf)
+    {
+        buf.writeInt(colonyId);
+        buf.writeUtf(dimension.location().toString());
+        buf.writeInt(rawLength);
+        buf.writeByteArray(payload);
+    }
+
+    @Nullable
+    @Override
+    public LogicalSide getExecutionSide()
+    {
+        return LogicalSide.CLIENT;
+    }
+
+    @Override
+    public void onExecute(final NetworkEvent.Context ctxIn, final boolean isLogicalServer)
+    {
+        final byte[] raw;
+        try
+        {
+            raw = rawLength < 0 ? payload : decompress(payload, rawLength);
+        }
+        catch (final DataFormatException e)
+        {
+            Log.getLogger().error("Received damaged citizen views of colony " + colonyId, e);
+            return;
+        }
+
+        final FriendlyByteBuf buf = new FriendlyByteBuf(Unpooled.wrappedBuffer(raw));
+        final int count = buf.readVarInt();
+        for (int i = 0; i < count; i++)
+        {
+            final int citizenId = buf.readVarInt();
+            final FriendlyByteBuf citizenBuffer = new FriendlyByteBuf(Unpooled.wrappedBuffer(buf.readByteArray()));
+            IColonyManager.getInstance().handleColonyViewCitizensMessage(colonyId, citizenId, citizenBuffer, dimension);
+        }
+    }
+
+    /**
+     * Deflate the payload.
+     *
+     * @param raw the uncompressed payload.
+     * @return the compressed payload.
+     */
+    private static byte[] compress(final byte[] raw)
+    {
+        final Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+        deflater.setInput(raw);
+        deflater.finish();
+
+        final ByteArrayOutputStream out = new ByteArrayOutputStream(raw.length / 2);
+        final byte[] chunk = new byte[8192];
+        while (!deflater.finished())
+        {
+            out.write(chunk, 0, deflater.deflate(chunk));
+        }
+        deflater.end();
+        return out.toByteArray();
+    }
+
+    /**
+     * Inflate the payload.
+     *
+     * @param compressed the compressed payload.
+     * @param rawLength  the uncompressed size.
+     * @return the uncompressed payload.
+     * @throws DataFormatException if the payload is damaged.
+     */
+    private static byte[] decompress(final byte[] compressed, final int rawLength) throws DataFormatException
+    {
+        final Inflater inflater = new Inflater();
+        inflater.setInput(compressed);
+        final byte[] raw = new byte[rawLength];
+        int read = 0;
+        while (read < rawLength && !inflater.finished())
+        {
+            final int inflated = inflater.inflate(raw, read, rawLength - read);
+            if (inflated == 0 && (inflater.needsInput() || inflater.needsDictionary()))
+            {
+                break;
+            }
+            read += inflated;
+        }
+        inflater.end();
+        if (read != rawLength)
+        {
+            throw new DataFormatException("Expected " + rawLength + " bytes but got " + read);
+        }
+        return raw;
+    }
+}
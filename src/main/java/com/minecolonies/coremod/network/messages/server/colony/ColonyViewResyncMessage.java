@@ -0,0 +1,64 @@
+package com.minecolonies.coremod.network.messages.server.colony;
+
+import com.minecolonies.api.colony.IColony;
+import com.minecolonies.api.colony.IColonyView;
+import com.minecolonies.api.colony.permissions.Action;
+import com.minecolonies.coremod.network.messages.server.AbstractColonyServerMessage;
+import net.minecraft.network.FriendlyByteBuf;
+import net.minecraft.server.level.ServerPlayer;
+import net.minecraftforge.network.NetworkEvent;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Sent by a client whose colony view missed an update, so the next view update it receives is a full snapshot.
+ */
+public class ColonyViewResyncMessage extends AbstractColonyServerMessage
+{
+    /**
+     * Empty public constructor.
+     */
+    public ColonyViewResyncMessage()
+    {
+        super();
+    }
+
+    /**
+     * Request a full view update of a colony.
+     *
+     * @param colony view of the colony which is out of sync.
+     */
+    public ColonyViewResyncMessage(@NotNull final IColonyView colony)
+    {
+        super(colony);
+    }
+
+    @Nullable
+    @Override
+    public Action permissionNeeded()
+    {
+        return null;
+    }
+
+    @Override
+    protected void onExecute(final NetworkEvent.Context ctxIn, final boolean isLogicalServer, final IColony colony)
+    {
+        final ServerPlayer player = ctxIn.getSender();
+        if (player != null)
+        {
+            colony.getPackageManager().resyncView(player);
+        }
+    }
+
+    @Override
+    protected void toBytesOverride(final FriendlyByteBuf buf)
+    {
+
+    }
+
+    @Override
+    protected void fromBytesOverride(final FriendlyByteBuf buf)
+    {
+
+    }
+}
@@ -1,20 +1,14 @@
 package com.minecolonies.coremod.network.messages.splitting;
 
-import com.google.common.collect.Maps;
-import com.google.common.primitives.Bytes;
 import com.minecolonies.api.network.IMessage;
 import com.minecolonies.api.util.Log;
 import com.minecolonies.coremod.Network;
 import com.minecolonies.coremod.network.NetworkChannel;
 import io.netty.buffer.ByteBuf;
-import io.netty.buffer.Unpooled;
 import net.minecraft.network.FriendlyByteBuf;
 import net.minecraftforge.fml.LogicalSide;
 import net.minecraftforge.network.NetworkEvent;
 
-import java.util.Map;
-import java.util.concurrent.ExecutionException;
-
 /**
  * Represents a class that wrappers other messages in byte form and is used to split the wrapped messages data into several chunks.
  */
@@ -41,9 +35,9 @@ public class SplitPacketMessage implements IMessage
     private int innerMessageId = -1;
 
     /**
-     * The payload.
+     * The payload. A slice of the whole message when sending, a retained slice of the received packet when receiving.
      */
-    private byte[] payload;
+    private ByteBuf payload;
 
     /**
      * The network receiving constructor.
@@ -52,7 +46,7 @@ public class SplitPacketMessage implements IMessage
     {
     }
 
-    public SplitPacketMessage(final int communicationId, final int packetIndex, final boolean terminator, final int innerMessageId, final byte[] payload)
+    public SplitPacketMessage(final int communicationId, final int packetIndex, final boolean terminator, final int innerMessageId, final ByteBuf payload)
     {
         this.communicationId = communicationId;
         this.packetIndex = packetIndex;
@@ -68,7 +62,9 @@ public class SplitPacketMessage implements IMessage
         buf.writeVarInt(this.packetIndex);
         buf.writeBoolean(this.terminator);
         buf.writeVarInt(this.innerMessageId);
-        buf.writeByteArray(this.payload);
+        // Same layout as a byte array.
+        buf.writeVarInt(this.payload.readableBytes());
+        buf.writeBytes(this.payload, this.payload.readerIndex(), this.payload.readableBytes());
     }
 
     @Override
@@ -78,58 +74,48 @@ public class SplitPacketMessage implements IMessage
         this.packetIndex = buf.readVarInt();
         this.terminator = buf.readBoolean();
         this.innerMessageId = buf.readVarInt();
-        this.payload = buf.readByteArray();
+        this.payload = buf.readRetainedSlice(buf.readVarInt());
     }
 
     @Override
     public void onExecute(final NetworkEvent.Context ctxIn, final boolean isLogicalServer)
     {
-        try
+        //Still on the Netty thread, the transfer state is lock free.
+        final ByteBuf packetData = Network.getNetwork().receiveSplitFragment(ctxIn.getNetworkManager(), this.communicationId, this.packetIndex, this.terminator, this.payload);
+        if (packetData == null)
         {
-            //Sync on the message cache since this is still on the Netty thread.
-            synchronized (Network.getNetwork().getMessageCache())
-            {
-                Network.getNetwork().getMessageCache().get(this.communicationId, Maps::newConcurrentMap).put(this.packetIndex, this.payload);
-            }
-
-            if (!this.terminator)
-            {
-                //We are not the last message stop executing.
-                return;
-            }
-
-            //No need to sync again, since we are now the last packet to arrive.
-            //All data gets sorted and appended.
-            final byte[] packetData = Network.getNetwork().getMessageCache().get(this.communicationId, Maps::newConcurrentMap).entrySet()
-                                        .stream()
-                                        .sorted(Map.Entry.comparingByKey())
-                                        .map(Map.Entry::getValue)
-                                        .reduce(new byte[0], Bytes::concat);
+            //We are not the last message stop executing.
+            return;
+        }
 
+        final IMessage message;
+        try
+        {
             //Grab the entry from the inner message id.
             final NetworkChannel.NetworkingMessageEntry<?> messageEntry = Network.getNetwork().getMessagesTypes().get(this.innerMessageId);
 
-            //Create a message.
-            final IMessage message = messageEntry.getCreator().get();
-
-            //Create a new buffer that reads from the packet data and then deserialize the inner message.
-            final ByteBuf buffer = Unpooled.wrappedBuffer(packetData);
-            message.fromBytes(new FriendlyByteBuf(buffer));
-            buffer.release();
-
-            //Execute the message.
-            final LogicalSide packetOrigin = ctxIn.getDirection().getOriginationSide();
-            if (message.getExecutionSide() != null && packetOrigin.equals(message.getExecutionSide()))
-            {
-                Log.getLogger().warn("Receving {} at wrong side!", message.getClass().getName());
-                return;
-            }
-            // boolean param MUST equals true if packet arrived at logical server
-            ctxIn.enqueueWork(() -> message.onExecute(ctxIn, packetOrigin.equals(LogicalSide.CLIENT)));
+            //Create a message and deserialize it straight from the fragments.
+            message = messageEntry.getCreator().get();
+            message.fromBytes(new FriendlyByteBuf(packetData));
         }
-        catch (ExecutionException e)
+        catch (final RuntimeException e)
         {
             Log.getLogger().error("Failed to handle split packet.", e);
+            return;
+        }
+        finally
+        {
+            packetData.release();
+        }
+
+        //Execute the message.
+        final LogicalSide packetOrigin = ctxIn.getDirection().getOriginationSide();
+        if (message.getExecutionSide() != null && packetOrigin.equals(message.getExecutionSide()))
+        {
+            Log.getLogger().warn("Receving {} at wrong side!", message.getClass().getName());
+            return;
         }
+        // boolean param MUST equals true if packet arrived at logical server
+        ctxIn.enqueueWork(() -> message.onExecute(ctxIn, packetOrigin.equals(LogicalSide.CLIENT)));
     }
 }
@@ -0,0 +1,114 @@
+package com.minecolonies.coremod.network.messages.splitting;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.CompositeByteBuf;
+import io.netty.buffer.Unpooled;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * The fragments of one split message which are received so far. Lock free: fragments may arrive in any order and on any thread, exactly one of the receiving threads
+ * gets to assemble the message.
+ */
+public final class SplitPacketTransfer
+{
+    /**
+     * The received fragments by index, retained slices of the packets they came in.
+     */
+    private final Map<Integer, ByteBuf> fragments = new ConcurrentHashMap<>();
+
+    /**
+     * Every fragment adds one and the terminator subtracts the total fragment count, so this reaches zero exactly when the last missing fragment arrives.
+     */
+    private final AtomicInteger balance = new AtomicInteger();
+
+    /**
+     * Last time a fragment arrived, in nanoseconds.
+     */
+    private volatile long lastReceived = System.nanoTime();
+
+    /**
+     * If the transfer was dropped, fragments arriving afterwards are released right away.
+     */
+    private volatile boolean released = false;
+
+    /**
+     * Add a fragment. The transfer takes ownership of the buffer.
+     *
+     * @param index      the fragment index.
+     * @param terminator if it is the last fragment.
+     * @param fragment   the fragment data.
+     * @return true if this completed the transfer.
+     */
+    public boolean add(final int index, final boolean terminator, @NotNull final ByteBuf fragment)
+    {
+        lastReceived = System.nanoTime();
+        if (fragments.putIfAbsent(index, fragment) != null)
+        {
+            fragment.release();
+            return false;
+        }
+
+        if (released)
+        {
+            release();
+            return false;
+        }
+
+        return balance.addAndGet(terminator ? -index : 1) == 0;
+    }
+
+    /**
+     * Combine the fragments of a completed transfer into one buffer, without copying them.
+     *
+     * @return the buffer, the caller has to release it.
+     */
+    @NotNull
+    public ByteBuf assemble()
+    {
+        final int count = fragments.size();
+        final CompositeByteBuf composite = Unpooled.compositeBuffer(count);
+        for (int i = 0; i < count; i++)
+        {
+            composite.addComponent(true, fragments.remove(i));
+        }
+        return composite;
+    }
+
+    /**
+     * Drop the transfer and release all fragments.
+     */
+    public void release()
+    {
+        released = true;
+        for (final Integer index : fragments.keySet())
+        {
+            final ByteBuf fragment = fragments.remove(index);
+            if (fragment != null)
+            {
+                fragment.release();
+            }
+        }
+    }
+
+    /**
+     * @return the last time a fragment arrived, in nanoseconds.
+     */
+    public long getLastReceived()
+    {
+        return lastReceived;
+    }
+
+    /**
+     * Identifies a transfer: communication ids are only unique per sending side, so they are combined with the connection they arrive on.
+     *
+     * @param connection      the connection.
+     * @param communicationId the communication id.
+     */
+    public record Key(Object connection, int communicationId)
+    {
+    }
+}
@@ -3,10 +3,12 @@ package com.minecolonies.coremod.tileentities;
 import com.minecolonies.api.inventory.InventoryCitizen;
 import com.minecolonies.api.tileentities.AbstractTileEntityRack;
 import com.minecolonies.api.tileentities.AbstractTileEntityWareHouse;
+import com.minecolonies.api.tileentities.BuildingInventoryIndex;
 import com.minecolonies.api.tileentities.MinecoloniesTileEntities;
 import com.minecolonies.api.tileentities.TileEntityRack;
 import com.minecolonies.api.util.*;
 import com.minecolonies.coremod.colony.buildings.modules.WarehouseModule;
+import net.minecraft.world.item.Item;
 import net.minecraft.world.item.ItemStack;
 import net.minecraft.world.level.block.entity.ChestBlockEntity;
 import net.minecraft.world.level.block.entity.BlockEntity;
@@ -56,20 +58,18 @@ public class TileEntityWareHouse extends AbstractTileEntityWareHouse
     @Override
     public boolean hasMatchingItemStackInWarehouse(@NotNull final ItemStack itemStack, final int count, final boolean ignoreNBT, final boolean ignoreDamage, final int leftOver)
     {
+        if (getBuilding() == null)
+        {
+            return false;
+        }
+
         int totalCountFound = 0 - leftOver;
-        for (@NotNull final BlockPos pos : getBuilding().getContainers())
+        for (@NotNull final TileEntityRack rack : getBuilding().getInventoryIndex().getRacksWith(itemStack.getItem()))
         {
-            if (WorldUtil.isBlockLoaded(level, pos))
+            totalCountFound += rack.getCount(itemStack, ignoreDamage, ignoreNBT);
+            if (totalCountFound >= count)
             {
-                final BlockEntity entity = getLevel().getBlockEntity(pos);
-                if (entity instanceof TileEntityRack && !((AbstractTileEntityRack) entity).isEmpty())
-                {
-                    totalCountFound += ((AbstractTileEntityRack) entity).getCount(itemStack, ignoreDamage, ignoreNBT);
-                    if (totalCountFound >= count)
-                    {
-                        return true;
-                    }
-                }
+                return true;
             }
         }
         return false;
@@ -89,23 +89,22 @@ public class TileEntityWareHouse extends AbstractTileEntityWareHouse
         
         if (getBuilding() != null)
         {
-            for (@NotNull final BlockPos pos : getBuilding().getContainers())
+            final BuildingInventoryIndex index = getBuilding().getInventoryIndex();
+            for (@NotNull final TileEntityRack rack : index.getRacksMatching(itemStackSelectionPredicate))
             {
-                final BlockEntity entity = getLevel().getBlockEntity(pos);
-                if (entity instanceof TileEntityRack && !((AbstractTileEntityRack) entity).isEmpty() && ((AbstractTileEntityRack) entity).getItemCount(itemStackSelectionPredicate) > 0)
+                for (final ItemStack stack : (InventoryUtils.filterItemHandler(rack.getInventory(), itemStackSelectionPredicate)))
                 {
-                    final TileEntityRack rack = (TileEntityRack) entity;
-                    for (final ItemStack stack : (InventoryUtils.filterItemHandler(rack.getInventory(), itemStackSelectionPredicate)))
-                    {
-                        found.add(new Tuple<>(stack, pos));
-                    }
+                    found.add(new Tuple<>(stack, rack.getBlockPos()));
                 }
+            }
 
-                if (entity instanceof ChestBlockEntity && InventoryUtils.hasItemInItemHandler(entity.getCapability(ForgeCapabilities.ITEM_HANDLER, null).orElseGet(null), itemStackSelectionPredicate))
+            for (@NotNull final ChestBlockEntity chest : index.getChests())
+            {
+                if (InventoryUtils.hasItemInItemHandler(chest.getCapability(ForgeCapabilities.ITEM_HANDLER, null).orElseGet(null), itemStackSelectionPredicate))
                 {
-                    for (final ItemStack stack : InventoryUtils.filterItemHandler(entity.getCapability(ForgeCapabilities.ITEM_HANDLER, null).orElseGet(null), itemStackSelectionPredicate))
+                    for (final ItemStack stack : InventoryUtils.filterItemHandler(chest.getCapability(ForgeCapabilities.ITEM_HANDLER, null).orElseGet(null), itemStackSelectionPredicate))
                     {
-                        found.add(new Tuple<>(stack, pos));
+                        found.add(new Tuple<>(stack, chest.getBlockPos()));
                     }
                 }
             }
@@ -113,6 +112,23 @@ public class TileEntityWareHouse extends AbstractTileEntityWareHouse
         return found;
     }
 
+    /**
+     * Quick check if the warehouse might hold an item: its racks are indexed, chests are not and might hold anything.
+     *
+     * @param item the item.
+     * @return false if the warehouse definitely does not hold the item.
+     */
+    public boolean mightContain(@NotNull final Item item)
+    {
+        if (getBuilding() == null)
+        {
+            return false;
+        }
+
+        final BuildingInventoryIndex index = getBuilding().getInventoryIndex();
+        return !index.getRacksWith(item).isEmpty() || !index.getChests().isEmpty();
+    }
+
     @Override
     public void dumpInventoryIntoWareHouse(@NotNull final InventoryCitizen inventoryCitizen)
     {
@@ -182,18 +198,11 @@ public class TileEntityWareHouse extends AbstractTileEntityWareHouse
     @Nullable
     private BlockEntity getPositionOfChestWithItemStack(@NotNull final ItemStack stack)
     {
-        for (@NotNull final BlockPos pos : getBuilding().getContainers())
+        for (@NotNull final TileEntityRack rack : getBuilding().getInventoryIndex().getRacksWith(stack.getItem()))
         {
-            if (WorldUtil.isBlockLoaded(level, pos))
+            if (rack.getFreeSlots() > 0 && rack.hasItemStack(stack, 1, true))
             {
-                final BlockEntity entity = getLevel().getBlockEntity(pos);
-                if (entity instanceof AbstractTileEntityRack)
-                {
-                    if (((AbstractTileEntityRack) entity).getFreeSlots() > 0 && ((AbstractTileEntityRack) entity).hasItemStack(stack, 1, true))
-                    {
-                        return entity;
-                    }
-                }
+                return rack;
             }
         }
 
@@ -26,8 +26,14 @@ import java.io.File;
 import java.io.FileInputStream;
 import java.io.FileOutputStream;
 import java.io.IOException;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.StandardCopyOption;
 import java.text.SimpleDateFormat;
 import java.util.*;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 import java.util.zip.ZipEntry;
 import java.util.zip.ZipOutputStream;
 
@@ -58,6 +64,17 @@ public final class BackUpHelper
     public static        long lastBackupTime          = 0;
     private static final long MAX_TIME_TO_NEXT_BACKUP = 1000 * 60 * 5;
 
+    /**
+     * Single thread which writes the colony files and backups, so the file operations keep their order. Its thread ends when idle so it never keeps the server from
+     * stopping.
+     */
+    private static final ThreadPoolExecutor IO_EXECUTOR = createIOExecutor();
+
+    /**
+     * Colony compound last handed to the I/O thread, per colony. Main thread only.
+     */
+    private static final Map<IColony, CompoundTag> LAST_WRITTEN = new WeakHashMap<>();
+
     /**
      * Private constructor to hide implicit one.
      */
@@ -68,6 +85,41 @@ public final class BackUpHelper
          */
     }
 
+    /**
+     * Create the executor of the I/O thread.
+     *
+     * @return the executor.
+     */
+    private static ThreadPoolExecutor createIOExecutor()
+    {
+        final ThreadPoolExecutor executor = new ThreadPoolExecutor(1, 1, 30, TimeUnit.SECONDS, new LinkedBlockingQueue<>(), runnable -> {
+            final Thread thread = new Thread(runnable, "Minecolonies Persistence");
+            thread.setPriority(Thread.NORM_PRIORITY - 1);
+            return thread;
+        });
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
+    }
+
+    /**
+     * Wait until all queued colony file writes are done, before reading the files.
+     */
+    public static void flush()
+    {
+        try
+        {
+            IO_EXECUTOR.submit(() -> {}).get();
+        }
+        catch (final InterruptedException e)
+        {
+            Thread.currentThread().interrupt();
+        }
+        catch (final ExecutionException e)
+        {
+            Log.getLogger().warn("Unable to wait for the colony persistence thread", e);
+        }
+    }
+
     /**
      * Backup the colony
      *
@@ -82,77 +134,71 @@ public final class BackUpHelper
         lastBackupTime = System.currentTimeMillis();
 
         BackUpHelper.saveColonies();
-        try (FileOutputStream fos = new FileOutputStream(getBackupSaveLocation(new Date())))
+
+        // Decide which colonies are alive on the server thread, the files are only touched by the I/O thread.
+        final String backupName = getBackupName(new Date());
+        @NotNull final File saveDir = new File(ServerLifecycleHooks.getCurrentServer().getWorldPath(LevelResource.ROOT).toFile(), FILENAME_MINECOLONIES_PATH);
+        final int topColonyId = IColonyManager.getInstance().getTopColonyId();
+        final Map<String, Set<Integer>> liveColonies = new HashMap<>();
+        for (final ResourceKey<Level> dimensionType : ServerLifecycleHooks.getCurrentServer().levels.keySet())
         {
-            @NotNull final File saveDir =
-              new File(ServerLifecycleHooks.getCurrentServer().getWorldPath(LevelResource.ROOT).toFile(), FILENAME_MINECOLONIES_PATH);
-            final ZipOutputStream zos = new ZipOutputStream(fos);
+            liveColonies.put(getFolderForDimension(dimensionType.location()), new HashSet<>());
+        }
+        for (final IColony colony : IColonyManager.getInstance().getAllColonies())
+        {
+            liveColonies.computeIfAbsent(getFolderForDimension(colony.getDimension().location()), k -> new HashSet<>()).add(colony.getID());
+        }
+
+        IO_EXECUTOR.execute(() -> writeBackup(backupName, saveDir, topColonyId, liveColonies));
+        return true;
+    }
 
-            for (final ResourceKey<Level> dimensionType : net.minecraftforge.server.ServerLifecycleHooks.getCurrentServer().levels.keySet())
+    /**
+     * Store the colony files as a backup and delete the oldest backups, runs on the I/O thread. Only files which changed since an older backup take space.
+     *
+     * @param backupName   the name of the backup to create.
+     * @param saveDir      the minecolonies save folder.
+     * @param topColonyId  the highest colony id.
+     * @param liveColonies the ids of the existing colonies by dimension folder.
+     */
+    private static void writeBackup(final String backupName, final File saveDir, final int topColonyId, final Map<String, Set<Integer>> liveColonies)
+    {
+        try
+        {
+            final List<String> files = new ArrayList<>();
+            for (final Map.Entry<String, Set<Integer>> dimension : liveColonies.entrySet())
             {
-                for (int i = 1; i <= IColonyManager.getInstance().getTopColonyId() + 1; i++)
+                final String folder = dimension.getKey();
+                for (int i = 1; i <= topColonyId + 1; i++)
                 {
-                    @NotNull final File file = new File(saveDir, getFolderForDimension(dimensionType.location()) + String.format(FILENAME_COLONY, i));
-                    @NotNull final File fileDeleted = new File(saveDir, getFolderForDimension(dimensionType.location()) + String.format(FILENAME_COLONY_DELETED, i));
+                    @NotNull final File file = new File(saveDir, folder + String.format(FILENAME_COLONY, i));
+                    @NotNull final File fileDeleted = new File(saveDir, folder + String.format(FILENAME_COLONY_DELETED, i));
                     if (file.exists())
                     {
                         // mark existing files
-                        if (IColonyManager.getInstance().getColonyByDimension(i, dimensionType) == null)
+                        if (!dimension.getValue().contains(i))
                         {
-                            markColonyDeleted(i, dimensionType);
-                            addToZipFile(getFolderForDimension(dimensionType.location()) + String.format(FILENAME_COLONY_DELETED, i), zos, saveDir);
+                            markColonyFileDeleted(saveDir, folder, i);
+                            files.add(folder + String.format(FILENAME_COLONY_DELETED, i));
                         }
                         else
                         {
-                            addToZipFile(getFolderForDimension(dimensionType.location()) + String.format(FILENAME_COLONY, i), zos, saveDir);
+                            files.add(folder + String.format(FILENAME_COLONY, i));
                         }
                     }
                     else if (fileDeleted.exists())
                     {
-                        addToZipFile(getFolderForDimension(dimensionType.location()) + String.format(FILENAME_COLONY_DELETED, i), zos, saveDir);
+                        files.add(folder + String.format(FILENAME_COLONY_DELETED, i));
                     }
                 }
             }
-            addToZipFile(getSaveLocation().getName(), zos, saveDir);
-            zos.close();
-
-            File[] files = saveDir.listFiles();
-
-            if (files == null)
-            {
-                return true;
-            }
+            files.add(FILENAME_MINECOLONIES);
 
-            final List<File> fileList = new ArrayList<>();
-
-            for (final File current : files)
-            {
-                if (current.isDirectory() || !current.exists() || !current.getName().contains("colonies-"))
-                {
-                    continue;
-                }
-
-                fileList.add(current);
-            }
-
-            if (fileList.size() <= MineColonies.getConfig().getServer().maxkeptbackups.get())
-            {
-                return true;
-            }
-
-            fileList.sort(Comparator.comparingLong(File::lastModified));
-
-            int deleteCount = fileList.size() - MineColonies.getConfig().getServer().maxkeptbackups.get();
-            for (File current : fileList)
-            {
-                if (deleteCount <= 0)
-                {
-                    break;
-                }
-
-                deleteCount--;
-                current.delete();
-            }
+            final long start = System.nanoTime();
+            final int written = ColonyBackupStore.writeBackup(saveDir, backupName, files);
+            ColonyBackupStore.prune(saveDir, MineColonies.getConfig().getServer().maxkeptbackups.get());
+            Log.getLogger().info("Colony backup " + backupName + " stored " + written + " changed of " + files.size() + " files in "
+                                   + TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) + "ms");
         }
         catch (final Exception e)
         {
@@ -160,10 +206,33 @@ public final class BackUpHelper
              * Intentionally not being thrown.
              */
             Log.getLogger().warn("Unable to backup colony data, please contact an administrator", e);
-            return false;
         }
+    }
 
-        return true;
+    /**
+     * Get the names of the stored backups, from the oldest to the newest. Manifests are written atomically, so this does not wait for the I/O thread.
+     *
+     * @return the backup names.
+     */
+    @NotNull
+    public static List<String> getBackupNames()
+    {
+        return ColonyBackupStore.getBackups(getSaveLocation().getParentFile());
+    }
+
+    /**
+     * Measure how long restoring a stored backup takes, without applying it.
+     *
+     * @param backupName the stored backup, or null for the newest.
+     * @return the result or null if there is no such backup.
+     */
+    @Nullable
+    public static ColonyBackupStore.RestoreBenchmark benchmarkRestore(@Nullable final String backupName)
+    {
+        flush();
+        final File saveDir = getSaveLocation().getParentFile();
+        final String name = backupName == null ? ColonyBackupStore.getLatestBackup(saveDir) : backupName;
+        return name == null ? null : ColonyBackupStore.benchmarkRestore(saveDir, name);
     }
 
     /**
@@ -171,6 +240,7 @@ public final class BackUpHelper
      */
     public static void loadManagerBackup()
     {
+        flush();
         try
         {
             @NotNull final File file = BackUpHelper.getSaveLocation();
@@ -193,6 +263,7 @@ public final class BackUpHelper
      */
     public static void loadMissingColonies()
     {
+        flush();
         @NotNull final File saveDir = new File(ServerLifecycleHooks.getCurrentServer().getWorldPath(LevelResource.ROOT).toFile(), FILENAME_MINECOLONIES_PATH);
 
         for (final ResourceKey<Level> dimensionType : ServerLifecycleHooks.getCurrentServer().levels.keySet())
@@ -220,30 +291,15 @@ public final class BackUpHelper
     }
 
     /**
-     * Get save location for Minecolonies backup data, from the world/save directory.
+     * Get the name of a backup of the Minecolonies data.
      *
      * @param date the current time.
-     * @return Save file for minecolonies.
+     * @return the backup name.
      */
     @NotNull
-    private static File getBackupSaveLocation(final Date date)
-    {
-        @NotNull final File saveDir =
-          new File(net.minecraftforge.server.ServerLifecycleHooks.getCurrentServer().getWorldPath(LevelResource.ROOT).toFile(), FILENAME_MINECOLONIES_PATH);
-        return new File(saveDir, String.format(FILENAME_MINECOLONIES_BACKUP, new SimpleDateFormat("yyyy-MM-dd_HH.mm.ss").format(date)));
-    }
-
-    /**
-     * Add zip to file.
-     *
-     * @param fileName the file name.
-     * @param zos      the output stream.
-     * @param folder   the folder.
-     */
-    private static void addToZipFile(final String fileName, final ZipOutputStream zos, final File folder)
+    private static String getBackupName(final Date date)
     {
-        final File file = new File(folder, fileName);
-        addFileToZipWithPath(fileName, zos, file);
+        return "colonies-" + new SimpleDateFormat("yyyy-MM-dd_HH.mm.ss").format(date);
     }
 
     /**
@@ -282,7 +338,7 @@ public final class BackUpHelper
     }
 
     /**
-     * Save an CompoundTag to a file.  Does so in a safe manner using an intermediate tmp file.
+     * Save an CompoundTag to a file.  Does so in a safe manner using an intermediate tmp file, which replaces the destination atomically where supported.
      *
      * @param file     The destination file to write the data to.
      * @param compound The CompoundTag to write to the file.
@@ -294,7 +350,16 @@ public final class BackUpHelper
             if (file != null)
             {
                 file.getParentFile().mkdirs();
-                NbtIo.write(compound, file);
+                final File tmpFile = new File(file.getParentFile(), file.getName() + ".tmp");
+                NbtIo.write(compound, tmpFile);
+                try
+                {
+                    java.nio.file.Files.move(tmpFile.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+                }
+                catch (final AtomicMoveNotSupportedException e)
+                {
+                    java.nio.file.Files.move(tmpFile.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING);
+                }
             }
         }
         catch (final IOException exception)
@@ -326,7 +391,8 @@ public final class BackUpHelper
     }
 
     /**
-     * Save all the Colonies.
+     * Save all the Colonies. The colony compounds are taken on the calling thread, colonies which did not change since their last save are skipped, writing the files
+     * happens on the I/O thread.
      */
     public static void saveColonies()
     {
@@ -334,14 +400,21 @@ public final class BackUpHelper
         IColonyManager.getInstance().write(compound);
 
         @NotNull final File file = getSaveLocation();
-        saveNBTToPath(file, compound);
+        IO_EXECUTOR.execute(() -> saveNBTToPath(file, compound));
         @NotNull final File saveDir =
           new File(net.minecraftforge.server.ServerLifecycleHooks.getCurrentServer().getWorldPath(LevelResource.ROOT).toFile(), FILENAME_MINECOLONIES_PATH);
         for (final IColony colony : IColonyManager.getInstance().getAllColonies())
         {
-            final CompoundTag colonyCompound = new CompoundTag();
-            colony.write(colonyCompound);
-            saveNBTToPath(new File(saveDir, getFolderForDimension(colony.getDimension().location()) + String.format(FILENAME_COLONY, colony.getID())), colonyCompound);
+            // Only serialized again if the colony is dirty.
+            final CompoundTag colonyCompound = colony.getColonyTag();
+            if (colonyCompound == null || LAST_WRITTEN.get(colony) == colonyCompound)
+            {
+                continue;
+            }
+
+            LAST_WRITTEN.put(colony, colonyCompound);
+            final File colonyFile = new File(saveDir, getFolderForDimension(colony.getDimension().location()) + String.format(FILENAME_COLONY, colony.getID()));
+            IO_EXECUTOR.execute(() -> saveNBTToPath(colonyFile, colonyCompound));
         }
     }
 
@@ -355,10 +428,23 @@ public final class BackUpHelper
     {
         @NotNull final File saveDir =
           new File(net.minecraftforge.server.ServerLifecycleHooks.getCurrentServer().getWorldPath(LevelResource.ROOT).toFile(), FILENAME_MINECOLONIES_PATH);
-        final File toDelete = new File(saveDir, getFolderForDimension(dimensionID.location()) + String.format(FILENAME_COLONY, colonyID));
+        final String folder = getFolderForDimension(dimensionID.location());
+        IO_EXECUTOR.execute(() -> markColonyFileDeleted(saveDir, folder, colonyID));
+    }
+
+    /**
+     * Renames a colony's backup file to the deleted file name, runs on the I/O thread.
+     *
+     * @param saveDir  the minecolonies save folder.
+     * @param folder   the dimension folder.
+     * @param colonyID id of the colony.
+     */
+    private static void markColonyFileDeleted(final File saveDir, final String folder, final int colonyID)
+    {
+        final File toDelete = new File(saveDir, folder + String.format(FILENAME_COLONY, colonyID));
         if (toDelete.exists())
         {
-            final String fileName = getFolderForDimension(dimensionID.location()) + String.format(FILENAME_COLONY_DELETED, colonyID);
+            final String fileName = folder + String.format(FILENAME_COLONY_DELETED, colonyID);
             new File(saveDir, fileName).delete();
             toDelete.renameTo(new File(saveDir, fileName));
         }
@@ -369,6 +455,7 @@ public final class BackUpHelper
      */
     public static void loadAllBackups()
     {
+        flush();
         @NotNull final File saveDir =
           new File(net.minecraftforge.server.ServerLifecycleHooks.getCurrentServer().getWorldPath(LevelResource.ROOT).toFile(), FILENAME_MINECOLONIES_PATH);
 
@@ -405,18 +492,35 @@ public final class BackUpHelper
      */
     public static void loadColonyBackup(final int colonyId, final ResourceKey<Level> dimension, boolean loadDeleted, boolean claimChunks)
     {
+        loadColonyBackup(colonyId, dimension, loadDeleted, claimChunks, null);
+    }
+
+    /**
+     * Load the colony backup by colony, either from the current colony file or as it was in a stored backup. Also works for backups of deleted colonies.
+     *
+     * @param colonyId    of the colony.
+     * @param dimension   the colony dimension.
+     * @param loadDeleted whether to load deleted colonies aswell.
+     * @param claimChunks if chunks shall be claimed on loading.
+     * @param backupName  the stored backup to restore from, or null for the current colony file.
+     */
+    public static void loadColonyBackup(final int colonyId, final ResourceKey<Level> dimension, boolean loadDeleted, boolean claimChunks, @Nullable final String backupName)
+    {
+        flush();
+        final long start = System.nanoTime();
         @NotNull final File saveDir = new File(ServerLifecycleHooks.getCurrentServer().getWorldPath(LevelResource.ROOT).toFile(), FILENAME_MINECOLONIES_PATH);
-        @NotNull final File backupFile = new File(saveDir, getFolderForDimension(dimension.location()) + String.format(FILENAME_COLONY, colonyId));
-        CompoundTag compound = loadNBTFromPath(backupFile);
+        final String fileName = getFolderForDimension(dimension.location()) + String.format(FILENAME_COLONY, colonyId);
+        final String deletedFileName = getFolderForDimension(dimension.location()) + String.format(FILENAME_COLONY_DELETED, colonyId);
+        CompoundTag compound = loadColonyFile(saveDir, fileName, backupName);
         if (compound == null)
         {
             if (loadDeleted)
             {
-                compound = loadNBTFromPath(new File(saveDir, String.format(getFolderForDimension(dimension.location()) + String.format(FILENAME_COLONY_DELETED, colonyId))));
+                compound = loadColonyFile(saveDir, deletedFileName, backupName);
             }
             if (compound == null)
             {
-                Log.getLogger().warn("Can't find NBT of colony: " + colonyId + " at location: " + backupFile);
+                Log.getLogger().warn("Can't find NBT of colony: " + colonyId + " at location: " + new File(saveDir, fileName) + (backupName == null ? "" : " in backup: " + backupName));
                 return;
             }
         }
@@ -450,7 +554,25 @@ public final class BackUpHelper
             }
         }
 
-        Log.getLogger().warn("Successfully restored colony:" + colonyId);
+        Log.getLogger().warn("Successfully restored colony:" + colonyId + " in " + TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) + "ms");
+    }
+
+    /**
+     * Load a colony file, from the save folder or from a stored backup.
+     *
+     * @param saveDir    the minecolonies save folder.
+     * @param fileName   the file path relative to the save folder.
+     * @param backupName the stored backup, or null for the save folder.
+     * @return the data or null if it does not exist.
+     */
+    @Nullable
+    private static CompoundTag loadColonyFile(final File saveDir, final String fileName, @Nullable final String backupName)
+    {
+        if (backupName == null)
+        {
+            return loadNBTFromPath(new File(saveDir, fileName));
+        }
+        return ColonyBackupStore.loadNBT(saveDir, backupName, fileName);
     }
 
     /**
@@ -478,6 +600,20 @@ public final class BackUpHelper
      */
     public static String exportColony(final IColony colony)
     {
+        return exportColony(colony, null);
+    }
+
+    /**
+     * Exports a certain colony and its part of the world and colony data data to a zip, with the colony data either current or as it was in a stored backup. The zip
+     * layout is the same in both cases.
+     *
+     * @param colony     colony to export
+     * @param backupName the stored backup to take the colony data from, or null for the current colony data.
+     * @return file Path and name
+     */
+    public static String exportColony(final IColony colony, @Nullable final String backupName)
+    {
+        flush();
         final MinecraftServer server = net.minecraftforge.server.ServerLifecycleHooks.getCurrentServer();
         final File topworldDir = server.getWorldPath(LevelResource.ROOT).toFile();
         final File minecraftDir = new File(topworldDir.getAbsolutePath().replace(topworldDir.getPath(), ""));
@@ -548,27 +684,28 @@ public final class BackUpHelper
             }
 
             // Save colony.dat backup
-            final File file = new File(saveDir, getFolderForDimension(colony.getDimension().location()) + String.format(FILENAME_COLONY, colony.getID()));
-            final File fileDeleted = new File(saveDir, getFolderForDimension(colony.getDimension().location()) + String.format(FILENAME_COLONY_DELETED, colony.getID()));
-            if (file.exists())
+            final String colonyFileName = getFolderForDimension(colony.getDimension().location()) + String.format(FILENAME_COLONY, colony.getID());
+            final String deletedFileName = getFolderForDimension(colony.getDimension().location()) + String.format(FILENAME_COLONY_DELETED, colony.getID());
+            for (final String fileName : new String[] {colonyFileName, deletedFileName, FILENAME_MINECOLONIES})
             {
-                addFileToZipWithPath(
-                  minecoloniesZipDir + File.separator + getFolderForDimension(colony.getDimension().location()) + String.format(FILENAME_COLONY, colony.getID()), zos, file);
-            }
-
-            if (fileDeleted.exists())
-            {
-                addFileToZipWithPath(
-                  minecoloniesZipDir + File.separator + getFolderForDimension(colony.getDimension().location()) + String.format(FILENAME_COLONY_DELETED, colony.getID()),
-                  zos,
-                  file);
-            }
-
-            // Save colony manager
-            final File colonyManager = getSaveLocation();
-            if (colonyManager.exists())
-            {
-                addFileToZipWithPath(minecoloniesZipDir + File.separator + colonyManager.getName(), zos, colonyManager);
+                final String zipPath = minecoloniesZipDir + File.separator + fileName;
+                if (backupName == null)
+                {
+                    final File file = new File(saveDir, fileName);
+                    if (file.exists())
+                    {
+                        addFileToZipWithPath(zipPath, zos, file);
+                    }
+                }
+                else
+                {
+                    final byte[] content = ColonyBackupStore.readFile(saveDir, backupName, fileName);
+                    if (content != null)
+                    {
+                        zos.putNextEntry(new ZipEntry(zipPath));
+                        zos.write(content);
+                    }
+                }
             }
 
             // Save level.dat
@@ -0,0 +1,239 @@
+package com.minecolonies.coremod.util;
+
+import com.ldtteam.structurize.blueprints.v1.Blueprint;
+import com.minecolonies.api.colony.workorders.IWorkOrder;
+import com.minecolonies.api.util.BlockPosUtil;
+import com.minecolonies.api.util.Log;
+import com.minecolonies.coremod.colony.workorders.WorkOrderMiner;
+import net.minecraft.core.BlockPos;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.util.Tuple;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.level.block.Mirror;
+import net.minecraft.world.level.block.Rotation;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.*;
+import java.util.function.Consumer;
+
+/**
+ * Loads, rotates and mirrors the blueprints of work orders on worker threads. The prepared blueprints are kept in a small LRU cache by pack, path, rotation and mirror, so
+ * the work manager and the builder who picks up the work order share one preparation, and the server thread only gets a blueprint which is ready to place.
+ */
+public final class BlueprintPreparation
+{
+    /**
+     * Max amount of cached blueprints.
+     */
+    private static final int MAX_CACHED = 32;
+
+    /**
+     * Max age of a cached blueprint in milliseconds, so changed blueprint files are picked up eventually.
+     */
+    private static final long MAX_AGE = 1000 * 60 * 5;
+
+    /**
+     * Amount of worker threads.
+     */
+    private static final int WORKER_THREADS = 2;
+
+    /**
+     * Preparations by key, in access order for eviction of the least recently used. Guarded by itself.
+     */
+    private static final Map<Key, Entry> CACHE = new LinkedHashMap<>(MAX_CACHED, 0.75f, true)
+    {
+        @Override
+        protected boolean removeEldestEntry(final Map.Entry<Key, Entry> eldest)
+        {
+            return size() > MAX_CACHED;
+        }
+    };
+
+    /**
+     * Worker threads which prepare the blueprints. They end when idle so they never keep the server from stopping.
+     */
+    private static final ThreadPoolExecutor EXECUTOR = createExecutor();
+
+    /**
+     * Private constructor to hide implicit one.
+     */
+    private BlueprintPreparation()
+    {
+        /*
+         * Intentionally left empty.
+         */
+    }
+
+    /**
+     * Create the executor of the worker threads.
+     *
+     * @return the executor.
+     */
+    private static ThreadPoolExecutor createExecutor()
+    {
+        final ThreadPoolExecutor executor = new ThreadPoolExecutor(WORKER_THREADS, WORKER_THREADS, 30, TimeUnit.SECONDS, new LinkedBlockingQueue<>(), runnable -> {
+            final Thread thread = new Thread(runnable, "Minecolonies Blueprint Worker");
+            thread.setDaemon(true);
+            thread.setUncaughtExceptionHandler((thread1, throwable) -> Log.getLogger().error("Minecolonies Blueprint Thread errored! ", throwable));
+            return thread;
+        });
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
+    }
+
+    /**
+     * Prepare the blueprint of a work order, or get the cached preparation.
+     *
+     * @param workOrder   the work order.
+     * @param rotateTimes number of times to rotate it.
+     * @param isMirrored  if it is mirrored.
+     * @param world       the world it is placed in.
+     * @return the future of the prepared blueprint, completed with null if the blueprint does not exist.
+     */
+    @NotNull
+    public static CompletableFuture<PreparedBlueprint> prepare(@NotNull final IWorkOrder workOrder, final int rotateTimes, final boolean isMirrored, @NotNull final Level world)
+    {
+        final Key key = new Key(workOrder.getStructurePack(), workOrder.getStructurePath(), BlockPosUtil.getRotationFromRotations(rotateTimes),
+          isMirrored ? Mirror.FRONT_BACK : Mirror.NONE);
+        // The miner's blueprint future falls back to the default style and updates its order, so every miner order loads its own.
+        if (workOrder instanceof WorkOrderMiner)
+        {
+            return CompletableFuture.supplyAsync(() -> load(workOrder, key, world), EXECUTOR);
+        }
+
+        final long now = System.currentTimeMillis();
+        synchronized (CACHE)
+        {
+            final Entry cached = CACHE.get(key);
+            if (cached != null && now - cached.created() <= MAX_AGE)
+            {
+                return cached.future();
+            }
+
+            final CompletableFuture<PreparedBlueprint> future = CompletableFuture.supplyAsync(() -> load(workOrder, key, world), EXECUTOR);
+            final Entry entry = new Entry(future, now);
+            CACHE.put(key, entry);
+
+            // Failed preparations are not cached, the blueprint may show up later.
+            future.thenAccept(prepared -> {
+                if (prepared == null)
+                {
+                    synchronized (CACHE)
+                    {
+                        CACHE.remove(key, entry);
+                    }
+                }
+            });
+            return future;
+        }
+    }
+
+    /**
+     * Prepare the blueprint of a work order and hand it to a callback on the server thread.
+     *
+     * @param workOrder   the work order.
+     * @param rotateTimes number of times to rotate it.
+     * @param isMirrored  if it is mirrored.
+     * @param world       the world it is placed in.
+     * @param callback    the callback, receives null if the blueprint does not exist.
+     */
+    public static void prepare(
+      @NotNull final IWorkOrder workOrder,
+      final int rotateTimes,
+      final boolean isMirrored,
+      @NotNull final Level world,
+      @NotNull final Consumer<PreparedBlueprint> callback)
+    {
+        final MinecraftServer server = world.getServer();
+        if (server == null)
+        {
+            return;
+        }
+
+        prepare(workOrder, rotateTimes, isMirrored, world).thenAcceptAsync(callback, server).exceptionally(throwable -> {
+            Log.getLogger().error("Unable to process the prepared blueprint of: " + workOrder.getStructurePath(), throwable);
+            return null;
+        });
+    }
+
+    /**
+     * Load, rotate and mirror a blueprint, runs on a worker thread.
+     *
+     * @param workOrder the work order to load the blueprint of.
+     * @param key       the requested preparation.
+     * @param world     the world it is placed in.
+     * @return the prepared blueprint or null if it does not exist.
+     */
+    @Nullable
+    private static PreparedBlueprint load(@NotNull final IWorkOrder workOrder, @NotNull final Key key, @NotNull final Level world)
+    {
+        try
+        {
+            final Blueprint blueprint = workOrder.getBlueprintFuture().get();
+            if (blueprint == null)
+            {
+                return null;
+            }
+
+            blueprint.rotateWithMirror(key.rotation(), key.mirror(), world);
+            // Fill the lazy block info cache now, the blueprint is only read once it is shared.
+            blueprint.getBlockInfoAsMap();
+            return new PreparedBlueprint(blueprint, key.rotation(), key.mirror());
+        }
+        catch (final InterruptedException e)
+        {
+            Thread.currentThread().interrupt();
+        }
+        catch (final Exception e)
+        {
+            Log.getLogger().warn("Unable to prepare blueprint: " + key.path() + " in: " + key.pack(), e);
+        }
+        return null;
+    }
+
+    /**
+     * Forget all cached blueprints, e.g. when the server stops.
+     */
+    public static void clear()
+    {
+        synchronized (CACHE)
+        {
+            CACHE.clear();
+        }
+    }
+
+    /**
+     * A blueprint which is rotated and mirrored for placement. It is shared between all users of the same preparation, so it must not be rotated or otherwise modified.
+     *
+     * @param blueprint the rotated and mirrored blueprint.
+     * @param rotation  the applied rotation.
+     * @param mirror    the applied mirror.
+     */
+    public record PreparedBlueprint(Blueprint blueprint, Rotation rotation, Mirror mirror)
+    {
+        /**
+         * Calculate the corners of the blueprint when placed.
+         *
+         * @param pos the position of the primary block.
+         * @return a tuple with the lower and the higher corner.
+         */
+        public Tuple<BlockPos, BlockPos> getCorners(@NotNull final BlockPos pos)
+        {
+            final BlockPos zeroPos = pos.subtract(blueprint.getPrimaryBlockOffset());
+            return new Tuple<>(zeroPos, zeroPos.offset(blueprint.getSizeX() - 1, blueprint.getSizeY() - 1, blueprint.getSizeZ() - 1));
+        }
+    }
+
+    /**
+     * Cache key of a preparation.
+     */
+    private record Key(String pack, String path, Rotation rotation, Mirror mirror) {}
+
+    /**
+     * Cached preparation.
+     */
+    private record Entry(CompletableFuture<PreparedBlueprint> future, long created) {}
+}
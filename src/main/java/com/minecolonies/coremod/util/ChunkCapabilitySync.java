@@ -0,0 +1,143 @@
+package com.minecolonies.coremod.util;
+
+import com.minecolonies.api.colony.IColonyTagCapability;
+import com.minecolonies.coremod.Network;
+import com.minecolonies.coremod.network.messages.client.UpdateChunkRangeCapabilityMessage;
+import it.unimi.dsi.fastutil.longs.LongLinkedOpenHashSet;
+import net.minecraft.resources.ResourceKey;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.server.level.ServerPlayer;
+import net.minecraft.world.level.ChunkPos;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.level.chunk.LevelChunk;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.*;
+
+import static com.minecolonies.api.colony.IColony.CLOSE_COLONY_CAP;
+
+/**
+ * Coalesces chunk capability updates for the clients. Changed chunks are queued and sent once at the end of the server tick, to the players tracking them only, with one
+ * range message per player. Only accessed from the server thread.
+ */
+public final class ChunkCapabilitySync
+{
+    /**
+     * Chunks with a changed capability, by dimension.
+     */
+    private static final Map<ResourceKey<Level>, LongLinkedOpenHashSet> PENDING = new HashMap<>();
+
+    /**
+     * Counters of the queued updates and the sent messages. Every coalesced update and untracked chunk saves at least one message as well.
+     */
+    private static long queuedUpdates    = 0;
+    private static long coalescedUpdates = 0;
+    private static long untrackedChunks  = 0;
+    private static long sentMessages     = 0;
+    private static long avoidedMessages  = 0;
+
+    private ChunkCapabilitySync()
+    {
+        //Hides default constructor.
+    }
+
+    /**
+     * Queue sending the capability of a chunk to the players tracking it.
+     *
+     * @param chunk the changed chunk.
+     */
+    public static void queue(@NotNull final LevelChunk chunk)
+    {
+        queuedUpdates++;
+        if (!PENDING.computeIfAbsent(chunk.getLevel().dimension(), key -> new LongLinkedOpenHashSet()).add(chunk.getPos().toLong()))
+        {
+            coalescedUpdates++;
+        }
+    }
+
+    /**
+     * Send the queued updates, called at the end of each server tick.
+     *
+     * @param server the server.
+     */
+    public static void onServerTick(@NotNull final MinecraftServer server)
+    {
+        if (PENDING.isEmpty())
+        {
+            return;
+        }
+
+        for (final Map.Entry<ResourceKey<Level>, LongLinkedOpenHashSet> entry : PENDING.entrySet())
+        {
+            final ServerLevel level = server.getLevel(entry.getKey());
+            if (level == null)
+            {
+                continue;
+            }
+
+            final Map<ServerPlayer, List<ChunkCapData>> updates = new HashMap<>();
+            int chunkUpdates = 0;
+            for (final long packedPos : entry.getValue())
+            {
+                final ChunkPos pos = new ChunkPos(packedPos);
+                final LevelChunk chunk = level.getChunkSource().getChunkNow(pos.x, pos.z);
+                final IColonyTagCapability cap = chunk == null ? null : chunk.getCapability(CLOSE_COLONY_CAP, null).resolve().orElse(null);
+                if (cap == null)
+                {
+                    continue;
+                }
+
+                final List<ServerPlayer> players = level.getChunkSource().chunkMap.getPlayers(pos, false);
+                if (players.isEmpty())
+                {
+                    untrackedChunks++;
+                    continue;
+                }
+
+                final ChunkCapData data = new ChunkCapData(pos.x, pos.z, cap.getOwningColony(), cap.getStaticClaimColonies());
+                for (final ServerPlayer player : players)
+                {
+                    updates.computeIfAbsent(player, key -> new ArrayList<>()).add(data);
+                    chunkUpdates++;
+                }
+            }
+
+            for (final Map.Entry<ServerPlayer, List<ChunkCapData>> update : updates.entrySet())
+            {
+                Network.getNetwork().sendToPlayer(new UpdateChunkRangeCapabilityMessage(update.getValue()), update.getKey());
+            }
+            sentMessages += updates.size();
+            avoidedMessages += chunkUpdates - updates.size();
+        }
+        PENDING.clear();
+    }
+
+    /**
+     * Forget all queued updates and counters, e.g. when the server stops.
+     */
+    public static void clear()
+    {
+        PENDING.clear();
+        queuedUpdates = 0;
+        coalescedUpdates = 0;
+        untrackedChunks = 0;
+        sentMessages = 0;
+        avoidedMessages = 0;
+    }
+
+    /**
+     * Get a readable summary of the counters.
+     *
+     * @return the summary.
+     */
+    public static String getSummary()
+    {
+        return String.format("queued updates: %d | coalesced: %d | untracked chunks: %d | sent messages: %d | avoided messages: %d",
+          queuedUpdates,
+          coalescedUpdates,
+          untrackedChunks,
+          sentMessages,
+          avoidedMessages + coalescedUpdates + untrackedChunks);
+    }
+}
@@ -10,9 +10,8 @@ import com.minecolonies.api.util.Log;
 import com.minecolonies.api.util.MessageUtils;
 import com.minecolonies.api.util.WorldUtil;
 import com.minecolonies.coremod.MineColonies;
-import com.minecolonies.coremod.Network;
+import com.minecolonies.coremod.colony.ColonyChunkIndex;
 import com.minecolonies.coremod.colony.IColonyManagerCapability;
-import com.minecolonies.coremod.network.messages.client.UpdateChunkCapabilityMessage;
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.SectionPos;
 import net.minecraft.util.Tuple;
@@ -76,6 +75,7 @@ public final class ChunkDataHelper
         }
 
         final int closeColony = chunk.getCapability(CLOSE_COLONY_CAP, null).map(IColonyTagCapability::getOwningColony).orElse(0);
+        ColonyChunkIndex.setOwner(world.dimension(), chunk.getPos(), closeColony);
         if (closeColony != 0)
         {
             final IColony colony = IColonyManager.getInstance().getColonyByDimension(closeColony, world.dimension());
@@ -123,7 +123,8 @@ public final class ChunkDataHelper
 
         if (cap != null)
         {
-            Network.getNetwork().sendToEveryone(new UpdateChunkCapabilityMessage(cap, chunk.getPos().x, chunk.getPos().z));
+            ColonyChunkIndex.setOwner(chunk.getLevel().dimension(), chunk.getPos(), cap.getOwningColony());
+            ChunkCapabilitySync.queue(chunk);
         }
     }
 
@@ -199,6 +200,7 @@ public final class ChunkDataHelper
                 if (storage != null)
                 {
                     storage.applyToCap(colonyCap, chunk);
+                    ColonyChunkIndex.setOwner(w.dimension(), chunk.getPos(), colonyCap.getOwningColony());
                 }
                 if (colonyCap.getOwningColony() != 0)
                 {
@@ -404,7 +406,8 @@ public final class ChunkDataHelper
             cap.removeColony(id, chunk);
         }
 
-        Network.getNetwork().sendToTrackingChunk(new UpdateChunkCapabilityMessage(cap, chunk.getPos().x, chunk.getPos().z), chunk);
+        ColonyChunkIndex.setOwner(world.dimension(), chunk.getPos(), cap.getOwningColony());
+        ChunkCapabilitySync.queue(chunk);
         return true;
     }
 
@@ -464,7 +467,8 @@ public final class ChunkDataHelper
             cap.removeBuildingClaim(colony.getID(), buildingPos, chunk);
         }
 
-        Network.getNetwork().sendToTrackingChunk(new UpdateChunkCapabilityMessage(cap, chunk.getPos().x, chunk.getPos().z), chunk);
+        ColonyChunkIndex.setOwner(world.dimension(), chunk.getPos(), cap.getOwningColony());
+        ChunkCapabilitySync.queue(chunk);
         return true;
     }
 }
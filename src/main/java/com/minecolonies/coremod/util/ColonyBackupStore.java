@@ -0,0 +1,467 @@
+package com.minecolonies.coremod.util;
+
+import com.minecolonies.api.util.Log;
+import net.minecraft.nbt.CompoundTag;
+import net.minecraft.nbt.NbtIo;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.*;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Content addressed store of the colony backups. Every backed up file is kept once as a compressed object named by the hash of its content, and each backup is a manifest
+ * listing the objects it consists of. A new backup therefore only writes the files which changed since an earlier one. All methods touch the disk, they run on the
+ * persistence thread of {@link BackUpHelper} or after {@link BackUpHelper#flush()}.
+ */
+public final class ColonyBackupStore
+{
+    /**
+     * Folder of the store in the minecolonies save folder.
+     */
+    private static final String STORE_FOLDER = "backups";
+
+    /**
+     * Folder of the objects in the store.
+     */
+    private static final String OBJECT_FOLDER = "objects";
+
+    /**
+     * Folder of the manifests in the store.
+     */
+    private static final String MANIFEST_FOLDER = "manifests";
+
+    /**
+     * Manifest file extension.
+     */
+    private static final String MANIFEST_EXTENSION = ".manifest";
+
+    /**
+     * Hash of the object names.
+     */
+    private static final String HASH_ALGORITHM = "SHA-1";
+
+    /**
+     * Separator of the paths in the manifests, independent of the platform.
+     */
+    private static final char MANIFEST_SEPARATOR = '/';
+
+    /**
+     * Private constructor to hide implicit one.
+     */
+    private ColonyBackupStore()
+    {
+        /*
+         * Intentionally left empty.
+         */
+    }
+
+    /**
+     * Store a backup of the given files, only files whose content is not in the store yet are written.
+     *
+     * @param saveDir the minecolonies save folder.
+     * @param name    the name of the backup.
+     * @param files   the paths of the files relative to the save folder, missing files are skipped.
+     * @return the amount of newly stored objects.
+     * @throws IOException if a file can not be read or written.
+     */
+    public static int writeBackup(@NotNull final File saveDir, @NotNull final String name, @NotNull final Collection<String> files) throws IOException
+    {
+        final StringBuilder manifest = new StringBuilder();
+        int written = 0;
+        for (final String path : files)
+        {
+            final File file = new File(saveDir, path);
+            if (!file.isFile())
+            {
+                continue;
+            }
+
+            final byte[] content = Files.readAllBytes(file.toPath());
+            final String hash = hash(content);
+            final File object = getObjectFile(saveDir, hash);
+            if (!object.exists())
+            {
+                final ByteArrayOutputStream compressed = new ByteArrayOutputStream(content.length / 4);
+                try (GZIPOutputStream out = new GZIPOutputStream(compressed))
+                {
+                    out.write(content);
+                }
+                writeAtomically(object, compressed.toByteArray());
+                written++;
+            }
+            manifest.append(hash).append(' ').append(path.replace(File.separatorChar, MANIFEST_SEPARATOR)).append('\n');
+        }
+
+        writeAtomically(getManifestFile(saveDir, name), manifest.toString().getBytes(StandardCharsets.UTF_8));
+        return written;
+    }
+
+    /**
+     * Delete the oldest backups until at most the given amount is left, and delete the objects no backup refers to anymore.
+     *
+     * @param saveDir the minecolonies save folder.
+     * @param keep    the amount of backups to keep.
+     */
+    public static void prune(@NotNull final File saveDir, final int keep)
+    {
+        final List<String> backups = getBackups(saveDir);
+        for (int i = 0; i < backups.size() - keep; i++)
+        {
+            getManifestFile(saveDir, backups.get(i)).delete();
+        }
+
+        final Set<String> referenced = new HashSet<>();
+        for (final String backup : getBackups(saveDir))
+        {
+            final Map<String, String> manifest = readManifest(saveDir, backup);
+            if (manifest == null)
+            {
+                // Never collect objects based on an unreadable manifest.
+                return;
+            }
+            referenced.addAll(manifest.values());
+        }
+
+        final File[] buckets = new File(getStoreDir(saveDir), OBJECT_FOLDER).listFiles(File::isDirectory);
+        if (buckets == null)
+        {
+            return;
+        }
+
+        for (final File bucket : buckets)
+        {
+            final File[] objects = bucket.listFiles();
+            if (objects == null)
+            {
+                continue;
+            }
+
+            for (final File object : objects)
+            {
+                if (!referenced.contains(object.getName()))
+                {
+                    object.delete();
+                }
+            }
+        }
+    }
+
+    /**
+     * Get the names of all backups, from the oldest to the newest.
+     *
+     * @param saveDir the minecolonies save folder.
+     * @return the backup names.
+     */
+    @NotNull
+    public static List<String> getBackups(@NotNull final File saveDir)
+    {
+        final File[] manifests = new File(getStoreDir(saveDir), MANIFEST_FOLDER).listFiles((dir, fileName) -> fileName.endsWith(MANIFEST_EXTENSION));
+        if (manifests == null)
+        {
+            return new ArrayList<>();
+        }
+
+        final List<String> backups = new ArrayList<>();
+        for (final File manifest : manifests)
+        {
+            backups.add(manifest.getName().substring(0, manifest.getName().length() - MANIFEST_EXTENSION.length()));
+        }
+        // Backup names contain their date, so the name order is the age order.
+        Collections.sort(backups);
+        return backups;
+    }
+
+    /**
+     * Get the name of the newest backup.
+     *
+     * @param saveDir the minecolonies save folder.
+     * @return the backup name or null if there is none.
+     */
+    @Nullable
+    public static String getLatestBackup(@NotNull final File saveDir)
+    {
+        final List<String> backups = getBackups(saveDir);
+        return backups.isEmpty() ? null : backups.get(backups.size() - 1);
+    }
+
+    /**
+     * Read the files of a backup.
+     *
+     * @param saveDir the minecolonies save folder.
+     * @param name    the name of the backup.
+     * @return the object hash by relative file path, or null if the backup does not exist or can not be read.
+     */
+    @Nullable
+    public static Map<String, String> readManifest(@NotNull final File saveDir, @NotNull final String name)
+    {
+        final File manifestFile = getManifestFile(saveDir, name);
+        if (!manifestFile.isFile())
+        {
+            return null;
+        }
+
+        try
+        {
+            final Map<String, String> manifest = new LinkedHashMap<>();
+            for (final String line : Files.readAllLines(manifestFile.toPath(), StandardCharsets.UTF_8))
+            {
+                final int split = line.indexOf(' ');
+                if (split > 0)
+                {
+                    manifest.put(line.substring(split + 1).replace(MANIFEST_SEPARATOR, File.separatorChar), line.substring(0, split));
+                }
+            }
+            return manifest;
+        }
+        catch (final IOException e)
+        {
+            Log.getLogger().warn("Unable to read colony backup manifest: " + manifestFile, e);
+            return null;
+        }
+    }
+
+    /**
+     * Read the content of a file as it was in a backup.
+     *
+     * @param saveDir the minecolonies save folder.
+     * @param name    the name of the backup.
+     * @param path    the path of the file relative to the save folder.
+     * @return the content or null if the file is not part of the backup or its object is damaged.
+     */
+    @Nullable
+    public static byte[] readFile(@NotNull final File saveDir, @NotNull final String name, @NotNull final String path)
+    {
+        final Map<String, String> manifest = readManifest(saveDir, name);
+        if (manifest == null || !manifest.containsKey(path))
+        {
+            return null;
+        }
+
+        return readObject(saveDir, manifest.get(path));
+    }
+
+    /**
+     * Read a file of a backup as NBT.
+     *
+     * @param saveDir the minecolonies save folder.
+     * @param name    the name of the backup.
+     * @param path    the path of the file relative to the save folder.
+     * @return the data or null if the file is not part of the backup or can not be read.
+     */
+    @Nullable
+    public static CompoundTag loadNBT(@NotNull final File saveDir, @NotNull final String name, @NotNull final String path)
+    {
+        final byte[] content = readFile(saveDir, name, path);
+        return content == null ? null : parseNBT(content, path);
+    }
+
+    /**
+     * Measure how long restoring a backup takes: reads, verifies and parses every file of it without applying anything.
+     *
+     * @param saveDir the minecolonies save folder.
+     * @param name    the name of the backup.
+     * @return the result or null if the backup does not exist.
+     */
+    @Nullable
+    public static RestoreBenchmark benchmarkRestore(@NotNull final File saveDir, @NotNull final String name)
+    {
+        final long start = System.nanoTime();
+        final Map<String, String> manifest = readManifest(saveDir, name);
+        if (manifest == null)
+        {
+            return null;
+        }
+
+        int files = 0;
+        int failed = 0;
+        long bytes = 0;
+        for (final Map.Entry<String, String> entry : manifest.entrySet())
+        {
+            final byte[] content = readObject(saveDir, entry.getValue());
+            if (content == null || parseNBT(content, entry.getKey()) == null)
+            {
+                failed++;
+                continue;
+            }
+            files++;
+            bytes += content.length;
+        }
+        return new RestoreBenchmark(files, failed, bytes, System.nanoTime() - start);
+    }
+
+    /**
+     * Get the amount of stored objects and their size on disk.
+     *
+     * @param saveDir the minecolonies save folder.
+     * @return the object count and the total size in bytes.
+     */
+    @NotNull
+    public static long[] getObjectStats(@NotNull final File saveDir)
+    {
+        final long[] stats = new long[2];
+        final File[] buckets = new File(getStoreDir(saveDir), OBJECT_FOLDER).listFiles(File::isDirectory);
+        if (buckets == null)
+        {
+            return stats;
+        }
+
+        for (final File bucket : buckets)
+        {
+            final File[] objects = bucket.listFiles();
+            if (objects != null)
+            {
+                for (final File object : objects)
+                {
+                    stats[0]++;
+                    stats[1] += object.length();
+                }
+            }
+        }
+        return stats;
+    }
+
+    /**
+     * Read and verify an object.
+     *
+     * @param saveDir the minecolonies save folder.
+     * @param hash    the object hash.
+     * @return the content or null if it is missing or damaged.
+     */
+    @Nullable
+    private static byte[] readObject(@NotNull final File saveDir, @NotNull final String hash)
+    {
+        final File object = getObjectFile(saveDir, hash);
+        try (InputStream in = new GZIPInputStream(new FileInputStream(object)))
+        {
+            final byte[] content = in.readAllBytes();
+            if (!hash.equals(hash(content)))
+            {
+                Log.getLogger().warn("Colony backup object is damaged: " + object);
+                return null;
+            }
+            return content;
+        }
+        catch (final IOException e)
+        {
+            Log.getLogger().warn("Unable to read colony backup object: " + object, e);
+            return null;
+        }
+    }
+
+    /**
+     * Parse uncompressed NBT, the format of the colony files.
+     *
+     * @param content the file content.
+     * @param path    the file path, for logging.
+     * @return the data or null if it can not be parsed.
+     */
+    @Nullable
+    private static CompoundTag parseNBT(@NotNull final byte[] content, @NotNull final String path)
+    {
+        try
+        {
+            return NbtIo.read(new DataInputStream(new ByteArrayInputStream(content)));
+        }
+        catch (final IOException e)
+        {
+            Log.getLogger().warn("Unable to parse colony backup file: " + path, e);
+            return null;
+        }
+    }
+
+    /**
+     * Write a file through an intermediate tmp file, which replaces the destination atomically where supported.
+     *
+     * @param file    the file.
+     * @param content the content.
+     * @throws IOException if it can not be written.
+     */
+    private static void writeAtomically(@NotNull final File file, @NotNull final byte[] content) throws IOException
+    {
+        file.getParentFile().mkdirs();
+        final File tmpFile = new File(file.getParentFile(), file.getName() + ".tmp");
+        Files.write(tmpFile.toPath(), content);
+        try
+        {
+            Files.move(tmpFile.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        }
+        catch (final AtomicMoveNotSupportedException e)
+        {
+            Files.move(tmpFile.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * Hash content into its object name.
+     *
+     * @param content the content.
+     * @return the hex hash.
+     */
+    @NotNull
+    private static String hash(@NotNull final byte[] content)
+    {
+        try
+        {
+            return HexFormat.of().formatHex(MessageDigest.getInstance(HASH_ALGORITHM).digest(content));
+        }
+        catch (final NoSuchAlgorithmException e)
+        {
+            throw new IllegalStateException("Missing hash algorithm " + HASH_ALGORITHM, e);
+        }
+    }
+
+    /**
+     * @param saveDir the minecolonies save folder.
+     * @return the folder of the store.
+     */
+    @NotNull
+    private static File getStoreDir(@NotNull final File saveDir)
+    {
+        return new File(saveDir, STORE_FOLDER);
+    }
+
+    /**
+     * Objects are spread over folders by the first two characters of their hash, so no folder gets too large.
+     *
+     * @param saveDir the minecolonies save folder.
+     * @param hash    the object hash.
+     * @return the object file.
+     */
+    @NotNull
+    private static File getObjectFile(@NotNull final File saveDir, @NotNull final String hash)
+    {
+        return new File(new File(new File(getStoreDir(saveDir), OBJECT_FOLDER), hash.substring(0, 2)), hash);
+    }
+
+    /**
+     * @param saveDir the minecolonies save folder.
+     * @param name    the name of the backup.
+     * @return the manifest file.
+     */
+    @NotNull
+    private static File getManifestFile(@NotNull final File saveDir, @NotNull final String name)
+    {
+        return new File(new File(getStoreDir(saveDir), MANIFEST_FOLDER), name + MANIFEST_EXTENSION);
+    }
+
+    /**
+     * Result of {@link #benchmarkRestore(File, String)}.
+     *
+     * @param files  the amount of files restored.
+     * @param failed the amount of files which could not be restored.
+     * @param bytes  the uncompressed size of the restored files.
+     * @param nanos  the time taken.
+     */
+    public record RestoreBenchmark(int files, int failed, long bytes, long nanos)
+    {
+    }
+}